@@ -0,0 +1,105 @@
+package tech.tablesaw.io.arrow;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.io.RuntimeIOException;
+
+/**
+ * Reads a channel in Apache Arrow Streaming Format one record batch at a time, returning each batch
+ * as a table of its own, so that a large stream can be processed without reading it all into
+ * memory.
+ *
+ * <p>Fixed-width numeric vectors are copied into their columns in bulk. Strings are decoded once
+ * per distinct value in each column, across all the batches of the stream, and dictionary-encoded
+ * strings are read into the column's dictionary by their indices.
+ *
+ * <p>The channel is closed when the reader is closed.
+ */
+public class ArrowBatchReader implements Iterator<Table>, AutoCloseable {
+
+  private final String tableName;
+  private final String[] columnNames;
+  private final BufferAllocator allocator;
+  private final ArrowStreamReader reader;
+  private final Map<String, Utf8Interner> interners = new HashMap<>();
+
+  /** True if a batch has been loaded and not yet returned */
+  private boolean loaded;
+
+  private boolean finished;
+
+  /**
+   * Creates a reader of the given channel
+   *
+   * @param channel The channel to read
+   * @param tableName The name given to the table made from each batch
+   * @param columnNames The names of the columns to read, in the order they appear in each table, or
+   *     none to read every column
+   */
+  public ArrowBatchReader(ReadableByteChannel channel, String tableName, String... columnNames) {
+    this.tableName = tableName;
+    this.columnNames = columnNames;
+    this.allocator = new RootAllocator(Long.MAX_VALUE);
+    this.reader = new ArrowStreamReader(channel, allocator);
+  }
+
+  /** Returns true if the stream has another record batch */
+  @Override
+  public boolean hasNext() {
+    if (!loaded && !finished) {
+      try {
+        loaded = reader.loadNextBatch();
+      } catch (IOException e) {
+        throw new RuntimeIOException(e);
+      }
+      finished = !loaded;
+    }
+    return loaded;
+  }
+
+  /** Returns a table holding the rows of the next record batch */
+  @Override
+  public Table next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    loaded = false;
+    try {
+      return ArrowReader.toTable(
+          tableName, reader.getVectorSchemaRoot(), columnNames, reader, interners);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
+  }
+
+  /** Returns a table with no rows and the columns of the stream's schema */
+  Table emptyTable() {
+    try {
+      reader.getVectorSchemaRoot().setRowCount(0);
+      return ArrowReader.toTable(
+          tableName, reader.getVectorSchemaRoot(), columnNames, reader, interners);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
+  }
+
+  /** Closes the channel and releases the memory held by the reader */
+  @Override
+  public void close() {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    } finally {
+      allocator.close();
+    }
+  }
+}
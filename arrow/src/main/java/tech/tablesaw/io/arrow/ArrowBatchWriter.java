@@ -0,0 +1,210 @@
+package tech.tablesaw.io.arrow;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.io.RuntimeIOException;
+
+/**
+ * Writes tables to a channel in Apache Arrow Streaming or File Format, one or more record batches
+ * at a time, so that a large table, or a sequence of tables produced incrementally, can be written
+ * without holding all the data in Arrow vectors at once.
+ *
+ * <p>The schema of the stream is taken from the first table written. Every later table must have
+ * the same column names and types. Each table is split into record batches of at most the batch
+ * size given when the writer was created. The vectors holding a batch are reused for the next one.
+ *
+ * <p>The stream is ended, and the channel closed, when the writer is closed. In the File Format,
+ * the index of the record batches is written at the end of the stream, so a reader can go directly
+ * to any of them.
+ */
+public class ArrowBatchWriter implements AutoCloseable {
+
+  private final WritableByteChannel channel;
+  private final int batchSize;
+  private final ArrowFormat format;
+
+  /** The only table written if its string columns are dictionary encoded, or null */
+  private final Table dictionarySource;
+
+  private BufferAllocator allocator;
+  private VectorSchemaRoot schemaRoot;
+  private org.apache.arrow.vector.ipc.ArrowWriter writer;
+
+  /** The dictionary encoder of each string column written as indices, by column number */
+  private final List<StringDictionaries.Encoder> encoders = new ArrayList<>();
+
+  /**
+   * For each column, the encoding of each dictionary key written from the current table. Each
+   * column has its own dictionary, so the encodings are discarded when the next table is written
+   */
+  private final List<Int2ObjectMap<byte[]>> encodedStrings = new ArrayList<>();
+
+  /**
+   * Creates a writer that writes to the given channel
+   *
+   * @param channel The channel to write to
+   * @param batchSize The maximum number of rows in each record batch
+   */
+  public ArrowBatchWriter(WritableByteChannel channel, int batchSize) {
+    this(channel, batchSize, ArrowFormat.STREAM);
+  }
+
+  /**
+   * Creates a writer that writes to the given channel in the given format
+   *
+   * @param channel The channel to write to
+   * @param batchSize The maximum number of rows in each record batch
+   * @param format The format of the output
+   */
+  public ArrowBatchWriter(WritableByteChannel channel, int batchSize, ArrowFormat format) {
+    this(channel, batchSize, format, null);
+  }
+
+  /**
+   * Creates a writer that writes to the given channel in the given format
+   *
+   * @param dictionarySource If not null, the only table that will be written. The string columns of
+   *     the table are written as indices into an Arrow dictionary made from the column's own
+   *     dictionary. A stream has a single dictionary per column, which must be known before the
+   *     first batch is written, so other tables cannot be added to the stream
+   */
+  ArrowBatchWriter(
+      WritableByteChannel channel, int batchSize, ArrowFormat format, Table dictionarySource) {
+    Preconditions.checkArgument(batchSize > 0, "batchSize must be positive: %s", batchSize);
+    this.channel = channel;
+    this.batchSize = batchSize;
+    this.format = Preconditions.checkNotNull(format);
+    this.dictionarySource = dictionarySource;
+  }
+
+  /** Creates a writer that writes record batches of {@link ArrowWriter#DEFAULT_BATCH_SIZE} rows */
+  public ArrowBatchWriter(WritableByteChannel channel) {
+    this(channel, ArrowWriter.DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Writes the rows of the given table to the stream, as one or more record batches. An empty table
+   * is written as an empty batch, so that its schema is recorded.
+   *
+   * @throws IllegalArgumentException if the table's columns do not match those of the first table
+   *     written, or if the writer writes the dictionaries of another table
+   */
+  public ArrowBatchWriter write(Table table) {
+    Preconditions.checkArgument(
+        dictionarySource == null || (table == dictionarySource && writer == null),
+        "Only the table whose dictionaries are written can be written to this stream");
+    Schema schema = ArrowWriter.tableSchema(table);
+    try {
+      if (writer == null) {
+        start(table, schema);
+      } else {
+        Preconditions.checkArgument(
+            schema.equals(schemaRoot.getSchema()),
+            "The columns of table %s do not match those of the stream",
+            table.name());
+      }
+      encodedStrings.forEach(Int2ObjectMap::clear);
+      int rowCount = table.rowCount();
+      int from = 0;
+      do {
+        int to = Math.min(rowCount, from + batchSize);
+        writeBatch(table, from, to);
+        from = to;
+      } while (from < rowCount);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
+    return this;
+  }
+
+  private void start(Table table, Schema schema) throws IOException {
+    allocator = new RootAllocator();
+    DictionaryProvider.MapDictionaryProvider dictionaries =
+        new DictionaryProvider.MapDictionaryProvider();
+    if (dictionarySource != null) {
+      List<Field> fields = new ArrayList<>(schema.getFields());
+      for (int c = 0; c < table.columnCount(); c++) {
+        Column<?> column = table.column(c);
+        StringDictionaries.Encoder encoder = null;
+        if (column instanceof StringColumn && ((StringColumn) column).getDictionary() != null) {
+          encoder = new StringDictionaries.Encoder((StringColumn) column, c, allocator);
+          dictionaries.put(encoder.dictionary());
+          fields.set(c, encoder.field());
+        }
+        encoders.add(encoder);
+      }
+      schema = new Schema(fields);
+    }
+    List<FieldVector> fieldVectors = ArrowWriter.createFieldVectors(schema, allocator);
+    for (FieldVector vector : fieldVectors) {
+      vector.setInitialCapacity(batchSize);
+      vector.allocateNew();
+      encodedStrings.add(new Int2ObjectOpenHashMap<>());
+    }
+    schemaRoot = new VectorSchemaRoot(fieldVectors);
+    if (format == ArrowFormat.FILE) {
+      writer = new ArrowFileWriter(schemaRoot, dictionaries, channel);
+    } else {
+      writer = new ArrowStreamWriter(schemaRoot, dictionaries, channel);
+    }
+    writer.start();
+  }
+
+  private void writeBatch(Table table, int from, int to) throws IOException {
+    for (FieldVector v : schemaRoot.getFieldVectors()) {
+      v.reset();
+    }
+    for (int c = 0; c < table.columnCount(); c++) {
+      if (!encoders.isEmpty() && encoders.get(c) != null) {
+        encoders.get(c).setIndices((BaseIntVector) schemaRoot.getVector(c), from, to);
+      } else {
+        ArrowWriter.setBytes(schemaRoot, table.column(c), from, to, encodedStrings.get(c));
+      }
+    }
+    schemaRoot.setRowCount(to - from);
+    writer.writeBatch();
+  }
+
+  /** Ends the stream, closes the channel, and releases the memory held by the writer */
+  @Override
+  public void close() {
+    try {
+      if (writer == null) {
+        channel.close();
+        return;
+      }
+      try {
+        writer.end();
+      } finally {
+        writer.close();
+        schemaRoot.close();
+        for (StringDictionaries.Encoder encoder : encoders) {
+          if (encoder != null) {
+            encoder.dictionary().getVector().close();
+          }
+        }
+        allocator.close();
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
+  }
+}
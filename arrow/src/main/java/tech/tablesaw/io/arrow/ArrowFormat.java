@@ -0,0 +1,18 @@
+package tech.tablesaw.io.arrow;
+
+/** The Apache Arrow IPC formats a table can be written in */
+public enum ArrowFormat {
+
+  /**
+   * The Arrow Streaming Format, which can only be read from start to end. The extension ".arrows"
+   * is recommended for files in this format
+   */
+  STREAM,
+
+  /**
+   * The Arrow File Format, which ends with an index of the record batches in the file, so that a
+   * reader can go directly to any one of them. The extension ".arrow" is recommended for files in
+   * this format
+   */
+  FILE
+}
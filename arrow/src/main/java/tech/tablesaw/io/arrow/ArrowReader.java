@@ -1,25 +1,53 @@
 package tech.tablesaw.io.arrow;
 
+import com.google.common.base.Preconditions;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.*;
-import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.ipc.message.ArrowBlock;
 import org.apache.arrow.vector.types.Types;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
 import tech.tablesaw.api.*;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+import tech.tablesaw.columns.numbers.FloatColumnType;
+import tech.tablesaw.columns.numbers.IntColumnType;
+import tech.tablesaw.columns.numbers.LongColumnType;
+import tech.tablesaw.columns.numbers.ShortColumnType;
 import tech.tablesaw.io.RuntimeIOException;
 
 /**
- * Reader for Apache Arrow Streaming Format files. This class is capable of reading Arrow-formatted
- * files that were written by Tablesaw {@link ArrowWriter}, but not necessarily other applications.
+ * Reader for Apache Arrow Streaming Format and File Format files. This class is capable of reading
+ * Arrow-formatted files that were written by Tablesaw {@link ArrowWriter}, but not necessarily
+ * other applications. The format of the file is detected from its first bytes.
+ *
+ * <p>Files in Arrow File Format can also be read one record batch at a time, in any order, since
+ * the file ends with an index of its batches. Dictionary-encoded string vectors are read into the
+ * dictionary of a StringColumn without decoding each row.
  *
  * <p>Note: only those vector types needed to support Tablesaw are implemented
  */
 public class ArrowReader {
 
+  /** The bytes an Arrow File Format file starts with */
+  private static final byte[] FILE_MAGIC = "ARROW1".getBytes(StandardCharsets.US_ASCII);
+
   private final File file;
 
   public ArrowReader(Path path) {
@@ -30,113 +58,267 @@ public class ArrowReader {
     this.file = file;
   }
 
+  /**
+   * Reads the whole file into a single table. The record batches of the file are read in turn, as
+   * described in {@link ArrowBatchReader}, and appended to the table in order.
+   */
   public Table read() {
-    Table table = Table.create(file.getName());
-    // Create a RootAllocator to allocate memory for our vectors
-    BufferAllocator allocator = new RootAllocator(Long.MAX_VALUE);
-    boolean eos = false;
-    try (FileInputStream in = new FileInputStream(file);
-        ArrowStreamReader reader = new ArrowStreamReader(Channels.newChannel(in), allocator)) {
-      VectorSchemaRoot vsr = reader.getVectorSchemaRoot();
-      while (!eos) {
-        VectorSchemaRoot next = reader.getVectorSchemaRoot();
-        eos = reader.loadNextBatch();
-        next.setRowCount(vsr.getRowCount());
-        for (FieldVector v : vsr.getFieldVectors()) {
-          getBytes(v, table);
+    return read(new String[0]);
+  }
+
+  /**
+   * Reads the given columns of the whole file into a single table. The other vectors of the file
+   * are not converted into columns.
+   *
+   * @param columnNames The names of the columns to read, in the order they appear in the table, or
+   *     none to read every column
+   */
+  public Table read(String... columnNames) {
+    try {
+      if (isFileFormat()) {
+        return readFile(columnNames);
+      }
+      try (FileInputStream in = new FileInputStream(file);
+          ArrowBatchReader batches =
+              new ArrowBatchReader(Channels.newChannel(in), file.getName(), columnNames)) {
+        Table table = null;
+        while (batches.hasNext()) {
+          table = append(table, batches.next());
         }
+        return table == null ? batches.emptyTable() : table;
       }
     } catch (IOException e) {
       throw new RuntimeIOException(e);
     }
-    return table;
   }
 
-  private void getBytes(FieldVector v, Table table) {
+  /**
+   * Returns the number of record batches in the file
+   *
+   * @throws IllegalStateException if the file is not in Arrow File Format
+   */
+  public int batchCount() {
+    try (BufferAllocator allocator = new RootAllocator(Long.MAX_VALUE);
+        FileInputStream in = new FileInputStream(checkFileFormat());
+        ArrowFileReader reader = new ArrowFileReader(in.getChannel(), allocator)) {
+      return reader.getRecordBlocks().size();
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
+  }
+
+  /**
+   * Reads a single record batch of the file into a table, seeking directly to the batch, so that
+   * the batches before it are not read
+   *
+   * @param batchIndex The index of the batch, from zero to {@link #batchCount()} - 1
+   * @param columnNames The names of the columns to read, in the order they appear in the table, or
+   *     none to read every column
+   * @throws IllegalStateException if the file is not in Arrow File Format
+   */
+  public Table readBatch(int batchIndex, String... columnNames) {
+    try (BufferAllocator allocator = new RootAllocator(Long.MAX_VALUE);
+        FileInputStream in = new FileInputStream(checkFileFormat());
+        ArrowFileReader reader = new ArrowFileReader(in.getChannel(), allocator)) {
+      List<ArrowBlock> blocks = reader.getRecordBlocks();
+      Preconditions.checkElementIndex(batchIndex, blocks.size(), "batchIndex");
+      reader.loadRecordBatch(blocks.get(batchIndex));
+      return toTable(
+          file.getName(), reader.getVectorSchemaRoot(), columnNames, reader, new HashMap<>());
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
+  }
+
+  /**
+   * Maps the file into memory, rather than reading it, and returns a table whose INT, BIGINT and
+   * DOUBLE columns read their values straight from the mapped file, without copying them onto the
+   * heap. Opening even a very large file this way takes little time and memory, and processes that
+   * map the same file share the operating system's cache of its pages. The mapped columns are
+   * read-only, but their copies can be modified.
+   *
+   * <p>Columns of other types, including dates and times, which Tablesaw stores in a packed form,
+   * are read into memory as usual. To open a large file quickly, read only the numeric columns
+   * needed.
+   *
+   * @param columnNames The names of the columns to read, in the order they appear in the table, or
+   *     none to read every column
+   * @throws IllegalStateException if the file is not in Arrow File Format
+   */
+  public Table readMapped(String... columnNames) {
+    try {
+      return MappedArrowFile.read(checkFileFormat(), file.getName(), columnNames);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
+  }
+
+  private Table readFile(String[] columnNames) throws IOException {
+    try (BufferAllocator allocator = new RootAllocator(Long.MAX_VALUE);
+        FileInputStream in = new FileInputStream(file);
+        ArrowFileReader reader = new ArrowFileReader(in.getChannel(), allocator)) {
+      Map<String, Utf8Interner> interners = new HashMap<>();
+      Table table = null;
+      for (ArrowBlock block : reader.getRecordBlocks()) {
+        reader.loadRecordBatch(block);
+        table =
+            append(
+                table,
+                toTable(
+                    file.getName(), reader.getVectorSchemaRoot(), columnNames, reader, interners));
+      }
+      if (table == null) {
+        reader.getVectorSchemaRoot().setRowCount(0);
+        table =
+            toTable(file.getName(), reader.getVectorSchemaRoot(), columnNames, reader, interners);
+      }
+      return table;
+    }
+  }
+
+  private static Table append(Table table, Table batch) {
+    if (table == null) {
+      return batch;
+    }
+    return table.append(batch);
+  }
+
+  /** Returns true if the file starts with the magic bytes of the Arrow File Format */
+  private boolean isFileFormat() throws IOException {
+    byte[] magic = new byte[FILE_MAGIC.length];
+    try (FileInputStream in = new FileInputStream(file)) {
+      return in.readNBytes(magic, 0, magic.length) == magic.length
+          && Arrays.equals(magic, FILE_MAGIC);
+    }
+  }
+
+  private File checkFileFormat() throws IOException {
+    Preconditions.checkState(
+        isFileFormat(),
+        "%s is not in Arrow File Format, so its batches can only be read in order",
+        file);
+    return file;
+  }
+
+  /**
+   * Returns a table holding the data in the vectors of the given root
+   *
+   * @param columnNames The names of the vectors to convert, or none to convert them all
+   * @param dictionaries The dictionaries of the dictionary-encoded vectors
+   * @param interners The interner used for each string column, by name, which is shared by all the
+   *     batches of a stream. Interners for columns not seen before are added to the map
+   */
+  static Table toTable(
+      String name,
+      VectorSchemaRoot root,
+      String[] columnNames,
+      DictionaryProvider dictionaries,
+      Map<String, Utf8Interner> interners) {
+    List<FieldVector> vectors;
+    if (columnNames.length == 0) {
+      vectors = root.getFieldVectors();
+    } else {
+      vectors = new ArrayList<>(columnNames.length);
+      for (String columnName : columnNames) {
+        FieldVector vector = root.getVector(columnName);
+        Preconditions.checkArgument(vector != null, "No column named %s in arrow data", columnName);
+        vectors.add(vector);
+      }
+    }
+    Table table = Table.create(name);
+    for (FieldVector v : vectors) {
+      table.addColumns(toColumn(v, dictionaries, interners));
+    }
+    return table;
+  }
 
+  private static Column<?> toColumn(
+      FieldVector v, DictionaryProvider dictionaries, Map<String, Utf8Interner> interners) {
     final Types.MinorType type = v.getMinorType();
     final String name = v.getName();
+    final int count = v.getValueCount();
+    DictionaryEncoding encoding = v.getField().getDictionary();
+    if (encoding != null) {
+      Dictionary dictionary = dictionaries.lookup(encoding.getId());
+      if (!(dictionary.getVector() instanceof VarCharVector)) {
+        throw new IllegalArgumentException(
+            "Unhandled dictionary type "
+                + dictionary.getVector().getMinorType().name()
+                + " in arrow data");
+      }
+      return StringDictionaries.decode(
+          name,
+          (BaseIntVector) v,
+          (VarCharVector) dictionary.getVector(),
+          interners.computeIfAbsent(name, k -> new Utf8Interner()));
+    }
     switch (type) {
       case VARCHAR:
-        StringColumn strCol = StringColumn.create(name);
         VarCharVector vcv = (VarCharVector) v;
-        for (int i = 0; i < vcv.getValueCount(); i++) {
-          strCol.append(new String(vcv.get(i)));
-        }
-        if (!table.containsColumn(name)) {
-          table.addColumns(strCol);
-        } else {
-          table.stringColumn(strCol.name()).append(strCol);
-        }
-        break;
-      case BIGINT:
-        LongColumn longCol = LongColumn.create(name);
-        BigIntVector bigIntVector = (BigIntVector) v;
-        for (int i = 0; i < bigIntVector.getValueCount(); i++) {
-          if (!bigIntVector.isNull(i)) {
-            longCol.append(bigIntVector.get(i));
+        Utf8Interner interner = interners.computeIfAbsent(name, k -> new Utf8Interner());
+        StringColumn strCol = StringColumn.create(name);
+        ArrowBuf offsets = vcv.getOffsetBuffer();
+        ArrowBuf data = vcv.getDataBuffer();
+        for (int i = 0; i < count; i++) {
+          if (vcv.isNull(i)) {
+            strCol.appendMissing();
           } else {
-            longCol.appendMissing();
+            int start = offsets.getInt((long) i * BaseVariableWidthVector.OFFSET_WIDTH);
+            int end = offsets.getInt((long) (i + 1) * BaseVariableWidthVector.OFFSET_WIDTH);
+            strCol.append(interner.get(data, start, end - start));
           }
         }
-        if (!table.containsColumn(name)) {
-          table.addColumns(longCol);
-        } else {
-          table.longColumn(longCol.name()).append(longCol);
+        return strCol;
+      case BIGINT:
+        long[] longs = new long[count];
+        buffer(v, Long.BYTES).asLongBuffer().get(longs);
+        for (int i = nextNull(v, 0); i < count; i = nextNull(v, i + 1)) {
+          longs[i] = LongColumnType.missingValueIndicator();
         }
-        break;
+        return LongColumn.create(name, longs);
       case INT:
-        IntColumn intCol = IntColumn.create(name);
-        IntVector intVector = (IntVector) v;
-        for (int i = 0; i < intVector.getValueCount(); i++) {
-          if (!intVector.isNull(i)) {
-            intCol.append(intVector.get(i));
-          } else {
-            intCol.appendMissing();
-          }
-        }
-        if (!table.containsColumn(name)) {
-          table.addColumns(intCol);
-        } else {
-          table.intColumn(intCol.name()).append(intCol);
+        int[] ints = new int[count];
+        buffer(v, Integer.BYTES).asIntBuffer().get(ints);
+        for (int i = nextNull(v, 0); i < count; i = nextNull(v, i + 1)) {
+          ints[i] = IntColumnType.missingValueIndicator();
         }
-        break;
+        return IntColumn.create(name, ints);
       case SMALLINT:
-        ShortColumn shortColumn = ShortColumn.create(name);
-        SmallIntVector smallIntVector = (SmallIntVector) v;
-        for (int i = 0; i < smallIntVector.getValueCount(); i++) {
-          if (!smallIntVector.isNull(i)) {
-            shortColumn.append(smallIntVector.get(i));
-          } else {
-            shortColumn.appendMissing();
-          }
+        short[] shorts = new short[count];
+        buffer(v, Short.BYTES).asShortBuffer().get(shorts);
+        for (int i = nextNull(v, 0); i < count; i = nextNull(v, i + 1)) {
+          shorts[i] = ShortColumnType.missingValueIndicator();
+        }
+        return ShortColumn.create(name, shorts);
+      case FLOAT4:
+        float[] floats = new float[count];
+        buffer(v, Float.BYTES).asFloatBuffer().get(floats);
+        for (int i = nextNull(v, 0); i < count; i = nextNull(v, i + 1)) {
+          floats[i] = FloatColumnType.missingValueIndicator();
         }
-        if (!table.containsColumn(name)) {
-          table.addColumns(shortColumn);
-        } else {
-          table.shortColumn(shortColumn.name()).append(shortColumn);
+        return FloatColumn.create(name, floats);
+      case FLOAT8:
+        double[] doubles = new double[count];
+        buffer(v, Double.BYTES).asDoubleBuffer().get(doubles);
+        for (int i = nextNull(v, 0); i < count; i = nextNull(v, i + 1)) {
+          doubles[i] = DoubleColumnType.missingValueIndicator();
         }
-        break;
+        return DoubleColumn.create(name, doubles);
       case DATEDAY:
         DateColumn dateCol = DateColumn.create(name);
         DateDayVector dateDayVector = (DateDayVector) v;
-        for (int i = 0; i < dateDayVector.getValueCount(); i++) {
+        for (int i = 0; i < count; i++) {
           if (!dateDayVector.isNull(i)) {
             dateCol.append(LocalDate.ofEpochDay(dateDayVector.get(i)));
           } else {
             dateCol.appendMissing();
           }
         }
-        if (!table.containsColumn(name)) {
-          table.addColumns(dateCol);
-        } else {
-          table.dateColumn(dateCol.name()).append(dateCol);
-        }
-        break;
+        return dateCol;
       case TIMESTAMPMILLI:
         DateTimeColumn dtCol = DateTimeColumn.create(name);
         TimeStampMilliVector dtVector = (TimeStampMilliVector) v;
-        for (int i = 0; i < dtVector.getValueCount(); i++) {
+        for (int i = 0; i < count; i++) {
           if (!dtVector.isNull(i)) {
             dtCol.append(
                 LocalDateTime.ofInstant(Instant.ofEpochMilli(dtVector.get(i)), ZoneOffset.UTC));
@@ -144,95 +326,68 @@ public class ArrowReader {
             dtCol.appendMissing();
           }
         }
-        if (!table.containsColumn(name)) {
-          table.addColumns(dtCol);
-        } else {
-          table.dateTimeColumn(dtCol.name()).append(dtCol);
-        }
-        break;
+        return dtCol;
       case TIMEMILLI:
         TimeColumn timeColumn = TimeColumn.create(name);
         TimeMilliVector timeVector = (TimeMilliVector) v;
-        for (int i = 0; i < timeVector.getValueCount(); i++) {
+        for (int i = 0; i < count; i++) {
           if (!timeVector.isNull(i)) {
             timeColumn.append(LocalTime.ofNanoOfDay(((long) timeVector.get(i)) * 1_000_000));
           } else {
             timeColumn.appendMissing();
           }
         }
-        if (!table.containsColumn(name)) {
-          table.addColumns(timeColumn);
-        } else {
-          table.timeColumn(timeColumn.name()).append(timeColumn);
-        }
-        break;
+        return timeColumn;
       case TIMESTAMPMILLITZ:
         InstantColumn instantColumn = InstantColumn.create(name);
         TimeStampMilliTZVector instantVector = (TimeStampMilliTZVector) v;
-        for (int i = 0; i < instantVector.getValueCount(); i++) {
+        for (int i = 0; i < count; i++) {
           if (!instantVector.isNull(i)) {
             instantColumn.append(Instant.ofEpochMilli(instantVector.get(i)));
           } else {
             instantColumn.appendMissing();
           }
         }
-        if (!table.containsColumn(name)) {
-          table.addColumns(instantColumn);
-        } else {
-          table.instantColumn(instantColumn.name()).append(instantColumn);
-        }
-        break;
+        return instantColumn;
       case BIT:
         BooleanColumn booleanColumn = BooleanColumn.create(name);
         BitVector booleanVector = (BitVector) v;
-        for (int i = 0; i < booleanVector.getValueCount(); i++) {
+        for (int i = 0; i < count; i++) {
           if (!booleanVector.isNull(i)) {
             booleanColumn.append((byte) booleanVector.get(i));
           } else {
             booleanColumn.appendMissing();
           }
         }
-        if (!table.containsColumn(name)) {
-          table.addColumns(booleanColumn);
-        } else {
-          table.booleanColumn(booleanColumn.name()).append(booleanColumn);
-        }
-        break;
-      case FLOAT4:
-        FloatColumn floatCol = FloatColumn.create(name);
-        Float4Vector float4Vector = (Float4Vector) v;
-        for (int i = 0; i < float4Vector.getValueCount(); i++) {
-          if (!float4Vector.isNull(i)) {
-            floatCol.append(float4Vector.get(i));
-          } else {
-            floatCol.appendMissing();
-          }
-        }
-        if (!table.containsColumn(name)) {
-          table.addColumns(floatCol);
-        } else {
-          table.floatColumn(floatCol.name()).append(floatCol);
-        }
-        break;
-      case FLOAT8:
-        DoubleColumn doubleCol = DoubleColumn.create(name);
-        Float8Vector float8Vector = (Float8Vector) v;
-        for (int i = 0; i < float8Vector.getValueCount(); i++) {
-          if (!float8Vector.isNull(i)) {
-            doubleCol.append(float8Vector.get(i));
-          } else {
-            doubleCol.appendMissing();
-          }
-        }
-        if (!table.containsColumn(name)) {
-          table.addColumns(doubleCol);
-        } else {
-          table.doubleColumn(doubleCol.name()).append(doubleCol);
-        }
-        break;
+        return booleanColumn;
       default:
         throw new IllegalArgumentException(
             "Unhandled Column type " + type.name() + " in arrow data");
     }
   }
+
+  /**
+   * Returns the values in the data buffer of the given fixed-width vector, for a bulk copy. Arrow
+   * buffers are always little-endian
+   */
+  private static ByteBuffer buffer(FieldVector v, int width) {
+    return v.getDataBuffer().nioBuffer(0, v.getValueCount() * width).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Returns the index of the first null value in the vector at or after the given index, or the
+   * value count if there is none
+   */
+  private static int nextNull(FieldVector v, int from) {
+    int count = v.getValueCount();
+    if (v.getNullCount() == 0) {
+      return count;
+    }
+    for (int i = from; i < count; i++) {
+      if (v.isNull(i)) {
+        return i;
+      }
+    }
+    return count;
+  }
 }
@@ -3,19 +3,18 @@ package tech.tablesaw.io.arrow;
 import static org.apache.arrow.vector.types.FloatingPointPrecision.DOUBLE;
 import static org.apache.arrow.vector.types.FloatingPointPrecision.SINGLE;
 
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.arrow.memory.BufferAllocator;
-import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.*;
-import org.apache.arrow.vector.ipc.ArrowStreamWriter;
 import org.apache.arrow.vector.types.DateUnit;
 import org.apache.arrow.vector.types.TimeUnit;
 import org.apache.arrow.vector.types.Types;
@@ -25,15 +24,68 @@ import org.apache.arrow.vector.types.pojo.FieldType;
 import org.apache.arrow.vector.types.pojo.Schema;
 import tech.tablesaw.api.*;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.strings.DictionaryMap;
+import tech.tablesaw.columns.times.PackedLocalTime;
 import tech.tablesaw.io.RuntimeIOException;
 
-/** Writer for persisting a Tablesaw table in Apache Arrow Streaming Format. */
+/**
+ * Writer for persisting a Tablesaw table in Apache Arrow Streaming Format, or in Arrow File Format.
+ */
 public class ArrowWriter {
 
+  /** The number of rows in each record batch, unless another size is given */
+  public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
+  private final int batchSize;
+
+  private ArrowFormat format = ArrowFormat.STREAM;
+
+  private boolean dictionaryEncoding = false;
+
+  /** Creates a writer that writes record batches of {@link #DEFAULT_BATCH_SIZE} rows */
+  public ArrowWriter() {
+    this(DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates a writer that writes record batches of the given number of rows
+   *
+   * @param batchSize The maximum number of rows in each record batch
+   */
+  public ArrowWriter(int batchSize) {
+    Preconditions.checkArgument(batchSize > 0, "batchSize must be positive: %s", batchSize);
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Sets the format of the files written. The default is {@link ArrowFormat#STREAM}
+   *
+   * @return this writer
+   */
+  public ArrowWriter format(ArrowFormat format) {
+    this.format = Preconditions.checkNotNull(format);
+    return this;
+  }
+
+  /**
+   * Sets whether string columns are written as Arrow dictionary-encoded vectors. If so, the
+   * distinct values of each column are written once, and each row is written as the index of its
+   * value, which is usually much smaller than a plain UTF-8 vector for categorical data. The
+   * dictionary is made from the one the column already keeps, so no value is hashed again. The
+   * default is false, since not every Arrow reader supports dictionaries
+   *
+   * @return this writer
+   */
+  public ArrowWriter dictionaryEncoding(boolean dictionaryEncoding) {
+    this.dictionaryEncoding = dictionaryEncoding;
+    return this;
+  }
+
   /**
    * Returns an arrow Schema objects containing fields for each of the columns in the given Table
    */
-  private Schema tableSchema(Table table) {
+  static Schema tableSchema(Table table) {
     List<Field> fields = new ArrayList<>();
     for (Column<?> column : table.columns()) {
       final String typeName = column.type().name();
@@ -55,28 +107,27 @@ public class ArrowWriter {
           break;
         case "LOCAL_DATE":
           fields.add(
-              new Field(
-                  column.name(), FieldType.notNullable(new ArrowType.Date(DateUnit.DAY)), null));
+              new Field(column.name(), FieldType.nullable(new ArrowType.Date(DateUnit.DAY)), null));
           break;
         case "LOCAL_DATE_TIME":
           fields.add(
               new Field(
                   column.name(),
-                  FieldType.notNullable(new ArrowType.Timestamp(TimeUnit.MILLISECOND, null)),
+                  FieldType.nullable(new ArrowType.Timestamp(TimeUnit.MILLISECOND, null)),
                   null));
           break;
         case "LOCAL_TIME":
           fields.add(
               new Field(
                   column.name(),
-                  FieldType.notNullable(new ArrowType.Time(TimeUnit.MILLISECOND, 32)),
+                  FieldType.nullable(new ArrowType.Time(TimeUnit.MILLISECOND, 32)),
                   null));
           break;
         case "INSTANT":
           fields.add(
               new Field(
                   column.name(),
-                  FieldType.notNullable(new ArrowType.Timestamp(TimeUnit.MILLISECOND, "UTC")),
+                  FieldType.nullable(new ArrowType.Timestamp(TimeUnit.MILLISECOND, "UTC")),
                   null));
           break;
         case "BOOLEAN":
@@ -86,12 +137,12 @@ public class ArrowWriter {
         case "FLOAT":
           fields.add(
               new Field(
-                  column.name(), FieldType.notNullable(new ArrowType.FloatingPoint(SINGLE)), null));
+                  column.name(), FieldType.nullable(new ArrowType.FloatingPoint(SINGLE)), null));
           break;
         case "DOUBLE":
           fields.add(
               new Field(
-                  column.name(), FieldType.notNullable(new ArrowType.FloatingPoint(DOUBLE)), null));
+                  column.name(), FieldType.nullable(new ArrowType.FloatingPoint(DOUBLE)), null));
           break;
         default:
           throw new IllegalArgumentException(
@@ -102,102 +153,162 @@ public class ArrowWriter {
   }
 
   /**
-   * Writes the data from the given column into the corresponding vector in the given
-   * VectorSchemaRoot
+   * Writes the data from the given range of rows of the given column into the corresponding vector
+   * in the given VectorSchemaRoot. Missing values are written as nulls.
+   *
+   * @param encodedStrings For a string column, the UTF-8 encoding of each dictionary key already
+   *     written, which is reused for later occurrences of the same value; otherwise ignored
    */
-  private void setBytes(VectorSchemaRoot schemaRoot, Column<?> column) {
+  static void setBytes(
+      VectorSchemaRoot schemaRoot,
+      Column<?> column,
+      int from,
+      int to,
+      Int2ObjectMap<byte[]> encodedStrings) {
 
     final String typeName = column.type().name();
+    final int count = to - from;
     switch (typeName) {
       case "STRING":
         VarCharVector sv = ((VarCharVector) schemaRoot.getVector(column.name()));
         StringColumn sc = (StringColumn) column;
-        for (int i = 0; i < sc.size(); i++) {
-          sv.setSafe(i, sc.get(i).getBytes(StandardCharsets.UTF_8));
+        DictionaryMap<?> dictionary = sc.getDictionary();
+        for (int i = from; i < to; i++) {
+          byte[] bytes;
+          if (dictionary != null) {
+            int key = dictionary.getKeyAtIndex(i);
+            bytes = encodedStrings.get(key);
+            if (bytes == null) {
+              bytes = sc.get(i).getBytes(StandardCharsets.UTF_8);
+              encodedStrings.put(key, bytes);
+            }
+          } else {
+            bytes = sc.get(i).getBytes(StandardCharsets.UTF_8);
+          }
+          sv.setSafe(i - from, bytes);
         }
-        sv.setValueCount(sc.size());
+        sv.setValueCount(count);
         break;
       case "LONG":
         BigIntVector lv = ((BigIntVector) schemaRoot.getVector(column.name()));
         LongColumn lc = (LongColumn) column;
-        for (int i = 0; i < lc.size(); i++) {
-          lv.setSafe(i, lc.getLong(i));
+        for (int i = from; i < to; i++) {
+          if (lc.isMissing(i)) {
+            lv.setNull(i - from);
+          } else {
+            lv.setSafe(i - from, lc.getLong(i));
+          }
         }
-        lv.setValueCount(lc.size());
+        lv.setValueCount(count);
         break;
       case "INTEGER":
         IntVector iv = ((IntVector) schemaRoot.getVector(column.name()));
         IntColumn ic = (IntColumn) column;
-        for (int i = 0; i < ic.size(); i++) {
-          iv.setSafe(i, ic.getInt(i));
+        for (int i = from; i < to; i++) {
+          if (ic.isMissing(i)) {
+            iv.setNull(i - from);
+          } else {
+            iv.setSafe(i - from, ic.getInt(i));
+          }
         }
-        iv.setValueCount(ic.size());
+        iv.setValueCount(count);
         break;
       case "SHORT":
         SmallIntVector shortv = ((SmallIntVector) schemaRoot.getVector(column.name()));
         ShortColumn shortc = (ShortColumn) column;
-        for (int i = 0; i < shortc.size(); i++) {
-          shortv.setSafe(i, shortc.getInt(i));
+        for (int i = from; i < to; i++) {
+          if (shortc.isMissing(i)) {
+            shortv.setNull(i - from);
+          } else {
+            shortv.setSafe(i - from, shortc.getShort(i));
+          }
         }
-        shortv.setValueCount(shortc.size());
+        shortv.setValueCount(count);
         break;
       case "LOCAL_DATE":
         DateDayVector dv = ((DateDayVector) schemaRoot.getVector(column.name()));
         DateColumn dc = (DateColumn) column;
-        for (int i = 0; i < dc.size(); i++) {
-          dv.setSafe(i, (int) dc.get(i).toEpochDay());
+        for (int i = from; i < to; i++) {
+          if (dc.isMissing(i)) {
+            dv.setNull(i - from);
+          } else {
+            dv.setSafe(i - from, (int) PackedLocalDate.toEpochDay(dc.getIntInternal(i)));
+          }
         }
-        dv.setValueCount(dc.size());
+        dv.setValueCount(count);
         break;
-
       case "LOCAL_DATE_TIME":
         TimeStampMilliVector dtv = ((TimeStampMilliVector) schemaRoot.getVector(column.name()));
         DateTimeColumn dtc = (DateTimeColumn) column;
-        for (int i = 0; i < dtc.size(); i++) {
-          dtv.setSafe(i, dtc.get(i).toInstant(ZoneOffset.UTC).toEpochMilli());
+        for (int i = from; i < to; i++) {
+          if (dtc.isMissing(i)) {
+            dtv.setNull(i - from);
+          } else {
+            dtv.setSafe(i - from, dtc.get(i).toInstant(ZoneOffset.UTC).toEpochMilli());
+          }
         }
-        dtv.setValueCount(dtc.size());
+        dtv.setValueCount(count);
         break;
       case "LOCAL_TIME":
         TimeMilliVector tv = ((TimeMilliVector) schemaRoot.getVector(column.name()));
         TimeColumn tc = (TimeColumn) column;
-        for (int i = 0; i < tc.size(); i++) {
-          tv.setSafe(i, (int) ((tc.get(i).toNanoOfDay()) / 1_000_000));
+        for (int i = from; i < to; i++) {
+          if (tc.isMissing(i)) {
+            tv.setNull(i - from);
+          } else {
+            tv.setSafe(i - from, PackedLocalTime.getMillisecondOfDay(tc.getIntInternal(i)));
+          }
         }
-        tv.setValueCount(tc.size());
+        tv.setValueCount(count);
         break;
       case "INSTANT":
         TimeStampMilliTZVector instv =
             ((TimeStampMilliTZVector) schemaRoot.getVector(column.name()));
         InstantColumn instc = (InstantColumn) column;
-        for (int i = 0; i < instc.size(); i++) {
-          instv.setSafe(i, instc.get(i).toEpochMilli());
+        for (int i = from; i < to; i++) {
+          if (instc.isMissing(i)) {
+            instv.setNull(i - from);
+          } else {
+            instv.setSafe(i - from, instc.get(i).toEpochMilli());
+          }
         }
-        instv.setValueCount(instc.size());
+        instv.setValueCount(count);
         break;
       case "BOOLEAN":
         BitVector bv = ((BitVector) schemaRoot.getVector(column.name()));
         BooleanColumn bc = (BooleanColumn) column;
-        for (int i = 0; i < bc.size(); i++) {
-          bv.setSafe(i, bc.getByte(i));
+        for (int i = from; i < to; i++) {
+          if (bc.isMissing(i)) {
+            bv.setNull(i - from);
+          } else {
+            bv.setSafe(i - from, bc.getByte(i));
+          }
         }
-        bv.setValueCount(bc.size());
+        bv.setValueCount(count);
         break;
       case "FLOAT":
         Float4Vector fv = ((Float4Vector) schemaRoot.getVector(column.name()));
         FloatColumn fc = (FloatColumn) column;
-        for (int i = 0; i < fc.size(); i++) {
-          fv.setSafe(i, fc.getFloat(i));
+        for (int i = from; i < to; i++) {
+          if (fc.isMissing(i)) {
+            fv.setNull(i - from);
+          } else {
+            fv.setSafe(i - from, fc.getFloat(i));
+          }
         }
-        fv.setValueCount(fc.size());
+        fv.setValueCount(count);
         break;
       case "DOUBLE":
         Float8Vector f8v = ((Float8Vector) schemaRoot.getVector(column.name()));
         DoubleColumn f8c = (DoubleColumn) column;
-        for (int i = 0; i < f8c.size(); i++) {
-          f8v.setSafe(i, f8c.getDouble(i));
+        for (int i = from; i < to; i++) {
+          if (f8c.isMissing(i)) {
+            f8v.setNull(i - from);
+          } else {
+            f8v.setSafe(i - from, f8c.getDouble(i));
+          }
         }
-        f8v.setValueCount(f8c.size());
+        f8v.setValueCount(count);
         break;
       default:
         throw new IllegalArgumentException(
@@ -206,55 +317,33 @@ public class ArrowWriter {
   }
 
   /**
-   * Writes table to arrow-formatted file. The Arrow Stream format is used, meaning that there is no
-   * sparse index into the individual data blocks, and only sequential access is supported.
+   * Writes table to arrow-formatted file, in the format of this writer. In the Arrow Stream format,
+   * there is no sparse index into the individual data blocks, and only sequential access is
+   * supported. The Arrow File format ends with an index of the blocks, which {@link ArrowReader}
+   * uses for random access.
    *
    * <p>Note that for Arrow Streaming Format files, the extension ".arrows" is recommended. The
    * ".arrow" extension is intended for use by Arrow File Format, which provides random access to
    * the individual blocks
    *
-   * <p>The arrow format specifies writing tables in record batches, along with any
-   * DictionaryProviders that will be used in encoding the data.
-   *
-   * <p>The process for writing record batches is as follows: - create a VectorSchemaRoot (VSR) -
-   * populate the vectors in the VSR with the first batch of rows from the table, using some
-   * arbitrary number of rows for the batch size - write the batch to the output stream - reset the
-   * vectors in the VSR - repopulate the vectors the next batch
-   *
-   * <p>The cycle of reset, repopulate, and write is continued until all the data has been written
+   * <p>The table is written in record batches of at most the batch size of this writer, as
+   * described in {@link ArrowBatchWriter}.
    *
    * @param table The table to write
    * @param file The file we're writing to
    */
   public void write(Table table, File file) {
-
-    // Create an RootAllocator to allocate memory for our vectors
-    BufferAllocator allocator = new RootAllocator();
-
-    Schema schema = tableSchema(table);
-    List<FieldVector> fieldVectors = createFieldVectors(schema, allocator);
-    VectorSchemaRoot schemaRoot = new VectorSchemaRoot(fieldVectors);
-
     try (FileOutputStream out = new FileOutputStream(file);
-        ArrowStreamWriter writer =
-            new ArrowStreamWriter(
-                schemaRoot, /*DictionaryProvider=*/ null, Channels.newChannel(out))) {
-      writer.start();
-      for (FieldVector v : schemaRoot.getFieldVectors()) {
-        v.reset();
-      }
-      for (Column<?> column : table.columns()) {
-        setBytes(schemaRoot, column);
-      }
-      schemaRoot.setRowCount(table.rowCount());
-      writer.writeBatch();
-      writer.end();
+        ArrowBatchWriter writer =
+            new ArrowBatchWriter(
+                out.getChannel(), batchSize, format, dictionaryEncoding ? table : null)) {
+      writer.write(table);
     } catch (IOException e) {
       throw new RuntimeIOException(e);
     }
   }
 
-  private List<FieldVector> createFieldVectors(Schema schema, BufferAllocator allocator) {
+  static List<FieldVector> createFieldVectors(Schema schema, BufferAllocator allocator) {
     return schema.getFields().stream()
         .map(field -> field.createVector(allocator))
         .collect(Collectors.toList());
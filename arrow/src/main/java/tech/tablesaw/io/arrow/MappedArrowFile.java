@@ -0,0 +1,235 @@
+package tech.tablesaw.io.arrow;
+
+import com.google.common.base.Preconditions;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.TypeLayout;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.ipc.ReadChannel;
+import org.apache.arrow.vector.ipc.message.ArrowBlock;
+import org.apache.arrow.vector.ipc.message.MessageMetadataResult;
+import org.apache.arrow.vector.ipc.message.MessageSerializer;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Reads a file in Arrow File Format by mapping its record batches into memory. Only the footer of
+ * the file, and the metadata of each batch, are read when the file is opened.
+ *
+ * <p>32 and 64-bit signed integer vectors, and double precision floating point vectors, are stored
+ * in Arrow as they are in Tablesaw, apart from nulls. Columns of those types are made over the
+ * mapped buffers themselves, so their values are read from the page cache when they are used,
+ * rather than being copied onto the heap. Processes mapping the same file share its pages. The
+ * columns are read-only.
+ *
+ * <p>Vectors of the other types are read into columns in the usual way, which reads the whole body
+ * of each record batch.
+ */
+final class MappedArrowFile {
+
+  private MappedArrowFile() {}
+
+  /**
+   * Returns a table holding the given columns of the given file
+   *
+   * @param columnNames The names of the columns to read, in the order they appear in the table, or
+   *     none to read every column
+   */
+  static Table read(File file, String tableName, String[] columnNames) throws IOException {
+    try (BufferAllocator allocator = new RootAllocator(Long.MAX_VALUE);
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        ArrowFileReader reader = new ArrowFileReader(channel, allocator)) {
+      List<Field> fields = reader.getVectorSchemaRoot().getSchema().getFields();
+      List<String> names = new ArrayList<>();
+      if (columnNames.length == 0) {
+        fields.forEach(f -> names.add(f.getName()));
+      } else {
+        names.addAll(List.of(columnNames));
+      }
+
+      // the mappable fields, by position in the schema, and the names of the other fields read
+      Map<Integer, Field> mapped = new LinkedHashMap<>();
+      List<String> copied = new ArrayList<>();
+      for (String name : names) {
+        int position = position(fields, name);
+        if (width(fields.get(position)) > 0) {
+          mapped.put(position, fields.get(position));
+        } else {
+          copied.add(name);
+        }
+      }
+
+      List<ArrowBlock> blocks = reader.getRecordBlocks();
+      int[] starts = new int[blocks.size() + 1];
+      Map<Integer, ByteBuffer[]> values = new HashMap<>();
+      Map<Integer, ByteBuffer[]> validity = new HashMap<>();
+      for (Integer position : mapped.keySet()) {
+        values.put(position, new ByteBuffer[blocks.size()]);
+        validity.put(position, new ByteBuffer[blocks.size()]);
+      }
+      for (int b = 0; b < blocks.size(); b++) {
+        ArrowBlock block = blocks.get(b);
+        channel.position(block.getOffset());
+        MessageMetadataResult metadata = MessageSerializer.readMessage(new ReadChannel(channel));
+        RecordBatch batch = (RecordBatch) metadata.getMessage().header(new RecordBatch());
+        Preconditions.checkArgument(
+            batch.compression() == null, "Compressed record batches cannot be mapped: %s", file);
+        int rowCount = Math.toIntExact(batch.length());
+        starts[b + 1] = Math.addExact(starts[b], rowCount);
+        if (mapped.isEmpty()) {
+          continue;
+        }
+        MappedByteBuffer body =
+            channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                block.getOffset() + block.getMetadataLength(),
+                block.getBodyLength());
+        int node = 0;
+        int buffer = 0;
+        for (int f = 0; f < fields.size(); f++) {
+          Field field = mapped.get(f);
+          if (field != null) {
+            if (batch.nodes(node).nullCount() > 0) {
+              validity.get(f)[b] = slice(body, batch, buffer, (rowCount + 7) / 8);
+            }
+            values.get(f)[b] = slice(body, batch, buffer + 1, (long) rowCount * width(field));
+          }
+          node += nodeCount(fields.get(f));
+          buffer += bufferCount(fields.get(f));
+        }
+      }
+
+      Map<String, Column<?>> columns = new HashMap<>();
+      for (Map.Entry<Integer, Field> entry : mapped.entrySet()) {
+        Field field = entry.getValue();
+        MappedBatches batches =
+            new MappedBatches(starts, values.get(entry.getKey()), validity.get(entry.getKey()));
+        columns.put(field.getName(), toColumn(field, batches));
+      }
+      if (!copied.isEmpty()) {
+        Table table = readCopied(reader, blocks, tableName, copied.toArray(new String[0]));
+        table.columns().forEach(c -> columns.put(c.name(), c));
+      }
+      Table table = Table.create(tableName);
+      names.forEach(name -> table.addColumns(columns.get(name)));
+      return table;
+    }
+  }
+
+  /** Reads the given columns of each record batch into memory */
+  private static Table readCopied(
+      ArrowFileReader reader, List<ArrowBlock> blocks, String tableName, String[] columnNames)
+      throws IOException {
+    Map<String, Utf8Interner> interners = new HashMap<>();
+    Table table = null;
+    for (ArrowBlock block : blocks) {
+      reader.loadRecordBatch(block);
+      Table batch =
+          ArrowReader.toTable(
+              tableName, reader.getVectorSchemaRoot(), columnNames, reader, interners);
+      table = table == null ? batch : table.append(batch);
+    }
+    if (table == null) {
+      reader.getVectorSchemaRoot().setRowCount(0);
+      table =
+          ArrowReader.toTable(
+              tableName, reader.getVectorSchemaRoot(), columnNames, reader, interners);
+    }
+    return table;
+  }
+
+  private static Column<?> toColumn(Field field, MappedBatches batches) {
+    ArrowType type = field.getType();
+    if (type instanceof ArrowType.FloatingPoint) {
+      return DoubleColumn.createInternal(field.getName(), new MappedDoubleList(batches));
+    }
+    if (((ArrowType.Int) type).getBitWidth() == Long.SIZE) {
+      return LongColumn.createInternal(field.getName(), new MappedLongList(batches));
+    }
+    return IntColumn.createInternal(field.getName(), new MappedIntList(batches));
+  }
+
+  /**
+   * Returns the number of bytes of each value of a field that can be mapped, or zero if the field's
+   * values are stored differently in Tablesaw
+   */
+  private static int width(Field field) {
+    ArrowType type = field.getType();
+    if (field.getDictionary() != null) {
+      return 0;
+    }
+    if (type instanceof ArrowType.Int) {
+      ArrowType.Int intType = (ArrowType.Int) type;
+      if (intType.getIsSigned()
+          && (intType.getBitWidth() == Integer.SIZE || intType.getBitWidth() == Long.SIZE)) {
+        return intType.getBitWidth() / Byte.SIZE;
+      }
+    }
+    if (type instanceof ArrowType.FloatingPoint
+        && ((ArrowType.FloatingPoint) type).getPrecision() == FloatingPointPrecision.DOUBLE) {
+      return Double.BYTES;
+    }
+    return 0;
+  }
+
+  private static int position(List<Field> fields, String name) {
+    for (int f = 0; f < fields.size(); f++) {
+      if (fields.get(f).getName().equals(name)) {
+        return f;
+      }
+    }
+    throw new IllegalArgumentException("No column named " + name + " in arrow data");
+  }
+
+  /** Returns the number of field nodes of the given field and its children in a record batch */
+  private static int nodeCount(Field field) {
+    int count = 1;
+    for (Field child : field.getChildren()) {
+      count += nodeCount(child);
+    }
+    return count;
+  }
+
+  /** Returns the number of buffers of the given field and its children in a record batch */
+  private static int bufferCount(Field field) {
+    int count = TypeLayout.getTypeBufferCount(field.getType());
+    for (Field child : field.getChildren()) {
+      count += bufferCount(child);
+    }
+    return count;
+  }
+
+  /**
+   * Returns a little-endian view of the first bytes of the given buffer of the batch, within the
+   * mapped body of the batch
+   */
+  private static ByteBuffer slice(MappedByteBuffer body, RecordBatch batch, int buffer, long size) {
+    int offset = Math.toIntExact(batch.buffers(buffer).offset());
+    Preconditions.checkArgument(
+        size <= batch.buffers(buffer).length(), "Buffer %s of the batch is too short", buffer);
+    return body.duplicate()
+        .position(offset)
+        .limit(offset + (int) size)
+        .slice()
+        .order(ByteOrder.LITTLE_ENDIAN);
+  }
+}
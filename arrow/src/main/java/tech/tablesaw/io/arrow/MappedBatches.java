@@ -0,0 +1,84 @@
+package tech.tablesaw.io.arrow;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The buffers of one column in each record batch of a memory-mapped Arrow file. Rows are numbered
+ * across all the batches, and each row is found by its batch and its index within the batch.
+ *
+ * <p>The buffers are views of the mapped file, which keep the mapping alive for as long as they are
+ * reachable.
+ */
+final class MappedBatches {
+
+  /** The first row of each batch, followed by the total number of rows */
+  private final int[] starts;
+
+  /** The little-endian values buffer of each batch */
+  private final ByteBuffer[] values;
+
+  /** The validity bitmap of each batch, or null for a batch with no nulls */
+  private final ByteBuffer[] validity;
+
+  /** The number of rows in every batch but the last, or zero if the batches differ in size */
+  private final int batchSize;
+
+  MappedBatches(int[] starts, ByteBuffer[] values, ByteBuffer[] validity) {
+    this.starts = starts;
+    this.values = values;
+    this.validity = validity;
+    this.batchSize = uniformBatchSize(starts);
+  }
+
+  private static int uniformBatchSize(int[] starts) {
+    if (starts.length < 3) {
+      return 0;
+    }
+    int size = starts[1] - starts[0];
+    for (int b = 1; b < starts.length - 2; b++) {
+      if (starts[b + 1] - starts[b] != size) {
+        return 0;
+      }
+    }
+    return size;
+  }
+
+  int size() {
+    return starts[starts.length - 1];
+  }
+
+  int batchCount() {
+    return values.length;
+  }
+
+  /** Returns the batch holding the given row */
+  int batch(int row) {
+    if (batchSize > 0) {
+      return Math.min(row / batchSize, values.length - 1);
+    }
+    int b = Arrays.binarySearch(starts, 0, values.length, row);
+    // a row that starts a batch is found exactly; any other is inserted after its batch's start
+    return b >= 0 ? b : -b - 2;
+  }
+
+  int start(int batch) {
+    return starts[batch];
+  }
+
+  ByteBuffer values(int batch) {
+    return values[batch];
+  }
+
+  /** Returns true if the value at the given index of the given batch is null */
+  boolean isNull(int batch, int index) {
+    ByteBuffer bits = validity[batch];
+    return bits != null && (bits.get(index >>> 3) & (1 << (index & 7))) == 0;
+  }
+
+  void checkIndex(int row) {
+    if (row < 0 || row >= size()) {
+      throw new IndexOutOfBoundsException("Index " + row + " out of bounds for length " + size());
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package tech.tablesaw.io.arrow;
+
+import it.unimi.dsi.fastutil.doubles.AbstractDoubleList;
+import java.nio.DoubleBuffer;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+
+/**
+ * A read-only list of the values of a double precision floating point vector in a memory-mapped
+ * Arrow file, where null values are read as Tablesaw's missing value indicator. No value is copied
+ * onto the heap.
+ */
+final class MappedDoubleList extends AbstractDoubleList {
+
+  private final MappedBatches batches;
+  private final DoubleBuffer[] values;
+
+  MappedDoubleList(MappedBatches batches) {
+    this.batches = batches;
+    this.values = new DoubleBuffer[batches.batchCount()];
+    for (int b = 0; b < values.length; b++) {
+      values[b] = batches.values(b).asDoubleBuffer();
+    }
+  }
+
+  @Override
+  public double getDouble(int row) {
+    batches.checkIndex(row);
+    int b = batches.batch(row);
+    int index = row - batches.start(b);
+    if (batches.isNull(b, index)) {
+      return DoubleColumnType.missingValueIndicator();
+    }
+    return values[b].get(index);
+  }
+
+  @Override
+  public int size() {
+    return batches.size();
+  }
+
+  /** Copies the values in bulk, a batch at a time */
+  @Override
+  public void getElements(int from, double[] a, int offset, int length) {
+    int row = from;
+    int end = from + length;
+    while (row < end) {
+      int b = batches.batch(row);
+      int index = row - batches.start(b);
+      int count = Math.min(end - row, values[b].limit() - index);
+      values[b].duplicate().position(index).get(a, offset + row - from, count);
+      for (int i = index; i < index + count; i++) {
+        if (batches.isNull(b, i)) {
+          a[offset + row - from + i - index] = DoubleColumnType.missingValueIndicator();
+        }
+      }
+      row += count;
+    }
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    double[] result = new double[size()];
+    getElements(0, result, 0, result.length);
+    return result;
+  }
+}
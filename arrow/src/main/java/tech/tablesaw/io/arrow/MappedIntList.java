@@ -0,0 +1,65 @@
+package tech.tablesaw.io.arrow;
+
+import it.unimi.dsi.fastutil.ints.AbstractIntList;
+import java.nio.IntBuffer;
+import tech.tablesaw.columns.numbers.IntColumnType;
+
+/**
+ * A read-only list of the values of a 32-bit integer vector in a memory-mapped Arrow file, where
+ * null values are read as Tablesaw's missing value indicator. No value is copied onto the heap.
+ */
+final class MappedIntList extends AbstractIntList {
+
+  private final MappedBatches batches;
+  private final IntBuffer[] values;
+
+  MappedIntList(MappedBatches batches) {
+    this.batches = batches;
+    this.values = new IntBuffer[batches.batchCount()];
+    for (int b = 0; b < values.length; b++) {
+      values[b] = batches.values(b).asIntBuffer();
+    }
+  }
+
+  @Override
+  public int getInt(int row) {
+    batches.checkIndex(row);
+    int b = batches.batch(row);
+    int index = row - batches.start(b);
+    if (batches.isNull(b, index)) {
+      return IntColumnType.missingValueIndicator();
+    }
+    return values[b].get(index);
+  }
+
+  @Override
+  public int size() {
+    return batches.size();
+  }
+
+  /** Copies the values in bulk, a batch at a time */
+  @Override
+  public void getElements(int from, int[] a, int offset, int length) {
+    int row = from;
+    int end = from + length;
+    while (row < end) {
+      int b = batches.batch(row);
+      int index = row - batches.start(b);
+      int count = Math.min(end - row, values[b].limit() - index);
+      values[b].duplicate().position(index).get(a, offset + row - from, count);
+      for (int i = index; i < index + count; i++) {
+        if (batches.isNull(b, i)) {
+          a[offset + row - from + i - index] = IntColumnType.missingValueIndicator();
+        }
+      }
+      row += count;
+    }
+  }
+
+  @Override
+  public int[] toIntArray() {
+    int[] result = new int[size()];
+    getElements(0, result, 0, result.length);
+    return result;
+  }
+}
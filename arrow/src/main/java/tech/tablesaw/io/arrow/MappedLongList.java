@@ -0,0 +1,65 @@
+package tech.tablesaw.io.arrow;
+
+import it.unimi.dsi.fastutil.longs.AbstractLongList;
+import java.nio.LongBuffer;
+import tech.tablesaw.columns.numbers.LongColumnType;
+
+/**
+ * A read-only list of the values of a 64-bit integer vector in a memory-mapped Arrow file, where
+ * null values are read as Tablesaw's missing value indicator. No value is copied onto the heap.
+ */
+final class MappedLongList extends AbstractLongList {
+
+  private final MappedBatches batches;
+  private final LongBuffer[] values;
+
+  MappedLongList(MappedBatches batches) {
+    this.batches = batches;
+    this.values = new LongBuffer[batches.batchCount()];
+    for (int b = 0; b < values.length; b++) {
+      values[b] = batches.values(b).asLongBuffer();
+    }
+  }
+
+  @Override
+  public long getLong(int row) {
+    batches.checkIndex(row);
+    int b = batches.batch(row);
+    int index = row - batches.start(b);
+    if (batches.isNull(b, index)) {
+      return LongColumnType.missingValueIndicator();
+    }
+    return values[b].get(index);
+  }
+
+  @Override
+  public int size() {
+    return batches.size();
+  }
+
+  /** Copies the values in bulk, a batch at a time */
+  @Override
+  public void getElements(int from, long[] a, int offset, int length) {
+    int row = from;
+    int end = from + length;
+    while (row < end) {
+      int b = batches.batch(row);
+      int index = row - batches.start(b);
+      int count = Math.min(end - row, values[b].limit() - index);
+      values[b].duplicate().position(index).get(a, offset + row - from, count);
+      for (int i = index; i < index + count; i++) {
+        if (batches.isNull(b, i)) {
+          a[offset + row - from + i - index] = LongColumnType.missingValueIndicator();
+        }
+      }
+      row += count;
+    }
+  }
+
+  @Override
+  public long[] toLongArray() {
+    long[] result = new long[size()];
+    getElements(0, result, 0, result.length);
+    return result;
+  }
+}
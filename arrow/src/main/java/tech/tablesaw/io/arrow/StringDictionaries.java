@@ -0,0 +1,294 @@
+package tech.tablesaw.io.arrow;
+
+import it.unimi.dsi.fastutil.bytes.Byte2IntOpenHashMap;
+import it.unimi.dsi.fastutil.bytes.Byte2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ShortOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import java.nio.charset.StandardCharsets;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.columns.strings.ByteDictionaryMap;
+import tech.tablesaw.columns.strings.DictionaryMap;
+import tech.tablesaw.columns.strings.IntDictionaryMap;
+import tech.tablesaw.columns.strings.ShortDictionaryMap;
+import tech.tablesaw.columns.strings.StringColumnType;
+
+/**
+ * Converts between the dictionary of a StringColumn and an Arrow dictionary-encoded vector, where
+ * each row holds the index of its value in a separate vector of distinct values.
+ *
+ * <p>Writing reuses the keys the column already assigns to its values, so each distinct value is
+ * encoded once, and each row is written as a small integer. Reading builds the column's dictionary
+ * directly from the Arrow dictionary and indices, with the smallest key type that holds the values.
+ */
+final class StringDictionaries {
+
+  private StringDictionaries() {}
+
+  /** The dictionary written for a single string column, and the index of each of its keys */
+  static final class Encoder {
+
+    private final StringColumn column;
+    private final DictionaryMap<?> map;
+
+    /** The position in the Arrow dictionary of each key of the column's dictionary */
+    private final Int2IntOpenHashMap positions = new Int2IntOpenHashMap();
+
+    private final Dictionary dictionary;
+
+    /**
+     * Creates an encoder for the given column, whose Arrow dictionary holds the distinct values of
+     * the column in the order they first appear
+     *
+     * @param id The id of the dictionary, which must be unique within the stream
+     */
+    Encoder(StringColumn column, long id, BufferAllocator allocator) {
+      this.column = column;
+      this.map = column.getDictionary();
+      VarCharVector values = new VarCharVector(column.name(), allocator);
+      values.allocateNew();
+      for (int i = 0; i < column.size(); i++) {
+        int key = map.getKeyAtIndex(i);
+        if (!positions.containsKey(key)) {
+          int position = positions.size();
+          positions.put(key, position);
+          values.setSafe(position, column.get(i).getBytes(StandardCharsets.UTF_8));
+        }
+      }
+      values.setValueCount(positions.size());
+      ArrowType.Int indexType = indexType(positions.size());
+      this.dictionary = new Dictionary(values, new DictionaryEncoding(id, false, indexType));
+    }
+
+    /** Returns the field of the vector holding the column's indices */
+    Field field() {
+      DictionaryEncoding encoding = dictionary.getEncoding();
+      return new Field(column.name(), new FieldType(true, encoding.getIndexType(), encoding), null);
+    }
+
+    Dictionary dictionary() {
+      return dictionary;
+    }
+
+    /** Writes the indices of the values in the given range of rows to the given vector */
+    void setIndices(BaseIntVector indices, int from, int to) {
+      for (int i = from; i < to; i++) {
+        indices.setWithPossibleTruncate(i - from, positions.get(map.getKeyAtIndex(i)));
+      }
+      indices.setValueCount(to - from);
+    }
+
+    /** Returns the narrowest signed integer type that holds the given number of indices */
+    private static ArrowType.Int indexType(int size) {
+      if (size <= Byte.MAX_VALUE + 1) {
+        return new ArrowType.Int(8, true);
+      }
+      if (size <= Short.MAX_VALUE + 1) {
+        return new ArrowType.Int(16, true);
+      }
+      return new ArrowType.Int(32, true);
+    }
+  }
+
+  /**
+   * Returns a string column holding the values of the given dictionary-encoded vector. Null indices
+   * are read as missing values. Only the dictionary values that are used by some row are added to
+   * the column's dictionary.
+   *
+   * @param interner The interner used to decode the dictionary values
+   */
+  static StringColumn decode(
+      String name, BaseIntVector indices, VarCharVector dictionary, Utf8Interner interner) {
+    int count = indices.getValueCount();
+    int[] counts = new int[dictionary.getValueCount()];
+    int missing = 0;
+    for (int i = 0; i < count; i++) {
+      if (indices.isNull(i)) {
+        missing++;
+      } else {
+        counts[(int) indices.getValueAsLong(i)]++;
+      }
+    }
+
+    // give the used values consecutive keys, in dictionary order. The missing value is always
+    // given its own key, as when a value is appended to a column
+    String[] strings = new String[counts.length];
+    int[] keyOf = new int[counts.length];
+    Object2IntOpenHashMap<String> distinct = new Object2IntOpenHashMap<>();
+    distinct.defaultReturnValue(-1);
+    ArrowBuf offsets = dictionary.getOffsetBuffer();
+    ArrowBuf data = dictionary.getDataBuffer();
+    for (int p = 0; p < counts.length; p++) {
+      if (counts[p] == 0) {
+        continue;
+      }
+      String value;
+      if (dictionary.isNull(p)) {
+        value = StringColumnType.missingValueIndicator();
+      } else {
+        int start = offsets.getInt((long) p * BaseVariableWidthVector.OFFSET_WIDTH);
+        int end = offsets.getInt((long) (p + 1) * BaseVariableWidthVector.OFFSET_WIDTH);
+        value = interner.get(data, start, end - start);
+      }
+      if (value.equals(StringColumnType.missingValueIndicator())) {
+        keyOf[p] = -1;
+        missing += counts[p];
+      } else {
+        int key = distinct.getInt(value);
+        if (key == -1) {
+          key = distinct.size();
+          distinct.put(value, key);
+          strings[p] = value;
+        }
+        keyOf[p] = key;
+      }
+    }
+    int cardinality = distinct.size();
+    DictionaryMap<?> map;
+    if (cardinality < -1 - Byte.MIN_VALUE) {
+      map = byteMap(indices, keyOf, strings, counts, missing, cardinality);
+    } else if (cardinality < -1 - Short.MIN_VALUE) {
+      map = shortMap(indices, keyOf, strings, counts, missing, cardinality);
+    } else {
+      map = intMap(indices, keyOf, strings, counts, missing, cardinality);
+    }
+    return StringColumn.createInternal(name, map);
+  }
+
+  /**
+   * Returns the key of each row, where the value at position p of the dictionary is given the key
+   * {@code keyOf[p] + first}, and missing values are given the missing key
+   */
+  private static int key(BaseIntVector indices, int row, int[] keyOf, int first, int missingKey) {
+    if (indices.isNull(row)) {
+      return missingKey;
+    }
+    int key = keyOf[(int) indices.getValueAsLong(row)];
+    return key == -1 ? missingKey : key + first;
+  }
+
+  private static ByteDictionaryMap byteMap(
+      BaseIntVector indices, int[] keyOf, String[] strings, int[] counts, int missing, int size) {
+    int first = Byte.MIN_VALUE + 1;
+    byte missingKey = Byte.MAX_VALUE;
+    Byte2ObjectOpenHashMap<String> keyToValue = new Byte2ObjectOpenHashMap<>();
+    Object2ByteOpenHashMap<String> valueToKey = new Object2ByteOpenHashMap<>();
+    Byte2IntOpenHashMap keyToCount = new Byte2IntOpenHashMap();
+    for (int p = 0; p < keyOf.length; p++) {
+      if (counts[p] > 0 && keyOf[p] != -1) {
+        byte key = (byte) (keyOf[p] + first);
+        if (strings[p] != null) {
+          keyToValue.put(key, strings[p]);
+          valueToKey.put(strings[p], key);
+        }
+        keyToCount.addTo(key, counts[p]);
+      }
+    }
+    if (missing > 0) {
+      keyToValue.put(missingKey, StringColumnType.missingValueIndicator());
+      valueToKey.put(StringColumnType.missingValueIndicator(), missingKey);
+      keyToCount.put(missingKey, missing);
+    }
+    int count = indices.getValueCount();
+    ByteArrayList values = new ByteArrayList(count);
+    for (int i = 0; i < count; i++) {
+      values.add((byte) key(indices, i, keyOf, first, missingKey));
+    }
+    return new ByteDictionaryMap.ByteDictionaryBuilder()
+        .setValues(values)
+        .setKeyToValue(keyToValue)
+        .setValueToKey(valueToKey)
+        .setKeyToCount(keyToCount)
+        .setNextIndex((byte) (Byte.MIN_VALUE + size))
+        .build();
+  }
+
+  private static ShortDictionaryMap shortMap(
+      BaseIntVector indices, int[] keyOf, String[] strings, int[] counts, int missing, int size) {
+    int first = Short.MIN_VALUE + 1;
+    short missingKey = Short.MAX_VALUE;
+    Short2ObjectOpenHashMap<String> keyToValue = new Short2ObjectOpenHashMap<>();
+    Object2ShortOpenHashMap<String> valueToKey = new Object2ShortOpenHashMap<>();
+    Short2IntOpenHashMap keyToCount = new Short2IntOpenHashMap();
+    for (int p = 0; p < keyOf.length; p++) {
+      if (counts[p] > 0 && keyOf[p] != -1) {
+        short key = (short) (keyOf[p] + first);
+        if (strings[p] != null) {
+          keyToValue.put(key, strings[p]);
+          valueToKey.put(strings[p], key);
+        }
+        keyToCount.addTo(key, counts[p]);
+      }
+    }
+    if (missing > 0) {
+      keyToValue.put(missingKey, StringColumnType.missingValueIndicator());
+      valueToKey.put(StringColumnType.missingValueIndicator(), missingKey);
+      keyToCount.put(missingKey, missing);
+    }
+    int count = indices.getValueCount();
+    ShortArrayList values = new ShortArrayList(count);
+    for (int i = 0; i < count; i++) {
+      values.add((short) key(indices, i, keyOf, first, missingKey));
+    }
+    return new ShortDictionaryMap.ShortDictionaryBuilder()
+        .setValues(values)
+        .setKeyToValue(keyToValue)
+        .setValueToKey(valueToKey)
+        .setKeyToCount(keyToCount)
+        .setNextIndex((short) (Short.MIN_VALUE + size))
+        .build();
+  }
+
+  private static IntDictionaryMap intMap(
+      BaseIntVector indices, int[] keyOf, String[] strings, int[] counts, int missing, int size) {
+    int first = Integer.MIN_VALUE + 1;
+    int missingKey = Integer.MAX_VALUE;
+    Int2ObjectOpenHashMap<String> keyToValue = new Int2ObjectOpenHashMap<>();
+    Object2IntOpenHashMap<String> valueToKey = new Object2IntOpenHashMap<>();
+    Int2IntOpenHashMap keyToCount = new Int2IntOpenHashMap();
+    for (int p = 0; p < keyOf.length; p++) {
+      if (counts[p] > 0 && keyOf[p] != -1) {
+        int key = keyOf[p] + first;
+        if (strings[p] != null) {
+          keyToValue.put(key, strings[p]);
+          valueToKey.put(strings[p], key);
+        }
+        keyToCount.addTo(key, counts[p]);
+      }
+    }
+    if (missing > 0) {
+      keyToValue.put(missingKey, StringColumnType.missingValueIndicator());
+      valueToKey.put(StringColumnType.missingValueIndicator(), missingKey);
+      keyToCount.put(missingKey, missing);
+    }
+    int count = indices.getValueCount();
+    IntArrayList values = new IntArrayList(count);
+    for (int i = 0; i < count; i++) {
+      values.add(key(indices, i, keyOf, first, missingKey));
+    }
+    return new IntDictionaryMap.IntDictionaryBuilder()
+        .setValues(values)
+        .setKeyToValue(keyToValue)
+        .setValueToKey(valueToKey)
+        .setKeyToCount(keyToCount)
+        .setNextIndex(Integer.MIN_VALUE + size)
+        .build();
+  }
+}
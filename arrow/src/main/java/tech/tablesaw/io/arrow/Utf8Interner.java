@@ -0,0 +1,106 @@
+package tech.tablesaw.io.arrow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.apache.arrow.memory.ArrowBuf;
+
+/**
+ * Decodes UTF-8 values read from Arrow buffers into Strings, returning the same String for every
+ * occurrence of a value. Each distinct value is decoded once, and the other occurrences are found
+ * by hashing and comparing the bytes in place, so a column with repeated values is read without a
+ * String, or a byte array, being created for each cell. Appending the same String instance to a
+ * StringColumn also makes its dictionary lookup cheap, since the String's hash is cached.
+ *
+ * <p>At most {@link #MAX_VALUES} distinct values are kept. Values beyond that are decoded each time
+ * they are read, so a column of mostly unique values does not fill the interner.
+ */
+final class Utf8Interner {
+
+  static final int MAX_VALUES = 1 << 16;
+
+  /** Values longer than this are decoded each time, rather than kept */
+  private static final int MAX_LENGTH = 256;
+
+  /** The id of the value in each slot plus one, or zero for an empty slot */
+  private int[] slots = new int[64];
+
+  private byte[][] bytes = new byte[32][];
+  private String[] strings = new String[32];
+  private int[] hashes = new int[32];
+  private int size;
+
+  /** Returns the String for the UTF-8 bytes in the given range of the buffer */
+  String get(ArrowBuf data, long start, int length) {
+    if (length > MAX_LENGTH) {
+      return decode(data, start, length);
+    }
+    int hash = hash(data, start, length);
+    int mask = slots.length - 1;
+    int slot = hash & mask;
+    while (slots[slot] != 0) {
+      int id = slots[slot] - 1;
+      if (hashes[id] == hash && bytes[id].length == length && matches(bytes[id], data, start)) {
+        return strings[id];
+      }
+      slot = (slot + 1) & mask;
+    }
+    String value = decode(data, start, length);
+    if (size < MAX_VALUES) {
+      add(slot, hash, data, start, length, value);
+    }
+    return value;
+  }
+
+  private void add(int slot, int hash, ArrowBuf data, long start, int length, String value) {
+    if (size == strings.length) {
+      bytes = Arrays.copyOf(bytes, size * 2);
+      strings = Arrays.copyOf(strings, size * 2);
+      hashes = Arrays.copyOf(hashes, size * 2);
+    }
+    byte[] copy = new byte[length];
+    data.getBytes(start, copy);
+    bytes[size] = copy;
+    strings[size] = value;
+    hashes[size] = hash;
+    slots[slot] = ++size;
+    if (size * 2 > slots.length) {
+      rehash();
+    }
+  }
+
+  private void rehash() {
+    slots = new int[slots.length * 2];
+    int mask = slots.length - 1;
+    for (int id = 0; id < size; id++) {
+      int slot = hashes[id] & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = id + 1;
+    }
+  }
+
+  private static String decode(ArrowBuf data, long start, int length) {
+    byte[] value = new byte[length];
+    data.getBytes(start, value);
+    return new String(value, StandardCharsets.UTF_8);
+  }
+
+  private static int hash(ArrowBuf data, long start, int length) {
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + data.getByte(start + i);
+    }
+    // spread the bits, since the low bits choose the slot
+    return hash ^ (hash >>> 16);
+  }
+
+  private static boolean matches(byte[] value, ArrowBuf data, long start) {
+    for (int i = 0; i < value.length; i++) {
+      if (value[i] != data.getByte(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -1,15 +1,23 @@
 package tech.tablesaw.io.arrow;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.channels.Channels;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.*;
+import tech.tablesaw.columns.numbers.IntColumnType;
+import tech.tablesaw.columns.numbers.LongColumnType;
 import tech.tablesaw.io.csv.CsvReadOptions;
 
 class ArrowWriterTest {
@@ -86,4 +94,169 @@ class ArrowWriterTest {
     assertEquals(result.rowCount(), table.rowCount());
     assertEquals(result.columnCount(), table.columnCount());
   }
+
+  @Test
+  void writeInSeveralBatches() {
+    File f = Paths.get(tempDir, "bush-batches.arrows").toFile();
+    new ArrowWriter(100).write(bush, f);
+
+    Table result = new ArrowReader(f).read();
+    assertEquals(bush.rowCount(), result.rowCount());
+    for (int c = 0; c < bush.columnCount(); c++) {
+      assertEquals(bush.column(c).asList(), result.column(c).asList());
+    }
+  }
+
+  @Test
+  void writeMissingValues() {
+    Table table =
+        Table.create(
+            "missing",
+            StringColumn.create("0", "a", "", "a"),
+            BooleanColumn.create("1", true, false, true),
+            IntColumn.create("2", 1, IntColumnType.missingValueIndicator(), 3),
+            LongColumn.create("3", 1L, LongColumnType.missingValueIndicator(), 3L),
+            DoubleColumn.create("4", 1.0, Double.NaN, 3.0),
+            DateColumn.create("5", LocalDate.of(2022, 2, 2), null, LocalDate.of(2022, 2, 3)));
+    table.booleanColumn("1").setMissing(1);
+
+    File f = Paths.get(tempDir, "missing.arrows").toFile();
+    new ArrowWriter(2).write(table, f);
+
+    Table result = new ArrowReader(f).read();
+    for (int c = 0; c < table.columnCount(); c++) {
+      assertEquals(table.column(c).asList(), result.column(c).asList());
+      assertTrue(result.column(c).isMissing(1));
+    }
+  }
+
+  @Test
+  void writeAndReadBatchesOnAChannel() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ArrowBatchWriter writer = new ArrowBatchWriter(Channels.newChannel(out), 50)) {
+      writer.write(bush.first(120)).write(bush.inRange(120, bush.rowCount()));
+    }
+
+    int rowCount = 0;
+    int batchCount = 0;
+    try (ArrowBatchReader reader =
+        new ArrowBatchReader(
+            Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), "bush")) {
+      while (reader.hasNext()) {
+        Table batch = reader.next();
+        assertEquals(bush.row(rowCount).getString("who"), batch.row(0).getString("who"));
+        rowCount += batch.rowCount();
+        batchCount++;
+      }
+    }
+    assertEquals(bush.rowCount(), rowCount);
+    assertEquals(3 + (bush.rowCount() - 120 + 49) / 50, batchCount);
+  }
+
+  @Test
+  void writeEmptyTable() {
+    File f = Paths.get(tempDir, "empty.arrows").toFile();
+    new ArrowWriter().write(bush.emptyCopy(), f);
+
+    Table result = new ArrowReader(f).read();
+    assertEquals(0, result.rowCount());
+    assertEquals(bush.columnNames(), result.columnNames());
+  }
+
+  @Test
+  void writeDictionaryEncodedStrings() {
+    Table table = bush.copy();
+    table.stringColumn("who").set(3, "");
+    File f = Paths.get(tempDir, "bush-dictionary.arrows").toFile();
+    new ArrowWriter(100).dictionaryEncoding(true).write(table, f);
+
+    Table result = new ArrowReader(f).read();
+    StringColumn who = result.stringColumn("who");
+    assertEquals(table.stringColumn("who").asList(), who.asList());
+    assertEquals(table.stringColumn("who").countUnique(), who.countUnique());
+    assertTrue(who.isMissing(3));
+
+    // the column read can still grow
+    who.append("new value");
+    assertEquals("new value", who.get(who.size() - 1));
+  }
+
+  @Test
+  void writeDictionaryEncodedStringsWithManyValues() {
+    StringColumn values = StringColumn.create("values");
+    for (int i = 0; i < 1000; i++) {
+      values.append("value " + (i % 700));
+    }
+    Table table = Table.create("many", values);
+    File f = Paths.get(tempDir, "many-dictionary.arrow").toFile();
+    new ArrowWriter(300).format(ArrowFormat.FILE).dictionaryEncoding(true).write(table, f);
+
+    Table result = new ArrowReader(f).read();
+    assertEquals(values.asList(), result.stringColumn("values").asList());
+    assertEquals(700, result.stringColumn("values").countUnique());
+    assertEquals("value 699", new ArrowReader(f).readBatch(2).stringColumn("values").get(99));
+  }
+
+  @Test
+  void readFileFormatBatches() {
+    File f = Paths.get(tempDir, "bush.arrow").toFile();
+    new ArrowWriter(100).format(ArrowFormat.FILE).write(bush, f);
+
+    ArrowReader reader = new ArrowReader(f);
+    assertEquals((bush.rowCount() + 99) / 100, reader.batchCount());
+    Table all = reader.read();
+    assertEquals(bush.rowCount(), all.rowCount());
+    assertEquals(bush.stringColumn("who").asList(), all.stringColumn("who").asList());
+
+    Table batch = reader.readBatch(2, "approval", "who");
+    assertEquals(List.of("approval", "who"), batch.columnNames());
+    Table expected = bush.inRange(200, 300);
+    assertEquals(expected.intColumn("approval").asList(), batch.intColumn("approval").asList());
+  }
+
+  @Test
+  void readBatchOfStreamFormat() {
+    File f = Paths.get(tempDir, "bush.arrows").toFile();
+    new ArrowWriter().write(bush, f);
+    assertThrows(IllegalStateException.class, () -> new ArrowReader(f).readBatch(0));
+    assertEquals(List.of("who"), new ArrowReader(f).read("who").columnNames());
+  }
+
+  @Test
+  void readMapped() {
+    File f = Paths.get(tempDir, "bush-mapped.arrow").toFile();
+    new ArrowWriter(100).format(ArrowFormat.FILE).write(bush, f);
+
+    Table result = new ArrowReader(f).readMapped();
+    assertEquals(bush.columnNames(), result.columnNames());
+    for (int c = 0; c < bush.columnCount(); c++) {
+      assertEquals(bush.column(c).asList(), result.column(c).asList());
+    }
+
+    IntColumn approval = result.intColumn("approval");
+    assertThrows(UnsupportedOperationException.class, () -> approval.append(1));
+    IntColumn copy = approval.copy();
+    copy.append(1);
+    assertEquals(approval.size() + 1, copy.size());
+  }
+
+  @Test
+  void readMappedMissingValues() {
+    Table table =
+        Table.create(
+            "missing",
+            IntColumn.create("0", 1, IntColumnType.missingValueIndicator(), 3, 4, 5),
+            LongColumn.create("1", 1L, 2L, LongColumnType.missingValueIndicator(), 4L, 5L),
+            DoubleColumn.create("2", 1.0, 2.0, 3.0, 4.0, Double.NaN));
+    File f = Paths.get(tempDir, "missing-mapped.arrow").toFile();
+    new ArrowWriter(2).format(ArrowFormat.FILE).write(table, f);
+
+    Table result = new ArrowReader(f).readMapped("2", "0");
+    assertEquals(List.of("2", "0"), result.columnNames());
+    assertEquals(table.intColumn("0").asList(), result.intColumn("0").asList());
+    assertEquals(table.doubleColumn("2").asList(), result.doubleColumn("2").asList());
+    assertTrue(result.intColumn("0").isMissing(1));
+    assertTrue(result.doubleColumn("2").isMissing(4));
+    assertEquals(10.0, result.doubleColumn("2").sum());
+  }
 }
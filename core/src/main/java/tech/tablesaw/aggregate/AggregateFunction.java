@@ -24,6 +24,19 @@ public abstract class AggregateFunction<INCOL extends Column<?>, OUT> {
   /** Apply this function to the column argument */
   public abstract OUT summarize(INCOL column);
 
+  /**
+   * Returns an accumulator that applies this function to many groups of rows in the given column in
+   * a single pass, or null if the function can only summarize a whole column at a time. The results
+   * must be the same as calling {@link #summarize(Column)} on a column holding the rows of each
+   * group.
+   *
+   * @param column The column to summarize
+   * @param groupCount The number of groups the rows of the column are divided into
+   */
+  public GroupAccumulator groupAccumulator(INCOL column, int groupCount) {
+    return null;
+  }
+
   public String toString() {
     return functionName();
   }
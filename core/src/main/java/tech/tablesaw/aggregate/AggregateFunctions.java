@@ -93,6 +93,16 @@ public class AggregateFunctions {
         public Integer summarize(BooleanColumn column) {
           return column.countTrue();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(BooleanColumn column, int groupCount) {
+          return new GroupAccumulators.BooleanCounts(column, groupCount, false) {
+            @Override
+            double result(int group) {
+              return trues[group];
+            }
+          };
+        }
       };
 
   /**
@@ -106,6 +116,16 @@ public class AggregateFunctions {
         public Boolean summarize(BooleanColumn column) {
           return column.all();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(BooleanColumn column, int groupCount) {
+          return new GroupAccumulators.BooleanCounts(column, groupCount, true) {
+            @Override
+            double result(int group) {
+              return trues[group] == sizes[group] ? 1 : 0;
+            }
+          };
+        }
       };
 
   /**
@@ -119,6 +139,16 @@ public class AggregateFunctions {
         public Boolean summarize(BooleanColumn column) {
           return column.any();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(BooleanColumn column, int groupCount) {
+          return new GroupAccumulators.BooleanCounts(column, groupCount, true) {
+            @Override
+            double result(int group) {
+              return trues[group] > 0 ? 1 : 0;
+            }
+          };
+        }
       };
 
   /**
@@ -132,6 +162,16 @@ public class AggregateFunctions {
         public Boolean summarize(BooleanColumn column) {
           return column.none();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(BooleanColumn column, int groupCount) {
+          return new GroupAccumulators.BooleanCounts(column, groupCount, true) {
+            @Override
+            double result(int group) {
+              return trues[group] == 0 ? 1 : 0;
+            }
+          };
+        }
       };
 
   /**
@@ -144,6 +184,16 @@ public class AggregateFunctions {
         public Integer summarize(BooleanColumn column) {
           return (column).countFalse();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(BooleanColumn column, int groupCount) {
+          return new GroupAccumulators.BooleanCounts(column, groupCount, false) {
+            @Override
+            double result(int group) {
+              return falses[group];
+            }
+          };
+        }
       };
 
   /**
@@ -156,6 +206,16 @@ public class AggregateFunctions {
         public Double summarize(BooleanColumn column) {
           return (column).proportionTrue();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(BooleanColumn column, int groupCount) {
+          return new GroupAccumulators.BooleanCounts(column, groupCount, false) {
+            @Override
+            double result(int group) {
+              return (double) trues[group] / (trues[group] + falses[group]);
+            }
+          };
+        }
       };
 
   /**
@@ -168,6 +228,16 @@ public class AggregateFunctions {
         public Double summarize(BooleanColumn column) {
           return (column).proportionFalse();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(BooleanColumn column, int groupCount) {
+          return new GroupAccumulators.BooleanCounts(column, groupCount, false) {
+            @Override
+            double result(int group) {
+              return 1.0 - (double) trues[group] / (trues[group] + falses[group]);
+            }
+          };
+        }
       };
 
   /**
@@ -181,6 +251,16 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return column.isEmpty() ? DoubleColumnType.missingValueIndicator() : column.getDouble(0);
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Ends(column, groupCount) {
+            @Override
+            double result(int group) {
+              return sizes[group] == 0 ? DoubleColumnType.missingValueIndicator() : firsts[group];
+            }
+          };
+        }
       };
 
   /**
@@ -196,6 +276,16 @@ public class AggregateFunctions {
               ? DoubleColumnType.missingValueIndicator()
               : column.getDouble(column.size() - 1);
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Ends(column, groupCount) {
+            @Override
+            double result(int group) {
+              return sizes[group] == 0 ? DoubleColumnType.missingValueIndicator() : lasts[group];
+            }
+          };
+        }
       };
 
   /**
@@ -211,6 +301,18 @@ public class AggregateFunctions {
               ? DoubleColumnType.missingValueIndicator()
               : column.getDouble(column.size() - 1) - column.getDouble(0);
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Ends(column, groupCount) {
+            @Override
+            double result(int group) {
+              return sizes[group] < 2
+                  ? DoubleColumnType.missingValueIndicator()
+                  : lasts[group] - firsts[group];
+            }
+          };
+        }
       };
 
   /**
@@ -226,6 +328,18 @@ public class AggregateFunctions {
               ? DoubleColumnType.missingValueIndicator()
               : (column.getDouble(column.size() - 1) - column.getDouble(0)) / column.getDouble(0);
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Ends(column, groupCount) {
+            @Override
+            double result(int group) {
+              return sizes[group] < 2
+                  ? DoubleColumnType.missingValueIndicator()
+                  : (lasts[group] - firsts[group]) / firsts[group];
+            }
+          };
+        }
       };
 
   /**
@@ -239,6 +353,16 @@ public class AggregateFunctions {
         public Integer summarize(Column<?> column) {
           return column.size() - column.countMissing();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(Column<?> column, int groupCount) {
+          return new GroupAccumulators.Counts(column, groupCount) {
+            @Override
+            double result(int group) {
+              return sizes[group] - missing[group];
+            }
+          };
+        }
       };
 
   /**
@@ -258,6 +382,16 @@ public class AggregateFunctions {
         public Integer summarize(Column<?> column) {
           return column.countMissing();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(Column<?> column, int groupCount) {
+          return new GroupAccumulators.Counts(column, groupCount) {
+            @Override
+            double result(int group) {
+              return missing[group];
+            }
+          };
+        }
       };
 
   /**
@@ -271,6 +405,11 @@ public class AggregateFunctions {
         public Integer summarize(Column<?> doubles) {
           return doubles.unique().removeMissing().size();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(Column<?> column, int groupCount) {
+          return GroupAccumulators.uniques(column, groupCount);
+        }
       };
 
   /**
@@ -284,6 +423,16 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.mean(removeMissing(column));
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Moments(column, groupCount, false) {
+            @Override
+            double result(int group) {
+              return mean(group);
+            }
+          };
+        }
       };
 
   /**
@@ -298,6 +447,16 @@ public class AggregateFunctions {
           double[] col = removeMissing(column);
           return Math.sqrt(StatUtils.variance(col)) / StatUtils.mean(col);
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Moments(column, groupCount, true) {
+            @Override
+            double result(int group) {
+              return Math.sqrt(variance(group)) / mean(group);
+            }
+          };
+        }
       };
 
   /**
@@ -311,6 +470,16 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.sum(removeMissing(column));
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Sums(column, groupCount, false) {
+            @Override
+            double result(int group) {
+              return sums[group];
+            }
+          };
+        }
       };
 
   /**
@@ -337,6 +506,16 @@ public class AggregateFunctions {
         public Integer summarize(Column<?> column) {
           return column.size();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(Column<?> column, int groupCount) {
+          return new GroupAccumulators.Counts(column, groupCount) {
+            @Override
+            double result(int group) {
+              return sizes[group];
+            }
+          };
+        }
       };
 
   /**
@@ -416,6 +595,16 @@ public class AggregateFunctions {
           double[] data = removeMissing(column);
           return StatUtils.max(data) - StatUtils.min(data);
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Extremes(column, groupCount) {
+            @Override
+            double result(int group) {
+              return max(group) - min(group);
+            }
+          };
+        }
       };
 
   /**
@@ -429,6 +618,16 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.min(removeMissing(column));
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Extremes(column, groupCount) {
+            @Override
+            double result(int group) {
+              return min(group);
+            }
+          };
+        }
       };
 
   /**
@@ -442,6 +641,16 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.max(removeMissing(column));
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Extremes(column, groupCount) {
+            @Override
+            double result(int group) {
+              return max(group);
+            }
+          };
+        }
       };
 
   /**
@@ -455,6 +664,16 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.product(removeMissing(column));
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Products(column, groupCount) {
+            @Override
+            double result(int group) {
+              return counts[group] == 0 ? 1.0 : products[group];
+            }
+          };
+        }
       };
 
   /**
@@ -481,6 +700,16 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.populationVariance(removeMissing(column));
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Moments(column, groupCount, true) {
+            @Override
+            double result(int group) {
+              return populationVariance(group);
+            }
+          };
+        }
       };
 
   /**
@@ -494,6 +723,16 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return new DescriptiveStatistics(removeMissing(column)).getQuadraticMean();
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Sums(column, groupCount, true) {
+            @Override
+            double result(int group) {
+              return counts[group] == 0 ? Double.NaN : Math.sqrt(sums[group] / counts[group]);
+            }
+          };
+        }
       };
 
   /**
@@ -538,6 +777,16 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.sumSq(removeMissing(column));
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Sums(column, groupCount, true) {
+            @Override
+            double result(int group) {
+              return sums[group];
+            }
+          };
+        }
       };
 
   /**
@@ -563,6 +812,16 @@ public class AggregateFunctions {
           double[] values = removeMissing(column);
           return StatUtils.variance(values);
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Moments(column, groupCount, true) {
+            @Override
+            double result(int group) {
+              return variance(group);
+            }
+          };
+        }
       };
 
   /**
@@ -576,6 +835,16 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return Math.sqrt(StatUtils.variance(removeMissing(column)));
         }
+
+        @Override
+        public GroupAccumulator groupAccumulator(NumericColumn<?> column, int groupCount) {
+          return new GroupAccumulators.Moments(column, groupCount, true) {
+            @Override
+            double result(int group) {
+              return Math.sqrt(variance(group));
+            }
+          };
+        }
       };
 
   /** Returns the given percentile of the values in the argument */
@@ -583,9 +852,17 @@ public class AggregateFunctions {
     return StatUtils.percentile(removeMissing(data), percentile);
   }
 
+  /** Returns the values in the column that are not missing, read without copying the column */
   private static double[] removeMissing(NumericColumn<?> column) {
-    NumericColumn<?> numericColumn = (NumericColumn<?>) column.removeMissing();
-    return numericColumn.asDoubleArray();
+    int size = column.size();
+    double[] values = new double[size - column.countMissing()];
+    int count = 0;
+    for (int i = 0; i < size && count < values.length; i++) {
+      if (!column.isMissing(i)) {
+        values[count++] = column.getDouble(i);
+      }
+    }
+    return values;
   }
 
   /**
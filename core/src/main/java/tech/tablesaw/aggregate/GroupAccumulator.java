@@ -0,0 +1,69 @@
+package tech.tablesaw.aggregate;
+
+import tech.tablesaw.columns.Column;
+
+/**
+ * Computes an {@link AggregateFunction} over many groups of rows in a column at once. The
+ * accumulator holds the running state of the function for every group, and is fed the rows of the
+ * source column in order, so that a grouped summary can be made in a single scan over the table
+ * without copying the rows of each group into a column of its own.
+ *
+ * <p>Groups are identified by number, from zero to one less than the group count given when the
+ * accumulator was created.
+ *
+ * <p>Some functions need more than one scan over the rows to reproduce the results of {@link
+ * AggregateFunction#summarize(Column)} exactly. The mean, for example, makes a second pass to
+ * correct the rounding error of the first. Such accumulators report the number of scans they need
+ * from {@link #passes()}, and every row is given to them once per pass, with {@link #endPass()}
+ * called at the end of each.
+ *
+ * <p>To summarize a large table on several threads, an accumulator may be split into partials: the
+ * rows are divided into ranges, each range is given to a {@link #partial()} of its own, and the
+ * partials are merged back into the accumulator, in the order of their ranges, before {@link
+ * #endPass()}. The result is then finished from the merged state as usual.
+ */
+public interface GroupAccumulator {
+
+  /**
+   * Adds the values in the given range of rows of the source column to the state of the groups
+   * those rows belong to
+   *
+   * @param groups The group number of every row in the source column, indexed by row
+   * @param from The first row to add, inclusive
+   * @param to The last row to add, exclusive
+   */
+  void accumulate(int[] groups, int from, int to);
+
+  /** Returns the number of times the rows must be given to this accumulator */
+  default int passes() {
+    return 1;
+  }
+
+  /** Called after all the rows have been given to this accumulator in the current pass */
+  default void endPass() {}
+
+  /**
+   * Returns a new accumulator with empty state for the current pass, to be given a range of the
+   * rows on another thread and then merged into this one, or null if this accumulator cannot merge
+   * partial results
+   */
+  default GroupAccumulator partial() {
+    return null;
+  }
+
+  /**
+   * Adds the state of a partial accumulator, made by {@link #partial()} in the current pass, to the
+   * state of this one
+   *
+   * @throws UnsupportedOperationException if this accumulator cannot merge partial results
+   */
+  default void merge(GroupAccumulator partial) {
+    throw new UnsupportedOperationException("This accumulator cannot merge partial results");
+  }
+
+  /**
+   * Returns a column with the given name, containing the result of the function for each group, in
+   * group order
+   */
+  Column<?> finish(String name);
+}
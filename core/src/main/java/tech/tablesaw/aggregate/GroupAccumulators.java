@@ -0,0 +1,585 @@
+package tech.tablesaw.aggregate;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.booleans.BooleanColumnType;
+import tech.tablesaw.columns.strings.NullDictionaryMap;
+
+/**
+ * The {@link GroupAccumulator}s behind the functions in {@link AggregateFunctions}. Each keeps the
+ * state of every group in primitive arrays indexed by group number, and computes one or more
+ * functions from that state when finished.
+ *
+ * <p>As with the functions themselves, missing values are skipped by everything except the counts
+ * that include them, and by first and last, which read the first and last rows of the group.
+ *
+ * <p>All of them can be split into partial accumulators over ranges of rows and merged back. A
+ * partial is an instance of the same class with empty state, which is only accumulated and merged,
+ * never finished.
+ */
+final class GroupAccumulators {
+
+  private GroupAccumulators() {}
+
+  /** An accumulator whose result for each group is a double */
+  abstract static class DoubleResults implements GroupAccumulator {
+
+    final int groupCount;
+
+    DoubleResults(int groupCount) {
+      this.groupCount = groupCount;
+    }
+
+    /**
+     * Returns the result for the given group. The functions override this to derive their results
+     * from the state; partial accumulators have no results of their own
+     */
+    double result(int group) {
+      throw new UnsupportedOperationException(
+          "A partial accumulator must be merged to be finished");
+    }
+
+    @Override
+    public Column<?> finish(String name) {
+      double[] results = new double[groupCount];
+      for (int group = 0; group < groupCount; group++) {
+        results[group] = result(group);
+      }
+      return DoubleColumn.create(name, results);
+    }
+  }
+
+  /** Counts the values, and the missing values, in each group of any kind of column */
+  static class Counts extends DoubleResults {
+
+    private final Column<?> column;
+    final int[] sizes;
+    final int[] missing;
+
+    Counts(Column<?> column, int groupCount) {
+      super(groupCount);
+      this.column = column;
+      this.sizes = new int[groupCount];
+      this.missing = new int[groupCount];
+    }
+
+    @Override
+    public void accumulate(int[] groups, int from, int to) {
+      for (int row = from; row < to; row++) {
+        int group = groups[row];
+        sizes[group]++;
+        if (column.isMissing(row)) {
+          missing[group]++;
+        }
+      }
+    }
+
+    @Override
+    public GroupAccumulator partial() {
+      return new Counts(column, groupCount);
+    }
+
+    @Override
+    public void merge(GroupAccumulator partial) {
+      Counts other = (Counts) partial;
+      for (int group = 0; group < groupCount; group++) {
+        sizes[group] += other.sizes[group];
+        missing[group] += other.missing[group];
+      }
+    }
+  }
+
+  /** Sums the non-missing values, or their squares, in each group of a numeric column */
+  static class Sums extends DoubleResults {
+
+    private final NumericColumn<?> column;
+    private final boolean squares;
+    final int[] counts;
+    final double[] sums;
+
+    Sums(NumericColumn<?> column, int groupCount, boolean squares) {
+      super(groupCount);
+      this.column = column;
+      this.squares = squares;
+      this.counts = new int[groupCount];
+      this.sums = new double[groupCount];
+    }
+
+    @Override
+    public void accumulate(int[] groups, int from, int to) {
+      for (int row = from; row < to; row++) {
+        double value = column.getDouble(row);
+        if (!Double.isNaN(value)) {
+          int group = groups[row];
+          counts[group]++;
+          sums[group] += squares ? value * value : value;
+        }
+      }
+    }
+
+    @Override
+    public GroupAccumulator partial() {
+      return new Sums(column, groupCount, squares);
+    }
+
+    @Override
+    public void merge(GroupAccumulator partial) {
+      Sums other = (Sums) partial;
+      for (int group = 0; group < groupCount; group++) {
+        counts[group] += other.counts[group];
+        sums[group] += other.sums[group];
+      }
+    }
+  }
+
+  /** Multiplies the non-missing values in each group of a numeric column */
+  static class Products extends DoubleResults {
+
+    private final NumericColumn<?> column;
+    final int[] counts;
+    final double[] products;
+
+    Products(NumericColumn<?> column, int groupCount) {
+      super(groupCount);
+      this.column = column;
+      this.counts = new int[groupCount];
+      this.products = new double[groupCount];
+    }
+
+    @Override
+    public void accumulate(int[] groups, int from, int to) {
+      for (int row = from; row < to; row++) {
+        double value = column.getDouble(row);
+        if (!Double.isNaN(value)) {
+          int group = groups[row];
+          products[group] = counts[group]++ == 0 ? value : products[group] * value;
+        }
+      }
+    }
+
+    @Override
+    public GroupAccumulator partial() {
+      return new Products(column, groupCount);
+    }
+
+    @Override
+    public void merge(GroupAccumulator partial) {
+      Products other = (Products) partial;
+      for (int group = 0; group < groupCount; group++) {
+        if (other.counts[group] > 0) {
+          products[group] =
+              counts[group] == 0 ? other.products[group] : products[group] * other.products[group];
+          counts[group] += other.counts[group];
+        }
+      }
+    }
+  }
+
+  /**
+   * Computes the mean, and optionally the variance, of the non-missing values in each group of a
+   * numeric column, in the same way as {@link org.apache.commons.math3.stat.StatUtils}: the first
+   * pass sums the values, the second corrects the mean by the sum of the differences from it, and
+   * the third sums the squared differences from the corrected mean. Each pass only adds to the
+   * sums, so partials made for a pass can be merged at the end of it.
+   */
+  static class Moments extends DoubleResults {
+
+    private final NumericColumn<?> column;
+    private final int passes;
+    private int pass;
+    final int[] counts;
+    final double[] means;
+    private final double[] sums;
+    private final double[] squaredDeviations;
+
+    /**
+     * @param variance true if the variance is needed as well as the mean, which takes a third pass
+     */
+    Moments(NumericColumn<?> column, int groupCount, boolean variance) {
+      super(groupCount);
+      this.column = column;
+      this.passes = variance ? 3 : 2;
+      this.counts = new int[groupCount];
+      this.means = new double[groupCount];
+      this.sums = new double[groupCount];
+      this.squaredDeviations = variance ? new double[groupCount] : null;
+    }
+
+    /** Makes a partial accumulator for the current pass, reading the means found so far */
+    private Moments(Moments whole) {
+      super(whole.groupCount);
+      this.column = whole.column;
+      this.passes = whole.passes;
+      this.pass = whole.pass;
+      this.counts = new int[groupCount];
+      this.means = whole.means;
+      this.sums = new double[groupCount];
+      this.squaredDeviations = whole.squaredDeviations == null ? null : new double[groupCount];
+    }
+
+    @Override
+    public int passes() {
+      return passes;
+    }
+
+    @Override
+    public void accumulate(int[] groups, int from, int to) {
+      for (int row = from; row < to; row++) {
+        double value = column.getDouble(row);
+        if (!Double.isNaN(value)) {
+          int group = groups[row];
+          switch (pass) {
+            case 0:
+              counts[group]++;
+              sums[group] += value;
+              break;
+            case 1:
+              sums[group] += value - means[group];
+              break;
+            default:
+              double deviation = value - means[group];
+              squaredDeviations[group] += deviation * deviation;
+              sums[group] += deviation;
+          }
+        }
+      }
+    }
+
+    @Override
+    public GroupAccumulator partial() {
+      return new Moments(this);
+    }
+
+    @Override
+    public void merge(GroupAccumulator partial) {
+      Moments other = (Moments) partial;
+      for (int group = 0; group < groupCount; group++) {
+        counts[group] += other.counts[group];
+        sums[group] += other.sums[group];
+        if (squaredDeviations != null) {
+          squaredDeviations[group] += other.squaredDeviations[group];
+        }
+      }
+    }
+
+    @Override
+    public void endPass() {
+      for (int group = 0; group < groupCount; group++) {
+        if (pass == 0) {
+          means[group] = sums[group] / counts[group];
+        } else if (pass == 1) {
+          means[group] += sums[group] / counts[group];
+        }
+        sums[group] = 0;
+      }
+      pass++;
+    }
+
+    double mean(int group) {
+      return counts[group] == 0 ? Double.NaN : means[group];
+    }
+
+    double variance(int group) {
+      return variance(group, true);
+    }
+
+    double populationVariance(int group) {
+      return variance(group, false);
+    }
+
+    private double variance(int group, boolean biasCorrected) {
+      double n = counts[group];
+      if (n <= 1) {
+        return n == 0 ? Double.NaN : 0.0;
+      }
+      double sum = sums[group];
+      return (squaredDeviations[group] - sum * sum / n) / (biasCorrected ? n - 1 : n);
+    }
+  }
+
+  /** Keeps the smallest and largest non-missing values in each group of a numeric column */
+  static class Extremes extends DoubleResults {
+
+    private final NumericColumn<?> column;
+    final int[] counts;
+    final double[] mins;
+    final double[] maxes;
+
+    Extremes(NumericColumn<?> column, int groupCount) {
+      super(groupCount);
+      this.column = column;
+      this.counts = new int[groupCount];
+      this.mins = new double[groupCount];
+      this.maxes = new double[groupCount];
+    }
+
+    @Override
+    public void accumulate(int[] groups, int from, int to) {
+      for (int row = from; row < to; row++) {
+        double value = column.getDouble(row);
+        if (!Double.isNaN(value)) {
+          int group = groups[row];
+          if (counts[group]++ == 0) {
+            mins[group] = value;
+            maxes[group] = value;
+          } else {
+            mins[group] = mins[group] < value ? mins[group] : value;
+            maxes[group] = maxes[group] > value ? maxes[group] : value;
+          }
+        }
+      }
+    }
+
+    @Override
+    public GroupAccumulator partial() {
+      return new Extremes(column, groupCount);
+    }
+
+    @Override
+    public void merge(GroupAccumulator partial) {
+      Extremes other = (Extremes) partial;
+      for (int group = 0; group < groupCount; group++) {
+        if (other.counts[group] > 0) {
+          if (counts[group] == 0) {
+            mins[group] = other.mins[group];
+            maxes[group] = other.maxes[group];
+          } else {
+            mins[group] = mins[group] < other.mins[group] ? mins[group] : other.mins[group];
+            maxes[group] = maxes[group] > other.maxes[group] ? maxes[group] : other.maxes[group];
+          }
+          counts[group] += other.counts[group];
+        }
+      }
+    }
+
+    double min(int group) {
+      return counts[group] == 0 ? Double.NaN : mins[group];
+    }
+
+    double max(int group) {
+      return counts[group] == 0 ? Double.NaN : maxes[group];
+    }
+  }
+
+  /** Keeps the first and last values, missing or not, in each group of a numeric column */
+  static class Ends extends DoubleResults {
+
+    private final NumericColumn<?> column;
+    final int[] sizes;
+    final double[] firsts;
+    final double[] lasts;
+
+    Ends(NumericColumn<?> column, int groupCount) {
+      super(groupCount);
+      this.column = column;
+      this.sizes = new int[groupCount];
+      this.firsts = new double[groupCount];
+      this.lasts = new double[groupCount];
+    }
+
+    @Override
+    public void accumulate(int[] groups, int from, int to) {
+      for (int row = from; row < to; row++) {
+        double value = column.getDouble(row);
+        int group = groups[row];
+        if (sizes[group]++ == 0) {
+          firsts[group] = value;
+        }
+        lasts[group] = value;
+      }
+    }
+
+    @Override
+    public GroupAccumulator partial() {
+      return new Ends(column, groupCount);
+    }
+
+    /** Partials must be merged in the order of their rows, so the first and last rows are kept */
+    @Override
+    public void merge(GroupAccumulator partial) {
+      Ends other = (Ends) partial;
+      for (int group = 0; group < groupCount; group++) {
+        if (other.sizes[group] > 0) {
+          if (sizes[group] == 0) {
+            firsts[group] = other.firsts[group];
+          }
+          lasts[group] = other.lasts[group];
+          sizes[group] += other.sizes[group];
+        }
+      }
+    }
+  }
+
+  /**
+   * Counts the true, false, and missing values in each group of a boolean column. When made to test
+   * the counts, the results are finished as a {@link BooleanColumn}, with a non-zero result read as
+   * true.
+   */
+  static class BooleanCounts extends DoubleResults {
+
+    private final BooleanColumn column;
+    private final boolean test;
+    final int[] sizes;
+    final int[] trues;
+    final int[] falses;
+
+    BooleanCounts(BooleanColumn column, int groupCount, boolean test) {
+      super(groupCount);
+      this.column = column;
+      this.test = test;
+      this.sizes = new int[groupCount];
+      this.trues = new int[groupCount];
+      this.falses = new int[groupCount];
+    }
+
+    @Override
+    public void accumulate(int[] groups, int from, int to) {
+      for (int row = from; row < to; row++) {
+        int group = groups[row];
+        sizes[group]++;
+        byte value = column.getByte(row);
+        if (value == BooleanColumnType.BYTE_TRUE) {
+          trues[group]++;
+        } else if (value == BooleanColumnType.BYTE_FALSE) {
+          falses[group]++;
+        }
+      }
+    }
+
+    @Override
+    public GroupAccumulator partial() {
+      return new BooleanCounts(column, groupCount, test);
+    }
+
+    @Override
+    public void merge(GroupAccumulator partial) {
+      BooleanCounts other = (BooleanCounts) partial;
+      for (int group = 0; group < groupCount; group++) {
+        sizes[group] += other.sizes[group];
+        trues[group] += other.trues[group];
+        falses[group] += other.falses[group];
+      }
+    }
+
+    @Override
+    public Column<?> finish(String name) {
+      if (!test) {
+        return super.finish(name);
+      }
+      boolean[] results = new boolean[groupCount];
+      for (int group = 0; group < groupCount; group++) {
+        results[group] = result(group) != 0;
+      }
+      return BooleanColumn.create(name, results);
+    }
+  }
+
+  /** Collects the distinct non-missing values in each group of a column */
+  static final class Uniques extends DoubleResults {
+
+    private final Column<?> column;
+    private final ValueCodes codes;
+    private final LongOpenHashSet[] sets;
+
+    private Uniques(Column<?> column, ValueCodes codes, int groupCount) {
+      super(groupCount);
+      this.column = column;
+      this.codes = codes;
+      this.sets = new LongOpenHashSet[groupCount];
+    }
+
+    @Override
+    public void accumulate(int[] groups, int from, int to) {
+      for (int row = from; row < to; row++) {
+        if (!column.isMissing(row)) {
+          int group = groups[row];
+          if (sets[group] == null) {
+            sets[group] = new LongOpenHashSet();
+          }
+          sets[group].add(codes.code(row));
+        }
+      }
+    }
+
+    @Override
+    public GroupAccumulator partial() {
+      return new Uniques(column, codes, groupCount);
+    }
+
+    @Override
+    public void merge(GroupAccumulator partial) {
+      Uniques other = (Uniques) partial;
+      for (int group = 0; group < groupCount; group++) {
+        if (other.sets[group] != null) {
+          if (sets[group] == null) {
+            sets[group] = other.sets[group];
+          } else {
+            sets[group].addAll(other.sets[group]);
+          }
+        }
+      }
+    }
+
+    @Override
+    double result(int group) {
+      return sets[group] == null ? 0 : sets[group].size();
+    }
+  }
+
+  /**
+   * Returns an accumulator counting the distinct values in each group of the given column, or null
+   * if the values of the column have no exact encoding as a long
+   */
+  static GroupAccumulator uniques(Column<?> column, int groupCount) {
+    ValueCodes codes = valueCodes(column);
+    return codes == null ? null : new Uniques(column, codes, groupCount);
+  }
+
+  /** Encodes the value in a row of a column as a long that is equal only for equal values */
+  @FunctionalInterface
+  private interface ValueCodes {
+    long code(int row);
+  }
+
+  private static ValueCodes valueCodes(Column<?> column) {
+    if (column instanceof StringColumn
+        && !(((StringColumn) column).getDictionary() instanceof NullDictionaryMap)) {
+      return ((StringColumn) column).getDictionary()::getKeyAtIndex;
+    } else if (column instanceof DoubleColumn) {
+      DoubleColumn doubles = (DoubleColumn) column;
+      return row -> Double.doubleToLongBits(doubles.getDouble(row));
+    } else if (column instanceof FloatColumn) {
+      FloatColumn floats = (FloatColumn) column;
+      return row -> Float.floatToIntBits(floats.getFloat(row));
+    } else if (column instanceof IntColumn) {
+      return ((IntColumn) column)::getInt;
+    } else if (column instanceof ShortColumn) {
+      return ((ShortColumn) column)::getShort;
+    } else if (column instanceof LongColumn) {
+      return ((LongColumn) column)::getLong;
+    } else if (column instanceof BooleanColumn) {
+      return ((BooleanColumn) column)::getByte;
+    } else if (column instanceof DateColumn) {
+      return ((DateColumn) column)::getIntInternal;
+    } else if (column instanceof TimeColumn) {
+      return ((TimeColumn) column)::getIntInternal;
+    } else if (column instanceof DateTimeColumn) {
+      return ((DateTimeColumn) column)::getLongInternal;
+    } else if (column instanceof InstantColumn) {
+      return ((InstantColumn) column)::getLongInternal;
+    }
+    return null;
+  }
+}
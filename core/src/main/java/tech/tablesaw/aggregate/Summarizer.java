@@ -17,9 +17,16 @@ package tech.tablesaw.aggregate;
 import static tech.tablesaw.api.QuerySupport.numberColumn;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ArrayListMultimap;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import tech.tablesaw.api.CategoricalColumn;
@@ -29,6 +36,7 @@ import tech.tablesaw.api.Row;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.table.GroupKeys;
 import tech.tablesaw.table.StandardTableSliceGroup;
 import tech.tablesaw.table.TableSliceGroup;
 
@@ -50,6 +58,12 @@ public class Summarizer {
   private final AggregateFunction<?, ?>[] reductions;
   private static final String GROUP_COL_TEMP_NAME = "_temp_group_col_";
 
+  /** The number of rows given to each accumulator at a time when summarizing in a single scan */
+  private static final int ACCUMULATION_BLOCK_SIZE = 4096;
+
+  /** The number of threads used to summarize the table */
+  private int parallelism = 1;
+
   /**
    * Returns an object capable of summarizing the given column in the given sourceTable, by applying
    * the given functions
@@ -160,8 +174,7 @@ public class Summarizer {
         temp.addColumns(original.column(columnName));
       }
     }
-    TableSliceGroup group = StandardTableSliceGroup.create(temp, columnNames);
-    return summarize(group);
+    return summarize(columnNames);
   }
 
   /**
@@ -178,13 +191,15 @@ public class Summarizer {
         temp.addColumns(c);
       }
     }
-    TableSliceGroup group = StandardTableSliceGroup.create(temp, columns);
-    return summarize(group);
+    String[] columnNames = new String[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      columnNames[i] = columns[i].name();
+    }
+    return summarize(columnNames);
   }
 
   private Table getSummaryTable(IntColumn groupColumn) {
-    TableSliceGroup group = StandardTableSliceGroup.create(temp, groupColumn);
-    return summarize(group);
+    return summarize(groupColumn.name());
   }
 
   /**
@@ -212,13 +227,20 @@ public class Summarizer {
   public Table apply() {
 
     if (groupColumnNames.length > 0) {
-      TableSliceGroup group = StandardTableSliceGroup.create(temp, groupColumnNames);
-      return summarize(group);
+      return summarize(groupColumnNames);
     } else {
-      List<Table> results = new ArrayList<>();
       ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap =
           getAggregateFunctionMultimap();
 
+      // With no grouping, the whole table is summarized as a single group
+      List<String> resultNames = new ArrayList<>();
+      List<GroupAccumulator> accumulators = groupAccumulators(reductionMultimap, 1, resultNames);
+      if (accumulators != null) {
+        accumulate(accumulators, new int[temp.rowCount()]);
+        return finish(TableSliceGroup.summaryTableName(temp), accumulators, resultNames);
+      }
+
+      List<Table> results = new ArrayList<>();
       for (String name : reductionMultimap.keys()) {
         List<AggregateFunction<?, ?>> reductions = reductionMultimap.get(name);
         Table table = TableSliceGroup.summaryTableName(temp);
@@ -265,6 +287,26 @@ public class Summarizer {
     }
   }
 
+  /**
+   * Sets the number of threads used to summarize the table. When greater than one, the rows are
+   * divided into ranges that are summarized concurrently, and the partial results are merged. This
+   * applies only when every function can merge partial results, as the functions in {@link
+   * AggregateFunctions} can, except for the median and percentiles; otherwise the table is
+   * summarized on the calling thread. Merged sums may differ from those computed serially by
+   * floating-point rounding.
+   *
+   * <p>If this method is not called, the default is 1, and the table is summarized on the calling
+   * thread
+   *
+   * @param threads The number of threads to use
+   * @return This Summarizer instance
+   */
+  public Summarizer parallelism(int threads) {
+    Preconditions.checkArgument(threads > 0);
+    this.parallelism = threads;
+    return this;
+  }
+
   /** TODO: research how the groupBy() methods differ from the by() methods? Are they synonyms? */
   public Summarizer groupBy(CategoricalColumn<?>... columns) {
     groupColumnNames = new String[columns.length];
@@ -353,6 +395,184 @@ public class Summarizer {
     return groupColumn;
   }
 
+  /**
+   * Associates the columns to be summarized with the functions that match their type, and applies
+   * them to each group of rows with equal values in the given columns. All valid combinations are
+   * used
+   *
+   * <p>When every function provides a {@link GroupAccumulator}, the functions are computed together
+   * in a single scan over the table, split across threads if a parallelism is set. Otherwise, the
+   * table is split into slices, and each function summarizes each slice in turn.
+   *
+   * @param groupColumnNames The names of the columns to group on
+   * @return A table containing a row of summarized data for each group
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Table summarize(String... groupColumnNames) {
+    ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap =
+        getAggregateFunctionMultimap();
+    if (!hasGroupAccumulators(reductionMultimap)) {
+      return summarize(StandardTableSliceGroup.create(temp, groupColumnNames));
+    }
+    List<Column<?>> groupColumns = new ArrayList<>(temp.categoricalColumns(groupColumnNames));
+    GroupKeys groupKeys = new GroupKeys(temp, groupColumns);
+
+    List<String> resultNames = new ArrayList<>();
+    List<GroupAccumulator> accumulators =
+        groupAccumulators(reductionMultimap, groupKeys.groupCount(), resultNames);
+    accumulate(accumulators, groupKeys.groupsOfRows());
+
+    Table result = TableSliceGroup.summaryTableName(temp);
+    for (Column groupColumn : groupColumns) {
+      Column values = groupColumn.emptyCopy();
+      for (int group = 0; group < groupKeys.groupCount(); group++) {
+        values.append(groupColumn, groupKeys.firstRowOf(group));
+      }
+      result.addColumns(values);
+    }
+    return finish(result, accumulators, resultNames);
+  }
+
+  /**
+   * Returns true if every one of the given functions provides an accumulator for its column.
+   * Whether a function does depends only on the column, so the question is answered with
+   * accumulators for no groups, whose state is empty, before any rows are grouped.
+   */
+  private boolean hasGroupAccumulators(
+      ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap) {
+    return groupAccumulators(reductionMultimap, 0, new ArrayList<>()) != null;
+  }
+
+  /**
+   * Returns an accumulator for each of the given functions, applied to its column, and adds the
+   * names of their result columns to resultNames. Returns null if any function has no accumulator.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private List<GroupAccumulator> groupAccumulators(
+      ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap,
+      int groupCount,
+      List<String> resultNames) {
+    List<GroupAccumulator> accumulators = new ArrayList<>();
+    for (Map.Entry<String, Collection<AggregateFunction<?, ?>>> entry :
+        reductionMultimap.asMap().entrySet()) {
+      Column column = temp.column(entry.getKey());
+      for (AggregateFunction function : entry.getValue()) {
+        GroupAccumulator accumulator = function.groupAccumulator(column, groupCount);
+        if (accumulator == null) {
+          return null;
+        }
+        resultNames.add(
+            TableSliceGroup.aggregateColumnName(entry.getKey(), function.functionName()));
+        accumulators.add(accumulator);
+      }
+    }
+    return accumulators;
+  }
+
+  /**
+   * Gives every row of the temp table to the accumulators, as many times as they need. When a
+   * parallelism greater than one is set, each pass divides the rows into ranges that are
+   * accumulated concurrently into partial accumulators, unless one of the accumulators cannot be
+   * split.
+   *
+   * @param groups The group number of every row
+   */
+  private void accumulate(List<GroupAccumulator> accumulators, int[] groups) {
+    int passes = accumulators.stream().mapToInt(GroupAccumulator::passes).max().orElse(1);
+    ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    try {
+      for (int pass = 0; pass < passes; pass++) {
+        List<GroupAccumulator> active = new ArrayList<>();
+        for (GroupAccumulator accumulator : accumulators) {
+          if (accumulator.passes() > pass) {
+            active.add(accumulator);
+          }
+        }
+        if (pool == null || !accumulateInParallel(pool, active, groups)) {
+          accumulate(active, groups, 0, groups.length);
+        }
+        for (GroupAccumulator accumulator : active) {
+          accumulator.endPass();
+        }
+      }
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+  }
+
+  /**
+   * Feeds the given range of rows to all the accumulators a block at a time, so each block is read
+   * only once
+   */
+  private static void accumulate(
+      List<GroupAccumulator> accumulators, int[] groups, int from, int to) {
+    for (int start = from; start < to; start += ACCUMULATION_BLOCK_SIZE) {
+      int end = Math.min(start + ACCUMULATION_BLOCK_SIZE, to);
+      for (GroupAccumulator accumulator : accumulators) {
+        accumulator.accumulate(groups, start, end);
+      }
+    }
+  }
+
+  /**
+   * Accumulates one range of rows per thread into partials of the given accumulators, and merges
+   * the partials back in the order of their ranges. Returns false, having accumulated nothing, if
+   * any of the accumulators cannot be split into partials.
+   */
+  private boolean accumulateInParallel(
+      ForkJoinPool pool, List<GroupAccumulator> accumulators, int[] groups) {
+    int rangeSize =
+        Math.max(ACCUMULATION_BLOCK_SIZE, (groups.length + parallelism - 1) / parallelism);
+    List<List<GroupAccumulator>> partials = new ArrayList<>();
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int from = 0; from < groups.length; from += rangeSize) {
+      List<GroupAccumulator> rangePartials = new ArrayList<>();
+      for (GroupAccumulator accumulator : accumulators) {
+        GroupAccumulator partial = accumulator.partial();
+        if (partial == null) {
+          return false;
+        }
+        rangePartials.add(partial);
+      }
+      int start = from;
+      int end = Math.min(from + rangeSize, groups.length);
+      partials.add(rangePartials);
+      tasks.add(
+          () -> {
+            accumulate(rangePartials, groups, start, end);
+            return null;
+          });
+    }
+    for (Future<Void> future : pool.invokeAll(tasks)) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      } catch (ExecutionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    for (List<GroupAccumulator> rangePartials : partials) {
+      for (int i = 0; i < accumulators.size(); i++) {
+        accumulators.get(i).merge(rangePartials.get(i));
+      }
+    }
+    return true;
+  }
+
+  /** Adds the result columns of the accumulators, with the given names, to the given table */
+  private static Table finish(
+      Table result, List<GroupAccumulator> accumulators, List<String> resultNames) {
+    for (int i = 0; i < accumulators.size(); i++) {
+      result.addColumns(accumulators.get(i).finish(resultNames.get(i)));
+    }
+    return result;
+  }
+
   /**
    * Associates the columns to be summarized with the functions that match their type. All valid
    * combinations are used
@@ -1,10 +1,10 @@
 package tech.tablesaw.analytic;
 
-import java.util.ArrayDeque;
 import java.util.function.Function;
 import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
+import tech.tablesaw.columns.numbers.SlidingAggregate;
 
 /**
  * Analytic Aggregate functions.
@@ -25,26 +25,29 @@ import tech.tablesaw.columns.numbers.DoubleColumnType;
  * one explained above.
  *
  * <p>Sliding windows are windows where both sides of the window are following, preceding or current
- * row. Analytic aggregate algorithms for sliding windows are generally implemented with a {@link
- * java.util.Deque} so that elements can be added or removed from either side of the window as it
- * slides.
+ * row. For sliding windows the values in the window are kept in a queue, so that each value can be
+ * removed from the state of the function as it leaves the window. The state is updated as values
+ * enter and leave, so every function runs in O(n) whatever the size of the window.
  *
  * <p>This class creates two implementations per analytic aggregate function. One for append windows
- * and one for sliding windows.
+ * and one for sliding windows. Both work on primitive doubles, with missing values given as NaN,
+ * and keep their state in a {@link SlidingAggregate}, as {@link
+ * tech.tablesaw.columns.numbers.NumberRollingColumn} does.
  */
 enum AggregateFunctions implements FunctionMetaData {
-  SUM(new Sum<>(), ColumnType.DOUBLE, AggregateFunctions::isNumericColumn),
-  MAX(new Max<>(), ColumnType.DOUBLE, AggregateFunctions::isNumericColumn),
-  MIN(new Min<>(), ColumnType.DOUBLE, AggregateFunctions::isNumericColumn),
-  MEAN(new Mean<>(), ColumnType.DOUBLE, AggregateFunctions::isNumericColumn),
-  COUNT(new Count<>(), ColumnType.INTEGER, t -> true);
-
-  private final WindowDependentAggregateFunction<?> implementation;
+  SUM(new Sum(), ColumnType.DOUBLE, AggregateFunctions::isNumericColumn),
+  MAX(new Max(), ColumnType.DOUBLE, AggregateFunctions::isNumericColumn),
+  MIN(new Min(), ColumnType.DOUBLE, AggregateFunctions::isNumericColumn),
+  MEAN(new Mean(), ColumnType.DOUBLE, AggregateFunctions::isNumericColumn),
+  STDDEV(new StdDev(), ColumnType.DOUBLE, AggregateFunctions::isNumericColumn),
+  COUNT(new Count(), ColumnType.INTEGER, t -> true);
+
+  private final WindowDependentAggregateFunction implementation;
   private final ColumnType outputColumnType;
   private final Function<ColumnType, Boolean> isCompatibleColumnTestFunc;
 
   AggregateFunctions(
-      WindowDependentAggregateFunction<?> implementation,
+      WindowDependentAggregateFunction implementation,
       ColumnType outputColumnType,
       Function<ColumnType, Boolean> isCompatibleColumnTestFunc) {
     this.implementation = implementation;
@@ -53,7 +56,7 @@ enum AggregateFunctions implements FunctionMetaData {
   }
 
   /** Get the right implementation for that window definition. */
-  AggregateFunction<?, ? extends Number> getImplementation(WindowGrowthType growthType) {
+  DoubleAggregateFunction getImplementation(WindowGrowthType growthType) {
     return this.implementation.functionFor(growthType);
   }
 
@@ -80,343 +83,237 @@ enum AggregateFunctions implements FunctionMetaData {
         || type.equals(ColumnType.LONG);
   }
 
-  private abstract static class WindowDependentAggregateFunction<T> {
-
-    /** Sub classes of append windows should never call removeLeft. */
-    abstract static class AppendAggregateFunction<T, R> implements AggregateFunction<T, R> {
-      @Override
-      public final void removeLeftMost() {
-        throw new UnsupportedOperationException(
-            "Implementers of append aggregate functions should never call removeLeftMost");
-      }
-    }
+  private abstract static class WindowDependentAggregateFunction {
 
-    abstract AppendAggregateFunction<T, ? extends Number> functionForAppendWindows();
+    /** Returns the empty state of this function for a window that only ever grows. */
+    abstract SlidingAggregate appendState();
 
-    abstract AggregateFunction<T, ? extends Number> functionForSlidingWindows();
+    /** Returns the empty state of this function for a window that slides. */
+    SlidingAggregate slidingState() {
+      return appendState();
+    }
 
-    AggregateFunction<T, ? extends Number> functionFor(WindowGrowthType growthType) {
+    DoubleAggregateFunction functionFor(WindowGrowthType growthType) {
       switch (growthType) {
         case FIXED:
         case FIXED_LEFT:
         case FIXED_RIGHT:
-          return functionForAppendWindows();
+          return new AppendWindowFunction(appendState());
         case SLIDING:
-          return functionForSlidingWindows();
+          return new SlidingWindowFunction(slidingState());
       }
       throw new IllegalArgumentException("Unexpected growthType: " + growthType);
     }
   }
 
-  static class Sum<T extends Number> extends WindowDependentAggregateFunction<T> {
-    @Override
-    AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
-        private double sum = DoubleColumnType.missingValueIndicator();
-
-        @Override
-        public Double getValue() {
-          return sum;
-        }
-
-        @Override
-        public void addRightMostMissing() {}
+  /** A function for append windows, which never remove values from the state. */
+  private static final class AppendWindowFunction implements DoubleAggregateFunction {
+    private final SlidingAggregate state;
 
-        @Override
-        public void addRightMost(T newValue) {
-          if (DoubleColumnType.valueIsMissing(sum)) {
-            this.sum = 0.0;
-          }
-          this.sum += newValue.doubleValue();
-        }
-      };
+    AppendWindowFunction(SlidingAggregate state) {
+      this.state = state;
     }
 
     @Override
-    AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-        private Double sum = 0.0;
-        private int missingCount = 0;
-
-        @Override
-        public void removeLeftMost() {
-          Double removed = queue.remove();
-          if (DoubleColumnType.valueIsMissing(removed)) {
-            missingCount--;
-          } else {
-            this.sum -= removed;
-          }
-        }
-
-        @Override
-        public void addRightMost(T newValue) {
-          Double doubleValue = newValue.doubleValue();
-          this.sum += doubleValue;
-          queue.add(doubleValue);
-        }
-
-        @Override
-        public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
-          missingCount++;
-        }
+    public void removeLeftMost() {
+      throw new UnsupportedOperationException(
+          "Implementers of append aggregate functions should never call removeLeftMost");
+    }
 
-        @Override
-        public Double getValue() {
-          if (queue.isEmpty() || missingCount == queue.size()) {
-            return DoubleColumnType.missingValueIndicator();
-          }
-          return sum;
-        }
-      };
+    @Override
+    public void addRightMost(double value) {
+      state.add(value);
     }
-  }
 
-  static class Max<T extends Number> extends WindowDependentAggregateFunction<T> {
+    @Override
+    public void addRightMostMissing() {
+      state.add(DoubleColumnType.missingValueIndicator());
+    }
 
     @Override
-    AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
-        private Double max = DoubleColumnType.missingValueIndicator();
-
-        @Override
-        public void addRightMost(T newValue) {
-          if (DoubleColumnType.valueIsMissing(max)) {
-            max = newValue.doubleValue();
-            return;
-          }
-          this.max = Math.max(max, newValue.doubleValue());
-        }
+    public double getValue() {
+      return state.result();
+    }
+  }
 
-        @Override
-        public void addRightMostMissing() {}
+  /** Keeps the values in a sliding window in a ring buffer, in the order they were added. */
+  private static final class SlidingWindowFunction implements DoubleAggregateFunction {
+    private final SlidingAggregate state;
+    private double[] values = new double[16];
+    private int head = 0;
+    private int size = 0;
+    private int removedSinceRebuild = 0;
 
-        @Override
-        public Double getValue() {
-          return max;
-        }
-      };
+    SlidingWindowFunction(SlidingAggregate state) {
+      this.state = state;
     }
 
     @Override
-    AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-
-        @Override
-        public void removeLeftMost() {
-          queue.remove();
-        }
-
-        @Override
-        public void addRightMost(T newValue) {
-          queue.add(newValue.doubleValue());
+    public void removeLeftMost() {
+      double removed = values[head];
+      head = (head + 1) & (values.length - 1);
+      size--;
+      state.remove(removed);
+      if (state.accumulatesRoundingError() && ++removedSinceRebuild > size) {
+        // Rebuilding after as many removals as there are values in the window keeps the error
+        // bounded at a constant amortized cost per row.
+        state.clear();
+        for (int i = 0; i < size; i++) {
+          state.add(values[(head + i) & (values.length - 1)]);
         }
+        removedSinceRebuild = 0;
+      }
+    }
 
-        @Override
-        public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
+    @Override
+    public void addRightMost(double value) {
+      if (size == values.length) {
+        double[] grown = new double[values.length * 2];
+        for (int i = 0; i < size; i++) {
+          grown[i] = values[(head + i) & (values.length - 1)];
         }
+        values = grown;
+        head = 0;
+      }
+      values[(head + size) & (values.length - 1)] = value;
+      size++;
+      state.add(value);
+    }
 
-        @Override
-        public Double getValue() {
-          // This could be faster, but probably does not matter in practice because sliding windows
-          // will be small.
-          return queue.stream()
-              .filter(d -> !DoubleColumnType.valueIsMissing(d))
-              .mapToDouble(Number::doubleValue)
-              .max()
-              .orElse(DoubleColumnType.missingValueIndicator());
-        }
-      };
+    @Override
+    public void addRightMostMissing() {
+      addRightMost(DoubleColumnType.missingValueIndicator());
     }
-  }
 
-  static class Min<T extends Number> extends WindowDependentAggregateFunction<T> {
     @Override
-    AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
-        private Double min = DoubleColumnType.missingValueIndicator();
-
-        @Override
-        public void addRightMost(T newValue) {
-          if (DoubleColumnType.valueIsMissing(min)) {
-            min = newValue.doubleValue();
-            return;
-          }
-          this.min = Math.min(min, newValue.doubleValue());
-        }
+    public double getValue() {
+      return state.result();
+    }
+  }
 
-        @Override
-        public void addRightMostMissing() {}
+  /**
+   * The sum or mean of the non-missing values, which is missing if there are none. Unlike the mean
+   * of a rolling column, the mean of values that include an infinity is infinite.
+   */
+  private static final class SumState extends SlidingAggregate {
+    private final boolean mean;
+    private final SlidingAggregate.Sum sum = new SlidingAggregate.Sum(false);
 
-        @Override
-        public Double getValue() {
-          return min;
-        }
-      };
+    SumState(boolean mean) {
+      this.mean = mean;
     }
 
     @Override
-    AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-
-        @Override
-        public void removeLeftMost() {
-          queue.remove();
-        }
-
-        @Override
-        public void addRightMost(T newValue) {
-          queue.add(newValue.doubleValue());
-        }
+    public void add(double value) {
+      sum.add(value);
+    }
 
-        @Override
-        public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
-        }
+    @Override
+    public void remove(double value) {
+      sum.remove(value);
+    }
 
-        @Override
-        public Double getValue() {
-          // This could be faster, but probably does not matter in practice because sliding windows
-          // will be small.
-          return queue.stream()
-              .filter(d -> !DoubleColumnType.valueIsMissing(d))
-              .mapToDouble(Number::doubleValue)
-              .min()
-              .orElse(DoubleColumnType.missingValueIndicator());
-        }
-      };
+    @Override
+    public double result() {
+      if (sum.count() == 0) {
+        return DoubleColumnType.missingValueIndicator();
+      }
+      return mean ? sum.result() / sum.count() : sum.result();
     }
-  }
 
-  static class Mean<T extends Number> extends WindowDependentAggregateFunction<T> {
+    @Override
+    public boolean accumulatesRoundingError() {
+      return true;
+    }
 
     @Override
-    AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
-        private double sum = DoubleColumnType.missingValueIndicator();
-        private double count = 0;
-
-        @Override
-        public Double getValue() {
-          if (count == 0) {
-            return DoubleColumnType.missingValueIndicator();
-          }
-          return sum / count;
-        }
+    public void clear() {
+      sum.clear();
+    }
+  }
 
-        @Override
-        public void addRightMostMissing() {}
+  /** The largest or smallest of the values added to an append window. */
+  private static final class RunningExtremeState extends SlidingAggregate {
+    private final boolean max;
+    private double extreme = DoubleColumnType.missingValueIndicator();
 
-        @Override
-        public void addRightMost(T newValue) {
-          if (DoubleColumnType.valueIsMissing(sum)) {
-            this.sum = 0.0;
-          }
-          this.sum += newValue.doubleValue();
-          count++;
-        }
-      };
+    RunningExtremeState(boolean max) {
+      this.max = max;
     }
 
     @Override
-    AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-        private Double sum = 0.0;
-        private int missingCount = 0;
-
-        @Override
-        public void removeLeftMost() {
-          Double removed = queue.remove();
-          if (DoubleColumnType.valueIsMissing(removed)) {
-            missingCount--;
-          } else {
-            this.sum -= removed;
-          }
-        }
-
-        @Override
-        public void addRightMost(T newValue) {
-          Double doubleValue = newValue.doubleValue();
-          this.sum += doubleValue;
-          queue.add(doubleValue);
-        }
+    public void add(double value) {
+      if (DoubleColumnType.valueIsMissing(value)) {
+        return;
+      }
+      if (DoubleColumnType.valueIsMissing(extreme)) {
+        extreme = value;
+      } else {
+        extreme = max ? Math.max(extreme, value) : Math.min(extreme, value);
+      }
+    }
 
-        @Override
-        public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
-          missingCount++;
-        }
+    @Override
+    public void remove(double value) {
+      throw new UnsupportedOperationException(
+          "Values are never removed from the running extreme of an append window");
+    }
 
-        @Override
-        public Double getValue() {
-          if (queue.size() - missingCount == 0) {
-            return DoubleColumnType.missingValueIndicator();
-          }
-          return sum / (queue.size() - missingCount);
-        }
-      };
+    @Override
+    public double result() {
+      return extreme;
     }
   }
 
-  static class Count<T> extends WindowDependentAggregateFunction<T> {
-
+  static class Sum extends WindowDependentAggregateFunction {
     @Override
-    AppendAggregateFunction<T, Integer> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Integer>() {
-        private int count = 0;
+    SlidingAggregate appendState() {
+      return new SumState(false);
+    }
+  }
 
-        @Override
-        public Integer getValue() {
-          return count;
-        }
+  static class Max extends WindowDependentAggregateFunction {
+    @Override
+    SlidingAggregate appendState() {
+      return new RunningExtremeState(true);
+    }
 
-        @Override
-        public void addRightMostMissing() {}
+    @Override
+    SlidingAggregate slidingState() {
+      return new SlidingAggregate.Extreme(true);
+    }
+  }
 
-        @Override
-        public void addRightMost(T newValue) {
-          count++;
-        }
-      };
+  static class Min extends WindowDependentAggregateFunction {
+    @Override
+    SlidingAggregate appendState() {
+      return new RunningExtremeState(false);
     }
 
     @Override
-    AggregateFunction<T, Integer> functionForSlidingWindows() {
-      return new AggregateFunction<T, Integer>() {
-        // Deque contains a boolean that when true indicates that the value in that position of the
-        // window is missing.
-        private final ArrayDeque<Boolean> queue = new ArrayDeque<>();
-        private int missingCount = 0;
-
-        @Override
-        public void removeLeftMost() {
-          Boolean removedMissingValue = queue.remove();
-          if (removedMissingValue) {
-            missingCount--;
-          }
-        }
+    SlidingAggregate slidingState() {
+      return new SlidingAggregate.Extreme(false);
+    }
+  }
 
-        @Override
-        public void addRightMost(T newValue) {
-          queue.add(false);
-        }
+  static class Mean extends WindowDependentAggregateFunction {
+    @Override
+    SlidingAggregate appendState() {
+      return new SumState(true);
+    }
+  }
 
-        @Override
-        public void addRightMostMissing() {
-          queue.add(true);
-          missingCount++;
-        }
+  static class StdDev extends WindowDependentAggregateFunction {
+    @Override
+    SlidingAggregate appendState() {
+      return new SlidingAggregate.Variance(true);
+    }
+  }
 
-        @Override
-        public Integer getValue() {
-          return queue.size() - missingCount;
-        }
-      };
+  static class Count extends WindowDependentAggregateFunction {
+    @Override
+    SlidingAggregate appendState() {
+      return new SlidingAggregate.Count(false);
     }
   }
 }
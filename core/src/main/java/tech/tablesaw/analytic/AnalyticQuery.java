@@ -32,6 +32,9 @@ public final class AnalyticQuery {
   private final WindowFrame windowFrame;
   private final ArgumentList argumentList;
 
+  /** The number of threads used to execute the query */
+  private int parallelism = 1;
+
   private AnalyticQuery(
       Table table,
       WindowSpecification windowSpecification,
@@ -133,6 +136,10 @@ public final class AnalyticQuery {
     return windowFrame;
   }
 
+  int getParallelism() {
+    return parallelism;
+  }
+
   /**
    * Creates a SQL like string for documentation purposes. The returned SQL is not meant be executed
    * in SQL database.
@@ -172,6 +179,23 @@ public final class AnalyticQuery {
     return toSqlLikeString();
   }
 
+  /**
+   * Sets the number of threads used to execute this query. When it is greater than one, the
+   * partitions of the table are processed concurrently, each on a single thread. A query without
+   * PARTITION BY has one partition, and is always executed on the calling thread.
+   *
+   * <p>If this method is not called, the default is 1, and the query is executed on the calling
+   * thread
+   *
+   * @param threads The number of threads to use
+   * @return this query
+   */
+  public AnalyticQuery parallelism(int threads) {
+    Preconditions.checkArgument(threads > 0);
+    this.parallelism = threads;
+    return this;
+  }
+
   /**
    * Executes the query adding all the calculated columns to a new table. The result columns will
    * have the same order as the from table.
@@ -310,6 +334,12 @@ public final class AnalyticQuery {
       return this;
     }
 
+    @Override
+    public NameStepAggregate stdDev(String columnName) {
+      argumentsListBuilder.stageFunction(columnName, AggregateFunctions.STDDEV);
+      return this;
+    }
+
     @Override
     public NameStepAggregate count(String columnName) {
       argumentsListBuilder.stageFunction(columnName, AggregateFunctions.COUNT);
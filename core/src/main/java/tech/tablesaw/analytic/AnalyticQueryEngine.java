@@ -1,9 +1,15 @@
 package tech.tablesaw.analytic;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
-import java.util.Optional;
-
 import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import tech.tablesaw.analytic.ArgumentList.FunctionCall;
 import tech.tablesaw.api.Row;
 import tech.tablesaw.api.Table;
@@ -18,6 +24,9 @@ import tech.tablesaw.table.TableSlice;
  *
  * <p>Makes no changes to the underlying table. The order of the rows in "result" Table will match
  * the order of the rows in underlying source table.
+ *
+ * <p>Each partition writes to its own rows of the destination columns, so when the query has a
+ * parallelism greater than one, the partitions are processed concurrently.
  */
 final class AnalyticQueryEngine {
   private final AnalyticQuery query;
@@ -44,10 +53,43 @@ final class AnalyticQueryEngine {
    */
   public Table execute() {
     addColumns();
-    partition().forEach(this::processSlice);
+    List<TableSlice> slices = partition();
+    if (query.getParallelism() > 1 && slices.size() > 1) {
+      processInParallel(slices);
+    } else {
+      slices.forEach(this::processSlice);
+    }
     return destination;
   }
 
+  /** Processes the slices on a pool of threads, as many as the parallelism of the query. */
+  private void processInParallel(List<TableSlice> slices) {
+    ForkJoinPool pool = new ForkJoinPool(query.getParallelism());
+    try {
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (TableSlice slice : slices) {
+        tasks.add(
+            () -> {
+              processSlice(slice);
+              return null;
+            });
+      }
+      for (Future<Void> future : pool.invokeAll(tasks)) {
+        try {
+          future.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+          Throwables.throwIfUnchecked(e.getCause());
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   private void processSlice(TableSlice slice) {
     orderBy(slice);
     processAggregateFunctions(slice);
@@ -143,11 +185,14 @@ final class AnalyticQueryEngine {
   /**
    * Partition the source table into a series of table slices. Does not modify the underlying table.
    */
-  private Iterable<TableSlice> partition() {
+  private List<TableSlice> partition() {
     if (query.getPartitionColumns().isEmpty()) {
       return ImmutableList.of(new TableSlice(query.getTable()));
     }
-    return query.getTable().splitOn(query.getPartitionColumns().toArray(new String[0]));
+    return query
+        .getTable()
+        .splitOn(query.getPartitionColumns().toArray(new String[0]))
+        .getSlices();
   }
 
   /** Order the tableSlice in place. Does not modify the underlying table. */
@@ -112,6 +112,8 @@ public interface AnalyticQuerySteps {
 
     NameStepAggregate min(String columnName);
 
+    NameStepAggregate stdDev(String columnName);
+
     NameStepAggregate count(String columnName);
   }
 
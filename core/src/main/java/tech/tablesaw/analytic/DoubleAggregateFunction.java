@@ -1,17 +1,16 @@
 package tech.tablesaw.analytic;
 
 /**
- * Analytic Aggregate function.
- *
- * <p>See {@link AggregateFunctions} for more background.
+ * Analytic Aggregate function over primitive double values.
  *
  * <p>This class allows callers to independently slide the left side, and right side of the window.
- * Implementers must keep track of the state of the window as it slides.
+ * Implementers must keep track of the state of the window as it slides. Values from int, long,
+ * float and double columns are all given to the function as doubles, so nothing is boxed as the
+ * {@link WindowSlider} slides the window over the rows.
  *
- * @param <T> the type of the values in the input column (E.G. Integer).
- * @param <R> the type of values in the return column (E.G. Double).
+ * <p>See {@link AggregateFunctions} for more background.
  */
-interface AggregateFunction<T, R> {
+interface DoubleAggregateFunction {
 
   /**
    * Slides the left side (aka start) of the window window to the right (aka end) by removing the
@@ -23,7 +22,7 @@ interface AggregateFunction<T, R> {
    * Slides the right side (aka end) of the window to the right (aka end) by appending a new
    * non-missing element. E.G. [(1, 2, 3), 4, 5] -> [(1, 2, 3, 4), 5)]
    */
-  void addRightMost(T value);
+  void addRightMost(double value);
 
   /**
    * Slides the right side (aka end) of the window to the right (aka end) by appending a new missing
@@ -31,15 +30,10 @@ interface AggregateFunction<T, R> {
    */
   void addRightMostMissing();
 
-  /** Shortcut to appending multiple values to the right (aka end) of a window in one pass. */
-  default void addAllRightMost(Iterable<T> newValues) {
-    newValues.forEach(this::addRightMost);
-  }
-
   /**
    * Get the aggregate value for the current window.
    *
-   * @return the aggregate value for the current window.
+   * @return the aggregate value for the current window, or NaN if it is missing.
    */
-  R getValue();
+  double getValue();
 }
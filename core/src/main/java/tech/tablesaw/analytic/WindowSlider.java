@@ -2,6 +2,9 @@ package tech.tablesaw.analytic;
 
 import java.util.function.Function;
 import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.table.TableSlice;
 
@@ -11,6 +14,10 @@ import tech.tablesaw.table.TableSlice;
  * <p>Any window with a Fixed end (UNBOUNDED FOLLOWING) is converted ("mirrored") into the
  * equivalent UNBOUNDED PRECEDING widow so that it is an append window and a faster algorithm can be
  * used.
+ *
+ * <p>Values are read from numeric source columns as primitive doubles, and written to the double or
+ * int destination column without boxing. Missing values are read as NaN. Only COUNT accepts other
+ * source columns, and for those only whether each value is missing is given to the function.
  */
 class WindowSlider {
   private final boolean mirrored;
@@ -18,14 +25,19 @@ class WindowSlider {
   private final int initialLeftBound;
   private final int initialRightBound;
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private final AggregateFunction function;
+  private final DoubleAggregateFunction function;
 
   private final TableSlice slice;
   private final Column<?> sourceColumn;
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private final Column destinationColumn;
+  /** The source column if it is numeric, otherwise null */
+  private final NumericColumn<?> numericSourceColumn;
+
+  /** The destination column, if the function returns doubles */
+  private final DoubleColumn doubleDestinationColumn;
+
+  /** The destination column, if the function returns integers */
+  private final IntColumn intDestinationColumn;
 
   WindowSlider(
       WindowFrame windowFrame,
@@ -34,8 +46,13 @@ class WindowSlider {
       Column<?> sourceColumn,
       Column<?> destinationColumn) {
     this.slice = slice;
-    this.destinationColumn = destinationColumn;
     this.sourceColumn = sourceColumn;
+    this.numericSourceColumn =
+        sourceColumn instanceof NumericColumn ? (NumericColumn<?>) sourceColumn : null;
+    this.doubleDestinationColumn =
+        destinationColumn instanceof DoubleColumn ? (DoubleColumn) destinationColumn : null;
+    this.intDestinationColumn =
+        destinationColumn instanceof IntColumn ? (IntColumn) destinationColumn : null;
     this.function = func.getImplementation(windowFrame.windowGrowthType());
 
     // Convert UNBOUNDED FOLLOWING to an equivalent UNBOUNDED PRECEDING window.
@@ -53,7 +70,6 @@ class WindowSlider {
   }
 
   /** Slide the window over the slice calculating an aggregate value for every row in the slice. */
-  @SuppressWarnings({"unchecked", "rawtypes"})
   void execute() {
     initWindow();
     // Initial window bounds can be outside the current slice. This allows for windows like 20
@@ -77,11 +93,7 @@ class WindowSlider {
       int newRightBound = slideRightStrategy().apply(rightBound);
       if (newRightBound > rightBound && isRowNumberInSlice(newRightBound)) {
         // If the right side of the window changed add the next value to the aggregate function.
-        if (isMissing(newRightBound)) {
-          function.addRightMostMissing();
-        } else {
-          function.addRightMost(get(newRightBound));
-        }
+        add(newRightBound);
       }
       rightBound = newRightBound;
     }
@@ -102,35 +114,42 @@ class WindowSlider {
    * Adds initial values to the aggregate function for the first window. E.G. ROWS BETWEEN CURRENT
    * ROW AND 3 FOLLOWING would add the first four rows in the slice to the function.
    */
-  @SuppressWarnings({"unchecked", "rawtypes"})
   private void initWindow() {
     int leftBound = Math.max(getInitialLeftBound(), 0);
     int rightBound = Math.min(getInitialRightBound(), slice.rowCount() - 1);
     for (int i = leftBound; i <= rightBound; i++) {
-      if (isMissing(i)) {
-        function.addRightMostMissing();
-      } else {
-        function.addRightMost(get(i));
-      }
+      add(i);
     }
   }
 
   /** Set the value in the destination column that corresponds to the row in the view. */
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private void set(int rowNumberInSlice, Object value) {
-    destinationColumn.set(slice.mappedRowNumber(mirror(rowNumberInSlice)), value);
-  }
-
-  /** Get a value from the source column that corresponds to the row in the view. */
-  private Object get(int rowNumberInSlice) {
-    return sourceColumn.get(slice.mappedRowNumber(mirror(rowNumberInSlice)));
+  private void set(int rowNumberInSlice, double value) {
+    int row = slice.mappedRowNumber(mirror(rowNumberInSlice));
+    if (intDestinationColumn != null) {
+      intDestinationColumn.set(row, (int) value);
+    } else {
+      doubleDestinationColumn.set(row, value);
+    }
   }
 
   /**
-   * Determine if the value in the source column that corresponds to the row in the view is missing.
+   * Add the value in the source column that corresponds to the row in the view to the right of the
+   * window.
    */
-  private boolean isMissing(int rowNumberInSlice) {
-    return sourceColumn.isMissing(slice.mappedRowNumber(mirror(rowNumberInSlice)));
+  private void add(int rowNumberInSlice) {
+    int row = slice.mappedRowNumber(mirror(rowNumberInSlice));
+    if (numericSourceColumn != null) {
+      double value = numericSourceColumn.getDouble(row);
+      if (Double.isNaN(value)) {
+        function.addRightMostMissing();
+      } else {
+        function.addRightMost(value);
+      }
+    } else if (sourceColumn.isMissing(row)) {
+      function.addRightMostMissing();
+    } else {
+      function.addRightMost(0);
+    }
   }
 
   /** Returns true of the rowNumber exists in the slice. */
@@ -40,12 +40,17 @@ import javax.annotation.Nonnull;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
+import tech.tablesaw.columns.ZoneMapped;
 import tech.tablesaw.columns.dates.DateColumnFormatter;
 import tech.tablesaw.columns.dates.DateColumnType;
 import tech.tablesaw.columns.dates.DateFillers;
 import tech.tablesaw.columns.dates.DateFilters;
 import tech.tablesaw.columns.dates.DateMapFunctions;
+import tech.tablesaw.columns.dates.DateParser;
 import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.numbers.RangeScans;
+import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A column that contains int-encoded local date values */
@@ -53,11 +58,15 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
     implements DateFilters,
         DateFillers<DateColumn>,
         DateMapFunctions,
-        CategoricalColumn<LocalDate> {
+        CategoricalColumn<LocalDate>,
+        ZoneMapped {
 
   /** The data held in this column in its integer encoding form. See {@link PackedLocalDate} */
   protected IntArrayList data;
 
+  /** The block statistics kept for range filters, or null if none are kept */
+  private volatile ZoneMap zoneMap;
+
   /** A comparator for the encoded dates. Note that the ints compared are the column indexes */
   private final IntComparator comparator =
       (r1, r2) -> {
@@ -151,6 +160,9 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
 
   public DateColumn set(int index, int value) {
     data.set(index, value);
+    if (zoneMap != null) {
+      zoneMap.invalidate(index);
+    }
     return this;
   }
 
@@ -227,6 +239,48 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   @Override
   public void clear() {
     data.clear();
+    invalidateZoneMap();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    ZoneMap current = zoneMap;
+    if (current == null || current.isCurrent(data.size())) {
+      return current;
+    }
+    return updateZoneMap();
+  }
+
+  /** Replaces the zone map with a new one summarizing the current values */
+  private synchronized ZoneMap updateZoneMap() {
+    zoneMap = zoneMap.update(data, DateColumnType.missingValueIndicator());
+    return zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setZoneMap(ZoneMap zoneMap) {
+    this.zoneMap = zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isInPackedRange(int lo, boolean loInclusive, int hi, boolean hiInclusive) {
+    long min = loInclusive ? lo : lo + 1L;
+    long max = hiInclusive ? hi : hi - 1L;
+    if (min > max) {
+      return new BitmapBackedSelection();
+    }
+    return RangeScans.between(
+        data, (int) min, (int) max, DateColumnType.missingValueIndicator(), zoneMap());
+  }
+
+  /** Marks every block of the zone map, if there is one, to be summarized again */
+  private void invalidateZoneMap() {
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
@@ -261,12 +315,14 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   @Override
   public void sortAscending() {
     data.sort(IntComparators.NATURAL_COMPARATOR);
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(IntComparators.OPPOSITE_COMPARATOR);
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
@@ -454,6 +510,9 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   /** {@inheritDoc} */
   @Override
   public DateColumn appendCell(String string, AbstractColumnParser<?> parser) {
+    if (parser instanceof DateParser) {
+      return appendInternal(((DateParser) parser).parsePacked(string));
+    }
     return appendObj(parser.parse(string));
   }
 
@@ -42,12 +42,17 @@ import java.util.stream.Stream;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
+import tech.tablesaw.columns.ZoneMapped;
 import tech.tablesaw.columns.datetimes.DateTimeColumnFormatter;
 import tech.tablesaw.columns.datetimes.DateTimeColumnType;
 import tech.tablesaw.columns.datetimes.DateTimeFilters;
 import tech.tablesaw.columns.datetimes.DateTimeMapFunctions;
+import tech.tablesaw.columns.datetimes.DateTimeParser;
 import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.numbers.RangeScans;
 import tech.tablesaw.columns.temporal.TemporalFillers;
+import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A column that contains long-integer encoded (packed) local date-time values */
@@ -55,11 +60,15 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
     implements DateTimeMapFunctions,
         DateTimeFilters,
         TemporalFillers<LocalDateTime, DateTimeColumn>,
-        CategoricalColumn<LocalDateTime> {
+        CategoricalColumn<LocalDateTime>,
+        ZoneMapped {
 
   /** The dateTime values held in this column, in their {@link PackedLocalDateTime} format */
   protected LongArrayList data;
 
+  /** The block statistics kept for range filters, or null if none are kept */
+  private volatile ZoneMap zoneMap;
+
   /** A comparator for this column. Note that the ints compared are the column indexes */
   private final IntComparator comparator =
       (r1, r2) -> {
@@ -247,6 +256,9 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
   /** {@inheritDoc} */
   @Override
   public DateTimeColumn appendCell(String stringValue, AbstractColumnParser<?> parser) {
+    if (parser instanceof DateTimeParser) {
+      return appendInternal(((DateTimeParser) parser).parsePacked(stringValue));
+    }
     return appendObj(parser.parse(stringValue));
   }
 
@@ -333,18 +345,62 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
   @Override
   public void clear() {
     data.clear();
+    invalidateZoneMap();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    ZoneMap current = zoneMap;
+    if (current == null || current.isCurrent(data.size())) {
+      return current;
+    }
+    return updateZoneMap();
+  }
+
+  /** Replaces the zone map with a new one summarizing the current values */
+  private synchronized ZoneMap updateZoneMap() {
+    zoneMap = zoneMap.update(data, DateTimeColumnType.missingValueIndicator());
+    return zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setZoneMap(ZoneMap zoneMap) {
+    this.zoneMap = zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isInPackedRange(long lo, boolean loInclusive, long hi, boolean hiInclusive) {
+    if ((!loInclusive && lo == Long.MAX_VALUE) || (!hiInclusive && hi == Long.MIN_VALUE)) {
+      return new BitmapBackedSelection();
+    }
+    long min = loInclusive ? lo : lo + 1;
+    long max = hiInclusive ? hi : hi - 1;
+    return RangeScans.between(
+        data, min, max, DateTimeColumnType.missingValueIndicator(), zoneMap());
+  }
+
+  /** Marks every block of the zone map, if there is one, to be summarized again */
+  private void invalidateZoneMap() {
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
@@ -618,6 +674,9 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
 
   public DateTimeColumn set(int index, long value) {
     data.set(index, value);
+    if (zoneMap != null) {
+      zoneMap.invalidate(index);
+    }
     return this;
   }
 
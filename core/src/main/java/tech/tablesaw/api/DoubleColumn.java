@@ -16,21 +16,27 @@ import java.util.function.DoubleSupplier;
 import java.util.stream.DoubleStream;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
+import tech.tablesaw.columns.ZoneMapped;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.FloatColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
 import tech.tablesaw.columns.numbers.NumberFillers;
+import tech.tablesaw.columns.numbers.RangeScans;
 import tech.tablesaw.columns.numbers.fillers.DoubleRangeIterable;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A column that contains double values */
 public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
-    implements NumberFillers<DoubleColumn> {
+    implements NumberFillers<DoubleColumn>, ZoneMapped {
 
-  protected final DoubleArrayList data;
+  protected final DoubleList data;
 
-  protected DoubleColumn(String name, DoubleArrayList data) {
+  /** The block statistics kept for range filters, or null if none are kept */
+  private volatile ZoneMap zoneMap;
+
+  protected DoubleColumn(String name, DoubleList data) {
     super(DoubleColumnType.instance(), name, DoubleColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.floatingPointDefault());
     this.data = data;
@@ -57,6 +63,37 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   @Override
   public void clear() {
     data.clear();
+    valuesModified();
+    invalidateZoneMap();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    ZoneMap current = zoneMap;
+    if (current == null || current.isCurrent(data.size())) {
+      return current;
+    }
+    return updateZoneMap();
+  }
+
+  /** Replaces the zone map with a new one summarizing the current values */
+  private synchronized ZoneMap updateZoneMap() {
+    zoneMap = zoneMap.update(data);
+    return zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setZoneMap(ZoneMap zoneMap) {
+    this.zoneMap = zoneMap;
+  }
+
+  /** Marks every block of the zone map, if there is one, to be summarized again */
+  private void invalidateZoneMap() {
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
@@ -72,6 +109,17 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
     this.data = new DoubleArrayList(DEFAULT_ARRAY_SIZE);
   }
 
+  /**
+   * Returns a column backed by the given list, which is not copied. For tablesaw internal use.
+   *
+   * <p>This lets the values be held in something other than an array, like a read-only list over a
+   * memory-mapped file. A column over a list that cannot be modified cannot be modified either,
+   * but its copies can.
+   */
+  public static DoubleColumn createInternal(String name, DoubleList data) {
+    return new DoubleColumn(name, data);
+  }
+
   public static DoubleColumn create(String name, double... arr) {
     return new DoubleColumn(name, new DoubleArrayList(arr));
   }
@@ -166,6 +214,12 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
     return results;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetween(double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    return RangeScans.inRange(data, lo, loInclusive, hi, hiInclusive, zoneMap());
+  }
+
   public Selection isIn(final double... doubles) {
     final Selection results = new BitmapBackedSelection();
     final DoubleRBTreeSet doubleSet = new DoubleRBTreeSet(doubles);
@@ -308,7 +362,7 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   /** {@inheritDoc} */
   @Override
   public DoubleColumn copy() {
-    DoubleColumn copy = new DoubleColumn(name(), data.clone());
+    DoubleColumn copy = new DoubleColumn(name(), new DoubleArrayList(data));
     copy.setPrintFormatter(getPrintFormatter());
     copy.locale = locale;
     return copy;
@@ -352,6 +406,10 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
 
   public DoubleColumn set(int i, double val) {
     data.set(i, val);
+    valuesModified();
+    if (zoneMap != null) {
+      zoneMap.invalidate(i);
+    }
     return this;
   }
 
@@ -475,12 +533,16 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   @Override
   public void sortAscending() {
     data.sort(DoubleComparators.NATURAL_COMPARATOR);
+    valuesModified();
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(DoubleComparators.OPPOSITE_COMPARATOR);
+    valuesModified();
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
@@ -12,6 +12,7 @@ import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.numbers.FloatColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
+import tech.tablesaw.columns.numbers.RangeScans;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
@@ -115,6 +116,12 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
     return results;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetween(double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    return RangeScans.inRange(data, lo, loInclusive, hi, hiInclusive);
+  }
+
   public Selection isIn(final float... numbers) {
     final Selection results = new BitmapBackedSelection();
     final FloatRBTreeSet doubleSet = new FloatRBTreeSet(numbers);
@@ -136,6 +143,7 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   @Override
   public void clear() {
     data.clear();
+    valuesModified();
   }
 
   /** {@inheritDoc} */
@@ -272,6 +280,7 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
 
   public FloatColumn set(int i, float val) {
     data.set(i, val);
+    valuesModified();
     return this;
   }
 
@@ -383,12 +392,14 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   @Override
   public void sortAscending() {
     data.sort(FloatComparators.NATURAL_COMPARATOR);
+    valuesModified();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(FloatComparators.OPPOSITE_COMPARATOR);
+    valuesModified();
   }
 
   /** {@inheritDoc} */
@@ -44,12 +44,16 @@ import java.util.stream.Stream;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
+import tech.tablesaw.columns.ZoneMapped;
 import tech.tablesaw.columns.instant.InstantColumnFormatter;
 import tech.tablesaw.columns.instant.InstantColumnType;
 import tech.tablesaw.columns.instant.InstantMapFunctions;
 import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.numbers.RangeScans;
 import tech.tablesaw.columns.temporal.TemporalFillers;
 import tech.tablesaw.columns.temporal.TemporalFilters;
+import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /**
@@ -61,10 +65,14 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
     implements InstantMapFunctions,
         TemporalFillers<Instant, InstantColumn>,
         TemporalFilters<Instant>,
-        CategoricalColumn<Instant> {
+        CategoricalColumn<Instant>,
+        ZoneMapped {
 
   protected LongArrayList data;
 
+  /** The block statistics kept for range filters, or null if none are kept */
+  private volatile ZoneMap zoneMap;
+
   /** {@inheritDoc} */
   @Override
   public int valueHash(int rowNumber) {
@@ -330,18 +338,61 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
   @Override
   public void clear() {
     data.clear();
+    invalidateZoneMap();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    ZoneMap current = zoneMap;
+    if (current == null || current.isCurrent(data.size())) {
+      return current;
+    }
+    return updateZoneMap();
+  }
+
+  /** Replaces the zone map with a new one summarizing the current values */
+  private synchronized ZoneMap updateZoneMap() {
+    zoneMap = zoneMap.update(data, InstantColumnType.missingValueIndicator());
+    return zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setZoneMap(ZoneMap zoneMap) {
+    this.zoneMap = zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isInPackedRange(long lo, boolean loInclusive, long hi, boolean hiInclusive) {
+    if ((!loInclusive && lo == Long.MAX_VALUE) || (!hiInclusive && hi == Long.MIN_VALUE)) {
+      return new BitmapBackedSelection();
+    }
+    long min = loInclusive ? lo : lo + 1;
+    long max = hiInclusive ? hi : hi - 1;
+    return RangeScans.between(data, min, max, InstantColumnType.missingValueIndicator(), zoneMap());
+  }
+
+  /** Marks every block of the zone map, if there is one, to be summarized again */
+  private void invalidateZoneMap() {
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
@@ -622,6 +673,9 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
 
   public InstantColumn set(int index, long value) {
     data.set(index, value);
+    if (zoneMap != null) {
+      zoneMap.invalidate(index);
+    }
     return this;
   }
 
@@ -11,19 +11,25 @@ import java.util.Set;
 import java.util.stream.IntStream;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
+import tech.tablesaw.columns.ZoneMapped;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.IntColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
+import tech.tablesaw.columns.numbers.RangeScans;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A column that contains int values */
 public class IntColumn extends NumberColumn<IntColumn, Integer>
-    implements CategoricalColumn<Integer> {
+    implements CategoricalColumn<Integer>, ZoneMapped {
 
-  protected final IntArrayList data;
+  protected final IntList data;
 
-  protected IntColumn(final String name, IntArrayList data) {
+  /** The block statistics kept for range filters, or null if none are kept */
+  private volatile ZoneMap zoneMap;
+
+  protected IntColumn(final String name, IntList data) {
     super(IntColumnType.instance(), name, IntColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.ints());
     this.data = data;
@@ -33,6 +39,17 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
     return new IntColumn(name, new IntArrayList());
   }
 
+  /**
+   * Returns a column backed by the given list, which is not copied. For tablesaw internal use.
+   *
+   * <p>This lets the values be held in something other than an array, like a read-only list over a
+   * memory-mapped file. A column over a list that cannot be modified cannot be modified either,
+   * but its copies can.
+   */
+  public static IntColumn createInternal(String name, IntList data) {
+    return new IntColumn(name, data);
+  }
+
   public static IntColumn create(final String name, final int... arr) {
     return new IntColumn(name, new IntArrayList(arr));
   }
@@ -108,6 +125,37 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   @Override
   public void clear() {
     data.clear();
+    valuesModified();
+    invalidateZoneMap();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    ZoneMap current = zoneMap;
+    if (current == null || current.isCurrent(data.size())) {
+      return current;
+    }
+    return updateZoneMap();
+  }
+
+  /** Replaces the zone map with a new one summarizing the current values */
+  private synchronized ZoneMap updateZoneMap() {
+    zoneMap = zoneMap.update(data, IntColumnType.missingValueIndicator());
+    return zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setZoneMap(ZoneMap zoneMap) {
+    this.zoneMap = zoneMap;
+  }
+
+  /** Marks every block of the zone map, if there is one, to be summarized again */
+  private void invalidateZoneMap() {
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   public static boolean valueIsMissing(int value) {
@@ -225,7 +273,7 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   /** {@inheritDoc} */
   @Override
   public IntColumn copy() {
-    IntColumn copy = new IntColumn(name(), data.clone());
+    IntColumn copy = new IntColumn(name(), new IntArrayList(data));
     copy.setPrintFormatter(getPrintFormatter());
     copy.locale = locale;
     return copy;
@@ -269,6 +317,10 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
 
   public IntColumn set(int i, int val) {
     data.set(i, val);
+    valuesModified();
+    if (zoneMap != null) {
+      zoneMap.invalidate(i);
+    }
     return this;
   }
 
@@ -400,12 +452,16 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   @Override
   public void sortAscending() {
     data.sort(IntComparators.NATURAL_COMPARATOR);
+    valuesModified();
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(IntComparators.OPPOSITE_COMPARATOR);
+    valuesModified();
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
@@ -501,6 +557,12 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
     return result;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetween(double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    return RangeScans.inRange(data, lo, loInclusive, hi, hiInclusive, zoneMap());
+  }
+
   public Selection isIn(final int... numbers) {
     final Selection results = new BitmapBackedSelection();
     final IntRBTreeSet intSet = new IntRBTreeSet(numbers);
@@ -13,18 +13,25 @@ import java.util.Set;
 import java.util.stream.LongStream;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
+import tech.tablesaw.columns.ZoneMapped;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.LongColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
+import tech.tablesaw.columns.numbers.RangeScans;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A column that contains long values */
-public class LongColumn extends NumberColumn<LongColumn, Long> implements CategoricalColumn<Long> {
+public class LongColumn extends NumberColumn<LongColumn, Long>
+    implements CategoricalColumn<Long>, ZoneMapped {
 
-  protected final LongArrayList data;
+  protected final LongList data;
 
-  private LongColumn(String name, LongArrayList data) {
+  /** The block statistics kept for range filters, or null if none are kept */
+  private volatile ZoneMap zoneMap;
+
+  private LongColumn(String name, LongList data) {
     super(LongColumnType.instance(), name, LongColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.ints());
     this.data = data;
@@ -46,6 +53,17 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
     return new LongColumn(name, new LongArrayList());
   }
 
+  /**
+   * Returns a column backed by the given list, which is not copied. For tablesaw internal use.
+   *
+   * <p>This lets the values be held in something other than an array, like a read-only list over a
+   * memory-mapped file. A column over a list that cannot be modified cannot be modified either,
+   * but its copies can.
+   */
+  public static LongColumn createInternal(String name, LongList data) {
+    return new LongColumn(name, data);
+  }
+
   public static LongColumn create(String name, long... arr) {
     return new LongColumn(name, new LongArrayList(arr));
   }
@@ -112,6 +130,37 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   @Override
   public void clear() {
     data.clear();
+    valuesModified();
+    invalidateZoneMap();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ZoneMap zoneMap() {
+    ZoneMap current = zoneMap;
+    if (current == null || current.isCurrent(data.size())) {
+      return current;
+    }
+    return updateZoneMap();
+  }
+
+  /** Replaces the zone map with a new one summarizing the current values */
+  private synchronized ZoneMap updateZoneMap() {
+    zoneMap = zoneMap.update(data, LongColumnType.missingValueIndicator());
+    return zoneMap;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setZoneMap(ZoneMap zoneMap) {
+    this.zoneMap = zoneMap;
+  }
+
+  /** Marks every block of the zone map, if there is one, to be summarized again */
+  private void invalidateZoneMap() {
+    if (zoneMap != null) {
+      zoneMap.invalidateAll();
+    }
   }
 
   /** {@inheritDoc} */
@@ -131,6 +180,12 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
     return c;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetween(double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    return RangeScans.inRange(data, lo, loInclusive, hi, hiInclusive, zoneMap());
+  }
+
   public Selection isIn(final long... numbers) {
     final Selection results = new BitmapBackedSelection();
     final LongRBTreeSet intSet = new LongRBTreeSet(numbers);
@@ -239,7 +294,7 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   /** {@inheritDoc} */
   @Override
   public LongColumn copy() {
-    LongColumn copy = new LongColumn(name(), data.clone());
+    LongColumn copy = new LongColumn(name(), new LongArrayList(data));
     copy.setPrintFormatter(getPrintFormatter());
     copy.locale = locale;
     return copy;
@@ -310,6 +365,10 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
 
   public LongColumn set(int i, long val) {
     data.set(i, val);
+    valuesModified();
+    if (zoneMap != null) {
+      zoneMap.invalidate(i);
+    }
     return this;
   }
 
@@ -448,12 +507,16 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   @Override
   public void sortAscending() {
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    valuesModified();
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    valuesModified();
+    invalidateZoneMap();
   }
 
   /** {@inheritDoc} */
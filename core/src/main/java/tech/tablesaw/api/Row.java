@@ -25,6 +25,10 @@ public class Row implements Iterator<Row> {
    */
   private class ColumnMap<T> {
     private final Map<String, T> columnMap = new HashMap<>();
+
+    /** The columns by their names as given, so names in the right case need not be lower-cased */
+    private final Map<String, T> exactColumnMap = new HashMap<>();
+
     private final ColumnType columnType;
 
     public ColumnMap(ColumnType columnType) {
@@ -36,7 +40,11 @@ public class Row implements Iterator<Row> {
     }
 
     T get(String columnName) {
-      T column = columnMap.get(columnName.toLowerCase());
+      T column = exactColumnMap.get(columnName);
+      if (column != null) {
+        return column;
+      }
+      column = columnMap.get(columnName.toLowerCase());
       if (column == null) {
         throwWrongTypeError(columnName);
         throwColumnNotPresentError(columnName);
@@ -46,6 +54,7 @@ public class Row implements Iterator<Row> {
 
     void put(String columnName, T column) {
       columnMap.put(columnName.toLowerCase(), column);
+      exactColumnMap.put(columnName, column);
     }
 
     /**
@@ -81,6 +90,13 @@ public class Row implements Iterator<Row> {
 
   private final TableSlice tableSlice;
   private final String[] columnNames;
+
+  /**
+   * The columns of the backing table, by index, so the index-based methods can reach a column
+   * without looking up its name
+   */
+  private final Column<?>[] columns;
+
   private final ColumnMap<DateColumn> dateColumnMap = new ColumnMap<>();
   private final ColumnMap<DoubleColumn> doubleColumnMap = new ColumnMap<>(ColumnType.DOUBLE);
   private final ColumnMap<IntColumn> intColumnMap = new ColumnMap<>(ColumnType.INTEGER);
@@ -121,6 +137,7 @@ public class Row implements Iterator<Row> {
   public Row(TableSlice tableSlice, int rowNumber) {
     this.tableSlice = tableSlice;
     columnNames = tableSlice.columnNames().toArray(new String[0]);
+    columns = tableSlice.getTable().columns().toArray(new Column<?>[0]);
     this.rowNumber = rowNumber;
     for (Column<?> column : tableSlice.getTable().columns()) {
       if (column instanceof DoubleColumn) {
@@ -186,12 +203,12 @@ public class Row implements Iterator<Row> {
 
   /** Returns a Boolean value from this Row at the given column index. */
   public Boolean getBoolean(int columnIndex) {
-    return getBoolean(columnNames[columnIndex]);
+    return column(columnIndex, BooleanColumn.class, booleanColumnMap).get(getIndex(rowNumber));
   }
 
   /** Returns an element from a Boolean column in its internal byte form, avoiding boxing */
   public byte getBooleanAsByte(int columnIndex) {
-    return getBooleanAsByte(columnNames[columnIndex]);
+    return column(columnIndex, BooleanColumn.class, booleanColumnMap).getByte(getIndex(rowNumber));
   }
 
   /** Returns an element from a Boolean column in its internal byte form, avoiding boxing */
@@ -223,7 +240,7 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if the column has a different type
    */
   public LocalDate getDate(int columnIndex) {
-    return dateColumnMap.get(columnNames[columnIndex]).get(getIndex(rowNumber));
+    return column(columnIndex, DateColumn.class, dateColumnMap).get(getIndex(rowNumber));
   }
 
   /**
@@ -232,7 +249,7 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type
    */
   public LocalDateTime getDateTime(int columnIndex) {
-    return getDateTime(columnNames[columnIndex]);
+    return column(columnIndex, DateTimeColumn.class, dateTimeColumnMap).get(getIndex(rowNumber));
   }
 
   /**
@@ -250,7 +267,7 @@ public class Row implements Iterator<Row> {
    * it has a different type
    */
   public Instant getInstant(int columnIndex) {
-    return getInstant(columnNames[columnIndex]);
+    return column(columnIndex, InstantColumn.class, instantColumnMap).get(getIndex(rowNumber));
   }
 
   /**
@@ -268,7 +285,7 @@ public class Row implements Iterator<Row> {
    * has a different type
    */
   public double getDouble(int columnIndex) {
-    return getDouble(columnNames[columnIndex]);
+    return column(columnIndex, DoubleColumn.class, doubleColumnMap).getDouble(getIndex(rowNumber));
   }
 
   /**
@@ -286,7 +303,7 @@ public class Row implements Iterator<Row> {
    * has a different type
    */
   public float getFloat(int columnIndex) {
-    return getFloat(columnNames[columnIndex]);
+    return column(columnIndex, FloatColumn.class, floatColumnMap).getFloat(getIndex(rowNumber));
   }
 
   /**
@@ -304,7 +321,7 @@ public class Row implements Iterator<Row> {
    * has a different type
    */
   public int getInt(int columnIndex) {
-    return getInt(columnNames[columnIndex]);
+    return column(columnIndex, IntColumn.class, intColumnMap).getInt(getIndex(rowNumber));
   }
 
   /**
@@ -322,7 +339,7 @@ public class Row implements Iterator<Row> {
    * has a different type
    */
   public long getLong(int columnIndex) {
-    return getLong(columnNames[columnIndex]);
+    return column(columnIndex, LongColumn.class, longColumnMap).getLong(getIndex(rowNumber));
   }
 
   /**
@@ -347,7 +364,7 @@ public class Row implements Iterator<Row> {
    * An IllegalStateException is thrown if the column is not present in the Row
    */
   public Object getObject(int columnIndex) {
-    return columnMap.get(columnNames[columnIndex]).get(getIndex(rowNumber));
+    return columns[columnIndex].get(getIndex(rowNumber));
   }
 
   /**
@@ -365,7 +382,7 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public int getPackedDate(int columnIndex) {
-    return dateColumnMap.get(columnNames[columnIndex]).getIntInternal(getIndex(rowNumber));
+    return column(columnIndex, DateColumn.class, dateColumnMap).getIntInternal(getIndex(rowNumber));
   }
 
   /**
@@ -374,7 +391,8 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public long getPackedInstant(int columnIndex) {
-    return instantColumnMap.get(columnNames[columnIndex]).getLongInternal(getIndex(rowNumber));
+    return column(columnIndex, InstantColumn.class, instantColumnMap)
+        .getLongInternal(getIndex(rowNumber));
   }
 
   /**
@@ -401,7 +419,8 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public long getPackedDateTime(int columnIndex) {
-    return dateTimeColumnMap.get(columnNames[columnIndex]).getLongInternal(getIndex(rowNumber));
+    return column(columnIndex, DateTimeColumn.class, dateTimeColumnMap)
+        .getLongInternal(getIndex(rowNumber));
   }
 
   /**
@@ -419,7 +438,7 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public int getPackedTime(int columnIndex) {
-    return timeColumnMap.get(columnNames[columnIndex]).getIntInternal(getIndex(rowNumber));
+    return column(columnIndex, TimeColumn.class, timeColumnMap).getIntInternal(getIndex(rowNumber));
   }
 
   /**
@@ -428,7 +447,7 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public short getShort(int columnIndex) {
-    return getShort(columnNames[columnIndex]);
+    return column(columnIndex, ShortColumn.class, shortColumnMap).getShort(getIndex(rowNumber));
   }
 
   /** Returns the zero-based index of the current position of this Row */
@@ -442,7 +461,7 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public String getString(int columnIndex) {
-    return getString(columnNames[columnIndex]);
+    return column(columnIndex, StringColumn.class, stringColumnMap).get(getIndex(rowNumber));
   }
 
   /**
@@ -469,7 +488,7 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public LocalTime getTime(int columnIndex) {
-    return timeColumnMap.get(columnNames[columnIndex]).get(getIndex(rowNumber));
+    return column(columnIndex, TimeColumn.class, timeColumnMap).get(getIndex(rowNumber));
   }
 
   /**
@@ -481,6 +500,13 @@ public class Row implements Iterator<Row> {
     return stringColumnMap.get(columnName).get(getIndex(rowNumber));
   }
 
+  /**
+   * Returns true if the value in the column with the given index is missing, and false otherwise
+   */
+  public boolean isMissing(int columnIndex) {
+    return columns[columnIndex].isMissing(getIndex(rowNumber));
+  }
+
   /** Returns true if the value at columnName is missing, and false otherwise */
   public boolean isMissing(String columnName) {
     Column<?> x = columnMap.get(columnName);
@@ -509,7 +535,7 @@ public class Row implements Iterator<Row> {
    * the column type.
    */
   public void setMissing(int columnIndex) {
-    setMissing(columnNames[columnIndex]);
+    columns[columnIndex].setMissing(getIndex(rowNumber));
   }
 
   /**
@@ -527,7 +553,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setBoolean(int columnIndex, boolean value) {
-    setBoolean(columnNames[columnIndex], value);
+    column(columnIndex, BooleanColumn.class, booleanColumnMap).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -647,7 +673,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setDouble(int columnIndex, double value) {
-    setDouble(columnNames[columnIndex], value);
+    column(columnIndex, DoubleColumn.class, doubleColumnMap).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -667,7 +693,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setFloat(int columnIndex, float value) {
-    setFloat(columnNames[columnIndex], value);
+    column(columnIndex, FloatColumn.class, floatColumnMap).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -687,7 +713,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setInt(int columnIndex, int value) {
-    setInt(columnNames[columnIndex], value);
+    column(columnIndex, IntColumn.class, intColumnMap).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -707,7 +733,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setLong(int columnIndex, long value) {
-    setLong(columnNames[columnIndex], value);
+    column(columnIndex, LongColumn.class, longColumnMap).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -727,7 +753,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setShort(int columnIndex, short value) {
-    setShort(columnNames[columnIndex], value);
+    column(columnIndex, ShortColumn.class, shortColumnMap).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -747,7 +773,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setString(int columnIndex, String value) {
-    setString(columnNames[columnIndex], value);
+    column(columnIndex, StringColumn.class, stringColumnMap).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -796,6 +822,59 @@ public class Row implements Iterator<Row> {
     return numericColumnMap.get(columnName).getDouble(getIndex(rowNumber));
   }
 
+  /**
+   * Returns a double representing the value held in the column with the given index at this row,
+   * for any numeric column type
+   */
+  public double getNumber(int columnIndex) {
+    Column<?> column = columns[columnIndex];
+    if (column instanceof NumericColumn) {
+      return ((NumericColumn<?>) column).getDouble(getIndex(rowNumber));
+    }
+    return getNumber(columnNames[columnIndex]);
+  }
+
+  /**
+   * Returns a handle on the column with the given name, which reads the values of the column at the
+   * current position of this Row without looking up the column again. In loops over many rows, get
+   * the handles before the loop:
+   *
+   * <pre>{@code
+   * Row row = new Row(table);
+   * Row.ColumnHandle price = row.handle("price");
+   * Row.ColumnHandle quantity = row.handle("quantity");
+   * while (row.hasNext()) {
+   *   row.next();
+   *   total += price.getDouble() * quantity.getInt();
+   * }
+   * }</pre>
+   *
+   * An IllegalStateException is thrown if the column is not present in the Row
+   */
+  public ColumnHandle handle(String columnName) {
+    Column<?> column = columnMap.get(columnName);
+    for (int i = 0; i < columns.length; i++) {
+      if (columns[i] == column) {
+        return new ColumnHandle(i);
+      }
+    }
+    throw new IllegalStateException(
+        String.format(
+            "Column %s is not present in table %s", columnName, tableSlice.getTable().name()));
+  }
+
+  /**
+   * Returns the column with the given index if it has the given type. Otherwise the column is
+   * looked up by name in the given map, which reports the error
+   */
+  private <T> T column(int columnIndex, Class<? extends T> type, ColumnMap<T> map) {
+    Column<?> column = columns[columnIndex];
+    if (type.isInstance(column)) {
+      return type.cast(column);
+    }
+    return map.get(columnNames[columnIndex]);
+  }
+
   /** Returns the type of the named column */
   public ColumnType getColumnType(String columnName) {
     return columnMap.get(columnName).type();
@@ -842,4 +921,128 @@ public class Row implements Iterator<Row> {
   public void setTime(String columnName, LocalTime value) {
     timeColumnMap.get(columnName).set(rowNumber, value);
   }
+
+  /**
+   * A reference to one column of a Row, resolved once, which reads and writes the value of that
+   * column at the current position of the Row. Each method fails as the index-based method of the
+   * Row with the same name does if the column has a different type
+   */
+  public final class ColumnHandle {
+
+    private final int columnIndex;
+
+    private ColumnHandle(int columnIndex) {
+      this.columnIndex = columnIndex;
+    }
+
+    /** Returns the index of the column in the Row */
+    public int columnIndex() {
+      return columnIndex;
+    }
+
+    public ColumnType type() {
+      return columns[columnIndex].type();
+    }
+
+    public boolean isMissing() {
+      return Row.this.isMissing(columnIndex);
+    }
+
+    public Object getObject() {
+      return Row.this.getObject(columnIndex);
+    }
+
+    public Boolean getBoolean() {
+      return Row.this.getBoolean(columnIndex);
+    }
+
+    public double getDouble() {
+      return Row.this.getDouble(columnIndex);
+    }
+
+    public float getFloat() {
+      return Row.this.getFloat(columnIndex);
+    }
+
+    public int getInt() {
+      return Row.this.getInt(columnIndex);
+    }
+
+    public long getLong() {
+      return Row.this.getLong(columnIndex);
+    }
+
+    public short getShort() {
+      return Row.this.getShort(columnIndex);
+    }
+
+    /** Returns the value of a column of any numeric type as a double */
+    public double getNumber() {
+      return Row.this.getNumber(columnIndex);
+    }
+
+    public String getString() {
+      return Row.this.getString(columnIndex);
+    }
+
+    public LocalDate getDate() {
+      return Row.this.getDate(columnIndex);
+    }
+
+    public LocalDateTime getDateTime() {
+      return Row.this.getDateTime(columnIndex);
+    }
+
+    public Instant getInstant() {
+      return Row.this.getInstant(columnIndex);
+    }
+
+    public LocalTime getTime() {
+      return Row.this.getTime(columnIndex);
+    }
+
+    public int getPackedDate() {
+      return Row.this.getPackedDate(columnIndex);
+    }
+
+    public long getPackedDateTime() {
+      return Row.this.getPackedDateTime(columnIndex);
+    }
+
+    public int getPackedTime() {
+      return Row.this.getPackedTime(columnIndex);
+    }
+
+    public void setMissing() {
+      Row.this.setMissing(columnIndex);
+    }
+
+    public void setBoolean(boolean value) {
+      Row.this.setBoolean(columnIndex, value);
+    }
+
+    public void setDouble(double value) {
+      Row.this.setDouble(columnIndex, value);
+    }
+
+    public void setFloat(float value) {
+      Row.this.setFloat(columnIndex, value);
+    }
+
+    public void setInt(int value) {
+      Row.this.setInt(columnIndex, value);
+    }
+
+    public void setLong(long value) {
+      Row.this.setLong(columnIndex, value);
+    }
+
+    public void setShort(short value) {
+      Row.this.setShort(columnIndex, value);
+    }
+
+    public void setString(String value) {
+      Row.this.setString(columnIndex, value);
+    }
+  }
 }
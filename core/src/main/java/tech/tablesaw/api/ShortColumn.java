@@ -19,6 +19,7 @@ import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
+import tech.tablesaw.columns.numbers.RangeScans;
 import tech.tablesaw.columns.numbers.ShortColumnType;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
@@ -110,6 +111,12 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
     return c;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetween(double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    return RangeScans.inRange(data, lo, loInclusive, hi, hiInclusive);
+  }
+
   public Selection isIn(final int... numbers) {
     final Selection results = new BitmapBackedSelection();
     final IntRBTreeSet intSet = new IntRBTreeSet(numbers);
@@ -138,6 +145,7 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   @Override
   public void clear() {
     data.clear();
+    valuesModified();
   }
 
   /** {@inheritDoc} */
@@ -287,6 +295,7 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
 
   public ShortColumn set(int i, short val) {
     data.set(i, val);
+    valuesModified();
     return this;
   }
 
@@ -425,12 +434,14 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   @Override
   public void sortAscending() {
     data.sort(ShortComparators.NATURAL_COMPARATOR);
+    valuesModified();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(ShortComparators.OPPOSITE_COMPARATOR);
+    valuesModified();
   }
 
   /** {@inheritDoc} */
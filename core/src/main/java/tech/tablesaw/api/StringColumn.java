@@ -177,12 +177,14 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
   @Override
   public void sortAscending() {
     data.sortAscending();
+    valuesModified();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sortDescending();
+    valuesModified();
   }
 
   /**
@@ -258,6 +260,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
   @Override
   public void clear() {
     data.clear();
+    valuesModified();
   }
 
   /** {@inheritDoc} */
@@ -329,6 +332,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
         throw new IllegalStateException(e);
       }
     }
+    valuesModified();
     return this;
   }
 
@@ -37,6 +37,7 @@ import tech.tablesaw.aggregate.CrossTab;
 import tech.tablesaw.aggregate.PivotTable;
 import tech.tablesaw.aggregate.Summarizer;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.index.ColumnIndex;
 import tech.tablesaw.io.DataFrameReader;
 import tech.tablesaw.io.DataFrameWriter;
 import tech.tablesaw.io.DataReader;
@@ -71,6 +72,8 @@ public class Table extends Relation implements Iterable<Row> {
   private final List<Column<?>> columnList = new ArrayList<>();
   /** The name of the table */
   private String tableName;
+  /** The indexes of the table's columns, by lower-case column name */
+  private final Map<String, ColumnIndex> indexes = new HashMap<>();
 
   // standard column names for melt and cast operations
   public static final String MELT_VARIABLE_COLUMN_NAME = "variable";
@@ -546,25 +549,6 @@ public class Table extends Relation implements Iterable<Row> {
     return true;
   }
 
-  /**
-   * Returns true if every value in row1 is equal to the same value in row2, where row1 and row2 are
-   * both rows from this table
-   */
-  private boolean duplicateRows(Row row1, Row row2) {
-    if (row1.columnCount() != row2.columnCount()) {
-      return false;
-    }
-    boolean isDuplicateRow;
-    for (int columnIndex = 0; columnIndex < row1.columnCount(); columnIndex++) {
-      Column<?> column = column(columnIndex);
-      isDuplicateRow = column.equals(row1.getRowNumber(), row2.getRowNumber());
-      if (!isDuplicateRow) {
-        return false;
-      }
-    }
-    return true;
-  }
-
   public Table[] sampleSplit(double table1Proportion) {
     Table[] tables = new Table[2];
     int table1Count = (int) Math.round(rowCount() * table1Proportion);
@@ -847,6 +831,63 @@ public class Table extends Relation implements Iterable<Row> {
     return where(selection.apply(this));
   }
 
+  /**
+   * Creates an index of the named column, and registers it with this table, so that the filters of
+   * {@link QuerySupport} on the column use it. The index is kept current as rows are appended to
+   * the column. Any index the column already had is replaced.
+   *
+   * @throws IllegalArgumentException if the column is not a numeric or string column
+   */
+  public ColumnIndex createIndex(String columnName) {
+    ColumnIndex index = new ColumnIndex(column(columnName));
+    indexes.put(columnName.toLowerCase(), index);
+    return index;
+  }
+
+  /**
+   * Returns the index registered for the named column, if there is one. An index whose column has
+   * been removed from the table, or replaced, is dropped.
+   */
+  public Optional<ColumnIndex> index(String columnName) {
+    String key = columnName.toLowerCase();
+    ColumnIndex index = indexes.get(key);
+    if (index == null) {
+      return Optional.empty();
+    }
+    if (!containsColumn(columnName) || column(columnName) != index.column()) {
+      indexes.remove(key);
+      return Optional.empty();
+    }
+    return Optional.of(index);
+  }
+
+  /** Removes the index registered for the named column, if there is one */
+  public void dropIndex(String columnName) {
+    indexes.remove(columnName.toLowerCase());
+  }
+
+  /**
+   * Returns a table containing the rows contained in the given Selection, using the given number of
+   * threads. Each column of the new table is filled by a single thread.
+   */
+  public Table where(Selection selection, int parallelism) {
+    return ParallelWhere.copyRows(this, selection, parallelism);
+  }
+
+  /**
+   * Returns a new Table made by applying the given function to this table, using the given number
+   * of threads both to apply the function and to copy the rows it selects.
+   *
+   * <p>The function is applied once, to the whole table. The comparisons of numeric and date-time
+   * columns with constants that it makes scan ranges of rows concurrently, in place.
+   *
+   * @param parallelism The number of threads to use. If one, this is the same as {@link
+   *     #where(Function)}
+   */
+  public Table where(Function<Table, Selection> selection, int parallelism) {
+    return where(ParallelWhere.select(this, selection, parallelism), parallelism);
+  }
+
   /**
    * Returns a new Table made by EXCLUDING any rows returned when the given function is applied to
    * this table
@@ -929,53 +970,27 @@ public class Table extends Relation implements Iterable<Row> {
 
   /**
    * Returns the unique records in this table, such that any record that appears more than once in
-   * this table, appears only once in the returned table.
+   * this table, appears only once in the returned table. The first occurrence of each record is
+   * kept, and the records remain in their original order.
    */
   public Table dropDuplicateRows() {
-
-    Table temp = emptyCopy();
-    Int2ObjectMap<IntArrayList> uniqueHashes = new Int2ObjectOpenHashMap<>();
-    // ListMultimap<Integer, Integer> uniqueHashes = ArrayListMultimap.create();
-    for (Row row : this) {
-      if (!isDuplicate(row, uniqueHashes)) {
-        temp.append(row);
-      }
-    }
-    return temp;
+    return dropDuplicateRows(1);
   }
 
   /**
-   * Returns true if all the values in row are identical to those in another row previously seen and
-   * recorded in the list.
+   * Returns the unique records in this table, as {@link #dropDuplicateRows()} does, using the given
+   * number of threads
    *
-   * @param row the row to evaluate
-   * @param uniqueHashes a map of row hashes to the id of an exemplar row that produces that hash.
-   *     If two different rows produce the same hash, then the row number for each is placed in the
-   *     list, so that there are exemplars for both
-   * @return true if the row's values exactly match a row that was previously seen
+   * @param parallelism The number of threads to use. If greater than one, the rows are partitioned
+   *     on their hash, and the partitions are deduplicated concurrently.
    */
-  private boolean isDuplicate(Row row, Int2ObjectMap<IntArrayList> uniqueHashes) {
-    int hash = row.rowHash();
-    if (!uniqueHashes.containsKey(hash)) {
-      IntArrayList rowNumbers = new IntArrayList();
-      rowNumbers.add(row.getRowNumber());
-      uniqueHashes.put(hash, rowNumbers);
-      return false;
-    }
-
-    // the hashmap contains the hash, make sure the actual row values match
-    IntArrayList matchingKeys = uniqueHashes.get(hash);
+  public Table dropDuplicateRows(int parallelism) {
+    return where(UniqueRows.firstOccurrences(this, parallelism));
+  }
 
-    for (int key : matchingKeys) {
-      Row oldRow = this.row(key);
-      if (duplicateRows(row, oldRow)) {
-        return true;
-      } else {
-        uniqueHashes.get(hash).add(row.getRowNumber());
-        return false;
-      }
-    }
-    return true;
+  /** Returns the number of distinct records in this table */
+  public int uniqueRowCount() {
+    return UniqueRows.firstOccurrences(this, 1).size();
   }
 
   /** Returns only those records in this table that have no columns with missing values */
@@ -34,6 +34,9 @@ public abstract class AbstractColumn<C extends Column<T>, T> implements Column<T
 
   private AbstractColumnParser<T> parser;
 
+  /** The number of times values of this column have been changed in place */
+  private int modificationCount;
+
   /**
    * Constructs a column with the given {@link ColumnType}, name, and {@link AbstractColumnParser}
    */
@@ -78,6 +81,20 @@ public abstract class AbstractColumn<C extends Column<T>, T> implements Column<T
     return type;
   }
 
+  /**
+   * Returns the number of times values of this column have been set, sorted or cleared. Appending
+   * values does not change it, so a structure built from the column, like an index, can tell
+   * whether the rows it has read are still current
+   */
+  public int modificationCount() {
+    return modificationCount;
+  }
+
+  /** Records that values already in this column have been changed in place */
+  protected void valuesModified() {
+    modificationCount++;
+  }
+
   /** {@inheritDoc} */
   @Override
   public abstract Column<T> emptyCopy();
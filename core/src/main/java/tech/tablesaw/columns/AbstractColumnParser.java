@@ -84,6 +84,21 @@ public abstract class AbstractColumnParser<T> {
     return new String(chars, 0, pos);
   }
 
+  /**
+   * Returns true if the given string contains a decimal digit. A string without one cannot be
+   * parsed by any of the default numeric or date and time formats, so the check lets type detection
+   * reject most text without attempting, and failing, to parse it
+   */
+  protected static boolean containsDigit(String s) {
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c >= '0' && c <= '9') {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public void setMissingValueStrings(List<String> missingValueStrings) {
     this.missingValueStrings = missingValueStrings;
   }
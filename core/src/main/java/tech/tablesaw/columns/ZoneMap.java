@@ -0,0 +1,380 @@
+package tech.tablesaw.columns;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The smallest and largest values, and the number of missing values, of each block of rows of a
+ * column. A range filter can skip every block whose values all lie outside the range, and select
+ * every block whose values all lie inside it, without reading the values of either. Only the blocks
+ * that straddle a bound of the range are scanned. For data clustered on the column, such as a time
+ * series filtered on its timestamps, that is a small fraction of the blocks.
+ *
+ * <p>A zone map is kept by a {@link ZoneMapped} column, which marks the blocks in which it changes
+ * a value as stale. The statistics of a zone map never change once it has summarized a column, so
+ * it can be read by any number of threads. When the column has changed, {@code update} returns a
+ * new zone map, in which the blocks holding rows appended since, and the stale blocks, are
+ * summarized again, and the others are copied.
+ *
+ * <p>Integer values, including packed dates and times, are summarized as longs, and floating point
+ * values as doubles. Missing values are counted rather than included in the minimum and maximum.
+ */
+public final class ZoneMap {
+
+  /** The number of rows in each block, unless another is given */
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+  /** How the values of a block relate to a range */
+  public enum Overlap {
+    /** No value of the block is in the range */
+    NONE,
+    /** Some values of the block may be in the range */
+    SOME,
+    /** Every value of the block is in the range */
+    ALL
+  }
+
+  private final int blockSize;
+
+  /** True if the values are floating point, whose minima and maxima are held as raw long bits */
+  private final boolean floatingPoint;
+
+  private final long[] mins;
+  private final long[] maxes;
+  private final int[] nullCounts;
+
+  /** The number of rows summarized */
+  private final int rowCount;
+
+  /**
+   * The blocks whose values have changed since they were summarized. These are only read when a new
+   * zone map is made, never by the filters reading the statistics
+   */
+  private final BitSet stale = new BitSet();
+
+  /** Creates an empty zone map with blocks of {@link #DEFAULT_BLOCK_SIZE} rows */
+  public ZoneMap() {
+    this(DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates an empty zone map with the given number of rows in each block
+   *
+   * @param blockSize The number of rows in each block, a positive multiple of 64
+   */
+  public ZoneMap(int blockSize) {
+    this(checkBlockSize(blockSize), 0, false, new long[0], new long[0], new int[0]);
+  }
+
+  private ZoneMap(
+      int blockSize,
+      int rowCount,
+      boolean floatingPoint,
+      long[] mins,
+      long[] maxes,
+      int[] nullCounts) {
+    this.blockSize = blockSize;
+    this.rowCount = rowCount;
+    this.floatingPoint = floatingPoint;
+    this.mins = mins;
+    this.maxes = maxes;
+    this.nullCounts = nullCounts;
+  }
+
+  private static int checkBlockSize(int blockSize) {
+    Preconditions.checkArgument(
+        blockSize > 0 && blockSize % Long.SIZE == 0,
+        "blockSize must be a positive multiple of 64: %s",
+        blockSize);
+    return blockSize;
+  }
+
+  /**
+   * Returns a zone map holding the given statistics, as written by an earlier zone map of the same
+   * column
+   *
+   * @param floatingPoint True if the minima and maxima are the raw long bits of doubles
+   */
+  public static ZoneMap of(
+      int blockSize,
+      int rowCount,
+      boolean floatingPoint,
+      long[] mins,
+      long[] maxes,
+      int[] nullCounts) {
+    int blockCount = (int) (((long) rowCount + checkBlockSize(blockSize) - 1) / blockSize);
+    Preconditions.checkArgument(
+        mins.length == blockCount && maxes.length == blockCount && nullCounts.length == blockCount,
+        "The statistics of %s rows must have %s blocks",
+        rowCount,
+        blockCount);
+    return new ZoneMap(
+        blockSize, rowCount, floatingPoint, mins.clone(), maxes.clone(), nullCounts.clone());
+  }
+
+  /** Returns the number of rows in each block */
+  public int blockSize() {
+    return blockSize;
+  }
+
+  /** Returns the number of blocks */
+  public int blockCount() {
+    return mins.length;
+  }
+
+  /** Returns the number of rows summarized */
+  public int rowCount() {
+    return rowCount;
+  }
+
+  /** Returns true if the values summarized are floating point */
+  public boolean isFloatingPoint() {
+    return floatingPoint;
+  }
+
+  /**
+   * Returns the smallest value of the given block that is not missing, as the raw long bits of a
+   * double if the values are floating point. A block of missing values has a minimum larger than
+   * its maximum
+   */
+  public long min(int block) {
+    return mins[block];
+  }
+
+  /** Returns the largest value of the given block that is not missing */
+  public long max(int block) {
+    return maxes[block];
+  }
+
+  /** Returns the number of missing values in the given block */
+  public int nullCount(int block) {
+    return nullCounts[block];
+  }
+
+  /**
+   * Returns true if this zone map summarizes the given number of rows, and no block has been marked
+   * stale since, so {@code update} would return it unchanged
+   */
+  public boolean isCurrent(int size) {
+    return size == rowCount && stale.isEmpty();
+  }
+
+  /**
+   * Marks the block holding the given row to be summarized again by the next {@code update}. The
+   * statistics of this zone map are unchanged
+   */
+  public void invalidate(int row) {
+    if (row < rowCount) {
+      stale.set(row / blockSize);
+    }
+  }
+
+  /**
+   * Marks every block to be summarized again by the next {@code update}. The statistics of this
+   * zone map are unchanged
+   */
+  public void invalidateAll() {
+    stale.set(0, blockCount());
+  }
+
+  /**
+   * Returns how the values of the given block relate to the integer range from {@code lo} to {@code
+   * hi} inclusive
+   *
+   * @param missingInRange True if the value marking a missing integer is itself in the range
+   */
+  public Overlap overlap(int block, long lo, long hi, boolean missingInRange) {
+    boolean allNull = mins[block] > maxes[block];
+    boolean noneIn = allNull || maxes[block] < lo || mins[block] > hi;
+    boolean allIn = allNull || (lo <= mins[block] && maxes[block] <= hi);
+    return overlap(block, noneIn, allIn, missingInRange);
+  }
+
+  /**
+   * Returns how the values of the given block relate to the floating point range from {@code lo} to
+   * {@code hi} inclusive. Missing values are never in the range
+   */
+  public Overlap overlap(int block, double lo, double hi) {
+    double min = Double.longBitsToDouble(mins[block]);
+    double max = Double.longBitsToDouble(maxes[block]);
+    boolean allNull = min > max;
+    boolean noneIn = allNull || max < lo || min > hi;
+    boolean allIn = allNull || (lo <= min && max <= hi);
+    return overlap(block, noneIn, allIn, false);
+  }
+
+  private Overlap overlap(int block, boolean noneIn, boolean allIn, boolean missingInRange) {
+    boolean hasNulls = nullCounts[block] > 0;
+    if (noneIn && (!hasNulls || !missingInRange)) {
+      return Overlap.NONE;
+    }
+    if (allIn && (!hasNulls || missingInRange)) {
+      return Overlap.ALL;
+    }
+    return Overlap.SOME;
+  }
+
+  /**
+   * Returns a zone map of the given integer values: this one, if it is current, or otherwise a new
+   * one, in which only the blocks holding new rows and the stale blocks are summarized
+   */
+  public ZoneMap update(IntList data, int missingValue) {
+    if (isCurrent(data.size())) {
+      return this;
+    }
+    ZoneMap next = resized(data.size(), false);
+    int[] block = new int[0];
+    for (int b = next.stale.nextSetBit(0); b >= 0; b = next.stale.nextSetBit(b + 1)) {
+      int from = b * blockSize;
+      int length = Math.min(blockSize, data.size() - from);
+      int[] values;
+      int offset;
+      if (data instanceof IntArrayList) {
+        values = ((IntArrayList) data).elements();
+        offset = from;
+      } else {
+        block = block.length < length ? new int[length] : block;
+        data.getElements(from, block, 0, length);
+        values = block;
+        offset = 0;
+      }
+      long min = Long.MAX_VALUE;
+      long max = Long.MIN_VALUE;
+      int nulls = 0;
+      for (int i = offset; i < offset + length; i++) {
+        int v = values[i];
+        if (v == missingValue) {
+          nulls++;
+        } else {
+          min = Math.min(min, v);
+          max = Math.max(max, v);
+        }
+      }
+      next.set(b, min, max, nulls);
+    }
+    next.stale.clear();
+    return next;
+  }
+
+  /** Returns a zone map of the given long values, like {@link #update(IntList, int)} */
+  public ZoneMap update(LongList data, long missingValue) {
+    if (isCurrent(data.size())) {
+      return this;
+    }
+    ZoneMap next = resized(data.size(), false);
+    long[] block = new long[0];
+    for (int b = next.stale.nextSetBit(0); b >= 0; b = next.stale.nextSetBit(b + 1)) {
+      int from = b * blockSize;
+      int length = Math.min(blockSize, data.size() - from);
+      long[] values;
+      int offset;
+      if (data instanceof LongArrayList) {
+        values = ((LongArrayList) data).elements();
+        offset = from;
+      } else {
+        block = block.length < length ? new long[length] : block;
+        data.getElements(from, block, 0, length);
+        values = block;
+        offset = 0;
+      }
+      long min = Long.MAX_VALUE;
+      long max = Long.MIN_VALUE;
+      int nulls = 0;
+      for (int i = offset; i < offset + length; i++) {
+        long v = values[i];
+        if (v == missingValue) {
+          nulls++;
+        } else {
+          min = Math.min(min, v);
+          max = Math.max(max, v);
+        }
+      }
+      next.set(b, min, max, nulls);
+    }
+    next.stale.clear();
+    return next;
+  }
+
+  /**
+   * Returns a zone map of the given double values, where NaN is missing, like {@link
+   * #update(IntList, int)}
+   */
+  public ZoneMap update(DoubleList data) {
+    if (isCurrent(data.size())) {
+      return this;
+    }
+    ZoneMap next = resized(data.size(), true);
+    double[] block = new double[0];
+    for (int b = next.stale.nextSetBit(0); b >= 0; b = next.stale.nextSetBit(b + 1)) {
+      int from = b * blockSize;
+      int length = Math.min(blockSize, data.size() - from);
+      double[] values;
+      int offset;
+      if (data instanceof DoubleArrayList) {
+        values = ((DoubleArrayList) data).elements();
+        offset = from;
+      } else {
+        block = block.length < length ? new double[length] : block;
+        data.getElements(from, block, 0, length);
+        values = block;
+        offset = 0;
+      }
+      double min = Double.POSITIVE_INFINITY;
+      double max = Double.NEGATIVE_INFINITY;
+      int nulls = 0;
+      for (int i = offset; i < offset + length; i++) {
+        double v = values[i];
+        if (Double.isNaN(v)) {
+          nulls++;
+        } else {
+          // Math.min and max order -0.0 before 0.0, which compare equal in a filter
+          min = v < min ? v : min;
+          max = v > max ? v : max;
+        }
+      }
+      next.set(b, Double.doubleToRawLongBits(min), Double.doubleToRawLongBits(max), nulls);
+    }
+    next.stale.clear();
+    return next;
+  }
+
+  /**
+   * Returns a copy of this zone map resized for the given number of rows, in which the blocks that
+   * must be summarized are marked stale. Every block is, if the rows were removed or their type has
+   * changed
+   */
+  private ZoneMap resized(int size, boolean floatingPoint) {
+    Preconditions.checkArgument(
+        this.floatingPoint == floatingPoint || rowCount == 0,
+        "The zone map does not summarize values of this type");
+    int blockCount = (size + blockSize - 1) / blockSize;
+    ZoneMap next =
+        new ZoneMap(
+            blockSize,
+            size,
+            floatingPoint,
+            Arrays.copyOf(mins, blockCount),
+            Arrays.copyOf(maxes, blockCount),
+            Arrays.copyOf(nullCounts, blockCount));
+    if (size < rowCount || this.floatingPoint != floatingPoint) {
+      next.stale.set(0, blockCount);
+    } else {
+      next.stale.or(stale);
+      next.stale.set(rowCount / blockSize, blockCount);
+    }
+    return next;
+  }
+
+  private void set(int block, long min, long max, int nulls) {
+    mins[block] = min;
+    maxes[block] = max;
+    nullCounts[block] = nulls;
+  }
+}
@@ -0,0 +1,21 @@
+package tech.tablesaw.columns;
+
+/**
+ * A column that can keep a {@link ZoneMap} of its values, which its range filters use to skip
+ * blocks of rows
+ */
+public interface ZoneMapped {
+
+  /**
+   * Returns a zone map summarizing the current values of this column, or null if it keeps none. The
+   * statistics of the zone map returned never change, so it can be read by several threads at once
+   */
+  ZoneMap zoneMap();
+
+  /**
+   * Makes this column keep the given zone map, or no zone map if it is null. The zone map must not
+   * be kept by another column. A new {@link ZoneMap} summarizes the column's values when it is
+   * first used
+   */
+  void setZoneMap(ZoneMap zoneMap);
+}
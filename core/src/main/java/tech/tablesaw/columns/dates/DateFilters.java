@@ -193,21 +193,33 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
     return eval(PackedLocalDate::isInYear, year);
   }
 
+  /**
+   * Returns the rows whose packed dates are in the given range. The value marking a missing date is
+   * compared like any other packed date, as it is by the other filters of this interface
+   *
+   * <p>Columns that keep a {@link tech.tablesaw.columns.ZoneMap} override this to skip the blocks
+   * of rows that are all in, or all out of, the range
+   */
+  default Selection isInPackedRange(int lo, boolean loInclusive, int hi, boolean hiInclusive) {
+    return eval(
+        (int value) ->
+            (loInclusive ? value >= lo : value > lo) && (hiInclusive ? value <= hi : value < hi));
+  }
+
   default Selection isAfter(int value) {
-    return eval(PackedLocalDate::isAfter, value);
+    return isInPackedRange(value, false, Integer.MAX_VALUE, true);
   }
 
   default Selection isAfter(LocalDate value) {
-    int packed = PackedLocalDate.pack(value);
-    return eval(PackedLocalDate::isAfter, packed);
+    return isAfter(PackedLocalDate.pack(value));
   }
 
   default Selection isBefore(int value) {
-    return eval(PackedLocalDate::isBefore, value);
+    return isInPackedRange(Integer.MIN_VALUE, true, value, false);
   }
 
   default Selection isBetweenExcluding(int lowValue, int highValue) {
-    return eval(PackedLocalDate::isAfter, lowValue).and(eval(PackedLocalDate::isBefore, highValue));
+    return isInPackedRange(lowValue, false, highValue, false);
   }
 
   default Selection isBetweenExcluding(LocalDate lowValue, LocalDate highValue) {
@@ -219,8 +231,7 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
   }
 
   default Selection isBetweenIncluding(int lowValue, int highValue) {
-    return eval(PackedLocalDate::isOnOrAfter, lowValue)
-        .and(eval(PackedLocalDate::isOnOrBefore, highValue));
+    return isInPackedRange(lowValue, true, highValue, true);
   }
 
   default Selection isBefore(LocalDate value) {
@@ -228,21 +239,19 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
   }
 
   default Selection isOnOrBefore(LocalDate value) {
-    int packed = PackedLocalDate.pack(value);
-    return eval(PackedLocalDate::isOnOrBefore, packed);
+    return isInPackedRange(Integer.MIN_VALUE, true, PackedLocalDate.pack(value), true);
   }
 
   default Selection isOnOrAfter(LocalDate value) {
-    int packed = PackedLocalDate.pack(value);
-    return eval(isGreaterThanOrEqualTo, packed);
+    return isInPackedRange(PackedLocalDate.pack(value), true, Integer.MAX_VALUE, true);
   }
 
   default Selection isEqualTo(LocalDate value) {
-    return eval(isEqualTo, PackedLocalDate.pack(value));
+    return isEqualTo(PackedLocalDate.pack(value));
   }
 
   default Selection isEqualTo(int packedDate) {
-    return eval(isEqualTo, packedDate);
+    return isInPackedRange(packedDate, true, packedDate, true);
   }
 
   default Selection isNotEqualTo(int packedDate) {
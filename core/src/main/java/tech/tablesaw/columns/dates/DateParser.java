@@ -84,6 +84,15 @@ public class DateParser extends AbstractColumnParser<LocalDate> {
     if (isMissing(s)) {
       return true;
     }
+    if (formatter == DEFAULT_FORMATTER || formatter == DateTimeFormatter.ISO_LOCAL_DATE) {
+      if (s.length() == 10
+          && PackedLocalDate.parseIsoDate(s, 0) != DateColumnType.missingValueIndicator()) {
+        return true;
+      }
+      if (!containsDigit(s)) {
+        return false;
+      }
+    }
     try {
       LocalDate.parse(s, formatter.withLocale(locale));
       return true;
@@ -108,4 +117,23 @@ public class DateParser extends AbstractColumnParser<LocalDate> {
     }
     return LocalDate.parse(s, formatter);
   }
+
+  /**
+   * Returns the given string parsed as a packed date. Dates in the ISO format yyyy-MM-dd are read
+   * directly from the characters when the formatter accepts that format, and all others are parsed
+   * with the formatter
+   */
+  public int parsePacked(String s) {
+    if (isMissing(s)) {
+      return DateColumnType.missingValueIndicator();
+    }
+    if (s.length() == 10
+        && (formatter == DEFAULT_FORMATTER || formatter == DateTimeFormatter.ISO_LOCAL_DATE)) {
+      int packed = PackedLocalDate.parseIsoDate(s, 0);
+      if (packed != DateColumnType.missingValueIndicator()) {
+        return packed;
+      }
+    }
+    return PackedLocalDate.pack(LocalDate.parse(s, formatter));
+  }
 }
@@ -112,6 +112,43 @@ public class PackedLocalDate {
     return Ints.fromBytes(byte1, byte2, (byte) m, (byte) d);
   }
 
+  /**
+   * Returns the packed date written in the ISO format yyyy-MM-dd at the given position in the
+   * string, without creating any intermediate objects. Returns the missing value indicator if the
+   * characters there are not a valid date in that format, so the caller can fall back to a general
+   * parser
+   */
+  public static int parseIsoDate(CharSequence s, int start) {
+    if (s.length() < start + 10 || s.charAt(start + 4) != '-' || s.charAt(start + 7) != '-') {
+      return DateColumnType.missingValueIndicator();
+    }
+    int year = digits(s, start, 4);
+    int month = digits(s, start + 5, 2);
+    int day = digits(s, start + 8, 2);
+    if (year < 1 || month < 1 || month > 12 || day < 1) {
+      return DateColumnType.missingValueIndicator();
+    }
+    if (day > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+      return DateColumnType.missingValueIndicator();
+    }
+    return pack(year, month, day);
+  }
+
+  /**
+   * Returns the value of the given number of decimal digits, or -1 if any of them is not a digit
+   */
+  private static int digits(CharSequence s, int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      int digit = s.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
   public static String toDateString(int date) {
     if (date == Integer.MIN_VALUE) {
       return "";
@@ -15,7 +15,7 @@ public interface DateTimeFilters
     extends TemporalFilters<LocalDateTime>, DateTimeFilterSpec<Selection> {
 
   default Selection isAfter(LocalDateTime value) {
-    return eval(isGreaterThan, PackedLocalDateTime.pack(value));
+    return isInPackedRange(PackedLocalDateTime.pack(value), false, Long.MAX_VALUE, true);
   }
 
   default Selection isAfter(LocalDate value) {
@@ -27,11 +27,11 @@ public interface DateTimeFilters
   }
 
   default Selection isOnOrAfter(LocalDateTime value) {
-    return eval(isGreaterThanOrEqualTo, PackedLocalDateTime.pack(value));
+    return isInPackedRange(PackedLocalDateTime.pack(value), true, Long.MAX_VALUE, true);
   }
 
   default Selection isBefore(LocalDateTime value) {
-    return eval(isLessThan, PackedLocalDateTime.pack(value));
+    return isInPackedRange(Long.MIN_VALUE, true, PackedLocalDateTime.pack(value), false);
   }
 
   default Selection isBefore(LocalDate value) {
@@ -43,7 +43,7 @@ public interface DateTimeFilters
   }
 
   default Selection isOnOrBefore(LocalDateTime value) {
-    return eval(isLessThanOrEqualTo, PackedLocalDateTime.pack(value));
+    return isInPackedRange(Long.MIN_VALUE, true, PackedLocalDateTime.pack(value), true);
   }
 
   default Selection isAfter(DateTimeColumn column) {
@@ -68,7 +68,7 @@ public interface DateTimeFilters
 
   default Selection isEqualTo(LocalDateTime value) {
     long packed = PackedLocalDateTime.pack(value);
-    return eval(isEqualTo, packed);
+    return isInPackedRange(packed, true, packed, true);
   }
 
   default Selection isNotEqualTo(LocalDateTime value) {
@@ -9,6 +9,9 @@ import java.time.format.DateTimeParseException;
 import java.util.Locale;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.dates.DateColumnType;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.times.PackedLocalTime;
 import tech.tablesaw.io.ReadOptions;
 
 public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
@@ -88,6 +91,15 @@ public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
     if (isMissing(s)) {
       return true;
     }
+    if (formatter == DEFAULT_FORMATTER || formatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME) {
+      if (parseIsoDateTime(s, formatter == DEFAULT_FORMATTER)
+          != DateTimeColumnType.missingValueIndicator()) {
+        return true;
+      }
+      if (!containsDigit(s)) {
+        return false;
+      }
+    }
     try {
       LocalDateTime.parse(s, formatter.withLocale(locale));
       return true;
@@ -105,4 +117,90 @@ public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
     String paddedValue = Strings.padStart(value, 4, '0');
     return LocalDateTime.parse(paddedValue, formatter);
   }
+
+  /**
+   * Returns the given string parsed as a packed date time. Date times in the ISO format, or in the
+   * default format yyyy-MM-dd HH:mm:ss, are read directly from the characters when the formatter
+   * accepts them, and all others are parsed with the formatter
+   */
+  public long parsePacked(String value) {
+    if (isMissing(value)) {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    if (formatter == DEFAULT_FORMATTER || formatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME) {
+      long packed = parseIsoDateTime(value, formatter == DEFAULT_FORMATTER);
+      if (packed != DateTimeColumnType.missingValueIndicator()) {
+        return packed;
+      }
+    }
+    return PackedLocalDateTime.pack(parse(value));
+  }
+
+  /**
+   * Returns the packed date time in the given string if it is written as yyyy-MM-ddTHH:mm[:ss[.n]],
+   * with one to nine fraction digits, or, when a space separator is allowed, as yyyy-MM-dd
+   * HH:mm:ss[.n], with one fraction digit. Returns the missing value indicator for any other string
+   */
+  private static long parseIsoDateTime(String s, boolean allowSpace) {
+    int length = s.length();
+    if (length < 16) {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    int date = PackedLocalDate.parseIsoDate(s, 0);
+    if (date == DateColumnType.missingValueIndicator()) {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    char separator = s.charAt(10);
+    boolean iso = separator == 'T';
+    if (!iso && !(allowSpace && separator == ' ')) {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    int hour = digits(s, 11);
+    int minute = digits(s, 14);
+    if (s.charAt(13) != ':' || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    int second = 0;
+    int millis = 0;
+    if (length > 16) {
+      if (length < 19 || s.charAt(16) != ':') {
+        return DateTimeColumnType.missingValueIndicator();
+      }
+      second = digits(s, 17);
+      if (second < 0 || second > 59) {
+        return DateTimeColumnType.missingValueIndicator();
+      }
+      if (length > 19) {
+        int fractionDigits = length - 20;
+        if (s.charAt(19) != '.' || fractionDigits < 1 || fractionDigits > (iso ? 9 : 1)) {
+          return DateTimeColumnType.missingValueIndicator();
+        }
+        for (int i = 20; i < 23; i++) {
+          int digit = i < length ? s.charAt(i) - '0' : 0;
+          if (digit < 0 || digit > 9) {
+            return DateTimeColumnType.missingValueIndicator();
+          }
+          millis = millis * 10 + digit;
+        }
+        for (int i = 23; i < length; i++) {
+          if (s.charAt(i) < '0' || s.charAt(i) > '9') {
+            return DateTimeColumnType.missingValueIndicator();
+          }
+        }
+      }
+    } else if (!iso) {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    return PackedLocalDateTime.create(date, PackedLocalTime.of(hour, minute, second, millis));
+  }
+
+  /** Returns the value of the two decimal digits at the given position, or -1 if they are not */
+  private static int digits(String s, int start) {
+    char tens = s.charAt(start);
+    char units = s.charAt(start + 1);
+    if (tens < '0' || tens > '9' || units < '0' || units > '9') {
+      return -1;
+    }
+    return (tens - '0') * 10 + (units - '0');
+  }
 }
@@ -89,7 +89,12 @@ public class PackedLocalDateTime extends PackedInstant {
     }
     int d = PackedLocalDate.pack(date);
     int t = PackedLocalTime.pack(time);
-    return (((long) d) << 32) | (t & 0xffffffffL);
+    return create(d, t);
+  }
+
+  /** Returns the packed date time made of the given packed date and packed time */
+  public static long create(int packedDate, int packedTime) {
+    return (((long) packedDate) << 32) | (packedTime & 0xffffffffL);
   }
 
   public static long pack(LocalDateTime dateTime) {
@@ -26,6 +26,12 @@ public class DoubleParser extends AbstractColumnParser<Double> {
     if (isMissing(s)) {
       return true;
     }
+    if (!Double.isNaN(FastNumbers.parseDouble(s))) {
+      return true;
+    }
+    if (!FastNumbers.mayBeDouble(s)) {
+      return false;
+    }
     try {
       if (isPercent(AbstractColumnParser.remove(s, ','))) {
         s = AbstractColumnParser.remove(s, ',');
@@ -50,6 +56,10 @@ public class DoubleParser extends AbstractColumnParser<Double> {
     if (isMissing(s)) {
       return DoubleColumnType.missingValueIndicator();
     }
+    double value = FastNumbers.parseDouble(s);
+    if (!Double.isNaN(value)) {
+      return value;
+    }
     if (isPercent(AbstractColumnParser.remove(s, ','))) {
       s = AbstractColumnParser.remove(s, ',').substring(0, s.length() - 1);
       return Double.parseDouble(s) / 100.0;
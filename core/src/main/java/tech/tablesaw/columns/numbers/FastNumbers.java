@@ -0,0 +1,269 @@
+package tech.tablesaw.columns.numbers;
+
+import com.google.common.base.CharMatcher;
+import tech.tablesaw.util.StringUtils;
+
+/**
+ * Scanners that parse numbers in their common forms straight from the characters of a cell, without
+ * the intermediate strings of removing grouping commas and zero decimals first. Anything in a less
+ * common form is left to the JDK parsers, so the results are always those of parsing the cleaned up
+ * string with {@link Long#parseLong(String)} or {@link Double#parseDouble(String)}.
+ */
+final class FastNumbers {
+
+  private static final CharMatcher COMMA = CharMatcher.is(',');
+
+  /** The powers of ten that are exactly representable as doubles */
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  /**
+   * Significant digits whose value is always below 2^53, and so exactly representable as a double
+   */
+  private static final int MAX_EXACT_DIGITS = 15;
+
+  /** Exponents larger than this are left to the JDK, which handles their overflow */
+  private static final int MAX_EXPONENT = 1000;
+
+  private FastNumbers() {}
+
+  /**
+   * Returns the long in the given string, ignoring grouping commas and, if requested, a decimal
+   * point followed only by zeros
+   *
+   * @throws NumberFormatException if the string does not hold a long
+   */
+  static long parseLong(String s, boolean ignoreZeroDecimal) {
+    int end = ignoreZeroDecimal ? endWithoutZeroDecimal(s) : s.length();
+    int i = 0;
+    boolean negative = false;
+    if (end > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+      negative = s.charAt(0) == '-';
+      i = 1;
+    }
+    // accumulate negatively, as Long.parseLong does, since the range of negative longs is larger
+    long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long multiplyLimit = limit / 10;
+    long result = 0;
+    boolean hasDigits = false;
+    for (; i < end; i++) {
+      char c = s.charAt(i);
+      if (c == ',') {
+        continue;
+      }
+      int digit = c - '0';
+      if (digit < 0 || digit > 9 || result < multiplyLimit) {
+        return parseLongSlowly(s, ignoreZeroDecimal);
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        return parseLongSlowly(s, ignoreZeroDecimal);
+      }
+      result -= digit;
+      hasDigits = true;
+    }
+    if (!hasDigits) {
+      return parseLongSlowly(s, ignoreZeroDecimal);
+    }
+    return negative ? result : -result;
+  }
+
+  /**
+   * Returns the int in the given string, ignoring grouping commas and, if requested, a decimal
+   * point followed only by zeros
+   *
+   * @throws NumberFormatException if the string does not hold an int
+   */
+  static int parseInt(String s, boolean ignoreZeroDecimal) {
+    long value = parseLong(s, ignoreZeroDecimal);
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      // reports the error as Integer.parseInt would
+      return Integer.parseInt(clean(s, ignoreZeroDecimal));
+    }
+    return (int) value;
+  }
+
+  /**
+   * Returns true if the given string holds a long within the given range, ignoring grouping commas
+   * and, if requested, a decimal point followed only by zeros. This is exactly when {@link
+   * #parseLong(String, boolean)} would return a value in that range, but is decided without
+   * throwing an exception
+   */
+  static boolean isLong(String s, boolean ignoreZeroDecimal, long min, long max) {
+    int end = ignoreZeroDecimal ? endWithoutZeroDecimal(s) : s.length();
+    boolean first = true;
+    boolean negative = false;
+    boolean hasDigits = false;
+    long limit = -Long.MAX_VALUE;
+    long result = 0;
+    for (int i = 0; i < end; i++) {
+      char c = s.charAt(i);
+      if (c == ',') {
+        continue;
+      }
+      if (first && (c == '-' || c == '+')) {
+        first = false;
+        if (c == '-') {
+          negative = true;
+          limit = Long.MIN_VALUE;
+        }
+        continue;
+      }
+      first = false;
+      // Long.parseLong accepts any Unicode decimal digit
+      int digit = Character.digit(c, 10);
+      if (digit < 0 || result < limit / 10) {
+        return false;
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        return false;
+      }
+      result -= digit;
+      hasDigits = true;
+    }
+    if (!hasDigits) {
+      return false;
+    }
+    long value = negative ? result : -result;
+    return value >= min && value <= max;
+  }
+
+  /**
+   * Returns false if the given string cannot be parsed by {@link Double#parseDouble(String)}, which
+   * needs at least one digit, unless the value is NaN or infinite. A true result means only that
+   * the string may be parsable
+   */
+  static boolean mayBeDouble(String s) {
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c >= '0' && c <= '9') {
+        return true;
+      }
+    }
+    return s.contains("NaN") || s.contains("Infinity");
+  }
+
+  private static long parseLongSlowly(String s, boolean ignoreZeroDecimal) {
+    return Long.parseLong(clean(s, ignoreZeroDecimal));
+  }
+
+  private static String clean(String s, boolean ignoreZeroDecimal) {
+    String value = ignoreZeroDecimal ? StringUtils.removeZeroDecimal(s) : s;
+    return COMMA.removeFrom(value);
+  }
+
+  /** Returns the length of the string without a trailing decimal point followed only by zeros */
+  private static int endWithoutZeroDecimal(String s) {
+    int end = s.length();
+    int i = end;
+    while (i > 0 && s.charAt(i - 1) == '0') {
+      i--;
+    }
+    if (i < end && i > 0 && s.charAt(i - 1) == '.') {
+      return i - 1;
+    }
+    return end;
+  }
+
+  /**
+   * Returns the double in the given string, ignoring grouping commas, if it is written as plain
+   * decimal digits with an optional sign, decimal point and exponent, and has few enough
+   * significant digits to be converted exactly. Returns NaN for any other string, which is left to
+   * the caller to parse
+   */
+  static double parseDouble(String s) {
+    int length = s.length();
+    if (length == 0) {
+      return Double.NaN;
+    }
+    int i = 0;
+    boolean negative = false;
+    if (s.charAt(0) == '-' || s.charAt(0) == '+') {
+      negative = s.charAt(0) == '-';
+      i = 1;
+    }
+    long mantissa = 0;
+    int significantDigits = 0;
+    int exponent = 0;
+    boolean hasDigits = false;
+    boolean afterPoint = false;
+    for (; i < length; i++) {
+      char c = s.charAt(i);
+      if (c >= '0' && c <= '9') {
+        hasDigits = true;
+        if (afterPoint) {
+          exponent--;
+        }
+        if (mantissa == 0 && c == '0') {
+          continue;
+        }
+        if (++significantDigits > MAX_EXACT_DIGITS) {
+          return Double.NaN;
+        }
+        mantissa = mantissa * 10 + (c - '0');
+      } else if (c == '.' && !afterPoint) {
+        afterPoint = true;
+      } else if (c == ',') {
+        continue;
+      } else if ((c == 'e' || c == 'E') && hasDigits) {
+        int explicitExponent = parseExponent(s, i + 1);
+        if (explicitExponent == Integer.MIN_VALUE) {
+          return Double.NaN;
+        }
+        exponent += explicitExponent;
+        break;
+      } else {
+        return Double.NaN;
+      }
+    }
+    if (!hasDigits) {
+      return Double.NaN;
+    }
+    double value;
+    if (mantissa == 0) {
+      value = 0.0;
+    } else if (exponent == 0) {
+      value = mantissa;
+    } else if (exponent > 0 && exponent < POWERS_OF_TEN.length) {
+      // a single correctly rounded operation on exact values is itself correctly rounded
+      value = mantissa * POWERS_OF_TEN[exponent];
+    } else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+      value = mantissa / POWERS_OF_TEN[-exponent];
+    } else {
+      return Double.NaN;
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Returns the exponent that runs from the given index to the end of the string, or
+   * Integer.MIN_VALUE if there is no such exponent
+   */
+  private static int parseExponent(String s, int start) {
+    int length = s.length();
+    int i = start;
+    boolean negative = false;
+    if (i < length && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+      negative = s.charAt(i) == '-';
+      i++;
+    }
+    if (i == length) {
+      return Integer.MIN_VALUE;
+    }
+    int exponent = 0;
+    for (; i < length; i++) {
+      char c = s.charAt(i);
+      if (c < '0' || c > '9') {
+        return Integer.MIN_VALUE;
+      }
+      exponent = exponent * 10 + (c - '0');
+      if (exponent > MAX_EXPONENT) {
+        return Integer.MIN_VALUE;
+      }
+    }
+    return negative ? -exponent : exponent;
+  }
+}
@@ -23,6 +23,12 @@ public class FloatParser extends AbstractColumnParser<Float> {
     if (isMissing(s)) {
       return true;
     }
+    if (!Double.isNaN(FastNumbers.parseDouble(s))) {
+      return true;
+    }
+    if (!FastNumbers.mayBeDouble(s)) {
+      return false;
+    }
     try {
       Float.parseFloat(AbstractColumnParser.remove(s, ','));
       return true;
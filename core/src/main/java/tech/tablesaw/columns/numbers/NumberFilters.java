@@ -14,11 +14,6 @@
 
 package tech.tablesaw.columns.numbers;
 
-import static tech.tablesaw.columns.numbers.NumberPredicates.isNegative;
-import static tech.tablesaw.columns.numbers.NumberPredicates.isNonNegative;
-import static tech.tablesaw.columns.numbers.NumberPredicates.isPositive;
-import static tech.tablesaw.columns.numbers.NumberPredicates.isZero;
-
 import java.util.Collection;
 import java.util.function.BiPredicate;
 import java.util.function.DoublePredicate;
@@ -33,36 +28,53 @@ public interface NumberFilters extends NumberFilterSpec<Selection> {
 
   Selection eval(BiPredicate<Number, Number> predicate, Number value);
 
+  /**
+   * Returns the rows whose values are in the given range. Missing values are never in the range.
+   * Every comparison with a constant is evaluated as a range, so columns backed by primitive values
+   * override this with a scan specialized for their type, from {@link RangeScans}
+   *
+   * @param lo The lower bound, which may be negative infinity
+   * @param loInclusive True if a value equal to the lower bound is in the range
+   * @param hi The upper bound, which may be positive infinity
+   * @param hiInclusive True if a value equal to the upper bound is in the range
+   */
+  default Selection isBetween(double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    return eval(
+        value ->
+            (loInclusive ? value >= lo : value > lo) && (hiInclusive ? value <= hi : value < hi));
+  }
+
   default Selection isEqualTo(double d) {
-    return eval(NumberPredicates.isEqualTo(d));
+    return isBetween(d, true, d, true);
   }
 
+  /** Returns the rows whose values are not equal to the given value, including missing values */
   default Selection isNotEqualTo(double d) {
-    return eval(NumberPredicates.isNotEqualTo(d));
+    return RangeScans.complement(isEqualTo(d), size());
   }
 
   default Selection isBetweenExclusive(double start, double end) {
-    return eval(NumberPredicates.isBetweenExclusive(start, end));
+    return isBetween(start, false, end, false);
   }
 
   default Selection isBetweenInclusive(double start, double end) {
-    return eval(NumberPredicates.isBetweenInclusive(start, end));
+    return isBetween(start, true, end, true);
   }
 
   default Selection isGreaterThan(double f) {
-    return eval(NumberPredicates.isGreaterThan(f));
+    return isBetween(f, false, Double.POSITIVE_INFINITY, true);
   }
 
   default Selection isGreaterThanOrEqualTo(double f) {
-    return eval(NumberPredicates.isGreaterThanOrEqualTo(f));
+    return isBetween(f, true, Double.POSITIVE_INFINITY, true);
   }
 
   default Selection isLessThan(double f) {
-    return eval(NumberPredicates.isLessThan(f));
+    return isBetween(Double.NEGATIVE_INFINITY, true, f, false);
   }
 
   default Selection isLessThanOrEqualTo(double f) {
-    return eval(NumberPredicates.isLessThanOrEqualTo(f));
+    return isBetween(Double.NEGATIVE_INFINITY, true, f, true);
   }
 
   Selection isIn(Collection<Number> numbers);
@@ -70,19 +82,19 @@ public interface NumberFilters extends NumberFilterSpec<Selection> {
   Selection isNotIn(Collection<Number> numbers);
 
   default Selection isZero() {
-    return eval(isZero);
+    return isEqualTo(0);
   }
 
   default Selection isPositive() {
-    return eval(isPositive);
+    return isGreaterThan(0);
   }
 
   default Selection isNegative() {
-    return eval(isNegative);
+    return isLessThan(0);
   }
 
   default Selection isNonNegative() {
-    return eval(isNonNegative);
+    return isGreaterThanOrEqualTo(0);
   }
 
   // TODO(lwhite): see section in Effective Java on double point comparisons.
@@ -1,23 +1,64 @@
 package tech.tablesaw.columns.numbers;
 
+import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.aggregate.AggregateFunctions;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.table.RollingColumn;
 
-/** Does a calculation on a rolling basis (e.g. mean for last 20 days) */
+/**
+ * Does a calculation on a rolling basis (e.g. mean for last 20 days)
+ *
+ * <p>The sums, means, extremes, counts, variances and medians slide their state along the column,
+ * reading its values in place, and take time proportional to the length of the column whatever the
+ * size of the window. The other functions are recomputed for each position of the window, as by
+ * {@link RollingColumn#calc}.
+ */
 public class NumberRollingColumn extends RollingColumn {
 
+  private final NumericColumn<?> numbers;
+
   public NumberRollingColumn(NumericColumn<?> column, int window) {
     super(column, window);
+    this.numbers = column;
+  }
+
+  /**
+   * Returns a column with the result of the given aggregate for each position of the window, named
+   * for the given function it computes
+   */
+  private DoubleColumn slide(AggregateFunction<?, ?> function, SlidingAggregate aggregate) {
+    if (window < 1) {
+      return (DoubleColumn) calc(function);
+    }
+    DoubleColumn result = DoubleColumn.create(generateNewColumnName(function));
+    for (int i = 0; i < window - 1; i++) {
+      result.appendMissing();
+    }
+    for (int row = 0; row < numbers.size(); row++) {
+      if (row >= window) {
+        aggregate.remove(numbers.getDouble(row - window));
+      }
+      aggregate.add(numbers.getDouble(row));
+      if (aggregate.accumulatesRoundingError() && row >= window && (row + 1) % window == 0) {
+        aggregate.clear();
+        for (int windowRow = row - window + 1; windowRow <= row; windowRow++) {
+          aggregate.add(numbers.getDouble(windowRow));
+        }
+      }
+      if (row >= window - 1) {
+        result.append(aggregate.result());
+      }
+    }
+    return result;
   }
 
   public DoubleColumn mean() {
-    return (DoubleColumn) calc(AggregateFunctions.mean);
+    return slide(AggregateFunctions.mean, new SlidingAggregate.Sum(true));
   }
 
   public DoubleColumn median() {
-    return (DoubleColumn) calc(AggregateFunctions.median);
+    return slide(AggregateFunctions.median, new SlidingAggregate.Median(numbers));
   }
 
   public DoubleColumn geometricMean() {
@@ -25,31 +66,31 @@ public class NumberRollingColumn extends RollingColumn {
   }
 
   public DoubleColumn sum() {
-    return (DoubleColumn) calc(AggregateFunctions.sum);
+    return slide(AggregateFunctions.sum, new SlidingAggregate.Sum(false));
   }
 
   public DoubleColumn min() {
-    return (DoubleColumn) calc(AggregateFunctions.min);
+    return slide(AggregateFunctions.min, new SlidingAggregate.Extreme(false));
   }
 
   public DoubleColumn max() {
-    return (DoubleColumn) calc(AggregateFunctions.max);
+    return slide(AggregateFunctions.max, new SlidingAggregate.Extreme(true));
   }
 
   public DoubleColumn countMissing() {
-    return (DoubleColumn) calc(AggregateFunctions.countMissing);
+    return slide(AggregateFunctions.countMissing, new SlidingAggregate.Count(true));
   }
 
   public DoubleColumn countNonMissing() {
-    return (DoubleColumn) calc(AggregateFunctions.countNonMissing);
+    return slide(AggregateFunctions.countNonMissing, new SlidingAggregate.Count(false));
   }
 
   public DoubleColumn stdDev() {
-    return (DoubleColumn) calc(AggregateFunctions.stdDev);
+    return slide(AggregateFunctions.stdDev, new SlidingAggregate.Variance(true));
   }
 
   public DoubleColumn variance() {
-    return (DoubleColumn) calc(AggregateFunctions.variance);
+    return slide(AggregateFunctions.variance, new SlidingAggregate.Variance(false));
   }
 
   public DoubleColumn skewness() {
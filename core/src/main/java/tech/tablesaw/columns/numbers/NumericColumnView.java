@@ -0,0 +1,401 @@
+package tech.tablesaw.columns.numbers;
+
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.text.NumberFormat;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * A read-only view of some of the rows of a numeric column, in a given order. Reads are forwarded
+ * to the source column through the row numbers of the view, so no values are copied, and a view
+ * of a few rows of a large column is as cheap to make as its array of row numbers.
+ *
+ * <p>Methods that return a new column, like {@link #where(Selection)} or {@link #unique()}, copy
+ * only the rows of the view. Methods that would modify the column throw an {@link
+ * UnsupportedOperationException}. A view is only good until the source column changes.
+ *
+ * @param <T> The type of the values in the source column
+ */
+public final class NumericColumnView<T extends Number> implements NumericColumn<T> {
+
+  private final NumericColumn<T> source;
+
+  /** The row number in the source column of each row of the view */
+  private final int[] rows;
+
+  private String name;
+
+  private NumericColumnView(NumericColumn<T> source, int[] rows) {
+    this.source = source;
+    this.rows = rows;
+    this.name = source.name();
+  }
+
+  /**
+   * Returns a view of the given rows of the source column
+   *
+   * @param source The column to read
+   * @param rows The row numbers in the source column, in the order they appear in the view. The
+   *     array is not copied, and must not be changed while the view is in use
+   */
+  public static <T extends Number> NumericColumnView<T> of(NumericColumn<T> source, int[] rows) {
+    return new NumericColumnView<>(source, rows);
+  }
+
+  /** Returns the column this view reads from */
+  public NumericColumn<T> source() {
+    return source;
+  }
+
+  /** Returns the row number in the source column of the given row of this view */
+  public int sourceRowNumber(int row) {
+    return rows[row];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return rows.length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return rows.length == 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double getDouble(int index) {
+    return source.getDouble(rows[index]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public T get(int row) {
+    return source.get(rows[row]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isMissing(int rowNumber) {
+    return source.isMissing(rows[rowNumber]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int countMissing() {
+    int count = 0;
+    for (int row : rows) {
+      if (source.isMissing(row)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double[] asDoubleArray() {
+    double[] values = new double[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = source.getDouble(rows[i]);
+    }
+    return values;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getString(int row) {
+    return source.getString(rows[row]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getUnformattedString(int r) {
+    return source.getUnformattedString(rows[r]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String name() {
+    return name;
+  }
+
+  /** Sets the name of this view, leaving the name of the source column unchanged */
+  @Override
+  public NumericColumnView<T> setName(String name) {
+    this.name = name;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ColumnType type() {
+    return source.type();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public AbstractColumnParser<T> parser() {
+    return source.parser();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntComparator rowComparator() {
+    IntComparator comparator = source.rowComparator();
+    return (r1, r2) -> comparator.compare(rows[r1], rows[r2]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int compare(T o1, T o2) {
+    return source.compare(o1, o2);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int byteSize() {
+    return source.byteSize();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public byte[] asBytes(int rowNumber) {
+    return source.asBytes(rows[rowNumber]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int valueHash(int rowNumber) {
+    return source.valueHash(rows[rowNumber]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(int rowNumber1, int rowNumber2) {
+    return source.equals(rows[rowNumber1], rows[rowNumber2]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<T> asSet() {
+    Set<T> set = new HashSet<>();
+    for (int row : rows) {
+      set.add(source.get(row));
+    }
+    return set;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int indexOf(Object o) {
+    for (int i = 0; i < rows.length; i++) {
+      if (source.get(rows[i]).equals(o)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<T>() {
+
+      private int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return next < rows.length;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return source.get(rows[next++]);
+      }
+    };
+  }
+
+  /** Returns a new column holding the given rows of this view */
+  @Override
+  @SuppressWarnings("unchecked")
+  public NumericColumn<T> subset(int[] rows) {
+    int[] sourceRows = new int[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      sourceRows[i] = this.rows[rows[i]];
+    }
+    NumericColumn<T> copy = (NumericColumn<T>) source.subset(sourceRows);
+    copy.setName(name);
+    return copy;
+  }
+
+  /** Returns a new column holding the rows of this view */
+  @Override
+  public NumericColumn<T> copy() {
+    return subset(identity());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public NumericColumn<T> removeMissing() {
+    return where(isNotMissing());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings("unchecked")
+  public NumericColumn<T> unique() {
+    return (NumericColumn<T>) copy().unique();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public NumericColumn<T> lag(int n) {
+    return copy().lag(n);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public T[] asObjectArray() {
+    return copy().asObjectArray();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public StringColumn asStringColumn() {
+    return copy().asStringColumn();
+  }
+
+  /** Returns an empty column of the type of the source column */
+  @Override
+  public Column<T> emptyCopy() {
+    return source.emptyCopy().setName(name);
+  }
+
+  /** Returns a column of the type of the source column, with the given number of missing values */
+  @Override
+  public Column<T> emptyCopy(int rowSize) {
+    return source.emptyCopy(rowSize).setName(name);
+  }
+
+  private int[] identity() {
+    int[] identity = new int[rows.length];
+    for (int i = 0; i < identity.length; i++) {
+      identity[i] = i;
+    }
+    return identity;
+  }
+
+  private static UnsupportedOperationException readOnly() {
+    return new UnsupportedOperationException("A column view cannot be modified");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void sortAscending() {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void sortDescending() {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> setMissing(int i) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> appendCell(String stringValue) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> appendCell(String stringValue, AbstractColumnParser<?> parser) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> set(int row, T value) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> set(int row, Column<T> sourceColumn, int sourceRow) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> append(T value) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> append(Column<T> column) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> append(Column<T> column, int row) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> appendObj(Object value) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> appendMissing() {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Column<T> setParser(AbstractColumnParser<T> parser) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setPrintFormatter(NumberFormat format, String missingValueIndicator) {
+    throw readOnly();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setPrintFormatter(NumberColumnFormatter formatter) {
+    throw readOnly();
+  }
+}
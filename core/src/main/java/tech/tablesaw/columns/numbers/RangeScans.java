@@ -0,0 +1,535 @@
+package tech.tablesaw.columns.numbers;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.floats.FloatList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import org.roaringbitmap.BitSetUtil;
+import org.roaringbitmap.RoaringBitmap;
+import tech.tablesaw.columns.ZoneMap;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * Scans the values of a numeric column for those in a range, which is how every comparison with a
+ * constant is evaluated: {@code x > c} is the range {@code (c, +inf]}, {@code x == c} is {@code [c,
+ * c]}, and so on.
+ *
+ * <p>There is a scan for each primitive type, which compares the values in their own type, rather
+ * than widening each one to a double and calling a predicate. The values are read directly from the
+ * array behind the column where there is one, and a chunk at a time otherwise. The matches for each
+ * 64 rows are collected in a word, without branches, and the words are turned into a bitmap at the
+ * end, rather than adding each row to the bitmap in turn. Loops of this form are simple enough for
+ * the JIT to unroll and vectorize.
+ *
+ * <p>Missing values are never in a range, just as a comparison with NaN is always false.
+ *
+ * <p>Within {@link #scanInParallel(ForkJoinPool, Supplier)}, each scan is split into ranges of rows
+ * that are scanned concurrently, in place, and the rows found in each range are combined at the
+ * end.
+ */
+public final class RangeScans {
+
+  /**
+   * The number of rows copied at a time from a column that is not backed by an array, and the
+   * smallest number of rows scanned by one task of a parallel scan: the span of a container in a
+   * {@link RoaringBitmap}
+   */
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  /** The number of ranges scanned per thread, so that threads finishing early can take another */
+  private static final int RANGES_PER_THREAD = 4;
+
+  /** The pool on which the scans made by the current thread are split, or null if they are not */
+  private static final ThreadLocal<ForkJoinPool> SCAN_POOL = new ThreadLocal<>();
+
+  private RangeScans() {}
+
+  /**
+   * Returns the result of the given task, during which every scan made by the current thread is
+   * split into ranges of rows scanned concurrently on the given pool. Each range is scanned in the
+   * column itself, so no values are copied, and with the zone map of the column, if it has one
+   *
+   * @param pool The pool to scan on. The task itself runs on the current thread
+   * @param task The task, typically the evaluation of a filter
+   */
+  public static <T> T scanInParallel(ForkJoinPool pool, Supplier<T> task) {
+    ForkJoinPool outer = SCAN_POOL.get();
+    SCAN_POOL.set(pool);
+    try {
+      return task.get();
+    } finally {
+      if (outer == null) {
+        SCAN_POOL.remove();
+      } else {
+        SCAN_POOL.set(outer);
+      }
+    }
+  }
+
+  /**
+   * Returns the rows whose values are in the given range
+   *
+   * @param lo The lower bound, which may be negative infinity
+   * @param loInclusive True if a value equal to the lower bound is in the range
+   * @param hi The upper bound, which may be positive infinity
+   * @param hiInclusive True if a value equal to the upper bound is in the range
+   */
+  public static Selection inRange(
+      IntList data, double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    return inRange(data, lo, loInclusive, hi, hiInclusive, null);
+  }
+
+  /**
+   * Returns the rows whose values are in the given range, scanning only the blocks of rows that the
+   * given zone map, if it is not null, cannot decide
+   */
+  public static Selection inRange(
+      IntList data, double lo, boolean loInclusive, double hi, boolean hiInclusive, ZoneMap zones) {
+    long[] bounds =
+        integerBounds(
+            lo,
+            loInclusive,
+            hi,
+            hiInclusive,
+            IntColumnType.missingValueIndicator() + 1L,
+            Integer.MAX_VALUE);
+    if (bounds == null) {
+      return new BitmapBackedSelection();
+    }
+    return between(
+        data, (int) bounds[0], (int) bounds[1], IntColumnType.missingValueIndicator(), zones);
+  }
+
+  /**
+   * Returns the rows whose values are from min to max inclusive. The value marking a missing value
+   * is compared like any other, so that packed dates and times can be filtered as they always have
+   * been
+   *
+   * @param missingValue The value marking a missing value, used to interpret the zone map
+   * @param zones The zone map of the values, or null to scan every row
+   */
+  public static Selection between(IntList data, int min, int max, int missingValue, ZoneMap zones) {
+    if (min > max) {
+      return new BitmapBackedSelection();
+    }
+    boolean missingInRange = min <= missingValue && missingValue <= max;
+    return scanBlocks(
+        data.size(),
+        zones,
+        block -> zones.overlap(block, min, max, missingInRange),
+        (from, to, words) -> scanRows(data, from, to, min, max, words));
+  }
+
+  /** Returns the rows whose values are in the given range */
+  public static Selection inRange(
+      ShortList data, double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    long[] bounds =
+        integerBounds(
+            lo,
+            loInclusive,
+            hi,
+            hiInclusive,
+            ShortColumnType.missingValueIndicator() + 1L,
+            Short.MAX_VALUE);
+    if (bounds == null) {
+      return new BitmapBackedSelection();
+    }
+    short min = (short) bounds[0];
+    short max = (short) bounds[1];
+    return scanBlocks(
+        data.size(), null, null, (from, to, words) -> scanRows(data, from, to, min, max, words));
+  }
+
+  /**
+   * Returns the rows whose values are in the given range. The values are compared as longs, so
+   * values too large to be represented exactly as doubles are compared exactly
+   */
+  public static Selection inRange(
+      LongList data, double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    return inRange(data, lo, loInclusive, hi, hiInclusive, null);
+  }
+
+  /**
+   * Returns the rows whose values are in the given range, scanning only the blocks of rows that the
+   * given zone map, if it is not null, cannot decide
+   */
+  public static Selection inRange(
+      LongList data,
+      double lo,
+      boolean loInclusive,
+      double hi,
+      boolean hiInclusive,
+      ZoneMap zones) {
+    long[] bounds =
+        integerBounds(
+            lo,
+            loInclusive,
+            hi,
+            hiInclusive,
+            LongColumnType.missingValueIndicator() + 1L,
+            Long.MAX_VALUE);
+    if (bounds == null) {
+      return new BitmapBackedSelection();
+    }
+    return between(data, bounds[0], bounds[1], LongColumnType.missingValueIndicator(), zones);
+  }
+
+  /**
+   * Returns the rows whose values are from min to max inclusive. The value marking a missing value
+   * is compared like any other
+   *
+   * @param missingValue The value marking a missing value, used to interpret the zone map
+   * @param zones The zone map of the values, or null to scan every row
+   */
+  public static Selection between(
+      LongList data, long min, long max, long missingValue, ZoneMap zones) {
+    if (min > max) {
+      return new BitmapBackedSelection();
+    }
+    boolean missingInRange = min <= missingValue && missingValue <= max;
+    return scanBlocks(
+        data.size(),
+        zones,
+        block -> zones.overlap(block, min, max, missingInRange),
+        (from, to, words) -> scanRows(data, from, to, min, max, words));
+  }
+
+  /** Returns the rows whose values are in the given range */
+  public static Selection inRange(
+      DoubleList data, double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    return inRange(data, lo, loInclusive, hi, hiInclusive, null);
+  }
+
+  /**
+   * Returns the rows whose values are in the given range, scanning only the blocks of rows that the
+   * given zone map, if it is not null, cannot decide
+   */
+  public static Selection inRange(
+      DoubleList data,
+      double lo,
+      boolean loInclusive,
+      double hi,
+      boolean hiInclusive,
+      ZoneMap zones) {
+    double[] bounds = floatingPointBounds(lo, loInclusive, hi, hiInclusive);
+    if (bounds == null) {
+      return new BitmapBackedSelection();
+    }
+    double min = bounds[0];
+    double max = bounds[1];
+    return scanBlocks(
+        data.size(),
+        zones,
+        block -> zones.overlap(block, min, max),
+        (from, to, words) -> scanRows(data, from, to, min, max, words));
+  }
+
+  /**
+   * Returns the rows whose values are in the given range. Each value is widened to a double before
+   * it is compared, so the bounds are not rounded to floats
+   */
+  public static Selection inRange(
+      FloatList data, double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    double[] bounds = floatingPointBounds(lo, loInclusive, hi, hiInclusive);
+    if (bounds == null) {
+      return new BitmapBackedSelection();
+    }
+    double min = bounds[0];
+    double max = bounds[1];
+    return scanBlocks(
+        data.size(), null, null, (from, to, words) -> scanRows(data, from, to, min, max, words));
+  }
+
+  /** Scans the rows from {@code from} to {@code to} into words starting at row {@code from} */
+  private interface RowScan {
+    void scan(int from, int to, long[] words);
+  }
+
+  /**
+   * Returns the rows selected by scanning every row, if there is no zone map, or otherwise by
+   * scanning only the blocks that the zone map finds may hold some of the rows selected. Within
+   * {@link #scanInParallel(ForkJoinPool, Supplier)}, ranges of rows are scanned concurrently
+   */
+  private static Selection scanBlocks(
+      int size, ZoneMap zones, IntFunction<ZoneMap.Overlap> overlap, RowScan rowScan) {
+    if (zones != null) {
+      Preconditions.checkArgument(
+          zones.rowCount() == size, "The zone map does not summarize the %s rows given", size);
+    }
+    ForkJoinPool pool = SCAN_POOL.get();
+    int rangeSize =
+        pool == null
+            ? size
+            : rangeSize(
+                size, pool.getParallelism(), zones == null ? CHUNK_SIZE : zones.blockSize());
+    if (rangeSize >= size) {
+      return new BitmapBackedSelection(scanRange(0, size, zones, overlap, rowScan));
+    }
+    List<ForkJoinTask<RoaringBitmap>> tasks = new ArrayList<>();
+    for (int start = 0; start < size; start += rangeSize) {
+      int from = start;
+      int to = Math.min(size, start + rangeSize);
+      tasks.add(pool.submit(() -> scanRange(from, to, zones, overlap, rowScan)));
+    }
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (ForkJoinTask<RoaringBitmap> task : tasks) {
+      bitmap.or(task.join());
+    }
+    return new BitmapBackedSelection(bitmap);
+  }
+
+  /**
+   * Returns the rows from {@code from} to {@code to} selected by the scan
+   *
+   * @param from The first row, a multiple of 64, and the first row of a block of the zone map if
+   *     there is one
+   */
+  private static RoaringBitmap scanRange(
+      int from, int to, ZoneMap zones, IntFunction<ZoneMap.Overlap> overlap, RowScan rowScan) {
+    if (zones == null) {
+      long[] words = new long[wordCount(to - from)];
+      rowScan.scan(from, to, words);
+      RoaringBitmap bitmap = BitSetUtil.bitmapOf(words);
+      return from == 0 ? bitmap : RoaringBitmap.addOffset(bitmap, from);
+    }
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (int block = from / zones.blockSize(); block < zones.blockCount(); block++) {
+      int blockStart = block * zones.blockSize();
+      if (blockStart >= to) {
+        break;
+      }
+      int blockEnd = Math.min(to, blockStart + zones.blockSize());
+      switch (overlap.apply(block)) {
+        case ALL:
+          bitmap.add((long) blockStart, (long) blockEnd);
+          break;
+        case SOME:
+          long[] words = new long[wordCount(blockEnd - blockStart)];
+          rowScan.scan(blockStart, blockEnd, words);
+          bitmap.or(RoaringBitmap.addOffset(BitSetUtil.bitmapOf(words), blockStart));
+          break;
+        default:
+          break;
+      }
+    }
+    return bitmap;
+  }
+
+  /**
+   * Returns the number of rows in each range of a parallel scan, at least {@link #CHUNK_SIZE}, and
+   * a multiple of the given step, so that each range starts on a word, and on a block of the zone
+   * map if there is one
+   */
+  private static int rangeSize(int size, int parallelism, int step) {
+    long ranges = (long) parallelism * RANGES_PER_THREAD;
+    long rangeSize = Math.max(CHUNK_SIZE, (size + ranges - 1) / ranges);
+    rangeSize = (rangeSize + step - 1) / step * step;
+    return (int) Math.min(Integer.MAX_VALUE, rangeSize);
+  }
+
+  private static void scanRows(IntList data, int from, int to, int min, int max, long[] words) {
+    if (data instanceof IntArrayList) {
+      scan(((IntArrayList) data).elements(), from, 0, to - from, min, max, words);
+      return;
+    }
+    int[] chunk = new int[Math.min(to - from, CHUNK_SIZE)];
+    for (int start = from; start < to; start += CHUNK_SIZE) {
+      int length = Math.min(CHUNK_SIZE, to - start);
+      data.getElements(start, chunk, 0, length);
+      scan(chunk, 0, start - from, length, min, max, words);
+    }
+  }
+
+  private static void scanRows(LongList data, int from, int to, long min, long max, long[] words) {
+    if (data instanceof LongArrayList) {
+      scan(((LongArrayList) data).elements(), from, 0, to - from, min, max, words);
+      return;
+    }
+    long[] chunk = new long[Math.min(to - from, CHUNK_SIZE)];
+    for (int start = from; start < to; start += CHUNK_SIZE) {
+      int length = Math.min(CHUNK_SIZE, to - start);
+      data.getElements(start, chunk, 0, length);
+      scan(chunk, 0, start - from, length, min, max, words);
+    }
+  }
+
+  private static void scanRows(
+      DoubleList data, int from, int to, double min, double max, long[] words) {
+    if (data instanceof DoubleArrayList) {
+      scan(((DoubleArrayList) data).elements(), from, 0, to - from, min, max, words);
+      return;
+    }
+    double[] chunk = new double[Math.min(to - from, CHUNK_SIZE)];
+    for (int start = from; start < to; start += CHUNK_SIZE) {
+      int length = Math.min(CHUNK_SIZE, to - start);
+      data.getElements(start, chunk, 0, length);
+      scan(chunk, 0, start - from, length, min, max, words);
+    }
+  }
+
+  private static void scanRows(
+      ShortList data, int from, int to, short min, short max, long[] words) {
+    if (data instanceof ShortArrayList) {
+      scan(((ShortArrayList) data).elements(), from, 0, to - from, min, max, words);
+      return;
+    }
+    short[] chunk = new short[Math.min(to - from, CHUNK_SIZE)];
+    for (int start = from; start < to; start += CHUNK_SIZE) {
+      int length = Math.min(CHUNK_SIZE, to - start);
+      data.getElements(start, chunk, 0, length);
+      scan(chunk, 0, start - from, length, min, max, words);
+    }
+  }
+
+  private static void scanRows(
+      FloatList data, int from, int to, double min, double max, long[] words) {
+    if (data instanceof FloatArrayList) {
+      scan(((FloatArrayList) data).elements(), from, 0, to - from, min, max, words);
+      return;
+    }
+    float[] chunk = new float[Math.min(to - from, CHUNK_SIZE)];
+    for (int start = from; start < to; start += CHUNK_SIZE) {
+      int length = Math.min(CHUNK_SIZE, to - start);
+      data.getElements(start, chunk, 0, length);
+      scan(chunk, 0, start - from, length, min, max, words);
+    }
+  }
+
+  /**
+   * Returns all the rows of a column of the given size that are not in the given selection. This is
+   * used for {@code x != c}, which, like a comparison with NaN, is true for missing values
+   */
+  public static Selection complement(Selection selection, int size) {
+    Selection all = Selection.withRange(0, size);
+    return all.andNot(selection);
+  }
+
+  /**
+   * Returns the smallest and largest integers in the given range, clamped to the given limits, or
+   * null if there are none
+   */
+  private static long[] integerBounds(
+      double lo,
+      boolean loInclusive,
+      double hi,
+      boolean hiInclusive,
+      long minValue,
+      long maxValue) {
+    if (Double.isNaN(lo) || Double.isNaN(hi)) {
+      return null;
+    }
+    double first = loInclusive ? Math.ceil(lo) : Math.floor(lo) + 1;
+    double last = hiInclusive ? Math.floor(hi) : Math.ceil(hi) - 1;
+    // the casts saturate, and the comparisons are made before them so no bound wraps around
+    long min = first <= minValue ? minValue : (long) first;
+    long max = last >= maxValue ? maxValue : (long) last;
+    if (first > maxValue || last < minValue || min > max) {
+      return null;
+    }
+    return new long[] {min, max};
+  }
+
+  /** Returns the given range as an inclusive range, or null if it is empty */
+  private static double[] floatingPointBounds(
+      double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    if ((!loInclusive && lo == Double.POSITIVE_INFINITY)
+        || (!hiInclusive && hi == Double.NEGATIVE_INFINITY)) {
+      return null;
+    }
+    double min = loInclusive ? lo : Math.nextUp(lo);
+    double max = hiInclusive ? hi : Math.nextDown(hi);
+    if (!(min <= max)) {
+      return null;
+    }
+    return new double[] {min, max};
+  }
+
+  private static int wordCount(int size) {
+    return (size + Long.SIZE - 1) >>> 6;
+  }
+
+  /**
+   * Sets the bits of the rows whose values are in [min, max]
+   *
+   * @param values The values of the rows from firstRow to firstRow + length, starting at offset
+   * @param firstRow The first row, relative to the first row of the words, a multiple of 64
+   */
+  private static void scan(
+      int[] values, int offset, int firstRow, int length, int min, int max, long[] words) {
+    for (int base = 0; base < length; base += Long.SIZE) {
+      int end = Math.min(base + Long.SIZE, length);
+      long word = 0;
+      for (int i = base; i < end; i++) {
+        int v = values[offset + i];
+        word |= (v >= min & v <= max ? 1L : 0L) << (i - base);
+      }
+      words[(firstRow + base) >>> 6] = word;
+    }
+  }
+
+  private static void scan(
+      short[] values, int offset, int firstRow, int length, short min, short max, long[] words) {
+    for (int base = 0; base < length; base += Long.SIZE) {
+      int end = Math.min(base + Long.SIZE, length);
+      long word = 0;
+      for (int i = base; i < end; i++) {
+        short v = values[offset + i];
+        word |= (v >= min & v <= max ? 1L : 0L) << (i - base);
+      }
+      words[(firstRow + base) >>> 6] = word;
+    }
+  }
+
+  private static void scan(
+      long[] values, int offset, int firstRow, int length, long min, long max, long[] words) {
+    for (int base = 0; base < length; base += Long.SIZE) {
+      int end = Math.min(base + Long.SIZE, length);
+      long word = 0;
+      for (int i = base; i < end; i++) {
+        long v = values[offset + i];
+        word |= (v >= min & v <= max ? 1L : 0L) << (i - base);
+      }
+      words[(firstRow + base) >>> 6] = word;
+    }
+  }
+
+  private static void scan(
+      double[] values, int offset, int firstRow, int length, double min, double max, long[] words) {
+    for (int base = 0; base < length; base += Long.SIZE) {
+      int end = Math.min(base + Long.SIZE, length);
+      long word = 0;
+      for (int i = base; i < end; i++) {
+        double v = values[offset + i];
+        word |= (v >= min & v <= max ? 1L : 0L) << (i - base);
+      }
+      words[(firstRow + base) >>> 6] = word;
+    }
+  }
+
+  private static void scan(
+      float[] values, int offset, int firstRow, int length, double min, double max, long[] words) {
+    for (int base = 0; base < length; base += Long.SIZE) {
+      int end = Math.min(base + Long.SIZE, length);
+      long word = 0;
+      for (int i = base; i < end; i++) {
+        double v = values[offset + i];
+        word |= (v >= min & v <= max ? 1L : 0L) << (i - base);
+      }
+      words[(firstRow + base) >>> 6] = word;
+    }
+  }
+}
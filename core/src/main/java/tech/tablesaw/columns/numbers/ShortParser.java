@@ -27,17 +27,7 @@ public class ShortParser extends AbstractColumnParser<Short> {
     if (isMissing(str)) {
       return true;
     }
-    String s = str;
-    try {
-      if (ignoreZeroDecimal) {
-        s = StringUtils.removeZeroDecimal(s);
-      }
-      Short.parseShort(AbstractColumnParser.remove(s, ','));
-      return true;
-    } catch (NumberFormatException e) {
-      // it's all part of the plan
-      return false;
-    }
+    return FastNumbers.isLong(str, ignoreZeroDecimal, Short.MIN_VALUE, Short.MAX_VALUE);
   }
 
   @Override
@@ -0,0 +1,366 @@
+package tech.tablesaw.columns.numbers;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayFIFOQueue;
+import java.util.Arrays;
+import tech.tablesaw.api.NumericColumn;
+
+/**
+ * The state of an aggregate function over a window of rows that slides along a numeric column. The
+ * state is updated as each value enters and leaves the window, rather than recomputed from the
+ * whole window, so a rolling calculation takes time proportional to the length of the column
+ * whatever the size of the window.
+ *
+ * <p>Missing values enter and leave the window like any other, as NaN, and are skipped by every
+ * aggregate except the counts, as they are by the functions in {@link
+ * tech.tablesaw.aggregate.AggregateFunctions}.
+ *
+ * <p>These states are shared by {@link NumberRollingColumn} and the analytic aggregate functions.
+ */
+public abstract class SlidingAggregate {
+
+  /** Adds a value entering the window */
+  public abstract void add(double value);
+
+  /** Removes a value leaving the window. Values leave in the order in which they entered */
+  public abstract void remove(double value);
+
+  /** Returns the result of the function over the values in the window */
+  public abstract double result();
+
+  /**
+   * Returns true if removing values leaves rounding error behind in the state. The state of such an
+   * aggregate is periodically cleared and rebuilt from the values in the window, so the error does
+   * not grow with the length of the column.
+   */
+  public boolean accumulatesRoundingError() {
+    return false;
+  }
+
+  /** Clears the state, as if every value had left the window */
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  /** The sum or the mean of the values in the window */
+  public static final class Sum extends SlidingAggregate {
+
+    private final boolean mean;
+    private int count;
+    private double sum;
+
+    // Infinite values are counted, rather than summed, so they can leave the window again
+    private int positiveInfinities;
+    private int negativeInfinities;
+
+    public Sum(boolean mean) {
+      this.mean = mean;
+    }
+
+    /** Returns the number of non-missing values in the window */
+    public int count() {
+      return count;
+    }
+
+    @Override
+    public void add(double value) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      count++;
+      if (value == Double.POSITIVE_INFINITY) {
+        positiveInfinities++;
+      } else if (value == Double.NEGATIVE_INFINITY) {
+        negativeInfinities++;
+      } else {
+        sum += value;
+      }
+    }
+
+    @Override
+    public void remove(double value) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      count--;
+      if (value == Double.POSITIVE_INFINITY) {
+        positiveInfinities--;
+      } else if (value == Double.NEGATIVE_INFINITY) {
+        negativeInfinities--;
+      } else {
+        sum -= value;
+      }
+    }
+
+    @Override
+    public double result() {
+      if (count == 0) {
+        // as in StatUtils, the sum of no values is zero, but their mean is undefined
+        return mean ? Double.NaN : 0.0;
+      }
+      if (positiveInfinities > 0 && negativeInfinities > 0) {
+        return Double.NaN;
+      }
+      if (mean && positiveInfinities + negativeInfinities > 0) {
+        // StatUtils corrects the mean by the deviations from it, which are undefined when it is
+        // infinite
+        return Double.NaN;
+      }
+      if (positiveInfinities > 0) {
+        return Double.POSITIVE_INFINITY;
+      }
+      if (negativeInfinities > 0) {
+        return Double.NEGATIVE_INFINITY;
+      }
+      return mean ? sum / count : sum;
+    }
+
+    @Override
+    public boolean accumulatesRoundingError() {
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      count = 0;
+      sum = 0;
+      positiveInfinities = 0;
+      negativeInfinities = 0;
+    }
+  }
+
+  /**
+   * The sample variance or standard deviation of the values in the window, kept with Welford's
+   * method, which can remove values as well as add them
+   */
+  public static final class Variance extends SlidingAggregate {
+
+    private final boolean stdDev;
+    private int count;
+    private double mean;
+    private double m2;
+
+    // Infinite values make the variance undefined, so they are only counted
+    private int infinities;
+
+    public Variance(boolean stdDev) {
+      this.stdDev = stdDev;
+    }
+
+    @Override
+    public void add(double value) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      if (Double.isInfinite(value)) {
+        infinities++;
+        return;
+      }
+      count++;
+      double delta = value - mean;
+      mean += delta / count;
+      m2 += delta * (value - mean);
+    }
+
+    @Override
+    public void remove(double value) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      if (Double.isInfinite(value)) {
+        infinities--;
+        return;
+      }
+      if (--count == 0) {
+        mean = 0;
+        m2 = 0;
+        return;
+      }
+      double delta = value - mean;
+      mean -= delta / count;
+      m2 -= delta * (value - mean);
+    }
+
+    @Override
+    public double result() {
+      int n = count + infinities;
+      if (n == 0) {
+        return Double.NaN;
+      }
+      if (n == 1) {
+        return 0.0;
+      }
+      if (infinities > 0) {
+        return Double.NaN;
+      }
+      double variance = Math.max(0, m2) / (count - 1);
+      return stdDev ? Math.sqrt(variance) : variance;
+    }
+
+    @Override
+    public boolean accumulatesRoundingError() {
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      count = 0;
+      mean = 0;
+      m2 = 0;
+      infinities = 0;
+    }
+  }
+
+  /**
+   * The smallest or largest value in the window, kept at the front of a deque of the values that
+   * may yet become the extreme: each value entering the window evicts the values behind it that it
+   * beats, so the deque is always ordered from the extreme down.
+   */
+  public static final class Extreme extends SlidingAggregate {
+
+    private final boolean max;
+    private final DoubleArrayFIFOQueue deque = new DoubleArrayFIFOQueue();
+
+    public Extreme(boolean max) {
+      this.max = max;
+    }
+
+    @Override
+    public void add(double value) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      while (!deque.isEmpty() && beats(value, deque.lastDouble())) {
+        deque.dequeueLastDouble();
+      }
+      deque.enqueue(value);
+    }
+
+    private boolean beats(double value, double other) {
+      return max ? value > other : value < other;
+    }
+
+    @Override
+    public void remove(double value) {
+      if (!deque.isEmpty() && deque.firstDouble() == value) {
+        deque.dequeueDouble();
+      }
+    }
+
+    @Override
+    public double result() {
+      return deque.isEmpty() ? Double.NaN : deque.firstDouble();
+    }
+  }
+
+  /** The number of missing or non-missing values in the window */
+  public static final class Count extends SlidingAggregate {
+
+    private final boolean missing;
+    private int values;
+    private int missingValues;
+
+    public Count(boolean missing) {
+      this.missing = missing;
+    }
+
+    @Override
+    public void add(double value) {
+      values++;
+      if (Double.isNaN(value)) {
+        missingValues++;
+      }
+    }
+
+    @Override
+    public void remove(double value) {
+      values--;
+      if (Double.isNaN(value)) {
+        missingValues--;
+      }
+    }
+
+    @Override
+    public double result() {
+      return missing ? missingValues : values - missingValues;
+    }
+  }
+
+  /**
+   * The median of the values in the window, estimated as {@link
+   * org.apache.commons.math3.stat.descriptive.rank.Percentile} does by default. The window is kept
+   * as a Fenwick tree counting the values in the window by their rank among the distinct values of
+   * the whole column, so the middle values can be found in logarithmic time.
+   */
+  static final class Median extends SlidingAggregate {
+
+    /** The distinct non-missing values of the column, in ascending order */
+    private final double[] values;
+
+    /** A Fenwick tree over the counts of each of the values in the window, indexed from one */
+    private final int[] tree;
+
+    private int count;
+
+    Median(NumericColumn<?> column) {
+      double[] all = ((NumericColumn<?>) column.removeMissing()).asDoubleArray();
+      Arrays.sort(all);
+      int distinct = 0;
+      for (int i = 0; i < all.length; i++) {
+        if (distinct == 0 || Double.compare(all[i], all[distinct - 1]) != 0) {
+          all[distinct++] = all[i];
+        }
+      }
+      this.values = Arrays.copyOf(all, distinct);
+      this.tree = new int[distinct + 1];
+    }
+
+    @Override
+    public void add(double value) {
+      if (!Double.isNaN(value)) {
+        update(Arrays.binarySearch(values, value) + 1, 1);
+        count++;
+      }
+    }
+
+    @Override
+    public void remove(double value) {
+      if (!Double.isNaN(value)) {
+        update(Arrays.binarySearch(values, value) + 1, -1);
+        count--;
+      }
+    }
+
+    private void update(int index, int delta) {
+      for (int i = index; i < tree.length; i += i & -i) {
+        tree[i] += delta;
+      }
+    }
+
+    /** Returns the k-th smallest value in the window, counting from one */
+    private double select(int k) {
+      int index = 0;
+      for (int step = Integer.highestOneBit(values.length); step > 0; step >>= 1) {
+        if (index + step < tree.length && tree[index + step] < k) {
+          index += step;
+          k -= tree[index];
+        }
+      }
+      return values[index];
+    }
+
+    @Override
+    public double result() {
+      if (count == 0) {
+        return Double.NaN;
+      }
+      double position = 0.5 * (count + 1);
+      if (position >= count) {
+        return select(count);
+      }
+      int lowerPosition = (int) Math.floor(position);
+      double lower = select(lowerPosition);
+      double upper = select(lowerPosition + 1);
+      return lower + (position - lowerPosition) * (upper - lower);
+    }
+  }
+}
@@ -445,6 +445,15 @@ public abstract class DictionaryMap<T extends Number> implements StringReduceUti
       return this;
     }
 
+    /**
+     * Sets the keys of the column's values, in row order. The list is used as is, so a mutable
+     * primitive list, like the one each map creates for itself, leaves the map able to grow
+     */
+    public DictionaryMapBuilder<E, N> setValues(List<N> values) {
+      this.values = values;
+      return this;
+    }
+
     public DictionaryMapBuilder<E, N> setKeyToValue(Map<N, String> keyToValue) {
       this.keyToValue = keyToValue;
       return this;
@@ -9,6 +9,7 @@ import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.datetimes.DateTimeColumnType;
 import tech.tablesaw.columns.instant.PackedInstant;
 import tech.tablesaw.filtering.InstantFilterSpec;
 import tech.tablesaw.filtering.predicates.LongBiPredicate;
@@ -70,26 +71,43 @@ public interface TemporalFilters<T extends Temporal>
     return selection;
   }
 
+  /**
+   * Returns the rows whose packed values are in the given range. The value marking a missing value
+   * is compared like any other packed value
+   *
+   * <p>Columns that keep a {@link tech.tablesaw.columns.ZoneMap} override this to skip the blocks
+   * of rows that are all in, or all out of, the range
+   */
+  default Selection isInPackedRange(long lo, boolean loInclusive, long hi, boolean hiInclusive) {
+    return eval(
+        (long value) ->
+            (loInclusive ? value >= lo : value > lo) && (hiInclusive ? value <= hi : value < hi));
+  }
+
   default Selection isBetweenExcluding(long lowPackedDateTime, long highPackedDateTime) {
-    return eval(PackedInstant::isAfter, lowPackedDateTime)
-        .and(eval(PackedInstant::isBefore, highPackedDateTime));
+    return isInPackedRange(lowPackedDateTime, false, highPackedDateTime, false);
   }
 
   default Selection isBetweenIncluding(long lowPackedDateTime, long highPackedDateTime) {
-    return eval(PackedInstant::isOnOrAfter, lowPackedDateTime)
-        .and(eval(PackedInstant::isOnOrBefore, highPackedDateTime));
+    // a missing value is on or after, and on or before, only a missing bound
+    long missing = DateTimeColumnType.missingValueIndicator();
+    if (lowPackedDateTime == missing && highPackedDateTime != missing) {
+      return isInPackedRange(lowPackedDateTime, false, highPackedDateTime, true);
+    }
+    return isInPackedRange(lowPackedDateTime, true, highPackedDateTime, true);
   }
 
   default Selection isAfter(Instant value) {
-    return eval(isGreaterThan, PackedInstant.pack(value));
+    return isInPackedRange(PackedInstant.pack(value), false, Long.MAX_VALUE, true);
   }
 
   default Selection isBefore(Instant value) {
-    return eval(isLessThan, PackedInstant.pack(value));
+    return isInPackedRange(Long.MIN_VALUE, true, PackedInstant.pack(value), false);
   }
 
   default Selection isEqualTo(Instant value) {
-    return eval(isEqualTo, PackedInstant.pack(value));
+    long packed = PackedInstant.pack(value);
+    return isInPackedRange(packed, true, packed, true);
   }
 
   int size();
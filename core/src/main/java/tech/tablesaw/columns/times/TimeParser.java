@@ -83,6 +83,9 @@ public class TimeParser extends AbstractColumnParser<LocalTime> {
     if (isMissing(s)) {
       return true;
     }
+    if (formatter == DEFAULT_FORMATTER && !containsDigit(s)) {
+      return false;
+    }
     try {
       LocalTime.parse(s, formatter.withLocale(locale));
       return true;
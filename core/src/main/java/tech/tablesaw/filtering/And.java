@@ -19,12 +19,19 @@ public class And implements Function<Table, Selection> {
     this.arguments = arguments;
   }
 
+  /**
+   * Returns the rows of the table selected by all of the arguments. If every argument selects each
+   * row on the values in that row alone, they are evaluated in the order chosen by {@link
+   * FilterPlanner}, which may apply them to copies of some of the rows. Otherwise every argument is
+   * applied to the whole table, in the order given
+   */
   @Override
   public Selection apply(Table table) {
-    Selection result = arguments[0].apply(table);
-    for (int i = 1; i < arguments.length; i++) {
-      result.and(arguments[i].apply(table));
-    }
-    return result;
+    return FilterPlanner.and(table, arguments);
+  }
+
+  /** Returns true if every argument selects each row on the values in that row alone */
+  boolean isRowFilter() {
+    return FilterPlanner.areRowFilters(arguments);
   }
 }
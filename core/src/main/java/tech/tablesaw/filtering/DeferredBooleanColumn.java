@@ -16,12 +16,12 @@ public class DeferredBooleanColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isFalse() {
-    return table -> table.booleanColumn(name()).isFalse();
+    return rowFilter(table -> table.booleanColumn(name()).isFalse());
   }
 
   @Override
   public Function<Table, Selection> isTrue() {
-    return table -> table.booleanColumn(name()).isTrue();
+    return rowFilter(table -> table.booleanColumn(name()).isTrue());
   }
 
   @Override
@@ -1,8 +1,10 @@
 package tech.tablesaw.filtering;
 
 import com.google.common.annotations.Beta;
+import java.util.Optional;
 import java.util.function.Function;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.index.ColumnIndex;
 import tech.tablesaw.selection.Selection;
 
 @Beta
@@ -19,10 +21,31 @@ public class DeferredColumn {
   }
 
   public Function<Table, Selection> isMissing() {
-    return table -> table.column(name()).isMissing();
+    return rowFilter(table -> table.column(name()).isMissing());
   }
 
   public Function<Table, Selection> isNotMissing() {
-    return table -> table.column(name()).isNotMissing();
+    return rowFilter(table -> table.column(name()).isNotMissing());
+  }
+
+  /**
+   * Returns a filter that looks the rows up in the index of this column, if the table has one, and
+   * otherwise applies the given filter to the table
+   */
+  protected Function<Table, Selection> indexed(
+      Function<ColumnIndex, Selection> lookup, Function<Table, Selection> scan) {
+    return rowFilter(
+        table -> {
+          Optional<ColumnIndex> index = table.index(name());
+          return index.isPresent() ? lookup.apply(index.get()) : scan.apply(table);
+        });
+  }
+
+  /**
+   * Returns the given filter, marked as one that selects each row on the values in that row alone,
+   * so the arguments of {@link And} and {@link Or} made of such filters can be reordered
+   */
+  static Function<Table, Selection> rowFilter(Function<Table, Selection> filter) {
+    return new RowFilter(filter);
   }
 }
@@ -16,16 +16,16 @@ public class DeferredInstantColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isEqualTo(Instant value) {
-    return table -> table.instantColumn(name()).isEqualTo(value);
+    return rowFilter(table -> table.instantColumn(name()).isEqualTo(value));
   }
 
   @Override
   public Function<Table, Selection> isAfter(Instant value) {
-    return table -> table.instantColumn(name()).isAfter(value);
+    return rowFilter(table -> table.instantColumn(name()).isAfter(value));
   }
 
   @Override
   public Function<Table, Selection> isBefore(Instant value) {
-    return table -> table.instantColumn(name()).isBefore(value);
+    return rowFilter(table -> table.instantColumn(name()).isBefore(value));
   }
 }
@@ -17,72 +17,84 @@ public class DeferredNumberColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isEqualTo(double other) {
-    return table -> table.numberColumn(name()).isEqualTo(other);
+    return indexed(i -> i.isEqualTo(other), table -> table.numberColumn(name()).isEqualTo(other));
   }
 
   @Override
   public Function<Table, Selection> isBetweenExclusive(double start, double end) {
-    return table -> table.numberColumn(name()).isBetweenExclusive(start, end);
+    return indexed(
+        i -> i.isBetween(start, false, end, false),
+        table -> table.numberColumn(name()).isBetweenExclusive(start, end));
   }
 
   @Override
   public Function<Table, Selection> isBetweenInclusive(double start, double end) {
-    return table -> table.numberColumn(name()).isBetweenInclusive(start, end);
+    return indexed(
+        i -> i.isBetween(start, true, end, true),
+        table -> table.numberColumn(name()).isBetweenInclusive(start, end));
   }
 
   @Override
   public Function<Table, Selection> isGreaterThan(double f) {
-    return table -> table.numberColumn(name()).isGreaterThan(f);
+    return indexed(
+        i -> i.isBetween(f, false, Double.POSITIVE_INFINITY, true),
+        table -> table.numberColumn(name()).isGreaterThan(f));
   }
 
   @Override
   public Function<Table, Selection> isGreaterThanOrEqualTo(double f) {
-    return table -> table.numberColumn(name()).isGreaterThanOrEqualTo(f);
+    return indexed(
+        i -> i.isBetween(f, true, Double.POSITIVE_INFINITY, true),
+        table -> table.numberColumn(name()).isGreaterThanOrEqualTo(f));
   }
 
   @Override
   public Function<Table, Selection> isLessThan(double f) {
-    return table -> table.numberColumn(name()).isLessThan(f);
+    return indexed(
+        i -> i.isBetween(Double.NEGATIVE_INFINITY, true, f, false),
+        table -> table.numberColumn(name()).isLessThan(f));
   }
 
   @Override
   public Function<Table, Selection> isLessThanOrEqualTo(double f) {
-    return table -> table.numberColumn(name()).isLessThanOrEqualTo(f);
+    return indexed(
+        i -> i.isBetween(Double.NEGATIVE_INFINITY, true, f, true),
+        table -> table.numberColumn(name()).isLessThanOrEqualTo(f));
   }
 
   @Override
   public Function<Table, Selection> isIn(Collection<Number> numbers) {
-    return table -> table.numberColumn(name()).isIn(numbers);
+    return indexed(i -> i.isIn(numbers), table -> table.numberColumn(name()).isIn(numbers));
   }
 
   @Override
   public Function<Table, Selection> isNotIn(Collection<Number> numbers) {
-    return table -> table.numberColumn(name()).isNotIn(numbers);
+    return rowFilter(table -> table.numberColumn(name()).isNotIn(numbers));
   }
 
   @Override
   public Function<Table, Selection> isZero() {
-    return table -> table.numberColumn(name()).isZero();
+    return rowFilter(table -> table.numberColumn(name()).isZero());
   }
 
   @Override
   public Function<Table, Selection> isPositive() {
-    return table -> table.numberColumn(name()).isPositive();
+    return rowFilter(table -> table.numberColumn(name()).isPositive());
   }
 
   @Override
   public Function<Table, Selection> isNegative() {
-    return table -> table.numberColumn(name()).isNegative();
+    return rowFilter(table -> table.numberColumn(name()).isNegative());
   }
 
   @Override
   public Function<Table, Selection> isNonNegative() {
-    return table -> table.numberColumn(name()).isNonNegative();
+    return rowFilter(table -> table.numberColumn(name()).isNonNegative());
   }
 
   @Override
   public Function<Table, Selection> isCloseTo(Number target, Number margin) {
-    return table -> table.numberColumn(name()).isCloseTo(target, margin);
+    return rowFilter(table -> table.numberColumn(name()).isCloseTo(target, margin));
   }
 
   @Override
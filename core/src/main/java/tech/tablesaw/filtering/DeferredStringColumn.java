@@ -17,87 +17,89 @@ public class DeferredStringColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isEmptyString() {
-    return table -> table.stringColumn(name()).isEmptyString();
+    return rowFilter(table -> table.stringColumn(name()).isEmptyString());
   }
 
   @Override
   public Function<Table, Selection> startsWith(String string) {
-    return table -> table.stringColumn(name()).startsWith(string);
+    return rowFilter(table -> table.stringColumn(name()).startsWith(string));
   }
 
   @Override
   public Function<Table, Selection> endsWith(String string) {
-    return table -> table.stringColumn(name()).endsWith(string);
+    return rowFilter(table -> table.stringColumn(name()).endsWith(string));
   }
 
   @Override
   public Function<Table, Selection> containsString(String string) {
-    return table -> table.stringColumn(name()).containsString(string);
+    return rowFilter(table -> table.stringColumn(name()).containsString(string));
   }
 
   @Override
   public Function<Table, Selection> matchesRegex(String string) {
-    return table -> table.stringColumn(name()).matchesRegex(string);
+    return rowFilter(table -> table.stringColumn(name()).matchesRegex(string));
   }
 
   @Override
   public Function<Table, Selection> isAlpha() {
-    return table -> table.stringColumn(name()).isAlpha();
+    return rowFilter(table -> table.stringColumn(name()).isAlpha());
   }
 
   @Override
   public Function<Table, Selection> isNumeric() {
-    return table -> table.stringColumn(name()).isNumeric();
+    return rowFilter(table -> table.stringColumn(name()).isNumeric());
   }
 
   @Override
   public Function<Table, Selection> isAlphaNumeric() {
-    return table -> table.stringColumn(name()).isAlphaNumeric();
+    return rowFilter(table -> table.stringColumn(name()).isAlphaNumeric());
   }
 
   @Override
   public Function<Table, Selection> isUpperCase() {
-    return table -> table.stringColumn(name()).isUpperCase();
+    return rowFilter(table -> table.stringColumn(name()).isUpperCase());
   }
 
   @Override
   public Function<Table, Selection> isLowerCase() {
-    return table -> table.stringColumn(name()).isLowerCase();
+    return rowFilter(table -> table.stringColumn(name()).isLowerCase());
   }
 
   @Override
   public Function<Table, Selection> lengthEquals(int stringLength) {
-    return table -> table.stringColumn(name()).lengthEquals(stringLength);
+    return rowFilter(table -> table.stringColumn(name()).lengthEquals(stringLength));
   }
 
   @Override
   public Function<Table, Selection> isShorterThan(int stringLength) {
-    return table -> table.stringColumn(name()).isShorterThan(stringLength);
+    return rowFilter(table -> table.stringColumn(name()).isShorterThan(stringLength));
   }
 
   @Override
   public Function<Table, Selection> isLongerThan(int stringLength) {
-    return table -> table.stringColumn(name()).isLongerThan(stringLength);
+    return rowFilter(table -> table.stringColumn(name()).isLongerThan(stringLength));
   }
 
   @Override
   public Function<Table, Selection> isIn(String... strings) {
-    return table -> table.stringColumn(name()).isIn(strings);
+    return indexed(i -> i.isIn(strings), table -> table.stringColumn(name()).isIn(strings));
   }
 
   @Override
   public Function<Table, Selection> isIn(Collection<String> strings) {
-    return table -> table.stringColumn(name()).isIn(strings);
+    return indexed(
+        i -> i.isIn(strings.toArray(new String[0])),
+        table -> table.stringColumn(name()).isIn(strings));
   }
 
   @Override
   public Function<Table, Selection> isNotIn(String... strings) {
-    return table -> table.stringColumn(name()).isNotIn(strings);
+    return rowFilter(table -> table.stringColumn(name()).isNotIn(strings));
   }
 
   @Override
   public Function<Table, Selection> isNotIn(Collection<String> strings) {
-    return table -> table.stringColumn(name()).isNotIn(strings);
+    return rowFilter(table -> table.stringColumn(name()).isNotIn(strings));
   }
 
   @Override
@@ -122,11 +124,11 @@ public class DeferredStringColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isEqualTo(String string) {
-    return table -> table.stringColumn(name()).isEqualTo(string);
+    return indexed(i -> i.isEqualTo(string), table -> table.stringColumn(name()).isEqualTo(string));
   }
 
   @Override
   public Function<Table, Selection> isNotEqualTo(String string) {
-    return table -> table.stringColumn(name()).isNotEqualTo(string);
+    return rowFilter(table -> table.stringColumn(name()).isNotEqualTo(string));
   }
 }
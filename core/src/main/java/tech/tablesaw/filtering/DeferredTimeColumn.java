@@ -18,52 +18,52 @@ public class DeferredTimeColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isMidnight() {
-    return table -> table.timeColumn(name()).isMidnight();
+    return rowFilter(table -> table.timeColumn(name()).isMidnight());
   }
 
   @Override
   public Function<Table, Selection> isNoon() {
-    return table -> table.timeColumn(name()).isNoon();
+    return rowFilter(table -> table.timeColumn(name()).isNoon());
   }
 
   @Override
   public Function<Table, Selection> isBefore(LocalTime time) {
-    return table -> table.timeColumn(name()).isBefore(time);
+    return rowFilter(table -> table.timeColumn(name()).isBefore(time));
   }
 
   @Override
   public Function<Table, Selection> isAfter(LocalTime time) {
-    return table -> table.timeColumn(name()).isAfter(time);
+    return rowFilter(table -> table.timeColumn(name()).isAfter(time));
   }
 
   @Override
   public Function<Table, Selection> isOnOrAfter(LocalTime time) {
-    return table -> table.timeColumn(name()).isOnOrAfter(time);
+    return rowFilter(table -> table.timeColumn(name()).isOnOrAfter(time));
   }
 
   @Override
   public Function<Table, Selection> isOnOrBefore(LocalTime value) {
-    return table -> table.timeColumn(name()).isOnOrBefore(value);
+    return rowFilter(table -> table.timeColumn(name()).isOnOrBefore(value));
   }
 
   @Override
   public Function<Table, Selection> isBeforeNoon() {
-    return table -> table.timeColumn(name()).isBeforeNoon();
+    return rowFilter(table -> table.timeColumn(name()).isBeforeNoon());
   }
 
   @Override
   public Function<Table, Selection> isAfterNoon() {
-    return table -> table.timeColumn(name()).isAfterNoon();
+    return rowFilter(table -> table.timeColumn(name()).isAfterNoon());
   }
 
   @Override
   public Function<Table, Selection> isNotEqualTo(LocalTime value) {
-    return table -> table.timeColumn(name()).isNotEqualTo(value);
+    return rowFilter(table -> table.timeColumn(name()).isNotEqualTo(value));
   }
 
   @Override
   public Function<Table, Selection> isEqualTo(LocalTime value) {
-    return table -> table.timeColumn(name()).isEqualTo(value);
+    return rowFilter(table -> table.timeColumn(name()).isEqualTo(value));
   }
 
   @Override
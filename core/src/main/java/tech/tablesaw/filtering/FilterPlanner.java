@@ -0,0 +1,209 @@
+package tech.tablesaw.filtering;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * Chooses the order in which the arguments of an {@link And} or an {@link Or} are evaluated, and
+ * evaluates each argument after the first only on the rows whose result it can still change.
+ *
+ * <p>The arguments are functions, so nothing is known about them until they are applied. The
+ * fraction of rows each one selects is estimated by applying it to a sample of rows spread evenly
+ * through the table. For an And, the most selective argument is evaluated first; for an Or, the
+ * least selective. Evaluation stops as soon as no row is left whose result can change. The sample
+ * is taken once for each table filtered, and shared by the And and Or filters nested within one
+ * another.
+ *
+ * <p>When few rows are left, those rows are copied into a table of their own and the next argument
+ * is applied to that, so an expensive filter, such as a substring search, is run on thousands of
+ * values rather than millions.
+ *
+ * <p>All this is only correct for arguments that select each row on the values in that row alone.
+ * The filters of the deferred columns of {@link tech.tablesaw.api.QuerySupport} that compare a
+ * column with constants are marked as such, and so are the And, Or and Not of marked filters. If
+ * any argument is not marked, such as a lambda comparing a column with its mean, every argument is
+ * applied to the whole table, in the order given, and the results are combined.
+ */
+final class FilterPlanner {
+
+  /** The number of rows on which the selectivity of each argument is estimated */
+  static final int SAMPLE_SIZE = 1024;
+
+  /**
+   * The fraction of the table, as a divisor, below which the rows left are copied and filtered on
+   * their own, rather than filtering the whole table and combining the results
+   */
+  private static final int SUBSET_DIVISOR = 16;
+
+  /** The sample of the table being filtered by the outermost And or Or on the current thread */
+  private static final ThreadLocal<Sample> SAMPLE = new ThreadLocal<>();
+
+  private FilterPlanner() {}
+
+  /** Returns the rows of the table selected by all the given filters */
+  static Selection and(Table table, Function<Table, Selection>[] filters) {
+    if (!areRowFilters(filters)) {
+      Selection result = filters[0].apply(table);
+      for (int i = 1; i < filters.length; i++) {
+        result = result.and(filters[i].apply(table));
+      }
+      return result;
+    }
+    return withSample(
+        table,
+        () -> {
+          List<Function<Table, Selection>> ordered = order(table, filters, false);
+          Selection result = ordered.get(0).apply(table);
+          for (int i = 1; i < ordered.size() && !result.isEmpty(); i++) {
+            result = result.and(applyTo(table, result, ordered.get(i)));
+          }
+          return result;
+        });
+  }
+
+  /** Returns the rows of the table selected by any of the given filters */
+  static Selection or(Table table, Function<Table, Selection>[] filters) {
+    if (!areRowFilters(filters)) {
+      Selection result = filters[0].apply(table);
+      for (int i = 1; i < filters.length; i++) {
+        result = result.or(filters[i].apply(table));
+      }
+      return result;
+    }
+    return withSample(
+        table,
+        () -> {
+          List<Function<Table, Selection>> ordered = order(table, filters, true);
+          int rowCount = table.rowCount();
+          Selection result = ordered.get(0).apply(table);
+          for (int i = 1; i < ordered.size() && result.size() < rowCount; i++) {
+            Selection remaining = Selection.withRange(0, rowCount).andNot(result);
+            result = result.or(applyTo(table, remaining, ordered.get(i)));
+          }
+          return result;
+        });
+  }
+
+  /**
+   * Returns true if the given filter selects each row on the values in that row alone: it is marked
+   * as a {@link RowFilter}, or it is an And, Or or Not of such filters
+   */
+  static boolean isRowFilter(Function<Table, Selection> filter) {
+    if (filter instanceof RowFilter) {
+      return true;
+    }
+    if (filter instanceof And) {
+      return ((And) filter).isRowFilter();
+    }
+    if (filter instanceof Or) {
+      return ((Or) filter).isRowFilter();
+    }
+    return filter instanceof Not && ((Not) filter).isRowFilter();
+  }
+
+  /** Returns true if every one of the given filters is a row filter */
+  static boolean areRowFilters(Function<Table, Selection>[] filters) {
+    for (Function<Table, Selection> filter : filters) {
+      if (!isRowFilter(filter)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the result of the given task, during which the sample of the given table is shared by
+   * every And and Or applied to it. A filter applied to another table, such as the sample itself or
+   * a copy of some of the rows, has a sample of its own while it runs
+   */
+  private static Selection withSample(Table table, Supplier<Selection> task) {
+    Sample outer = SAMPLE.get();
+    if (outer != null && outer.table == table) {
+      return task.get();
+    }
+    SAMPLE.set(new Sample(table));
+    try {
+      return task.get();
+    } finally {
+      if (outer == null) {
+        SAMPLE.remove();
+      } else {
+        SAMPLE.set(outer);
+      }
+    }
+  }
+
+  /**
+   * Returns the given filters, ordered by the fraction of the rows of a sample that they select: in
+   * ascending order, or in descending order if {@code leastSelectiveFirst} is true. The filters are
+   * returned in their own order if the table is no larger than the sample
+   */
+  private static List<Function<Table, Selection>> order(
+      Table table, Function<Table, Selection>[] filters, boolean leastSelectiveFirst) {
+    if (filters.length == 1 || table.rowCount() <= SAMPLE_SIZE) {
+      return Arrays.asList(filters);
+    }
+    Table sample = SAMPLE.get().rows();
+    int[] selected = new int[filters.length];
+    Integer[] order = new Integer[filters.length];
+    for (int i = 0; i < filters.length; i++) {
+      selected[i] = filters[i].apply(sample).size();
+      order[i] = i;
+    }
+    Comparator<Integer> bySelected = Comparator.comparingInt(i -> selected[i]);
+    Arrays.sort(order, leastSelectiveFirst ? bySelected.reversed() : bySelected);
+    List<Function<Table, Selection>> ordered = new ArrayList<>(filters.length);
+    for (int i : order) {
+      ordered.add(filters[i]);
+    }
+    return ordered;
+  }
+
+  /**
+   * Returns the rows of the table that the filter selects, where only the given rows are needed. If
+   * they are a small part of the table, the filter is applied to a copy of those rows alone, and no
+   * other row is returned
+   */
+  private static Selection applyTo(Table table, Selection rows, Function<Table, Selection> filter) {
+    if ((long) rows.size() * SUBSET_DIVISOR > table.rowCount()) {
+      return filter.apply(table);
+    }
+    int[] rowNumbers = rows.toArray();
+    Selection selected = filter.apply(table.where(rows));
+    int[] result = new int[selected.size()];
+    int i = 0;
+    for (int row : selected) {
+      result[i++] = rowNumbers[row];
+    }
+    return new BitmapBackedSelection(result);
+  }
+
+  /** Rows spread evenly through a table, copied the first time they are needed */
+  private static final class Sample {
+    private final Table table;
+    private Table rows;
+
+    Sample(Table table) {
+      this.table = table;
+    }
+
+    Table rows() {
+      if (rows == null) {
+        int rowCount = table.rowCount();
+        int[] sampleRows = new int[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+          sampleRows[i] = (int) ((long) i * rowCount / SAMPLE_SIZE);
+        }
+        rows = table.where(new BitmapBackedSelection(sampleRows));
+      }
+      return rows;
+    }
+  }
+}
@@ -18,4 +18,9 @@ public class Not implements Function<Table, Selection> {
   public Selection apply(Table table) {
     return argument.apply(table).flip(0, table.rowCount());
   }
+
+  /** Returns true if the argument selects each row on the values in that row alone */
+  boolean isRowFilter() {
+    return FilterPlanner.isRowFilter(argument);
+  }
 }
@@ -0,0 +1,24 @@
+package tech.tablesaw.filtering;
+
+import java.util.function.Function;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * A filter that selects each row of a table on the values in that row alone, such as a comparison
+ * of a column with a constant. It selects the same rows from a copy of some of the rows of a table
+ * as from the table itself, so {@link FilterPlanner} may reorder it and apply it to such copies.
+ */
+final class RowFilter implements Function<Table, Selection> {
+
+  private final Function<Table, Selection> filter;
+
+  RowFilter(Function<Table, Selection> filter) {
+    this.filter = filter;
+  }
+
+  @Override
+  public Selection apply(Table table) {
+    return filter.apply(table);
+  }
+}
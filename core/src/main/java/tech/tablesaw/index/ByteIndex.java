@@ -45,7 +45,6 @@ public class ByteIndex extends Index{
       if (recordIds == null) {
         recordIds = new IntArrayList();
         recordIds.add(i);
-        tempMap.trim();
         tempMap.put(value, recordIds);
       } else {
         recordIds.add(i);
@@ -0,0 +1,273 @@
+package tech.tablesaw.index;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.roaringbitmap.RoaringBitmap;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.columns.AbstractColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * An index of a numeric or string column that stays current as the column changes.
+ *
+ * <p>The distinct values of the column are held in a sorted array, and the rows holding each value
+ * in a {@link RoaringBitmap} at the same position in a second array. A value is found by binary
+ * search, and a range of values is a range of positions, whose bitmaps are OR-ed together.
+ *
+ * <p>Before each lookup, any rows appended to the column since the last one are added to the index;
+ * the rows already indexed are not read again. If values already in the column have been set,
+ * sorted or cleared since then, as told by {@link AbstractColumn#modificationCount()}, the index is
+ * rebuilt.
+ *
+ * <p>Missing numeric values are not indexed, as no comparison selects them. Missing strings are
+ * indexed as the empty string, as they are in the column.
+ *
+ * <p>Indexes are usually created with {@link tech.tablesaw.api.Table#createIndex(String)}, which
+ * makes the filters of {@link tech.tablesaw.api.QuerySupport} use them.
+ */
+public final class ColumnIndex {
+
+  private final AbstractColumn<?, ?> column;
+
+  /** True if the column holds strings, false if it holds numbers */
+  private final boolean strings;
+
+  /** The distinct values, in ascending order. Numbers are held as Longs or Doubles */
+  private Comparable<Object>[] keys = newKeys(0);
+
+  /** The rows holding each key */
+  private RoaringBitmap[] postings = new RoaringBitmap[0];
+
+  /** The number of rows of the column that have been indexed */
+  private int indexedRows;
+
+  /** The modification count of the column when the indexed rows were read */
+  private int indexedModifications;
+
+  /** Creates an index of the given column */
+  public ColumnIndex(Column<?> column) {
+    Preconditions.checkArgument(
+        column instanceof StringColumn
+            || column instanceof IntColumn
+            || column instanceof ShortColumn
+            || column instanceof LongColumn
+            || column instanceof FloatColumn
+            || column instanceof DoubleColumn,
+        "Columns of type %s cannot be indexed",
+        column.type());
+    this.column = (AbstractColumn<?, ?>) column;
+    this.strings = column instanceof StringColumn;
+    refresh();
+  }
+
+  /** Returns the column indexed */
+  public Column<?> column() {
+    return column;
+  }
+
+  /** Returns the number of distinct values in the index */
+  public synchronized int keyCount() {
+    refresh();
+    return keys.length;
+  }
+
+  /** Returns the rows whose value equals the given number */
+  public Selection isEqualTo(double value) {
+    return isBetween(value, true, value, true);
+  }
+
+  /**
+   * Returns the rows whose values are in the given range
+   *
+   * @param lo The lower bound, which may be negative infinity
+   * @param loInclusive True if a value equal to the lower bound is in the range
+   * @param hi The upper bound, which may be positive infinity
+   * @param hiInclusive True if a value equal to the upper bound is in the range
+   */
+  public synchronized Selection isBetween(
+      double lo, boolean loInclusive, double hi, boolean hiInclusive) {
+    checkNumeric();
+    refresh();
+    if (Double.isNaN(lo) || Double.isNaN(hi)) {
+      return new BitmapBackedSelection();
+    }
+    int from = firstAbove(lo, loInclusive);
+    int to = firstAbove(hi, !hiInclusive);
+    return union(from, to);
+  }
+
+  /**
+   * Returns the rows whose value, as a double, equals one of the given numbers. As with {@link
+   * tech.tablesaw.api.NumericColumn#isIn(Collection)}, only Doubles in the collection match
+   */
+  public synchronized Selection isIn(Collection<Number> numbers) {
+    checkNumeric();
+    refresh();
+    List<RoaringBitmap> matches = new ArrayList<>();
+    for (Number number : numbers) {
+      if (!(number instanceof Double) || ((Double) number).isNaN()) {
+        continue;
+      }
+      double value = number.doubleValue();
+      int end = firstAbove(value, false);
+      for (int i = firstAbove(value, true); i < end; i++) {
+        if (number.equals(keyValue(i))) {
+          matches.add(postings[i]);
+        }
+      }
+    }
+    return new BitmapBackedSelection(RoaringBitmap.or(matches.iterator()));
+  }
+
+  /** Returns the rows whose value is the given string */
+  public Selection isEqualTo(String value) {
+    return isIn(value);
+  }
+
+  /** Returns the rows whose value is one of the given strings */
+  public synchronized Selection isIn(String... values) {
+    Preconditions.checkState(strings, "The column %s does not hold strings", column.name());
+    refresh();
+    List<RoaringBitmap> matches = new ArrayList<>();
+    for (String value : values) {
+      int i = Arrays.binarySearch(keys, value);
+      if (i >= 0) {
+        matches.add(postings[i]);
+      }
+    }
+    return new BitmapBackedSelection(RoaringBitmap.or(matches.iterator()));
+  }
+
+  private void checkNumeric() {
+    Preconditions.checkState(!strings, "The column %s does not hold numbers", column.name());
+  }
+
+  /**
+   * Returns the position of the first key greater than the given bound, or greater than or equal to
+   * it if {@code orEqual} is true
+   */
+  private int firstAbove(double bound, boolean orEqual) {
+    int low = 0;
+    int high = keys.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      double value = keyValue(mid);
+      if (value > bound || (orEqual && value == bound)) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  private double keyValue(int position) {
+    return ((Number) keys[position]).doubleValue();
+  }
+
+  /** Returns the rows holding any of the keys from position {@code from} up to {@code to} */
+  private Selection union(int from, int to) {
+    if (from >= to) {
+      return new BitmapBackedSelection();
+    }
+    return new BitmapBackedSelection(
+        RoaringBitmap.or(Arrays.asList(postings).subList(from, to).iterator()));
+  }
+
+  /**
+   * Adds the rows appended to the column since the last refresh to the index, or rebuilds the index
+   * if values already indexed may have changed
+   */
+  private synchronized void refresh() {
+    int size = column.size();
+    int modifications = column.modificationCount();
+    if (size < indexedRows || modifications != indexedModifications) {
+      keys = newKeys(0);
+      postings = new RoaringBitmap[0];
+      indexedRows = 0;
+      indexedModifications = modifications;
+    }
+    if (size == indexedRows) {
+      return;
+    }
+    Map<Comparable<Object>, RoaringBitmap> added = new HashMap<>();
+    for (int row = indexedRows; row < size; row++) {
+      Comparable<Object> key = key(row);
+      if (key == null) {
+        continue;
+      }
+      int i = keys.length == 0 ? -1 : Arrays.binarySearch(keys, key);
+      if (i >= 0) {
+        postings[i].add(row);
+      } else {
+        added.computeIfAbsent(key, k -> new RoaringBitmap()).add(row);
+      }
+    }
+    if (!added.isEmpty()) {
+      merge(added);
+    }
+    indexedRows = size;
+  }
+
+  /** Merges the given keys, none of which is in the index, into the sorted arrays */
+  private void merge(Map<Comparable<Object>, RoaringBitmap> added) {
+    Comparable<Object>[] addedKeys = added.keySet().toArray(newKeys(added.size()));
+    Arrays.sort(addedKeys);
+    int length = keys.length + addedKeys.length;
+    Comparable<Object>[] mergedKeys = newKeys(length);
+    RoaringBitmap[] mergedPostings = new RoaringBitmap[length];
+    int i = 0;
+    int j = 0;
+    for (int k = 0; k < length; k++) {
+      if (j == addedKeys.length || (i < keys.length && keys[i].compareTo(addedKeys[j]) < 0)) {
+        mergedKeys[k] = keys[i];
+        mergedPostings[k] = postings[i++];
+      } else {
+        mergedKeys[k] = addedKeys[j];
+        mergedPostings[k] = added.get(addedKeys[j++]);
+        mergedPostings[k].runOptimize();
+      }
+    }
+    keys = mergedKeys;
+    postings = mergedPostings;
+  }
+
+  /** Returns the key of the given row, or null if the row holds a missing number */
+  @SuppressWarnings("unchecked")
+  private Comparable<Object> key(int row) {
+    Comparable<?> key;
+    if (strings) {
+      key = ((StringColumn) column).get(row);
+    } else if (column.isMissing(row)) {
+      return null;
+    } else if (column instanceof IntColumn) {
+      key = (long) ((IntColumn) column).getInt(row);
+    } else if (column instanceof ShortColumn) {
+      key = (long) ((ShortColumn) column).getShort(row);
+    } else if (column instanceof LongColumn) {
+      key = ((LongColumn) column).getLong(row);
+    } else if (column instanceof FloatColumn) {
+      key = (double) ((FloatColumn) column).getFloat(row);
+    } else {
+      key = ((DoubleColumn) column).getDouble(row);
+    }
+    return (Comparable<Object>) key;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Comparable<Object>[] newKeys(int length) {
+    return (Comparable<Object>[]) new Comparable<?>[length];
+  }
+}
@@ -40,7 +40,6 @@ public class DoubleIndex extends Index {
       if (recordIds == null) {
         recordIds = new IntArrayList();
         recordIds.add(i);
-        tempMap.trim();
         tempMap.put(value, recordIds);
       } else {
         recordIds.add(i);
@@ -39,7 +39,6 @@ public class FloatIndex extends Index{
       if (recordIds == null) {
         recordIds = new IntArrayList();
         recordIds.add(i);
-        tempMap.trim();
         tempMap.put(value, recordIds);
       } else {
         recordIds.add(i);
@@ -47,7 +47,6 @@ public class IntIndex extends Index{
       if (recordIds == null) {
         recordIds = new IntArrayList();
         recordIds.add(i);
-        tempMap.trim();
         tempMap.put(value, recordIds);
       } else {
         recordIds.add(i);
@@ -69,7 +68,6 @@ public class IntIndex extends Index{
       if (recordIds == null) {
         recordIds = new IntArrayList();
         recordIds.add(i);
-        tempMap.trim();
         tempMap.put(value, recordIds);
       } else {
         recordIds.add(i);
@@ -88,7 +86,6 @@ public class IntIndex extends Index{
       if (recordIds == null) {
         recordIds = new IntArrayList();
         recordIds.add(i);
-        tempMap.trim();
         tempMap.put(value, recordIds);
       } else {
         recordIds.add(i);
@@ -44,7 +44,6 @@ public class LongIndex extends Index{
       if (recordIds == null) {
         recordIds = new IntArrayList();
         recordIds.add(i);
-        tempMap.trim();
         tempMap.put(value, recordIds);
       } else {
         recordIds.add(i);
@@ -63,7 +62,6 @@ public class LongIndex extends Index{
       if (recordIds == null) {
         recordIds = new IntArrayList();
         recordIds.add(i);
-        tempMap.trim();
         tempMap.put(value, recordIds);
       } else {
         recordIds.add(i);
@@ -1,35 +1,15 @@
 package tech.tablesaw.io;
 
-import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
 
 public class ColumnTypeDetector {
 
-  /** Consider using TextColumn instead of StringColumn for string data after this many rows */
-  private static final int STRING_COLUMN_ROW_COUNT_CUTOFF = 50_000;
-
-  /**
-   * Use a TextColumn if at least this proportion of values are found to be unique in the type
-   * detection sample
-   *
-   * <p>Note: This number is based on an assumption that as more records are considered, a smaller
-   * proportion of these new records will be found to be unique
-   *
-   * <p>Sample calculation; 10 character string = 2 bytes * 10 + 38 extra bytes = 58; rounded up to
-   * 64 so it's a multiple of 8
-   *
-   * <p>With dictionary encoding, we have 2*64 + 2*4 = 136 byte per unique value plus 4 bytes for
-   * each value For text columns we have 64 bytes per string
-   *
-   * <p>So, if every value is unique, using dictionary encoding wastes about 70 bytes per value. If
-   * there are only two unique values, dictionary encoding saves about 62 bytes per value.
-   *
-   * <p>Of course, it all depends on the lengths of the strings.
-   */
-  private static final double STRING_COLUMN_CUTOFF = 0.50;
-
   private final List<ColumnType> typeArray;
 
   /**
@@ -41,6 +21,8 @@ public class ColumnTypeDetector {
    *     test would never be evaluated and all the ints would be read as doubles.
    */
   public ColumnTypeDetector(List<ColumnType> typeArray) {
+    Preconditions.checkArgument(
+        typeArray.size() <= Long.SIZE, "At most %s column types can be detected", Long.SIZE);
     this.typeArray = typeArray;
   }
 
@@ -54,130 +36,45 @@ public class ColumnTypeDetector {
    * that can be corrected and used to explicitly specify the correct column types.
    */
   public ColumnType[] detectColumnTypes(Iterator<String[]> rows, ReadOptions options) {
-    boolean useSampling = options.sample();
-
-    // to hold the results
-    List<ColumnType> columnTypes = new ArrayList<>();
-
-    // to hold the data read from the file
-    List<List<String>> columnData = new ArrayList<>();
-
-    int rowCount = 0; // make sure we don't go over maxRows
-
-    int nextRow = 0;
-    String[] nextLine = new String[0];
+    Detection detection = startDetection(options);
     while (rows.hasNext()) {
-      try {
-        nextLine = rows.next();
-        // initialize the arrays to hold the strings. we don't know how many we need until we read
-        // the
-        // first row
-        if (rowCount == 0) {
-          for (int i = 0; i < nextLine.length; i++) {
-            columnData.add(new ArrayList<>());
-          }
-        }
-        int columnNumber = 0;
-        if (rowCount == nextRow) {
-          for (String field : nextLine) {
-            columnData.get(columnNumber).add(field);
-            columnNumber++;
-          }
-          if (useSampling) {
-            nextRow = nextRow(nextRow);
-          } else {
-            nextRow = nextRowWithoutSampling(nextRow);
-          }
-        }
-        rowCount++;
-      } catch (IndexOutOfBoundsException e) {
-        throw new ColumnIndexOutOfBoundsException(e, nextRow, nextLine);
-      }
+      detection.accept(rows.next());
     }
+    return detection.columnTypes();
+  }
 
-    // now detect
-    for (List<String> valuesList : columnData) {
-      ColumnType detectedType = detectType(valuesList, options);
-      /*
-            if (detectedType.equals(STRING) && rowCount > STRING_COLUMN_ROW_COUNT_CUTOFF
-              && options.columnTypesToDetect().contains(TEXT)
-            ) {
-              HashSet<String> unique = new HashSet<>(valuesList);
-              double uniquePct = unique.size() / (valuesList.size() * 1.0);
-              if (uniquePct > STRING_COLUMN_CUTOFF) {
-                detectedType = TEXT;
-              }
-            }
-      */
-      columnTypes.add(detectedType);
-    }
-    return columnTypes.toArray(new ColumnType[0]);
+  /** Returns a detection to be given the rows of a source one at a time, from the first */
+  public Detection startDetection(ReadOptions options) {
+    return startDetection(options, 0);
   }
 
-  private int nextRowWithoutSampling(int nextRow) {
-    return nextRow + 1;
+  /**
+   * Returns a detection to be given the rows of a source one at a time, starting from the row with
+   * the given number. Detections of consecutive parts of a source can be made independently, for
+   * example on different threads, and then combined with {@link Detection#append(Detection)}
+   */
+  public Detection startDetection(ReadOptions options, int firstRowNumber) {
+    return new Detection(getParserList(typeArray, options), options.sample(), firstRowNumber);
   }
 
-  private int nextRow(int nextRow) {
-    if (nextRow < 10_000) {
-      return nextRow + 1;
-    }
-    if (nextRow < 100_000) {
-      return nextRow + 1000;
+  /** Returns true if the row with the given number is in the sample used for detection */
+  private static boolean isSampled(int rowNumber) {
+    if (rowNumber <= 10_000) {
+      return true;
     }
-    if (nextRow < 1_000_000) {
-      return nextRow + 10_000;
+    if (rowNumber <= 100_000) {
+      return rowNumber % 1000 == 0;
     }
-    if (nextRow < 10_000_000) {
-      return nextRow + 100_000;
+    if (rowNumber <= 1_000_000) {
+      return rowNumber % 10_000 == 0;
     }
-    if (nextRow < 100_000_000) {
-      return nextRow + 1_000_000;
-    }
-    return nextRow + 10_000_000;
-  }
-
-  /**
-   * Returns a predicted ColumnType derived by analyzing the given list of undifferentiated strings
-   * read from a column in the file and applying the given Locale and options
-   */
-  private ColumnType detectType(List<String> valuesList, ReadOptions options) {
-
-    CopyOnWriteArrayList<AbstractColumnParser<?>> parsers =
-        new CopyOnWriteArrayList<>(getParserList(typeArray, options));
-
-    CopyOnWriteArrayList<ColumnType> typeCandidates = new CopyOnWriteArrayList<>(typeArray);
-
-    boolean hasNonMissingValues = false;
-
-    for (String s : valuesList) {
-      for (AbstractColumnParser<?> parser : parsers) {
-        if (!parser.isMissing(s)) {
-          hasNonMissingValues = true;
-          if (!parser.canParse(s)) { // we can skip this test if we know the value is missing
-            typeCandidates.remove(parser.columnType());
-            parsers.remove(parser);
-          }
-        }
-      }
+    if (rowNumber <= 10_000_000) {
+      return rowNumber % 100_000 == 0;
     }
-    if (hasNonMissingValues) {
-      return selectType(typeCandidates);
-    } else {
-      // the last type in the typeArray is the default
-      return typeArray.get(typeArray.size() - 1);
+    if (rowNumber <= 100_000_000) {
+      return rowNumber % 1_000_000 == 0;
     }
-  }
-
-  /**
-   * Returns the selected candidate for a column of data, by picking the first value in the given
-   * list
-   *
-   * @param typeCandidates a possibly empty list of candidates. This list should be sorted in order
-   *     of preference
-   */
-  private ColumnType selectType(List<ColumnType> typeCandidates) {
-    return typeCandidates.get(0);
+    return rowNumber % 10_000_000 == 0;
   }
 
   /**
@@ -197,4 +94,134 @@ public class ColumnTypeDetector {
     }
     return parsers;
   }
+
+  /**
+   * The state of the detection of the column types of a source, which is updated as each row is
+   * read, so the values need not be kept. For each column it holds only the set of types that can
+   * still parse every value seen, and whether any value was not missing, so a type that fails once
+   * is never tried on that column again.
+   */
+  public final class Detection {
+
+    private final AbstractColumnParser<?>[] parsers;
+    private final boolean useSampling;
+
+    /** True if the first row given to this detection is the first row of the source */
+    private final boolean leading;
+
+    private int nextRowNumber;
+
+    /** The number of columns in the first row, or -1 before the first row is seen */
+    private int columnCount = -1;
+
+    /** For each column, a bit for each type in the type array that is still a candidate */
+    private long[] candidates = new long[0];
+
+    private boolean[] hasNonMissingValues = new boolean[0];
+
+    /**
+     * For a detection that does not start at the first row, the rows that were wider than all the
+     * rows before them, which are checked against the width of the first row when appended
+     */
+    private final List<String[]> widerRows = new ArrayList<>();
+
+    private final List<Integer> widerRowNumbers = new ArrayList<>();
+
+    private Detection(List<AbstractColumnParser<?>> parsers, boolean useSampling, int firstRow) {
+      this.parsers = parsers.toArray(new AbstractColumnParser<?>[0]);
+      this.useSampling = useSampling;
+      this.leading = firstRow == 0;
+      this.nextRowNumber = firstRow;
+    }
+
+    /** Updates the detection with the values of the next row of the source */
+    public void accept(String[] row) {
+      int rowNumber = nextRowNumber++;
+      if (useSampling && !isSampled(rowNumber)) {
+        return;
+      }
+      if (row.length > columnCount) {
+        if (leading && columnCount >= 0) {
+          throw tooWide(rowNumber, row, columnCount);
+        }
+        if (!leading) {
+          widerRows.add(row);
+          widerRowNumbers.add(rowNumber);
+        }
+        addColumns(row.length);
+      }
+      for (int i = 0; i < row.length; i++) {
+        update(i, row[i]);
+      }
+    }
+
+    /**
+     * Updates this detection with another, which was given the rows that follow the last row given
+     * to this one
+     */
+    public void append(Detection following) {
+      Preconditions.checkState(leading, "Detections can only be appended to the first");
+      Preconditions.checkArgument(
+          !following.leading, "The detection to append must not start at the first row");
+      for (int i = 0; i < following.widerRows.size(); i++) {
+        String[] row = following.widerRows.get(i);
+        if (row.length > columnCount) {
+          if (columnCount >= 0) {
+            throw tooWide(following.widerRowNumbers.get(i), row, columnCount);
+          }
+          addColumns(row.length);
+        }
+      }
+      for (int i = 0; i < following.candidates.length; i++) {
+        candidates[i] &= following.candidates[i];
+        hasNonMissingValues[i] |= following.hasNonMissingValues[i];
+      }
+      nextRowNumber = following.nextRowNumber;
+    }
+
+    /** Returns the detected type of each column */
+    public ColumnType[] columnTypes() {
+      ColumnType[] columnTypes = new ColumnType[Math.max(columnCount, 0)];
+      for (int i = 0; i < columnTypes.length; i++) {
+        if (hasNonMissingValues[i]) {
+          // the first remaining candidate is the preferred one
+          columnTypes[i] = typeArray.get(Long.numberOfTrailingZeros(candidates[i]));
+        } else {
+          // the last type in the typeArray is the default
+          columnTypes[i] = typeArray.get(typeArray.size() - 1);
+        }
+      }
+      return columnTypes;
+    }
+
+    private void update(int column, String value) {
+      long remaining = candidates[column];
+      for (long bits = remaining; bits != 0; bits &= bits - 1) {
+        int type = Long.numberOfTrailingZeros(bits);
+        AbstractColumnParser<?> parser = parsers[type];
+        // we can skip the test if we know the value is missing
+        if (!parser.isMissing(value)) {
+          hasNonMissingValues[column] = true;
+          if (!parser.canParse(value)) {
+            remaining &= ~(1L << type);
+          }
+        }
+      }
+      candidates[column] = remaining;
+    }
+
+    private void addColumns(int count) {
+      int previous = candidates.length;
+      candidates = Arrays.copyOf(candidates, count);
+      hasNonMissingValues = Arrays.copyOf(hasNonMissingValues, count);
+      long allTypes = parsers.length == Long.SIZE ? -1L : (1L << parsers.length) - 1;
+      Arrays.fill(candidates, previous, count, allTypes);
+      columnCount = count;
+    }
+
+    private ColumnIndexOutOfBoundsException tooWide(long rowNumber, String[] row, int width) {
+      return new ColumnIndexOutOfBoundsException(
+          new IndexOutOfBoundsException("Index: " + width + ", Size: " + width), rowNumber, row);
+    }
+  }
 }
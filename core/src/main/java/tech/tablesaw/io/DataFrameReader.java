@@ -27,6 +27,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.io.csv.CsvBatchReader;
 import tech.tablesaw.io.csv.CsvReadOptions;
 import tech.tablesaw.io.csv.CsvReader;
 import tech.tablesaw.io.jdbc.SqlResultSetReader;
@@ -211,4 +212,12 @@ public class DataFrameReader {
   public Table csv(CsvReadOptions options) {
     return new CsvReader().read(options);
   }
+
+  /**
+   * Returns a reader of the CSV source given in the options as a sequence of tables of up to the
+   * given number of rows, so that sources larger than memory can be processed a batch at a time
+   */
+  public CsvBatchReader csvBatches(CsvReadOptions options, int batchSize) {
+    return new CsvReader().readBatches(options, batchSize);
+  }
 }
@@ -15,6 +15,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Random;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.tablesaw.api.*;
@@ -43,31 +44,47 @@ public abstract class FileReader {
       parser.parseNext();
     }
 
-    ColumnTypeDetector detector = new ColumnTypeDetector(options.columnTypesToDetect());
+    return detectColumnTypes(
+        new Iterator<String[]>() {
+
+          String[] nextRow = parser.parseNext();
+
+          @Override
+          public boolean hasNext() {
+            return nextRow != null;
+          }
+
+          @Override
+          public String[] next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            String[] tmp = nextRow;
+            nextRow = parser.parseNext();
+            return tmp;
+          }
+        },
+        options,
+        columnNames);
+  }
 
-    ColumnType[] columnTypes =
-        detector.detectColumnTypes(
-            new Iterator<String[]>() {
-
-              String[] nextRow = parser.parseNext();
-
-              @Override
-              public boolean hasNext() {
-                return nextRow != null;
-              }
-
-              @Override
-              public String[] next() {
-                if (!hasNext()) {
-                  throw new NoSuchElementException();
-                }
-                String[] tmp = nextRow;
-                nextRow = parser.parseNext();
-                return tmp;
-              }
-            },
-            options);
+  /**
+   * Returns the types of the columns of the given rows, as detected from their values, except where
+   * the options give the type of a column
+   */
+  protected ColumnType[] detectColumnTypes(
+      Iterator<String[]> rows, ReadOptions options, String[] columnNames) {
+    ColumnTypeDetector detector = new ColumnTypeDetector(options.columnTypesToDetect());
+    return withConfiguredColumnTypes(
+        detector.detectColumnTypes(rows, options), options, columnNames);
+  }
 
+  /**
+   * Returns the given detected column types, replaced by the types given in the options for the
+   * columns that have them
+   */
+  protected ColumnType[] withConfiguredColumnTypes(
+      ColumnType[] columnTypes, ReadOptions options, String[] columnNames) {
     // If there are columnTypes configured by the user use them
     for (int i = 0; i < columnTypes.length; i++) {
       boolean hasColumnName = columnNames != null && i < columnNames.length;
@@ -161,11 +178,22 @@ public abstract class FileReader {
       AbstractParser<?> parser,
       int sampleSize) {
     parser.beginParsing(reader);
-    Table table = Table.create(options.tableName());
 
     List<String> headerRow =
         Lists.newArrayList(getColumnNames(options, columnTypeReadOptions, parser));
+    ColumnType[] types = getColumnTypes(headerRow, columnTypeReadOptions);
+    Table table = createTable(options, headerRow, types);
+
+    if (!headerOnly) {
+      addRows(options, types, parser, table, getColumnIndexes(headerRow, types), sampleSize);
+    }
+
+    return table;
+  }
 
+  /** Returns the type of each of the named columns, including those to be skipped */
+  protected ColumnType[] getColumnTypes(
+      List<String> headerRow, ReadOptions.ColumnTypeReadOptions columnTypeReadOptions) {
     @SuppressWarnings({"UnstableApiUsage", "OptionalGetWithoutIsPresent"})
     ColumnType[] types =
         Streams.mapWithIndex(
@@ -174,7 +202,12 @@ public abstract class FileReader {
             .filter(Optional::isPresent)
             .map(Optional::get)
             .toArray(ColumnType[]::new);
+    return types;
+  }
 
+  /** Returns an empty table with a column for each of the given types that is not skipped */
+  protected Table createTable(ReadOptions options, List<String> headerRow, ColumnType[] types) {
+    Table table = Table.create(options.tableName());
     for (int x = 0; x < types.length; x++) {
       if (types[x] != SKIP) {
         String columnName = cleanName(headerRow.get(x));
@@ -187,36 +220,72 @@ public abstract class FileReader {
         table.addColumns(newColumn);
       }
     }
+    return table;
+  }
 
-    if (!headerOnly) {
-      String[] columnNames = selectColumnNames(headerRow, types);
-      int[] columnIndexes = new int[columnNames.length];
-      for (int i = 0; i < columnIndexes.length; i++) {
-        // get the index in the original table, which includes skipped fields
-        columnIndexes[i] = headerRow.indexOf(columnNames[i]);
-      }
-      addRows(options, types, parser, table, columnIndexes, sampleSize);
+  /**
+   * Returns the index in each row read from the source of the value of each column that is not
+   * skipped
+   */
+  protected int[] getColumnIndexes(List<String> headerRow, ColumnType[] types) {
+    String[] columnNames = selectColumnNames(headerRow, types);
+    int[] columnIndexes = new int[columnNames.length];
+    for (int i = 0; i < columnIndexes.length; i++) {
+      // get the index in the original table, which includes skipped fields
+      columnIndexes[i] = headerRow.indexOf(columnNames[i]);
     }
-
-    return table;
+    return columnIndexes;
   }
 
-  private void addRows(
+  /**
+   * Adds the rows read by the given parser to the given table, which has a column for each of the
+   * given types that is not skipped. If the sample size is not negative, a random sample of that
+   * many rows is kept
+   */
+  protected void addRows(
       ReadOptions options,
       ColumnType[] types,
       AbstractParser<?> reader,
       Table table,
       int[] columnIndexes,
       int sampleSize) {
+    addRows(options, types, reader, table, columnIndexes, sampleSize, options.header() ? 1 : 0);
+  }
+
+  /**
+   * Adds the rows read by the given parser to the given table, numbering the rows in error messages
+   * from the given row number
+   */
+  protected void addRows(
+      ReadOptions options,
+      ColumnType[] types,
+      AbstractParser<?> reader,
+      Table table,
+      int[] columnIndexes,
+      int sampleSize,
+      int firstRowNumber) {
+    addRows(options, types, reader::parseNext, table, columnIndexes, sampleSize, firstRowNumber);
+  }
+
+  /**
+   * Adds the rows given by the supplier, until it returns null, to the given table, numbering the
+   * rows in error messages from the given row number
+   */
+  protected void addRows(
+      ReadOptions options,
+      ColumnType[] types,
+      Supplier<String[]> rows,
+      Table table,
+      int[] columnIndexes,
+      int sampleSize,
+      int firstRowNumber) {
 
     String[] nextLine;
     Map<String, AbstractColumnParser<?>> parserMap = getParserMap(options, table);
 
     Random random = new Random(0);
     // Add the rows
-    for (int rowNumber = options.header() ? 1 : 0;
-        (nextLine = reader.parseNext()) != null;
-        rowNumber++) {
+    for (int rowNumber = firstRowNumber; (nextLine = rows.get()) != null; rowNumber++) {
       // validation
       if (options.skipRowsWithInvalidColumnCount()
           && options.header()
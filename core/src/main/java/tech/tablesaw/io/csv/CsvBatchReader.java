@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.csv;
+
+import com.univocity.parsers.csv.CsvParser;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.io.RuntimeIOException;
+
+/**
+ * Reads a CSV source as a sequence of tables, each holding the next batch of rows, so a source
+ * larger than memory can be processed a batch at a time. Every batch has the same columns, with the
+ * types given in the options or detected from the first rows of the source.
+ *
+ * <p>The source is read once, as the batches are requested. The reader should be closed when it is
+ * no longer needed, which closes the source unless it was opened by the caller:
+ *
+ * <pre>{@code
+ * try (CsvBatchReader batches = new CsvReader().readBatches(options, 100_000)) {
+ *   while (batches.hasNext()) {
+ *     Table batch = batches.next();
+ *     ...
+ *   }
+ * }
+ * }</pre>
+ */
+public class CsvBatchReader implements Iterator<Table>, AutoCloseable {
+
+  private final CsvReader csvReader;
+  private final CsvReadOptions options;
+  private final int batchSize;
+  private final Reader reader;
+  private final CsvParser parser;
+  private final Table structure;
+  private final ColumnType[] types;
+  private final int[] columnIndexes;
+
+  /** Rows that have been parsed, but not yet added to a batch */
+  private final Deque<String[]> pending;
+
+  private int nextRowNumber;
+
+  CsvBatchReader(
+      CsvReader csvReader,
+      CsvReadOptions options,
+      int batchSize,
+      Reader reader,
+      CsvParser parser,
+      Table structure,
+      ColumnType[] types,
+      int[] columnIndexes,
+      Deque<String[]> pending) {
+    this.csvReader = csvReader;
+    this.options = options;
+    this.batchSize = batchSize;
+    this.reader = reader;
+    this.parser = parser;
+    this.structure = structure;
+    this.types = types;
+    this.columnIndexes = columnIndexes;
+    this.pending = new ArrayDeque<>(pending);
+    this.nextRowNumber = options.header() ? 1 : 0;
+  }
+
+  /** Returns an empty table with the columns of every batch */
+  public Table structure() {
+    return structure.emptyCopy();
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (pending.isEmpty()) {
+      String[] row = parser.parseNext();
+      if (row == null) {
+        return false;
+      }
+      pending.add(row);
+    }
+    return true;
+  }
+
+  /** Returns a table holding the next batch of rows, up to the batch size */
+  @Override
+  public Table next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Table batch = structure.emptyCopy();
+    int firstRowNumber = nextRowNumber;
+    csvReader.addBatch(
+        options,
+        types,
+        () -> {
+          if (nextRowNumber - firstRowNumber == batchSize || !hasNext()) {
+            return null;
+          }
+          nextRowNumber++;
+          return pending.poll();
+        },
+        batch,
+        columnIndexes,
+        firstRowNumber);
+    return batch;
+  }
+
+  /** Returns a sequential stream of the remaining batches, which closes this reader when closed */
+  public Stream<Table> stream() {
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(this::close);
+  }
+
+  @Override
+  public void close() {
+    parser.stopParsing();
+    if (options.source().reader() == null) {
+      // if the client opened the reader, let the client close it
+      try {
+        reader.close();
+      } catch (IOException e) {
+        throw new RuntimeIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.csv;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits a CSV file into chunks of whole records, so the chunks can be parsed independently of one
+ * another. The split is made in a single pass over the bytes of the file, which follows quoted
+ * fields so that line breaks within them never end a chunk.
+ */
+final class CsvChunks {
+
+  /** Charsets in which the line feed, quote and separator bytes only ever stand for themselves */
+  private static final Set<Charset> SPLITTABLE_CHARSETS =
+      ImmutableSet.of(
+          StandardCharsets.UTF_8,
+          StandardCharsets.US_ASCII,
+          StandardCharsets.ISO_8859_1,
+          Charset.forName("windows-1252"));
+
+  private static final char DEFAULT_QUOTE = '"';
+  private static final char DEFAULT_SEPARATOR = ',';
+
+  // States of the scanner
+  private static final int FIELD_START = 0;
+  private static final int UNQUOTED = 1;
+  private static final int QUOTED = 2;
+  private static final int QUOTE_IN_QUOTED = 3;
+  private static final int ESCAPED = 4;
+
+  private final File file;
+  private final Charset charset;
+  private final byte quote;
+  private final byte escape;
+  private final byte separator;
+  private final boolean header;
+
+  CsvChunks(CsvReadOptions options) {
+    this.file = options.source().file();
+    this.charset = options.source().getCharset();
+    this.quote = (byte) (options.quoteChar() == null ? DEFAULT_QUOTE : options.quoteChar());
+    this.escape = options.escapeChar() == null ? quote : (byte) (char) options.escapeChar();
+    this.separator = (byte) (options.separator() == null ? DEFAULT_SEPARATOR : options.separator());
+    this.header = options.header();
+  }
+
+  /**
+   * Returns true if the file to be read with the given options can be split into chunks. That
+   * requires a file in a charset where the structural characters are single bytes, with records
+   * ending in line feeds, and without comments, which could hide quotes
+   */
+  static boolean canSplit(CsvReadOptions options) {
+    return options.source().file() != null
+        && options.source().getCharset() != null
+        && SPLITTABLE_CHARSETS.contains(options.source().getCharset())
+        && options.commentPrefix() == null
+        && (options.lineEnding() == null || options.lineEnding().endsWith("\n"))
+        && isSingleByte(options.quoteChar())
+        && isSingleByte(options.escapeChar())
+        && isSingleByte(options.separator());
+  }
+
+  private static boolean isSingleByte(Character c) {
+    return c == null || c < 0x80;
+  }
+
+  /** Splits the file into chunks of about the given size, after the header if the file has one */
+  List<Chunk> split(long chunkSize) throws IOException {
+    List<Chunk> chunks = new ArrayList<>();
+    byte[] buffer = new byte[1 << 16];
+    int state = FIELD_START;
+    long position = 0;
+    long chunkStart = 0;
+    int records = 0;
+    int chunkFirstRecord = 0;
+    boolean inHeader = header;
+    // Blank lines are skipped by the parser, so they are not counted as records
+    boolean blankLine = true;
+    try (InputStream in = new FileInputStream(file)) {
+      int length;
+      while ((length = in.read(buffer)) > 0) {
+        for (int i = 0; i < length; i++) {
+          byte b = buffer[i];
+          position++;
+          state = next(state, b);
+          if (state == FIELD_START && b == '\n') {
+            if (blankLine) {
+              continue;
+            }
+            blankLine = true;
+            if (inHeader) {
+              inHeader = false;
+              chunkStart = position;
+            } else {
+              records++;
+              if (position - chunkStart >= chunkSize) {
+                chunks.add(new Chunk(chunkStart, position, chunkFirstRecord));
+                chunkStart = position;
+                chunkFirstRecord = records;
+              }
+            }
+          } else if (!isWhitespace(b)) {
+            blankLine = false;
+          }
+        }
+      }
+    }
+    if (position > chunkStart && !inHeader) {
+      chunks.add(new Chunk(chunkStart, position, chunkFirstRecord));
+    }
+    return chunks;
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+  }
+
+  /** Returns the state of the scanner after the given byte */
+  private int next(int state, byte b) {
+    switch (state) {
+      case QUOTED:
+        if (b == escape && escape != quote) {
+          return ESCAPED;
+        }
+        return b == quote ? QUOTE_IN_QUOTED : QUOTED;
+      case ESCAPED:
+        return QUOTED;
+      case QUOTE_IN_QUOTED:
+        if (b == quote && escape == quote) {
+          return QUOTED;
+        }
+        return unquoted(b);
+      case FIELD_START:
+        if (b == quote) {
+          return QUOTED;
+        }
+        // leading whitespace is ignored, so a quote may still open the field
+        if (b == ' ' || b == '\t') {
+          return FIELD_START;
+        }
+        return unquoted(b);
+      default:
+        return unquoted(b);
+    }
+  }
+
+  private int unquoted(byte b) {
+    return b == separator || b == '\n' ? FIELD_START : UNQUOTED;
+  }
+
+  /** Returns a reader over the bytes of the given chunk */
+  Reader reader(Chunk chunk) throws IOException {
+    InputStream in = new FileInputStream(file);
+    ByteStreams.skipFully(in, chunk.start);
+    return new InputStreamReader(
+        new BufferedInputStream(ByteStreams.limit(in, chunk.end - chunk.start)), charset);
+  }
+
+  /** A range of bytes in the file holding whole records */
+  static final class Chunk {
+    private final long start;
+    private final long end;
+    private final int firstRecord;
+
+    Chunk(long start, long end, int firstRecord) {
+      this.start = start;
+      this.end = end;
+      this.firstRecord = firstRecord;
+    }
+
+    /**
+     * Returns the index of the first record in the chunk, counting from the first after the header
+     */
+    int firstRecord() {
+      return firstRecord;
+    }
+  }
+}
@@ -14,6 +14,7 @@
 
 package tech.tablesaw.io.csv;
 
+import com.google.common.base.Preconditions;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -37,6 +38,7 @@ public class CsvReadOptions extends ReadOptions {
   private final Character commentPrefix;
   private final boolean lineSeparatorDetectionEnabled;
   private final int sampleSize;
+  private final int parallelism;
 
   private CsvReadOptions(CsvReadOptions.Builder builder) {
     super(builder);
@@ -48,6 +50,7 @@ public class CsvReadOptions extends ReadOptions {
     commentPrefix = builder.commentPrefix;
     lineSeparatorDetectionEnabled = builder.lineSeparatorDetectionEnabled;
     sampleSize = builder.sampleSize;
+    parallelism = builder.parallelism;
   }
 
   @Override
@@ -57,6 +60,7 @@ public class CsvReadOptions extends ReadOptions {
     CsvReadOptions that = (CsvReadOptions) o;
     return lineSeparatorDetectionEnabled == that.lineSeparatorDetectionEnabled
         && sampleSize == that.sampleSize
+        && parallelism == that.parallelism
         && Objects.equals(separator, that.separator)
         && Objects.equals(quoteChar, that.quoteChar)
         && Objects.equals(escapeChar, that.escapeChar)
@@ -75,7 +79,8 @@ public class CsvReadOptions extends ReadOptions {
         maxNumberOfColumns,
         commentPrefix,
         lineSeparatorDetectionEnabled,
-        sampleSize);
+        sampleSize,
+        parallelism);
   }
 
   public static Builder builder(Source source) {
@@ -179,6 +184,10 @@ public class CsvReadOptions extends ReadOptions {
     return sampleSize;
   }
 
+  public int parallelism() {
+    return parallelism;
+  }
+
   public static class Builder extends ReadOptions.Builder {
 
     private Character separator;
@@ -189,6 +198,7 @@ public class CsvReadOptions extends ReadOptions {
     private Character commentPrefix;
     private boolean lineSeparatorDetectionEnabled = true;
     private int sampleSize = -1;
+    private int parallelism = 1;
 
     protected Builder(Source source) {
       super(source);
@@ -287,6 +297,21 @@ public class CsvReadOptions extends ReadOptions {
       return this;
     }
 
+    /**
+     * Defines the number of threads used to parse a file. With more than one, the file is split
+     * into chunks of whole records, which are parsed at the same time and then joined in order. The
+     * default is one, which parses the file on the calling thread.
+     *
+     * <p>Only files are read in parallel, and only those in an ASCII-compatible charset such as
+     * UTF-8, without a comment prefix and with records ending in line feeds. Other sources, and
+     * reads that take a sample of the rows, are parsed on the calling thread.
+     */
+    public Builder parallelism(int threads) {
+      Preconditions.checkArgument(threads > 0, "The parallelism must be positive");
+      this.parallelism = threads;
+      return this;
+    }
+
     @Override
     public CsvReadOptions build() {
       return new CsvReadOptions(this);
@@ -14,6 +14,9 @@
 
 package tech.tablesaw.io.csv;
 
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
 import com.google.common.io.CharStreams;
 import com.univocity.parsers.common.AbstractParser;
 import com.univocity.parsers.csv.CsvFormat;
@@ -21,6 +24,15 @@ import com.univocity.parsers.csv.CsvParser;
 import com.univocity.parsers.csv.CsvParserSettings;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import javax.annotation.concurrent.Immutable;
 import org.apache.commons.math3.util.Pair;
 import tech.tablesaw.api.ColumnType;
@@ -32,6 +44,13 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
 
   private static final CsvReader INSTANCE = new CsvReader();
 
+  // Files are split into a few chunks per thread, so a slow chunk holds up the others less
+  private static final int CHUNKS_PER_THREAD = 4;
+  private static final long MIN_CHUNK_SIZE = 1 << 20;
+
+  /** The number of rows at the start of a source read in batches used to detect column types */
+  public static final int BATCH_DETECTION_ROWS = 10_000;
+
   static {
     register(Table.defaultReaderRegistry);
   }
@@ -56,19 +75,20 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
     ReadOptions.ColumnTypeReadOptions columnTypeReadOptions = options.columnTypeReadOptions();
     byte[] bytesCache = null;
 
-    boolean need2ParseFile =
-        !columnTypeReadOptions.hasColumnTypeForAllColumns()
-            && (!options.header()
-                || !columnTypeReadOptions.hasColumnTypeForAllColumnsIfHavingColumnNames());
-    if (need2ParseFile) {
-      Reader reader = source.createReader(null);
-      if (source.file() == null) {
-        String s = CharStreams.toString(reader);
-        bytesCache = source.getCharset() != null ? s.getBytes(source.getCharset()) : s.getBytes();
-        // create a new reader since we just exhausted the existing one
-        reader = source.createReader(bytesCache);
+    if (needsTypeDetection(options)) {
+      ColumnType[] detectedColumnTypes;
+      if (options.parallelism() > 1 && CsvChunks.canSplit(options)) {
+        detectedColumnTypes = detectColumnTypesInParallel(options);
+      } else {
+        Reader reader = source.createReader(null);
+        if (source.file() == null) {
+          String s = CharStreams.toString(reader);
+          bytesCache = source.getCharset() != null ? s.getBytes(source.getCharset()) : s.getBytes();
+          // create a new reader since we just exhausted the existing one
+          reader = source.createReader(bytesCache);
+        }
+        detectedColumnTypes = detectColumnTypes(reader, options);
       }
-      ColumnType[] detectedColumnTypes = detectColumnTypes(reader, options);
       // If no columns where returned from detectColumnTypes leave initial options (that's the case
       // for only header present)
       if (detectedColumnTypes.length > 0) {
@@ -79,6 +99,14 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
     return Pair.create(source.createReader(bytesCache), columnTypeReadOptions);
   }
 
+  /** Returns true if the options do not give the types of all the columns */
+  private boolean needsTypeDetection(CsvReadOptions options) {
+    ReadOptions.ColumnTypeReadOptions columnTypeReadOptions = options.columnTypeReadOptions();
+    return !columnTypeReadOptions.hasColumnTypeForAllColumns()
+        && (!options.header()
+            || !columnTypeReadOptions.hasColumnTypeForAllColumnsIfHavingColumnNames());
+  }
+
   public Table read(CsvReadOptions options) {
     try {
       return read(options, false);
@@ -109,6 +137,221 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
     }
   }
 
+  /**
+   * Returns a reader of the source given in the options as a sequence of tables of up to the given
+   * number of rows. Column types that are not given in the options are detected from the rows at
+   * the start of the source, as many as {@link #BATCH_DETECTION_ROWS}, rather than the whole
+   * source, which is read only once
+   */
+  public CsvBatchReader readBatches(CsvReadOptions options, int batchSize) {
+    Preconditions.checkArgument(batchSize > 0, "The batch size must be positive");
+    Reader reader;
+    try {
+      reader = options.source().createReader(null);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
+    CsvParser parser = csvParser(options);
+    parser.beginParsing(reader);
+    try {
+      ReadOptions.ColumnTypeReadOptions columnTypeReadOptions = options.columnTypeReadOptions();
+      String[] columnNames =
+          options.header() ? getColumnNames(options, columnTypeReadOptions, parser) : null;
+
+      Deque<String[]> prefix = new ArrayDeque<>();
+      if (needsTypeDetection(options)) {
+        String[] row;
+        while (prefix.size() < BATCH_DETECTION_ROWS && (row = parser.parseNext()) != null) {
+          prefix.add(row);
+        }
+        ColumnType[] detectedColumnTypes =
+            detectColumnTypes(prefix.iterator(), options, columnNames);
+        if (detectedColumnTypes.length > 0) {
+          columnTypeReadOptions = ReadOptions.ColumnTypeReadOptions.of(detectedColumnTypes);
+        }
+      }
+      if (columnNames == null) {
+        columnNames = getColumnNames(options, columnTypeReadOptions, parser);
+      }
+
+      List<String> headerRow = Lists.newArrayList(columnNames);
+      ColumnType[] types = getColumnTypes(headerRow, columnTypeReadOptions);
+      Table structure = createTable(options, headerRow, types);
+      return new CsvBatchReader(
+          this,
+          options,
+          batchSize,
+          reader,
+          parser,
+          structure,
+          types,
+          getColumnIndexes(headerRow, types),
+          prefix);
+    } catch (RuntimeException e) {
+      // no batch reader is returned to close the source, so it is closed here
+      parser.stopParsing();
+      if (options.source().reader() == null) {
+        try {
+          reader.close();
+        } catch (IOException closeException) {
+          e.addSuppressed(closeException);
+        }
+      }
+      throw e;
+    }
+  }
+
+  /** Adds the rows given by the supplier to a batch, numbering them from the given row number */
+  void addBatch(
+      CsvReadOptions options,
+      ColumnType[] types,
+      Supplier<String[]> rows,
+      Table batch,
+      int[] columnIndexes,
+      int firstRowNumber) {
+    addRows(options, types, rows, batch, columnIndexes, -1, firstRowNumber);
+  }
+
+  /**
+   * Adds the rows of the file to the table, parsing chunks of the file in parallel if the options
+   * allow it
+   */
+  @Override
+  protected void addRows(
+      ReadOptions options,
+      ColumnType[] types,
+      AbstractParser<?> parser,
+      Table table,
+      int[] columnIndexes,
+      int sampleSize) {
+    CsvReadOptions csvOptions = (CsvReadOptions) options;
+    if (csvOptions.parallelism() == 1 || sampleSize >= 0 || !CsvChunks.canSplit(csvOptions)) {
+      super.addRows(options, types, parser, table, columnIndexes, sampleSize);
+      return;
+    }
+    try {
+      addRowsInParallel(csvOptions, types, table, columnIndexes);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Parses chunks of the file into copies of the empty table on a pool of threads, then appends the
+   * copies to the table in the order of the chunks
+   */
+  private void addRowsInParallel(
+      CsvReadOptions options, ColumnType[] types, Table table, int[] columnIndexes)
+      throws IOException {
+    int firstRowNumber = options.header() ? 1 : 0;
+    List<Table> chunkTables =
+        parseChunks(
+            options,
+            (chunk, chunkParser) -> {
+              Table chunkTable = table.emptyCopy();
+              addRows(
+                  options,
+                  types,
+                  chunkParser,
+                  chunkTable,
+                  columnIndexes,
+                  -1,
+                  firstRowNumber + chunk.firstRecord());
+              return chunkTable;
+            });
+    for (Table chunkTable : chunkTables) {
+      table.append(chunkTable);
+    }
+  }
+
+  /**
+   * Detects the column types of the file by running a detection over each chunk of the file on a
+   * pool of threads, and combining them in the order of the chunks
+   */
+  private ColumnType[] detectColumnTypesInParallel(CsvReadOptions options) throws IOException {
+    String[] columnNames = null;
+    if (options.header()) {
+      CsvParser parser = csvParser(options);
+      try (Reader reader = options.source().createReader(null)) {
+        parser.beginParsing(reader);
+        columnNames = getColumnNames(options, options.columnTypeReadOptions(), parser);
+      } finally {
+        parser.stopParsing();
+      }
+    }
+    ColumnTypeDetector detector = new ColumnTypeDetector(options.columnTypesToDetect());
+    List<ColumnTypeDetector.Detection> detections =
+        parseChunks(
+            options,
+            (chunk, chunkParser) -> {
+              ColumnTypeDetector.Detection detection =
+                  detector.startDetection(options, chunk.firstRecord());
+              String[] row;
+              while ((row = chunkParser.parseNext()) != null) {
+                detection.accept(row);
+              }
+              return detection;
+            });
+    if (detections.isEmpty()) {
+      return new ColumnType[0];
+    }
+    ColumnTypeDetector.Detection detection = detections.get(0);
+    for (int i = 1; i < detections.size(); i++) {
+      detection.append(detections.get(i));
+    }
+    return withConfiguredColumnTypes(detection.columnTypes(), options, columnNames);
+  }
+
+  /**
+   * Splits the file into chunks and gives each to the given task with a parser over its rows, on a
+   * pool of threads. Returns the results of the task in the order of the chunks
+   */
+  private <T> List<T> parseChunks(CsvReadOptions options, ChunkTask<T> task) throws IOException {
+    CsvChunks chunks = new CsvChunks(options);
+    long fileSize = options.source().file().length();
+    long chunkSize =
+        Math.max(MIN_CHUNK_SIZE, fileSize / ((long) options.parallelism() * CHUNKS_PER_THREAD));
+
+    ForkJoinPool pool = new ForkJoinPool(options.parallelism());
+    try {
+      List<Future<T>> futures = new ArrayList<>();
+      for (CsvChunks.Chunk chunk : chunks.split(chunkSize)) {
+        futures.add(
+            pool.submit(
+                () -> {
+                  CsvParser chunkParser = csvParser(options);
+                  try (Reader reader = chunks.reader(chunk)) {
+                    chunkParser.beginParsing(reader);
+                    return task.apply(chunk, chunkParser);
+                  } finally {
+                    chunkParser.stopParsing();
+                  }
+                }));
+      }
+      List<T> results = new ArrayList<>();
+      for (Future<T> future : futures) {
+        try {
+          results.add(future.get());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+          Throwables.throwIfUnchecked(e.getCause());
+          Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+      return results;
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /** Work done on a chunk of a file with a parser over the rows of the chunk */
+  private interface ChunkTask<T> {
+    T apply(CsvChunks.Chunk chunk, CsvParser parser) throws IOException;
+  }
+
   /**
    * Returns a string representation of the column types in file {@code csvFilename}, as determined
    * by the type-detection algorithm
@@ -13,6 +13,12 @@ public class DataFrameJoiner extends AbstractJoiner {
   /** The join algorithm to be used */
   private JoinStrategy strategy;
 
+  /** The algorithm requested by the user, or null if it is to be selected automatically */
+  private JoinAlgorithm algorithm;
+
+  /** The number of threads used to perform a hash join */
+  private int parallelism = 1;
+
   /** The first (left) table named in the join statement */
   private final Table table;
 
@@ -136,6 +142,39 @@ public class DataFrameJoiner extends AbstractJoiner {
     return this;
   }
 
+  /**
+   * Sets the algorithm used to perform the join. If this method is not called, a hash join is used
+   * when the join columns support it and the table it's built on fits in memory; otherwise either a
+   * sort-merge or cross-product join is chosen based on the cardinality of the join columns.
+   *
+   * @param algorithm The algorithm to use
+   * @return This DataFrameJoiner instance
+   */
+  public DataFrameJoiner joinAlgorithm(JoinAlgorithm algorithm) {
+    Preconditions.checkNotNull(algorithm);
+    this.algorithm = algorithm;
+    return this;
+  }
+
+  /**
+   * Sets the number of threads used to perform the join. When greater than one, a hash join
+   * partitions both tables on the hash of their join keys and joins the partitions concurrently on
+   * a pool of this size. The order of the rows in the result is then unspecified. Parallelism
+   * applies only to hash joins, which are used by default when possible; it is ignored if another
+   * algorithm is selected explicitly with {@link #joinAlgorithm(JoinAlgorithm)}.
+   *
+   * <p>If this method is not called, the default is 1, and the join is performed on the calling
+   * thread
+   *
+   * @param threads The number of threads to use
+   * @return This DataFrameJoiner instance
+   */
+  public DataFrameJoiner parallelism(int threads) {
+    Preconditions.checkArgument(threads > 0);
+    this.parallelism = threads;
+    return this;
+  }
+
   /**
    * The table or tables to be used on the right side of the join. If more than one table is
    * provided, the join is executed repeatedly, merging the next right table with the prior results
@@ -189,12 +228,19 @@ public class DataFrameJoiner extends AbstractJoiner {
   }
 
   private void selectJoinStrategy() {
-    // System.out.println(table);
-    // System.out.println(rightTables.get(0));
+    if (algorithm != null) {
+      this.strategy = createStrategy(algorithm);
+      return;
+    }
 
     int leftRowCount = table.rowCount();
     int rightRowCount = rightTables.get(0).rowCount();
 
+    if (HashJoin.canJoin(table, leftJoinColumnNames, buildRowCount(leftRowCount, rightRowCount))) {
+      this.strategy = createStrategy(JoinAlgorithm.HASH);
+      return;
+    }
+
     int minCardinalityLeft = Integer.MAX_VALUE;
     int minCardinalityRight = Integer.MAX_VALUE;
 
@@ -216,11 +262,38 @@ public class DataFrameJoiner extends AbstractJoiner {
     //    System.out.println("Avg values right " + rightRowCount / minCardinalityRight);
     if ((leftRowCount / (minCardinalityLeft * 1.0)) > 1000
         || (rightRowCount / (minCardinalityRight * 1.0) > 1000)) {
-      this.strategy = new SortMergeJoin(table, leftJoinColumnNames);
+      this.strategy = createStrategy(JoinAlgorithm.SORT_MERGE);
     } else {
-      this.strategy = new CrossProductJoin(table, leftJoinColumnNames);
+      this.strategy = createStrategy(JoinAlgorithm.CROSS_PRODUCT);
+    }
+  }
+
+  private JoinStrategy createStrategy(JoinAlgorithm algorithm) {
+    switch (algorithm) {
+      case HASH:
+        return new HashJoin(table, parallelism, leftJoinColumnNames);
+      case SORT_MERGE:
+        return new SortMergeJoin(table, leftJoinColumnNames);
+      case CROSS_PRODUCT:
+        return new CrossProductJoin(table, leftJoinColumnNames);
+      default:
+        throw new IllegalArgumentException("Unsupported join algorithm: " + algorithm);
+    }
+  }
+
+  /**
+   * Returns the number of rows in the table a hash join would build its hash table on: the smaller
+   * table for inner joins, and otherwise the table whose unmatched rows are not retained
+   */
+  private int buildRowCount(int leftRowCount, int rightRowCount) {
+    switch (joinType) {
+      case INNER:
+        return Math.min(leftRowCount, rightRowCount);
+      case RIGHT_OUTER:
+        return leftRowCount;
+      default:
+        return rightRowCount;
     }
-    //    System.out.println(strategy + " selected.");
   }
 
   /**
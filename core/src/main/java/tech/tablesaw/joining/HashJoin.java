@@ -0,0 +1,804 @@
+package tech.tablesaw.joining;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.Streams;
+import com.google.common.primitives.Ints;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import tech.tablesaw.api.*;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.strings.DictionaryMap;
+import tech.tablesaw.columns.strings.NullDictionaryMap;
+
+/**
+ * Implements joins between two Tables by building a hash table over the join keys of one table and
+ * probing it with the rows of the other.
+ *
+ * <p>Key values are read directly from the primitive column data. A single join column is used as
+ * its own key; multiple columns are combined into one 64-bit key, either by packing two 32-bit
+ * values, or by hashing, in which case candidate matches are verified column by column. Neither
+ * table is sorted or copied, so the join runs in time proportional to the sum of the row counts
+ * plus the size of the result.
+ */
+class HashJoin implements JoinStrategy {
+
+  private static final String TABLE_ALIAS = "T";
+
+  /**
+   * The most rows of the build side a hash join is chosen for by default. The hash table of a larger
+   * build side would come close to the largest arrays the JVM can allocate
+   */
+  private static final int MAX_BUILD_ROWS = 1 << 28;
+
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  /** The number of partitions created per thread when the join is performed in parallel */
+  private static final int PARTITIONS_PER_THREAD = 4;
+
+  private int[] leftJoinColumnPositions;
+  private final AtomicInteger joinTableId = new AtomicInteger(2);
+
+  /** The number of threads used to perform the join */
+  private final int parallelism;
+
+  /**
+   * Constructor.
+   *
+   * @param table The table to join on.
+   * @param joinColumnNames The join column names to join on.
+   */
+  public HashJoin(Table table, String... joinColumnNames) {
+    this(table, 1, joinColumnNames);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param table The table to join on.
+   * @param parallelism The number of threads to use. If greater than one, both tables are
+   *     partitioned on the hash of their join keys, and the partitions are joined concurrently.
+   * @param joinColumnNames The join column names to join on.
+   */
+  public HashJoin(Table table, int parallelism, String... joinColumnNames) {
+    this.leftJoinColumnPositions = getJoinIndexes(table, joinColumnNames);
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Returns true if every one of the given columns can be used as a hash join key, and the build
+   * side of {@code buildRowCount} rows is small enough to be hashed. The choice depends only on the
+   * inputs, so the same tables are always joined the same way, and produce rows in the same order
+   */
+  static boolean canJoin(Table table, String[] joinColumnNames, int buildRowCount) {
+    for (String name : joinColumnNames) {
+      if (!isSupported(table.column(name))) {
+        return false;
+      }
+    }
+    return buildRowCount <= MAX_BUILD_ROWS;
+  }
+
+  private static boolean isSupported(Column<?> column) {
+    return column instanceof IntColumn
+        || column instanceof LongColumn
+        || column instanceof ShortColumn
+        || column instanceof DoubleColumn
+        || column instanceof FloatColumn
+        || column instanceof BooleanColumn
+        || column instanceof StringColumn
+        || column instanceof DateColumn
+        || column instanceof TimeColumn
+        || column instanceof DateTimeColumn
+        || column instanceof InstantColumn;
+  }
+
+  /**
+   * Finds the index of the columns corresponding to the columnNames. E.G. The column named "ID" is
+   * located at index 5 in table.
+   *
+   * @param table the table that contains the columns.
+   * @param columnNames the column names to find indexes of.
+   * @return a list of column indexes within the table.
+   */
+  private int[] getJoinIndexes(Table table, String[] columnNames) {
+    int[] results = new int[columnNames.length];
+    for (int i = 0; i < columnNames.length; i++) {
+      results[i] = table.columnIndex(columnNames[i]);
+    }
+    return results;
+  }
+
+  /**
+   * Joins two tables.
+   *
+   * @param table1 the table on the left side of the join.
+   * @param table2 the table on the right side of the join.
+   * @param joinType the type of join.
+   * @param allowDuplicates if {@code false} the join will fail if any columns other than the join
+   *     column have the same name if {@code true} the join will succeed and duplicate columns are
+   *     renamed
+   * @param keepAllJoinKeyColumns if {@code false} the join will only keep join key columns in
+   *     table1 if {@code true} the join will return all join key columns in both table, which may
+   *     have difference when there are null values
+   * @param table2JoinColumnNames The names of the columns in table2 to join on.
+   * @return the joined table
+   */
+  @Override
+  public Table performJoin(
+      Table table1,
+      Table table2,
+      JoinType joinType,
+      boolean allowDuplicates,
+      boolean keepAllJoinKeyColumns,
+      int[] leftJoinColumnIndexes,
+      String... table2JoinColumnNames) {
+
+    this.leftJoinColumnPositions = leftJoinColumnIndexes;
+    int[] rightJoinColumnPositions = getJoinIndexes(table2, table2JoinColumnNames);
+    validateJoinColumns(table1, table2, rightJoinColumnPositions);
+
+    Column<?>[] cols =
+        Streams.concat(table1.columns().stream(), table2.columns().stream())
+            .map(Column::emptyCopy)
+            .toArray(Column[]::new);
+
+    // A set of column indexes in the result table that can be ignored. They are duplicate join
+    // keys.
+    Set<Integer> resultIgnoreColIndexes = new HashSet<>();
+    if (!keepAllJoinKeyColumns) {
+      resultIgnoreColIndexes = getIgnoreColumns(table1, joinType, rightJoinColumnPositions, cols);
+    }
+    Table result = emptyTableFromColumns(table1, allowDuplicates, cols);
+
+    KeyReader[] leftKeys = new KeyReader[leftJoinColumnPositions.length];
+    KeyReader[] rightKeys = new KeyReader[leftJoinColumnPositions.length];
+    for (int i = 0; i < leftJoinColumnPositions.length; i++) {
+      Column<?> leftColumn = table1.column(leftJoinColumnPositions[i]);
+      Column<?> rightColumn = table2.column(rightJoinColumnPositions[i]);
+      if (leftColumn instanceof StringColumn) {
+        // both sides must encode strings with the same codes, so they share one dictionary
+        Object2IntOpenHashMap<String> codes = new Object2IntOpenHashMap<>();
+        codes.defaultReturnValue(-1);
+        leftKeys[i] = new StringKeyReader((StringColumn) leftColumn, codes);
+        rightKeys[i] = new StringKeyReader((StringColumn) rightColumn, codes);
+      } else {
+        leftKeys[i] = keyReader(leftColumn);
+        rightKeys[i] = keyReader(rightColumn);
+      }
+    }
+
+    IntArrayList leftRows = new IntArrayList();
+    IntArrayList rightRows = new IntArrayList();
+
+    ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    try {
+      if (joinType == JoinType.RIGHT_OUTER
+          || (joinType == JoinType.INNER && table1.rowCount() < table2.rowCount())) {
+        // build on the left table and probe with the right
+        boolean keepUnmatched = joinType == JoinType.RIGHT_OUTER;
+        match(pool, table1, leftKeys, table2, rightKeys, keepUnmatched, rightRows, leftRows);
+      } else {
+        // build on the right table and probe with the left
+        boolean keepUnmatched = joinType != JoinType.INNER;
+        boolean[] matched =
+            match(pool, table2, rightKeys, table1, leftKeys, keepUnmatched, leftRows, rightRows);
+        if (joinType == JoinType.FULL_OUTER) {
+          for (int r = 0; r < matched.length; r++) {
+            if (!matched[r]) {
+              leftRows.add(-1);
+              rightRows.add(r);
+            }
+          }
+        }
+      }
+
+      fillResult(
+          pool,
+          result,
+          table1,
+          table2,
+          leftRows,
+          rightRows,
+          joinType,
+          rightJoinColumnPositions,
+          resultIgnoreColIndexes);
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+
+    if (!keepAllJoinKeyColumns) {
+      result.removeColumns(Ints.toArray(resultIgnoreColIndexes));
+    }
+    return result;
+  }
+
+  /**
+   * Builds a hash table over the keys of the build table, then looks up the key of each row in the
+   * probe table, appending the row number of every match to {@code probeOut} and {@code buildOut}.
+   *
+   * <p>If a pool is given, the work is split into partitions that are joined concurrently (see
+   * {@link #matchPartitioned}).
+   *
+   * @param keepUnmatched if true, probe rows without a match are added paired with -1
+   * @return an array marking the build rows that matched at least one probe row
+   */
+  private boolean[] match(
+      ForkJoinPool pool,
+      Table build,
+      KeyReader[] buildKeys,
+      Table probe,
+      KeyReader[] probeKeys,
+      boolean keepUnmatched,
+      IntArrayList probeOut,
+      IntArrayList buildOut) {
+
+    if (pool != null) {
+      return matchPartitioned(
+          pool, build, buildKeys, probe, probeKeys, keepUnmatched, probeOut, buildOut);
+    }
+
+    boolean exact = isExact(buildKeys);
+    int buildCount = build.rowCount();
+
+    // Chains of rows sharing a key: head maps a key to its first row, and next[row] links to the
+    // following row with the same key, or -1. Rows are inserted in reverse so chains are ascending.
+    Long2IntOpenHashMap head = new Long2IntOpenHashMap(buildCount);
+    head.defaultReturnValue(-1);
+    int[] next = new int[buildCount];
+    for (int r = buildCount - 1; r >= 0; r--) {
+      long key = key(buildKeys, r, exact);
+      next[r] = head.put(key, r);
+    }
+
+    boolean[] matched = new boolean[buildCount];
+    int probeCount = probe.rowCount();
+    for (int r = 0; r < probeCount; r++) {
+      long key = key(probeKeys, r, exact);
+      boolean found = false;
+      for (int b = head.get(key); b >= 0; b = next[b]) {
+        if (exact || keysEqual(probeKeys, r, buildKeys, b)) {
+          probeOut.add(r);
+          buildOut.add(b);
+          matched[b] = true;
+          found = true;
+        }
+      }
+      if (!found && keepUnmatched) {
+        probeOut.add(r);
+        buildOut.add(-1);
+      }
+    }
+    return matched;
+  }
+
+  /**
+   * A radix-partitioned version of {@link #match}. The keys of both tables are computed, and the
+   * rows of each table are split into partitions by the high bits of their hashed key, so that
+   * matching rows always fall in the same partition. Each partition is then joined independently on
+   * the pool, and the per-partition results are concatenated in partition order.
+   */
+  private boolean[] matchPartitioned(
+      ForkJoinPool pool,
+      Table build,
+      KeyReader[] buildKeys,
+      Table probe,
+      KeyReader[] probeKeys,
+      boolean keepUnmatched,
+      IntArrayList probeOut,
+      IntArrayList buildOut) {
+
+    boolean exact = isExact(buildKeys);
+    long[] buildHashes = keys(pool, buildKeys, build.rowCount(), exact);
+    long[] probeHashes = keys(pool, probeKeys, probe.rowCount(), exact);
+
+    int partitionBits = 32 - Integer.numberOfLeadingZeros(parallelism * PARTITIONS_PER_THREAD - 1);
+    int[][] buildPartitions = partition(buildHashes, partitionBits);
+    int[][] probePartitions = partition(probeHashes, partitionBits);
+
+    // each build row belongs to exactly one partition, so tasks never write the same element
+    boolean[] matched = new boolean[build.rowCount()];
+    List<Callable<IntArrayList[]>> tasks = new ArrayList<>();
+    for (int p = 0; p < buildPartitions.length; p++) {
+      int[] buildRows = buildPartitions[p];
+      int[] probeRows = probePartitions[p];
+      tasks.add(
+          () -> {
+            IntArrayList partitionProbeOut = new IntArrayList();
+            IntArrayList partitionBuildOut = new IntArrayList();
+            joinPartition(
+                buildRows,
+                buildHashes,
+                buildKeys,
+                probeRows,
+                probeHashes,
+                probeKeys,
+                exact,
+                keepUnmatched,
+                matched,
+                partitionProbeOut,
+                partitionBuildOut);
+            return new IntArrayList[] {partitionProbeOut, partitionBuildOut};
+          });
+    }
+    for (IntArrayList[] partitionResult : invokeAll(pool, tasks)) {
+      probeOut.addAll(partitionResult[0]);
+      buildOut.addAll(partitionResult[1]);
+    }
+    return matched;
+  }
+
+  /**
+   * Joins the rows of one partition. Rows are identified by their position in the table, and
+   * chains are links between positions in the {@code buildRows} array.
+   */
+  private void joinPartition(
+      int[] buildRows,
+      long[] buildHashes,
+      KeyReader[] buildKeys,
+      int[] probeRows,
+      long[] probeHashes,
+      KeyReader[] probeKeys,
+      boolean exact,
+      boolean keepUnmatched,
+      boolean[] matched,
+      IntArrayList probeOut,
+      IntArrayList buildOut) {
+
+    Long2IntOpenHashMap head = new Long2IntOpenHashMap(buildRows.length);
+    head.defaultReturnValue(-1);
+    int[] next = new int[buildRows.length];
+    for (int i = buildRows.length - 1; i >= 0; i--) {
+      next[i] = head.put(buildHashes[buildRows[i]], i);
+    }
+
+    for (int r : probeRows) {
+      boolean found = false;
+      for (int i = head.get(probeHashes[r]); i >= 0; i = next[i]) {
+        int b = buildRows[i];
+        if (exact || keysEqual(probeKeys, r, buildKeys, b)) {
+          probeOut.add(r);
+          buildOut.add(b);
+          matched[b] = true;
+          found = true;
+        }
+      }
+      if (!found && keepUnmatched) {
+        probeOut.add(r);
+        buildOut.add(-1);
+      }
+    }
+  }
+
+  /** Computes the key of every row, splitting the rows into one range per thread */
+  private long[] keys(ForkJoinPool pool, KeyReader[] keyReaders, int rowCount, boolean exact) {
+    long[] keys = new long[rowCount];
+    int rangeSize = Math.max(1, (rowCount + parallelism - 1) / parallelism);
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int start = 0; start < rowCount; start += rangeSize) {
+      int from = start;
+      int to = Math.min(rowCount, start + rangeSize);
+      tasks.add(
+          () -> {
+            for (int r = from; r < to; r++) {
+              keys[r] = key(keyReaders, r, exact);
+            }
+            return null;
+          });
+    }
+    invokeAll(pool, tasks);
+    return keys;
+  }
+
+  /**
+   * Groups row numbers into {@code 2^bits} partitions by the high bits of their mixed key. Within
+   * each partition the rows remain in ascending order.
+   */
+  private static int[][] partition(long[] keys, int bits) {
+    int partitionCount = 1 << bits;
+    int[] partitionOf = new int[keys.length];
+    int[] counts = new int[partitionCount];
+    for (int r = 0; r < keys.length; r++) {
+      int p = bits == 0 ? 0 : (int) (HashCommon.mix(keys[r]) >>> (64 - bits));
+      partitionOf[r] = p;
+      counts[p]++;
+    }
+    int[][] partitions = new int[partitionCount][];
+    for (int p = 0; p < partitionCount; p++) {
+      partitions[p] = new int[counts[p]];
+    }
+    int[] positions = new int[partitionCount];
+    for (int r = 0; r < keys.length; r++) {
+      int p = partitionOf[r];
+      partitions[p][positions[p]++] = r;
+    }
+    return partitions;
+  }
+
+  private static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) {
+    List<T> results = new ArrayList<>(tasks.size());
+    for (Future<T> future : pool.invokeAll(tasks)) {
+      try {
+        results.add(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      } catch (ExecutionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Returns true if the combined key uniquely identifies the values of the key columns, so that
+   * rows with equal keys need not be compared column by column
+   */
+  private boolean isExact(KeyReader[] keys) {
+    return keys.length == 1 || (keys.length == 2 && keys[0].isInt() && keys[1].isInt());
+  }
+
+  private long key(KeyReader[] keys, int row, boolean exact) {
+    if (keys.length == 1) {
+      return keys[0].read(row);
+    }
+    if (exact) {
+      return (keys[0].read(row) << 32) | (keys[1].read(row) & 0xFFFFFFFFL);
+    }
+    long hash = 0;
+    for (KeyReader key : keys) {
+      hash = Long.rotateLeft((hash ^ key.read(row)) * HASH_MULTIPLIER, 29);
+    }
+    return hash;
+  }
+
+  private boolean keysEqual(KeyReader[] keys1, int row1, KeyReader[] keys2, int row2) {
+    for (int i = 0; i < keys1.length; i++) {
+      if (keys1[i].read(row1) != keys2[i].read(row2)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Copies the matched rows into the result table. A row number of -1 on either side produces
+   * missing values for that side's columns, except that the join columns of a full outer join are
+   * filled from the right table when no left row matched. If a pool is given, each column is filled
+   * by its own task.
+   */
+  private void fillResult(
+      ForkJoinPool pool,
+      Table destination,
+      Table table1,
+      Table table2,
+      IntArrayList leftRows,
+      IntArrayList rightRows,
+      JoinType joinType,
+      int[] rightJoinColumnPositions,
+      Set<Integer> ignoreColumns) {
+
+    if (pool == null) {
+      for (int c = 0; c < destination.columnCount(); c++) {
+        if (!ignoreColumns.contains(c)) {
+          fillColumn(
+              destination, c, table1, table2, leftRows, rightRows, joinType,
+              rightJoinColumnPositions);
+        }
+      }
+      return;
+    }
+    // each task writes to a different column, so they may be run concurrently
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int c = 0; c < destination.columnCount(); c++) {
+      if (ignoreColumns.contains(c)) {
+        continue;
+      }
+      int column = c;
+      tasks.add(
+          () -> {
+            fillColumn(
+                destination, column, table1, table2, leftRows, rightRows, joinType,
+                rightJoinColumnPositions);
+            return null;
+          });
+    }
+    invokeAll(pool, tasks);
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void fillColumn(
+      Table destination,
+      int c,
+      Table table1,
+      Table table2,
+      IntArrayList leftRows,
+      IntArrayList rightRows,
+      JoinType joinType,
+      int[] rightJoinColumnPositions) {
+
+    int table1ColCount = table1.columnCount();
+    int[] left = leftRows.elements();
+    int[] right = rightRows.elements();
+    int size = leftRows.size();
+
+    Column dest = destination.column(c);
+    if (c < table1ColCount) {
+      Column t1Col = table1.column(c);
+      int joinKey = indexOf(leftJoinColumnPositions, c);
+      Column t2Key =
+          joinType == JoinType.FULL_OUTER && joinKey >= 0
+              ? table2.column(rightJoinColumnPositions[joinKey])
+              : null;
+      for (int i = 0; i < size; i++) {
+        if (left[i] >= 0) {
+          dest.append(t1Col, left[i]);
+        } else if (t2Key != null) {
+          dest.append(t2Key, right[i]);
+        } else {
+          dest.appendMissing();
+        }
+      }
+    } else {
+      Column t2Col = table2.column(c - table1ColCount);
+      for (int i = 0; i < size; i++) {
+        if (right[i] >= 0) {
+          dest.append(t2Col, right[i]);
+        } else {
+          dest.appendMissing();
+        }
+      }
+    }
+  }
+
+  private static int indexOf(int[] values, int value) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void validateJoinColumns(Table table1, Table table2, int[] rightJoinColumnPositions) {
+    if (leftJoinColumnPositions.length != rightJoinColumnPositions.length) {
+      throw new IllegalArgumentException(
+          "Cannot join using a different number of indices on each table: "
+              + Arrays.toString(leftJoinColumnPositions)
+              + " and "
+              + Arrays.toString(rightJoinColumnPositions));
+    }
+    for (int i = 0; i < leftJoinColumnPositions.length; i++) {
+      if (!table1
+          .column(leftJoinColumnPositions[i])
+          .getClass()
+          .equals(table2.column(rightJoinColumnPositions[i]).getClass())) {
+        throw new IllegalArgumentException(
+            "Cannot join using different index types: "
+                + Arrays.toString(leftJoinColumnPositions)
+                + " and "
+                + Arrays.toString(rightJoinColumnPositions));
+      }
+    }
+  }
+
+  private String newName(String table2Alias, String columnName) {
+    return table2Alias + "." + columnName;
+  }
+
+  /**
+   * Adds empty columns to the destination table with the same type as columns in table1 and table2.
+   *
+   * @param table1 the table on left side of the join.
+   * @param allowDuplicates whether to allow duplicates. If yes rename columns in table2 that have
+   *     the same name as columns in table1 with the exception of join columns in table2 when
+   *     performing a right join.
+   */
+  private Table emptyTableFromColumns(Table table1, boolean allowDuplicates, Column<?>[] cols) {
+
+    Table destination = Table.create(table1.name());
+
+    // Rename duplicate columns in second table
+    if (allowDuplicates) {
+      Set<String> table1ColNames =
+          Arrays.stream(cols)
+              .map(Column::name)
+              .map(String::toLowerCase)
+              .limit(table1.columnCount())
+              .collect(Collectors.toSet());
+
+      String table2Alias = TABLE_ALIAS + joinTableId.getAndIncrement();
+      for (int c = table1.columnCount(); c < cols.length; c++) {
+        String columnName = cols[c].name();
+        if (table1ColNames.contains(columnName.toLowerCase())) {
+          cols[c].setName(newName(table2Alias, columnName));
+        }
+      }
+    }
+    destination.addColumns(cols);
+    return destination;
+  }
+
+  /**
+   * For inner join, left join and full outer join mark the join columns in table2 as placeholders.
+   *
+   * <p>For right join mark the join columns in table1 as placeholders. Keep track of which join
+   * columns are placeholders so they can be ignored.
+   */
+  private Set<Integer> getIgnoreColumns(
+      Table table1, JoinType joinType, int[] table2JoinColumnIndexes, Column<?>[] cols) {
+    Set<Integer> ignoreColumns = new HashSet<>();
+    for (int c = 0; c < cols.length; c++) {
+      if (joinType == JoinType.RIGHT_OUTER) {
+        if (c < table1.columnCount() && indexOf(leftJoinColumnPositions, c) >= 0) {
+          cols[c].setName("Placeholder_" + ignoreColumns.size());
+          ignoreColumns.add(c);
+        }
+      } else {
+        int table2Index = c - table1.columnCount();
+        if (c >= table1.columnCount() && indexOf(table2JoinColumnIndexes, table2Index) >= 0) {
+          cols[c].setName("Placeholder_" + ignoreColumns.size());
+          ignoreColumns.add(c);
+        }
+      }
+    }
+    return ignoreColumns;
+  }
+
+  /** Returns a reader for the key values of the given column, which must not be a StringColumn */
+  private static KeyReader keyReader(Column<?> column) {
+    if (column instanceof IntColumn) {
+      IntColumn c = (IntColumn) column;
+      return new IntKeyReader(c::getInt);
+    } else if (column instanceof ShortColumn) {
+      ShortColumn c = (ShortColumn) column;
+      return new IntKeyReader(c::getShort);
+    } else if (column instanceof DateColumn) {
+      DateColumn c = (DateColumn) column;
+      return new IntKeyReader(c::getIntInternal);
+    } else if (column instanceof TimeColumn) {
+      TimeColumn c = (TimeColumn) column;
+      return new IntKeyReader(c::getIntInternal);
+    } else if (column instanceof BooleanColumn) {
+      BooleanColumn c = (BooleanColumn) column;
+      return new IntKeyReader(c::getByte);
+    } else if (column instanceof FloatColumn) {
+      FloatColumn c = (FloatColumn) column;
+      // +0.0 and -0.0 compare as equal, so they must share a key
+      return new IntKeyReader(
+          row -> {
+            float value = c.getFloat(row);
+            return value == 0.0f ? 0 : Float.floatToIntBits(value);
+          });
+    } else if (column instanceof LongColumn) {
+      LongColumn c = (LongColumn) column;
+      return c::getLong;
+    } else if (column instanceof DateTimeColumn) {
+      DateTimeColumn c = (DateTimeColumn) column;
+      return c::getLongInternal;
+    } else if (column instanceof InstantColumn) {
+      InstantColumn c = (InstantColumn) column;
+      return c::getLongInternal;
+    } else if (column instanceof DoubleColumn) {
+      DoubleColumn c = (DoubleColumn) column;
+      return row -> {
+        double value = c.getDouble(row);
+        return value == 0.0 ? 0L : Double.doubleToLongBits(value);
+      };
+    }
+    throw new IllegalArgumentException(
+        "Joining attempted on unsupported column type " + column.type());
+  }
+
+  /** Reads the value of a join column at a given row as a primitive key */
+  @FunctionalInterface
+  private interface KeyReader {
+
+    long read(int row);
+
+    /** Returns true if every key produced by this reader fits in an int */
+    default boolean isInt() {
+      return false;
+    }
+  }
+
+  /** A reader for columns whose values are ints, or can be widened to ints */
+  private static class IntKeyReader implements KeyReader {
+
+    private final RowToInt values;
+
+    IntKeyReader(RowToInt values) {
+      this.values = values;
+    }
+
+    @Override
+    public long read(int row) {
+      return values.apply(row);
+    }
+
+    @Override
+    public boolean isInt() {
+      return true;
+    }
+  }
+
+  @FunctionalInterface
+  private interface RowToInt {
+    int apply(int row);
+  }
+
+  /**
+   * Reads StringColumn values as int codes in a dictionary shared by both sides of the join. Each
+   * distinct value in the column's own dictionary is translated up front, so reads never modify
+   * the reader and may be made concurrently. Columns that are not dictionary encoded have the code
+   * of every row computed up front instead.
+   */
+  private static class StringKeyReader implements KeyReader {
+
+    private final DictionaryMap<?> dictionary;
+    private final Int2IntOpenHashMap dictionaryKeyToCode = new Int2IntOpenHashMap();
+    private final int[] rowCodes;
+
+    StringKeyReader(StringColumn column, Object2IntOpenHashMap<String> codes) {
+      this.dictionary = column.getDictionary();
+      dictionaryKeyToCode.defaultReturnValue(-1);
+      if (dictionary instanceof NullDictionaryMap) {
+        rowCodes = new int[column.size()];
+        for (int row = 0; row < column.size(); row++) {
+          rowCodes[row] = code(codes, column.get(row));
+        }
+        return;
+      }
+      rowCodes = null;
+      for (int row = 0; row < column.size(); row++) {
+        int dictionaryKey = dictionary.getKeyAtIndex(row);
+        if (!dictionaryKeyToCode.containsKey(dictionaryKey)) {
+          dictionaryKeyToCode.put(dictionaryKey, code(codes, column.get(row)));
+        }
+      }
+    }
+
+    private static int code(Object2IntOpenHashMap<String> codes, String value) {
+      int code = codes.getInt(value);
+      if (code < 0) {
+        code = codes.size();
+        codes.put(value, code);
+      }
+      return code;
+    }
+
+    @Override
+    public long read(int row) {
+      if (rowCodes != null) {
+        return rowCodes[row];
+      }
+      return dictionaryKeyToCode.get(dictionary.getKeyAtIndex(row));
+    }
+
+    @Override
+    public boolean isInt() {
+      return true;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "HashJoin";
+  }
+}
@@ -0,0 +1,15 @@
+package tech.tablesaw.joining;
+
+/**
+ * The algorithms available for performing a join. If none is specified, {@link DataFrameJoiner}
+ * uses {@link #HASH} when the join columns support it and the hash table fits in memory, and
+ * otherwise chooses between the others based on the cardinality of the join columns.
+ */
+public enum JoinAlgorithm {
+  /** Builds a hash table over the join keys of one table and probes it with the other */
+  HASH,
+  /** Sorts both tables on the join columns and merges them */
+  SORT_MERGE,
+  /** Builds an index on every join column and combines the matching rows for each key */
+  CROSS_PRODUCT
+}
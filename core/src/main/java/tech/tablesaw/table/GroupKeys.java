@@ -0,0 +1,238 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.List;
+import java.util.Objects;
+import tech.tablesaw.api.*;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.strings.ByteDictionaryMap;
+import tech.tablesaw.columns.strings.DictionaryMap;
+import tech.tablesaw.columns.strings.NullDictionaryMap;
+import tech.tablesaw.columns.strings.ShortDictionaryMap;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * Assigns every row of a table to a group, such that two rows are in the same group if and only if
+ * they have equal values in all the grouping columns. Groups are numbered from zero in the order in
+ * which they first appear in the table.
+ *
+ * <p>Each row's values are encoded as a single long key read directly from the column data:
+ * dictionary keys for StringColumns, packed ints and longs for dates, times and numbers. When the
+ * encoded values of all the columns fit in 64 bits together, they are packed side by side, and the
+ * key identifies the group exactly. Otherwise, the values are hashed into the key, and rows with
+ * the same key are compared with the first row of each candidate group.
+ */
+public class GroupKeys {
+
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private final List<Column<?>> columns;
+
+  /** The group number of each row in the table */
+  private final int[] groupOfRow;
+
+  /** The first row of each group, used to name the group and to verify hashed keys */
+  private final IntArrayList firstRows = new IntArrayList();
+
+  /**
+   * Groups the rows of the given table on the given columns
+   *
+   * @param table The table whose rows are to be grouped
+   * @param columns The columns to group on, which must belong to the table
+   */
+  public GroupKeys(Table table, List<Column<?>> columns) {
+    this.columns = columns;
+    this.groupOfRow = new int[table.rowCount()];
+    group(table.rowCount());
+  }
+
+  private void group(int rowCount) {
+    KeyReader[] readers = new KeyReader[columns.size()];
+    boolean exact = true;
+    int totalBits = 0;
+    for (int i = 0; i < readers.length; i++) {
+      readers[i] = keyReader(columns.get(i));
+      exact &= readers[i].bits() > 0;
+      totalBits += readers[i].bits();
+    }
+    exact &= totalBits <= Long.SIZE;
+
+    // For hashed keys, groups sharing a key form a chain: keyToGroup maps a key to its first group,
+    // and nextGroup links each group to the next one with the same key, or -1.
+    Long2IntOpenHashMap keyToGroup = new Long2IntOpenHashMap();
+    keyToGroup.defaultReturnValue(-1);
+    IntArrayList nextGroup = new IntArrayList();
+
+    for (int row = 0; row < rowCount; row++) {
+      long key = exact ? packedKey(readers, row) : hashedKey(readers, row);
+      int group = keyToGroup.get(key);
+      if (!exact) {
+        while (group >= 0 && !sameValues(readers, firstRows.getInt(group), row)) {
+          group = nextGroup.getInt(group);
+        }
+      }
+      if (group < 0) {
+        group = firstRows.size();
+        firstRows.add(row);
+        nextGroup.add(keyToGroup.put(key, group));
+      }
+      groupOfRow[row] = group;
+    }
+  }
+
+  private long packedKey(KeyReader[] readers, int row) {
+    long key = 0;
+    for (KeyReader reader : readers) {
+      int bits = reader.bits();
+      long mask = bits == Long.SIZE ? -1L : (1L << bits) - 1;
+      key = (bits == Long.SIZE ? 0 : key << bits) | (reader.read(row) & mask);
+    }
+    return key;
+  }
+
+  private long hashedKey(KeyReader[] readers, int row) {
+    long hash = 0;
+    for (KeyReader reader : readers) {
+      hash = Long.rotateLeft((hash ^ reader.read(row)) * HASH_MULTIPLIER, 29);
+    }
+    return hash;
+  }
+
+  private boolean sameValues(KeyReader[] readers, int row1, int row2) {
+    for (int i = 0; i < readers.length; i++) {
+      if (readers[i].bits() > 0) {
+        if (readers[i].read(row1) != readers[i].read(row2)) {
+          return false;
+        }
+      } else if (!Objects.equals(columns.get(i).get(row1), columns.get(i).get(row2))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns the number of groups */
+  public int groupCount() {
+    return firstRows.size();
+  }
+
+  /** Returns the group number of the given row */
+  public int groupOf(int row) {
+    return groupOfRow[row];
+  }
+
+  /**
+   * Returns the group number of every row, indexed by row. The array is not a copy, and must not be
+   * modified.
+   */
+  public int[] groupsOfRows() {
+    return groupOfRow;
+  }
+
+  /** Returns the first row in the table that belongs to the given group */
+  public int firstRowOf(int group) {
+    return firstRows.getInt(group);
+  }
+
+  /**
+   * Returns a name for the given group, made by joining the values of the grouping columns with the
+   * given delimiter
+   */
+  public String groupName(int group, String delimiter) {
+    int row = firstRows.getInt(group);
+    StringBuilder name = new StringBuilder();
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        name.append(delimiter);
+      }
+      name.append(columns.get(i).getString(row));
+    }
+    return name.toString();
+  }
+
+  /** Returns an array containing a selection of the rows in each group, indexed by group number */
+  public Selection[] selections() {
+    Selection[] selections = new Selection[groupCount()];
+    for (int group = 0; group < selections.length; group++) {
+      selections[group] = new BitmapBackedSelection();
+    }
+    for (int row = 0; row < groupOfRow.length; row++) {
+      selections[groupOfRow[row]].add(row);
+    }
+    return selections;
+  }
+
+  private static KeyReader keyReader(Column<?> column) {
+    if (column instanceof StringColumn
+        && !(((StringColumn) column).getDictionary() instanceof NullDictionaryMap)) {
+      DictionaryMap<?> dictionary = ((StringColumn) column).getDictionary();
+      int bits =
+          dictionary instanceof ByteDictionaryMap
+              ? Byte.SIZE
+              : dictionary instanceof ShortDictionaryMap ? Short.SIZE : Integer.SIZE;
+      return new KeyReader(bits, dictionary::getKeyAtIndex);
+    } else if (column instanceof BooleanColumn) {
+      return new KeyReader(Byte.SIZE, ((BooleanColumn) column)::getByte);
+    } else if (column instanceof ShortColumn) {
+      return new KeyReader(Short.SIZE, ((ShortColumn) column)::getShort);
+    } else if (column instanceof IntColumn) {
+      return new KeyReader(Integer.SIZE, ((IntColumn) column)::getInt);
+    } else if (column instanceof DateColumn) {
+      return new KeyReader(Integer.SIZE, ((DateColumn) column)::getIntInternal);
+    } else if (column instanceof TimeColumn) {
+      return new KeyReader(Integer.SIZE, ((TimeColumn) column)::getIntInternal);
+    } else if (column instanceof LongColumn) {
+      return new KeyReader(Long.SIZE, ((LongColumn) column)::getLong);
+    } else if (column instanceof DateTimeColumn) {
+      return new KeyReader(Long.SIZE, ((DateTimeColumn) column)::getLongInternal);
+    } else if (column instanceof InstantColumn) {
+      return new KeyReader(Long.SIZE, ((InstantColumn) column)::getLongInternal);
+    }
+    // other columns, including strings that are not dictionary encoded, contribute their value
+    // hash, and their values are compared as objects
+    return new KeyReader(0, column::valueHash);
+  }
+
+  @FunctionalInterface
+  private interface RowToLong {
+    long apply(int row);
+  }
+
+  /** Reads the encoded value of a grouping column at a given row */
+  private static class KeyReader {
+
+    /** The number of low-order bits that hold the value, or 0 if the value is only a hash */
+    private final int bits;
+
+    private final RowToLong values;
+
+    KeyReader(int bits, RowToLong values) {
+      this.bits = bits;
+      this.values = values;
+    }
+
+    int bits() {
+      return bits;
+    }
+
+    long read(int row) {
+      return values.apply(row);
+    }
+  }
+}
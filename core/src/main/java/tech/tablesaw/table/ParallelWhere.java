@@ -0,0 +1,110 @@
+package tech.tablesaw.table;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.numbers.RangeScans;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * Evaluates filters and copies the rows they select using more than one thread.
+ *
+ * <p>A filter is applied once, to the whole table, within {@link
+ * RangeScans#scanInParallel(java.util.concurrent.ForkJoinPool, java.util.function.Supplier)}. Each
+ * comparison of a numeric or date-time column with constants made by the filter then scans ranges
+ * of rows of the column concurrently, in place, using the zone map of the column if it has one, and
+ * the rows found in each range are combined into one selection. Nothing is copied, and indexes are
+ * used as they are by a serial filter. Any filter can be used, including one that depends on other
+ * rows, although the parts of it that are not such comparisons are evaluated by a single thread.
+ *
+ * <p>The rows selected are copied into the new table with one task per column.
+ */
+public final class ParallelWhere {
+
+  private ParallelWhere() {}
+
+  /**
+   * Returns the rows of the given table selected by the given filter
+   *
+   * @param table The table to filter
+   * @param filter The filter
+   * @param parallelism The number of threads to use
+   */
+  public static Selection select(Table table, Function<Table, Selection> filter, int parallelism) {
+    checkParallelism(parallelism);
+    if (parallelism == 1) {
+      return filter.apply(table);
+    }
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return RangeScans.scanInParallel(pool, () -> filter.apply(table));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Returns a table holding the given rows of the given table, in the order they are selected
+   *
+   * @param table The table to copy
+   * @param rows The rows to copy
+   * @param parallelism The number of threads to use. Each column is copied by a single thread
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public static Table copyRows(Table table, Selection rows, int parallelism) {
+    checkParallelism(parallelism);
+    Table newTable = table.emptyCopy(rows.size());
+    if (parallelism == 1 || table.columnCount() < 2) {
+      table.copyRowsToTable(rows, newTable);
+      return newTable;
+    }
+    int[] rowNumbers = rows.toArray();
+    ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, table.columnCount()));
+    try {
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (int c = 0; c < table.columnCount(); c++) {
+        Column oldColumn = table.column(c);
+        Column newColumn = newTable.column(c);
+        tasks.add(
+            () -> {
+              for (int row = 0; row < rowNumbers.length; row++) {
+                newColumn.set(row, oldColumn, rowNumbers[row]);
+              }
+              return null;
+            });
+      }
+      invokeAll(pool, tasks);
+    } finally {
+      pool.shutdown();
+    }
+    return newTable;
+  }
+
+  private static void checkParallelism(int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive: %s", parallelism);
+  }
+
+  private static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) {
+    List<T> results = new ArrayList<>(tasks.size());
+    for (Future<T> future : pool.invokeAll(tasks)) {
+      try {
+        results.add(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      } catch (ExecutionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    return results;
+  }
+}
@@ -14,18 +14,10 @@
 
 package tech.tablesaw.table;
 
-import it.unimi.dsi.fastutil.bytes.ByteArrayList;
-import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A group of tables formed by performing splitting operations on an original table */
@@ -72,86 +64,15 @@ public class StandardTableSliceGroup extends TableSliceGroup {
    * splitColumnNames
    */
   private void splitOn(String... splitColumnNames) {
-    Map<ByteArray, Selection> selectionMap = new LinkedHashMap<>();
-    Map<ByteArray, String> sliceNameMap = new HashMap<>();
     List<Column<?>> splitColumns = getSourceTable().columns(splitColumnNames);
+    GroupKeys groupKeys = new GroupKeys(getSourceTable(), splitColumns);
+    Selection[] selections = groupKeys.selections();
 
-    if (containsTextColumn(splitColumns)) {
-      for (int i = 0; i < getSourceTable().rowCount(); i++) {
-        ByteArrayList byteArrayList = new ByteArrayList();
-        StringBuilder stringKey = new StringBuilder();
-        int count = 0;
-        for (Column<?> col : splitColumns) {
-          stringKey.append(col.getString(i));
-          if (count < splitColumns.size() - 1) {
-            stringKey.append(SPLIT_STRING);
-          }
-          byteArrayList.addElements(byteArrayList.size(), col.asBytes(i));
-          count++;
-        }
-        // Add to the matching selection.
-        ByteArray byteArray = new ByteArray(byteArrayList.toByteArray());
-        Selection selection = selectionMap.getOrDefault(byteArray, new BitmapBackedSelection());
-        selection.add(i);
-        selectionMap.put(byteArray, selection);
-        sliceNameMap.put(byteArray, stringKey.toString());
-      }
-    } else { // handle the case where split is on non-text-columns
-      int byteSize = getByteSize(splitColumns);
-      for (int i = 0; i < getSourceTable().rowCount(); i++) {
-        // TODO: instead of splitting on column type, have a function that returns the byte size?
-        StringBuilder stringKey = new StringBuilder();
-        ByteBuffer byteBuffer = ByteBuffer.allocate(byteSize);
-        int count = 0;
-        for (Column<?> col : splitColumns) {
-          stringKey.append(col.getString(i));
-          if (count < splitColumns.size() - 1) {
-            stringKey.append(SPLIT_STRING);
-          }
-          byteBuffer.put(col.asBytes(i));
-          count++;
-        }
-        // Add to the matching selection.
-        ByteArray byteArray = new ByteArray(byteBuffer.array());
-        Selection selection = selectionMap.getOrDefault(byteArray, new BitmapBackedSelection());
-        selection.add(i);
-        selectionMap.put(byteArray, selection);
-        sliceNameMap.put(byteArray, stringKey.toString());
-      }
-    }
-
-    // Construct slices for all the values in our maps
-    for (Entry<ByteArray, Selection> entry : selectionMap.entrySet()) {
-      TableSlice slice = new TableSlice(getSourceTable(), entry.getValue());
-      slice.setTableName(sliceNameMap.get(entry.getKey()));
+    // Construct slices for all the groups, in order of their first appearance
+    for (int group = 0; group < selections.length; group++) {
+      TableSlice slice = new TableSlice(getSourceTable(), selections[group]);
+      slice.setTableName(groupKeys.groupName(group, SPLIT_STRING));
       addSlice(slice);
     }
   }
-
-  private boolean containsTextColumn(List<Column<?>> splitColumns) {
-    return false;
-    // return splitColumns.stream().anyMatch(objects -> objects.type().equals(ColumnType.TEXT));
-  }
-
-  /** Wrapper class for a byte[] that implements equals and hashcode. */
-  private static class ByteArray {
-    final byte[] bytes;
-
-    ByteArray(byte[] bytes) {
-      this.bytes = bytes;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) return true;
-      if (o == null || getClass() != o.getClass()) return false;
-      ByteArray byteArray = (ByteArray) o;
-      return Arrays.equals(bytes, byteArray.bytes);
-    }
-
-    @Override
-    public int hashCode() {
-      return Arrays.hashCode(bytes);
-    }
-  }
 }
@@ -29,6 +29,7 @@ import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.Row;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.numbers.NumericColumnView;
 import tech.tablesaw.selection.Selection;
 import tech.tablesaw.sorting.Sort;
 import tech.tablesaw.sorting.SortUtils;
@@ -236,11 +237,25 @@ public class TableSlice extends Relation {
    *     table
    */
   public double reduce(String numberColumnName, NumericAggregateFunction function) {
+    return function.summarize(numberColumnView(numberColumnName));
+  }
+
+  /**
+   * Returns a read-only view of the rows of the named numeric column that are in this slice, in
+   * the order of this slice. Unlike {@link #column(String)}, the values are not copied, so this is
+   * the cheaper way to summarize a column of each of many slices.
+   *
+   * @param numberColumnName The name of a numeric column in the backing table
+   * @throws IllegalArgumentException if numberColumnName doesn't name a numeric column
+   */
+  public NumericColumn<?> numberColumnView(String numberColumnName) {
     NumericColumn<?> column = table.numberColumn(numberColumnName);
-    if (hasSelection()) {
-      return function.summarize(column.where(selection));
+    if (isSorted()) {
+      return NumericColumnView.of(column, sortOrder);
+    } else if (hasSelection()) {
+      return NumericColumnView.of(column, selection.toArray());
     }
-    return function.summarize(column);
+    return column;
   }
 
   /**
@@ -24,7 +24,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.NumericAggregateFunction;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
@@ -172,8 +174,14 @@ public abstract class TableSliceGroup implements Iterable<TableSlice> {
         String colName = aggregateColumnName(columnName, function.functionName());
         ColumnType type = function.returnType();
         Column resultColumn = type.create(colName);
+        boolean numeric =
+            function instanceof NumericAggregateFunction
+                && sourceTable.column(columnName) instanceof NumericColumn;
         for (TableSlice subTable : getSlices()) {
-          Object result = function.summarize(subTable.column(columnName));
+          // numeric functions read the rows of each slice in place, rather than a copy of them
+          Column column =
+              numeric ? subTable.numberColumnView(columnName) : subTable.column(columnName);
+          Object result = function.summarize(column);
           if (firstFunction) {
             groupColumn.append(subTable.name());
           }
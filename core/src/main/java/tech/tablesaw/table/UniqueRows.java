@@ -0,0 +1,201 @@
+package tech.tablesaw.table;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import org.roaringbitmap.RoaringBitmap;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * Finds the distinct rows of a table working directly on its columns. Each row is hashed from the
+ * values of its columns with {@link Column#valueHash(int)}, and rows with equal hashes are compared
+ * with {@link Column#equals(int, int)}, so no {@link tech.tablesaw.api.Row} is created and no value
+ * is boxed.
+ *
+ * <p>If more than one thread is used, the row hashes are computed over one range of rows per thread,
+ * and the rows are then split into partitions by their hash, so that equal rows always fall in the
+ * same partition. Each partition is deduplicated independently.
+ */
+public final class UniqueRows {
+
+  /** The number of partitions created per thread when the rows are deduplicated in parallel */
+  private static final int PARTITIONS_PER_THREAD = 4;
+
+  private final Column<?>[] columns;
+  private final int rowCount;
+  private final int parallelism;
+
+  /** The hash of each row */
+  private int[] hashes;
+
+  /**
+   * For each row kept, the next row kept with the same hash, or -1. Partitions hold distinct rows,
+   * so concurrent tasks never write the same element
+   */
+  private int[] next;
+
+  private UniqueRows(Table table, int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive: %s", parallelism);
+    this.columns = table.columns().toArray(new Column<?>[0]);
+    this.rowCount = table.rowCount();
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Returns the numbers of the rows of the given table that are not equal to any row before them,
+   * that is, the first occurrence of each distinct row
+   *
+   * @param table The table whose rows are compared
+   * @param parallelism The number of threads to use
+   */
+  public static Selection firstOccurrences(Table table, int parallelism) {
+    return new UniqueRows(table, parallelism).select();
+  }
+
+  private Selection select() {
+    if (parallelism == 1 || rowCount < 2) {
+      hashes = hashes(0, rowCount);
+      next = new int[rowCount];
+      RoaringBitmap kept = new RoaringBitmap();
+      dedupe(null, kept);
+      return new BitmapBackedSelection(kept);
+    }
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      hashes = new int[rowCount];
+      int rangeSize = Math.max(1, (rowCount + parallelism - 1) / parallelism);
+      List<Callable<Void>> hashTasks = new ArrayList<>();
+      for (int start = 0; start < rowCount; start += rangeSize) {
+        int from = start;
+        int to = Math.min(rowCount, start + rangeSize);
+        hashTasks.add(
+            () -> {
+              System.arraycopy(hashes(from, to), 0, hashes, from, to - from);
+              return null;
+            });
+      }
+      invokeAll(pool, hashTasks);
+
+      next = new int[rowCount];
+      List<Callable<RoaringBitmap>> tasks = new ArrayList<>();
+      for (int[] partition : partitions()) {
+        tasks.add(
+            () -> {
+              RoaringBitmap kept = new RoaringBitmap();
+              dedupe(partition, kept);
+              return kept;
+            });
+      }
+      RoaringBitmap kept = RoaringBitmap.or(invokeAll(pool, tasks).iterator());
+      return new BitmapBackedSelection(kept);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Returns the hashes of the rows in the given range, computed a column at a time so that each
+   * pass reads a single column sequentially
+   */
+  private int[] hashes(int from, int to) {
+    int[] result = new int[to - from];
+    Arrays.fill(result, 1);
+    for (Column<?> column : columns) {
+      for (int r = from; r < to; r++) {
+        result[r - from] = 31 * result[r - from] + column.valueHash(r);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Adds to the given bitmap the rows that are not equal to an earlier row
+   *
+   * @param rows The rows to compare, in ascending order, or null to compare all the rows
+   * @param kept The bitmap the first occurrence of each distinct row is added to
+   */
+  private void dedupe(int[] rows, RoaringBitmap kept) {
+    int count = rows == null ? rowCount : rows.length;
+    Int2IntOpenHashMap firstWithHash = new Int2IntOpenHashMap(count);
+    firstWithHash.defaultReturnValue(-1);
+    for (int i = 0; i < count; i++) {
+      int row = rows == null ? i : rows[i];
+      int hash = hashes[row];
+      int head = firstWithHash.get(hash);
+      boolean duplicate = false;
+      for (int candidate = head; candidate != -1; candidate = next[candidate]) {
+        if (equal(row, candidate)) {
+          duplicate = true;
+          break;
+        }
+      }
+      if (!duplicate) {
+        next[row] = head;
+        firstWithHash.put(hash, row);
+        kept.add(row);
+      }
+    }
+  }
+
+  private boolean equal(int row1, int row2) {
+    for (Column<?> column : columns) {
+      if (!column.equals(row1, row2)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Groups the row numbers into partitions by the high bits of their mixed hash. Within each
+   * partition the rows remain in ascending order.
+   */
+  private int[][] partitions() {
+    int bits = 32 - Integer.numberOfLeadingZeros(parallelism * PARTITIONS_PER_THREAD - 1);
+    int partitionCount = 1 << bits;
+    int[] partitionOf = new int[rowCount];
+    int[] counts = new int[partitionCount];
+    for (int r = 0; r < rowCount; r++) {
+      int p = HashCommon.mix(hashes[r]) >>> (32 - bits);
+      partitionOf[r] = p;
+      counts[p]++;
+    }
+    int[][] partitions = new int[partitionCount][];
+    for (int p = 0; p < partitionCount; p++) {
+      partitions[p] = new int[counts[p]];
+    }
+    int[] positions = new int[partitionCount];
+    for (int r = 0; r < rowCount; r++) {
+      int p = partitionOf[r];
+      partitions[p][positions[p]++] = r;
+    }
+    return partitions;
+  }
+
+  private static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) {
+    List<T> results = new ArrayList<>(tasks.size());
+    for (Future<T> future : pool.invokeAll(tasks)) {
+      try {
+        results.add(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      } catch (ExecutionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    return results;
+  }
+}
@@ -0,0 +1,155 @@
+package tech.tablesaw.aggregate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tech.tablesaw.aggregate.AggregateFunctions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.table.StandardTableSliceGroup;
+
+class SummarizerTest {
+
+  private static Table randomTable(int rowCount) {
+    Random random = new Random(42);
+    StringColumn who = StringColumn.create("who");
+    IntColumn code = IntColumn.create("code");
+    DoubleColumn value = DoubleColumn.create("value");
+    BooleanColumn flag = BooleanColumn.create("flag");
+    for (int i = 0; i < rowCount; i++) {
+      who.append("g" + random.nextInt(7));
+      code.append(random.nextInt(3));
+      if (random.nextInt(10) == 0) {
+        value.appendMissing();
+        flag.appendMissing();
+      } else {
+        value.append(random.nextInt(100) / 4.0);
+        flag.append(random.nextBoolean());
+      }
+    }
+    return Table.create("random", who, code, value, flag);
+  }
+
+  @Test
+  void singlePassMatchesSlices() {
+    Table table = randomTable(1000);
+    AggregateFunction<?, ?>[] functions = {
+      sum,
+      mean,
+      min,
+      max,
+      range,
+      variance,
+      stdDev,
+      populationVariance,
+      cv,
+      product,
+      sumOfSquares,
+      quadraticMean,
+      first,
+      last,
+      change,
+      pctChange,
+      count,
+      countMissing,
+      countWithMissing,
+      countUnique
+    };
+    Table summarized = table.summarize("value", functions).by("who", "code");
+    Table expected =
+        StandardTableSliceGroup.create(table, "who", "code").aggregate("value", functions);
+
+    assertEquals(expected.columnNames(), summarized.columnNames());
+    assertEquals(expected.rowCount(), summarized.rowCount());
+    for (Column<?> column : expected.columns()) {
+      assertEquals(column.asList(), summarized.column(column.name()).asList(), column.name());
+    }
+  }
+
+  @Test
+  void singlePassWithOnlyMissingValues() {
+    Table table =
+        Table.create(
+            "t",
+            StringColumn.create("who", "a", "a", "b"),
+            DoubleColumn.create("value", Double.NaN, Double.NaN, 2));
+    AggregateFunction<?, ?>[] functions = {sum, sumOfSquares, product, mean, min, count};
+    Table summarized = table.summarize("value", functions).by("who");
+    Table expected = StandardTableSliceGroup.create(table, "who").aggregate("value", functions);
+    for (Column<?> column : expected.columns()) {
+      assertEquals(column.asList(), summarized.column(column.name()).asList(), column.name());
+    }
+  }
+
+  @Test
+  void singlePassBooleans() {
+    Table table = randomTable(200);
+    AggregateFunction<?, ?>[] functions = {
+      countTrue, countFalse, proportionTrue, proportionFalse, allTrue, anyTrue, noneTrue
+    };
+    Table summarized = table.summarize("flag", functions).by("who");
+    Table expected = StandardTableSliceGroup.create(table, "who").aggregate("flag", functions);
+
+    assertEquals(expected.columnNames(), summarized.columnNames());
+    for (Column<?> column : expected.columns()) {
+      assertEquals(column.asList(), summarized.column(column.name()).asList(), column.name());
+    }
+  }
+
+  @Test
+  void parallelMatchesSerial() {
+    Table table = randomTable(50_000);
+    AggregateFunction<?, ?>[] functions = {
+      sum, mean, stdDev, min, max, first, last, count, countUnique, countTrue
+    };
+    List<String> columns = Arrays.asList("value", "flag");
+    Table serial = table.summarize(columns, functions).by("who", "code");
+    Table parallel = table.summarize(columns, functions).parallelism(4).by("who", "code");
+
+    assertEquals(serial.columnNames(), parallel.columnNames());
+    for (Column<?> column : serial.columns()) {
+      if (column instanceof DoubleColumn) {
+        for (int row = 0; row < column.size(); row++) {
+          double want = ((DoubleColumn) column).getDouble(row);
+          double got = parallel.doubleColumn(column.name()).getDouble(row);
+          if (Double.isNaN(want)) {
+            assertEquals(want, got, column.name());
+          } else {
+            assertEquals(want, got, Math.max(1, Math.abs(want)) * 1e-12, column.name());
+          }
+        }
+      } else {
+        assertEquals(column.asList(), parallel.column(column.name()).asList(), column.name());
+      }
+    }
+  }
+
+  @Test
+  void parallelApply() {
+    Table table = randomTable(50_000);
+    Table serial = table.summarize("value", sum, mean, countUnique).apply();
+    Table parallel = table.summarize("value", sum, mean, countUnique).parallelism(3).apply();
+    assertEquals(1, parallel.rowCount());
+    assertEquals(serial.doubleColumn(0).get(0), parallel.doubleColumn(0).get(0), 1e-6);
+    assertEquals(serial.doubleColumn(1).get(0), parallel.doubleColumn(1).get(0), 1e-12);
+    assertEquals(serial.doubleColumn(2).get(0), parallel.doubleColumn(2).get(0));
+  }
+
+  @Test
+  void fallsBackWithoutAccumulator() {
+    Table table = randomTable(100);
+    Table summarized = table.summarize("value", mean, median).by("who");
+    Table expected = StandardTableSliceGroup.create(table, "who").aggregate("value", mean, median);
+    assertEquals(expected.columnNames(), summarized.columnNames());
+    assertEquals(
+        expected.doubleColumn("Median [value]").asList(),
+        summarized.doubleColumn("Median [value]").asList());
+  }
+}
@@ -2,24 +2,32 @@ package tech.tablesaw.analytic;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.analytic.AggregateFunctions.Max;
+import tech.tablesaw.analytic.AggregateFunctions.Min;
+import tech.tablesaw.analytic.AggregateFunctions.StdDev;
 import tech.tablesaw.analytic.AggregateFunctions.Sum;
+import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
 
 class AnalyticAggregateFunctionsTest {
 
+  private static void addAllRightMost(DoubleAggregateFunction function, double... values) {
+    for (double value : values) {
+      function.addRightMost(value);
+    }
+  }
+
   @Test
   public void testSumFixed() {
-    AggregateFunction<Integer, Double> function = new Sum<Integer>().functionForAppendWindows();
-    function.addAllRightMost(ImmutableList.of(10, 10, 10));
+    DoubleAggregateFunction function = new Sum().functionFor(WindowGrowthType.FIXED_LEFT);
+    addAllRightMost(function, 10, 10, 10);
     assertEquals(30, function.getValue());
   }
 
   @Test
   public void testSumSliding() {
-    AggregateFunction<Integer, Double> function = new Sum<Integer>().functionForSlidingWindows();
-    function.addAllRightMost(ImmutableList.of(10, 10, 10));
+    DoubleAggregateFunction function = new Sum().functionFor(WindowGrowthType.SLIDING);
+    addAllRightMost(function, 10, 10, 10);
     function.removeLeftMost();
     function.addRightMost(100);
     assertEquals(120, function.getValue());
@@ -27,17 +35,60 @@ class AnalyticAggregateFunctionsTest {
 
   @Test
   public void testMaxFixed() {
-    AggregateFunction<Integer, Double> function = new Max<Integer>().functionForAppendWindows();
-    function.addAllRightMost(ImmutableList.of(11, 10, 9));
+    DoubleAggregateFunction function = new Max().functionFor(WindowGrowthType.FIXED_LEFT);
+    addAllRightMost(function, 11, 10, 9);
     assertEquals(11, function.getValue());
   }
 
+  @Test
+  public void testMaxFixedCannotRemove() {
+    DoubleAggregateFunction function = new Max().functionFor(WindowGrowthType.FIXED_LEFT);
+    addAllRightMost(function, 11, 10, 9);
+    assertThrows(UnsupportedOperationException.class, function::removeLeftMost);
+  }
+
   @Test
   public void testMaxSliding() {
-    AggregateFunction<Integer, Double> function = new Max<Integer>().functionForSlidingWindows();
-    function.addAllRightMost(ImmutableList.of(100, 10, 9));
+    DoubleAggregateFunction function = new Max().functionFor(WindowGrowthType.SLIDING);
+    addAllRightMost(function, 100, 10, 9);
     function.removeLeftMost();
     function.addRightMost(3);
     assertEquals(10, function.getValue());
   }
+
+  @Test
+  public void testMinSlidingWithDuplicates() {
+    DoubleAggregateFunction function = new Min().functionFor(WindowGrowthType.SLIDING);
+    addAllRightMost(function, 3, 1, 1, 2);
+    function.removeLeftMost();
+    function.removeLeftMost();
+    assertEquals(1, function.getValue());
+    function.removeLeftMost();
+    assertEquals(2, function.getValue());
+    function.removeLeftMost();
+    assertTrue(Double.isNaN(function.getValue()));
+  }
+
+  @Test
+  public void testSumSlidingWithInfinity() {
+    DoubleAggregateFunction function =
+        AggregateFunctions.SUM.getImplementation(WindowGrowthType.SLIDING);
+    function.addRightMost(Double.POSITIVE_INFINITY);
+    function.addRightMost(1);
+    assertEquals(Double.POSITIVE_INFINITY, function.getValue());
+    function.removeLeftMost();
+    assertEquals(1, function.getValue());
+  }
+
+  @Test
+  public void testStdDevSliding() {
+    DoubleAggregateFunction function = new StdDev().functionFor(WindowGrowthType.SLIDING);
+    addAllRightMost(function, 100, 2, 4);
+    function.removeLeftMost();
+    function.addRightMost(6);
+    assertEquals(2, function.getValue(), 1e-12);
+    function.removeLeftMost();
+    function.removeLeftMost();
+    assertEquals(0, function.getValue());
+  }
 }
@@ -6,9 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 
@@ -616,6 +618,58 @@ class AnalyticQueryEngineTest {
     assertArrayEquals(expected, actual);
   }
 
+  @Test
+  public void stdDevSliding() {
+    int[] values = {2, 4, 4, 4, 5, 5, 7, 9};
+    Table table = Table.create("table", IntColumn.create("col1", values));
+
+    AnalyticQuery query =
+        AnalyticQuery.quickQuery()
+            .from(table)
+            .rowsBetween()
+            .preceding(2)
+            .andCurrentRow()
+            .stdDev("col1")
+            .as("stdDev")
+            .build();
+
+    Table result = AnalyticQueryEngine.create(query).execute();
+
+    for (int i = 0; i < values.length; i++) {
+      IntColumn window =
+          IntColumn.create("window", Arrays.copyOfRange(values, Math.max(0, i - 2), i + 1));
+      assertEquals(window.standardDeviation(), result.doubleColumn("stdDev").getDouble(i), 1e-12);
+    }
+  }
+
+  @Test
+  public void parallelPartitionsMatchSerial() {
+    AnalyticQuery query =
+        AnalyticQuery.query()
+            .from(referenceImplementation)
+            .partitionBy("who")
+            .orderBy("date")
+            .rowsBetween()
+            .preceding(5)
+            .andFollowing(5)
+            .sum("approval")
+            .as("sum")
+            .mean("approval")
+            .as("mean")
+            .stdDev("approval")
+            .as("stdDev")
+            .count("approval")
+            .as("count")
+            .build();
+
+    Table serial = query.execute();
+    Table parallel = query.parallelism(4).execute();
+
+    for (String name : serial.columnNames()) {
+      assertEquals(serial.column(name).asList(), parallel.column(name).asList(), name);
+    }
+  }
+
   @Test
   public void countWithStrings() {
     Table table =
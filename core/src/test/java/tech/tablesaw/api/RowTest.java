@@ -536,4 +536,48 @@ public class RowTest {
     bush.row(0).setMissing("approval");
     assertTrue(bush.row(0).isMissing("approval"));
   }
+
+  @Test
+  public void columnHandles() {
+    Table table =
+        Table.create(
+            "t",
+            DoubleColumn.create("Price", new double[] {1.5, 2.5, 4.0}),
+            IntColumn.create("quantity", new int[] {2, 4, 1}),
+            StringColumn.create("name", new String[] {"a", "b", "c"}));
+    Row row = new Row(table);
+    Row.ColumnHandle price = row.handle("price");
+    Row.ColumnHandle quantity = row.handle("QUANTITY");
+    Row.ColumnHandle name = row.handle("name");
+    assertEquals(0, price.columnIndex());
+    assertEquals(ColumnType.INTEGER, quantity.type());
+
+    double total = 0;
+    StringBuilder names = new StringBuilder();
+    while (row.hasNext()) {
+      row.next();
+      total += price.getDouble() * quantity.getInt();
+      names.append(name.getString());
+      quantity.setInt(quantity.getInt() + 1);
+    }
+    assertEquals(17.0, total);
+    assertEquals("abc", names.toString());
+    assertArrayEquals(new int[] {3, 5, 2}, table.intColumn("quantity").asIntArray());
+    assertThrows(IllegalStateException.class, () -> row.handle("missing"));
+  }
+
+  @Test
+  public void indexedAccessOfWrongTypeNamesTheColumnType() {
+    Table table = Table.create("t", IntColumn.create("quantity", new int[] {2}));
+    Row row = new Row(table);
+    row.next();
+    assertEquals(2, row.getInt(0));
+    assertEquals(2.0, row.getNumber(0));
+    assertFalse(row.isMissing(0));
+    Throwable thrown = assertThrows(IllegalArgumentException.class, () -> row.getDouble(0));
+    assertEquals(
+        "Column quantity is of type INTEGER and cannot be cast to DOUBLE. Use the method for"
+            + " INTEGER.",
+        thrown.getMessage());
+  }
 }
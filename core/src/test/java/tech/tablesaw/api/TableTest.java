@@ -346,6 +346,32 @@ public class TableTest {
     assertEquals(3, t2.rowCount());
   }
 
+  @Test
+  void dropDuplicateRowsWithCollidingHashes() {
+    // 31 * 0 + 31 == 31 * 1 + 0, so both rows hash alike but are not equal
+    Table t1 =
+        Table.create(
+            "T1", IntColumn.create("a", 0, 1, 0, 1, 1), IntColumn.create("b", 31, 0, 31, 0, 0));
+    Table t2 = t1.dropDuplicateRows();
+    assertEquals(2, t2.rowCount());
+    assertEquals(0, t2.intColumn("a").getInt(0));
+    assertEquals(1, t2.intColumn("a").getInt(1));
+    assertEquals(2, t1.uniqueRowCount());
+  }
+
+  @Test
+  void dropDuplicateRowsInParallel() {
+    Table t1 = bush.copy();
+    t1.append(bush).append(bush.dropRange(100));
+    Table serial = t1.dropDuplicateRows();
+    Table parallel = t1.dropDuplicateRows(4);
+    assertEquals(serial.rowCount(), parallel.rowCount());
+    assertEquals(serial.rowCount(), t1.uniqueRowCount());
+    for (int c = 0; c < serial.columnCount(); c++) {
+      assertEquals(serial.column(c).asList(), parallel.column(c).asList());
+    }
+  }
+
   @Test
   void testMissingValueCounts() {
     StringColumn c1 = StringColumn.create("SC");
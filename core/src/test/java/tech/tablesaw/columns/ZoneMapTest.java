@@ -0,0 +1,223 @@
+package tech.tablesaw.columns;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.columns.ZoneMap.Overlap;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.selection.Selection;
+
+class ZoneMapTest {
+
+  private static final int ROWS = 5000;
+
+  private static final int BLOCK_SIZE = 256;
+
+  private static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+  /** Returns increasing values with some noise, and a missing value in every 97 */
+  private static int[] clustered(long seed) {
+    Random random = new Random(seed);
+    int[] values = new int[ROWS];
+    for (int i = 0; i < ROWS; i++) {
+      values[i] = i % 97 == 0 ? Integer.MIN_VALUE : i / 4 + random.nextInt(8);
+    }
+    return values;
+  }
+
+  @Test
+  void numericFiltersMatchScans() {
+    IntColumn ints = IntColumn.create("i");
+    LongColumn longs = LongColumn.create("l");
+    DoubleColumn doubles = DoubleColumn.create("d");
+    for (int v : clustered(1)) {
+      if (v == Integer.MIN_VALUE) {
+        ints.appendMissing();
+        longs.appendMissing();
+        doubles.appendMissing();
+      } else {
+        ints.append(v);
+        longs.append(v);
+        doubles.append(v / 2.0);
+      }
+    }
+    IntColumn intCopy = ints.copy();
+    LongColumn longCopy = longs.copy();
+    DoubleColumn doubleCopy = doubles.copy();
+    ints.setZoneMap(new ZoneMap(BLOCK_SIZE));
+    longs.setZoneMap(new ZoneMap(BLOCK_SIZE));
+    doubles.setZoneMap(new ZoneMap(BLOCK_SIZE));
+    for (double lo : new double[] {-1e300, -5, 0, 100.5, 400, 1300}) {
+      double hi = lo + 150;
+      assertEquals(intCopy.isBetweenInclusive(lo, hi), ints.isBetweenInclusive(lo, hi));
+      assertEquals(longCopy.isBetweenExclusive(lo, hi), longs.isBetweenExclusive(lo, hi));
+      assertEquals(doubleCopy.isBetweenInclusive(lo, hi), doubles.isBetweenInclusive(lo, hi));
+      assertEquals(intCopy.isLessThan(lo), ints.isLessThan(lo));
+      assertEquals(longCopy.isGreaterThanOrEqualTo(lo), longs.isGreaterThanOrEqualTo(lo));
+      assertEquals(doubleCopy.isGreaterThan(lo), doubles.isGreaterThan(lo));
+      assertEquals(intCopy.isEqualTo(lo), ints.isEqualTo(lo));
+    }
+    assertEquals(ROWS, ints.zoneMap().rowCount());
+    assertEquals((ROWS + BLOCK_SIZE - 1) / BLOCK_SIZE, doubles.zoneMap().blockCount());
+  }
+
+  @Test
+  void temporalFiltersMatchScans() {
+    DateColumn dates = DateColumn.create("date");
+    DateTimeColumn dateTimes = DateTimeColumn.create("dateTime");
+    InstantColumn instants = InstantColumn.create("instant");
+    for (int v : clustered(2)) {
+      if (v == Integer.MIN_VALUE) {
+        dates.appendMissing();
+        dateTimes.appendMissing();
+        instants.appendMissing();
+      } else {
+        LocalDateTime dateTime = START.atStartOfDay().plusHours(v);
+        dates.append(START.plusDays(v));
+        dateTimes.append(dateTime);
+        instants.append(dateTime.toInstant(ZoneOffset.UTC));
+      }
+    }
+    DateColumn dateCopy = dates.copy();
+    DateTimeColumn dateTimeCopy = dateTimes.copy();
+    InstantColumn instantCopy = instants.copy();
+    dates.setZoneMap(new ZoneMap(BLOCK_SIZE));
+    dateTimes.setZoneMap(new ZoneMap(BLOCK_SIZE));
+    instants.setZoneMap(new ZoneMap(BLOCK_SIZE));
+    for (int days : new int[] {-3, 0, 200, 900, 1400}) {
+      LocalDate date = START.plusDays(days);
+      LocalDate later = date.plusDays(60);
+      assertEquals(dateCopy.isBefore(date), dates.isBefore(date));
+      assertEquals(dateCopy.isOnOrAfter(date), dates.isOnOrAfter(date));
+      assertEquals(dateCopy.isBetweenIncluding(date, later), dates.isBetweenIncluding(date, later));
+      assertEquals(dateCopy.isEqualTo(date), dates.isEqualTo(date));
+
+      LocalDateTime dateTime = START.atStartOfDay().plusHours(days);
+      assertEquals(dateTimeCopy.isAfter(dateTime), dateTimes.isAfter(dateTime));
+      assertEquals(dateTimeCopy.isOnOrBefore(dateTime), dateTimes.isOnOrBefore(dateTime));
+      assertEquals(dateTimeCopy.isEqualTo(dateTime), dateTimes.isEqualTo(dateTime));
+      assertEquals(
+          dateTimeCopy.isBetweenExcluding(dateTime, dateTime.plusDays(9)),
+          dateTimes.isBetweenExcluding(dateTime, dateTime.plusDays(9)));
+
+      Instant instant = dateTime.toInstant(ZoneOffset.UTC);
+      assertEquals(instantCopy.isBefore(instant), instants.isBefore(instant));
+      assertEquals(instantCopy.isAfter(instant), instants.isAfter(instant));
+    }
+  }
+
+  @Test
+  void missingValuesKeepTheirMeaning() {
+    DateColumn dates = DateColumn.create("date");
+    dates.appendMissing();
+    dates.append(START);
+    dates.append(START.plusDays(1));
+    dates.setZoneMap(new ZoneMap(64));
+    // a missing date is packed as the smallest int, so it is before every date
+    assertEquals(Selection.with(0, 1), dates.isBefore(START.plusDays(1)));
+    assertEquals(Selection.with(1, 2), dates.isOnOrAfter(START));
+
+    InstantColumn instants = InstantColumn.create("instant");
+    instants.appendMissing();
+    instants.append(Instant.EPOCH);
+    instants.setZoneMap(new ZoneMap(64));
+    long epoch = PackedInstant.pack(Instant.EPOCH);
+    assertEquals(Selection.with(1), instants.isBetweenIncluding(Long.MIN_VALUE, epoch));
+    assertEquals(Selection.with(0), instants.isBetweenIncluding(Long.MIN_VALUE, Long.MIN_VALUE));
+  }
+
+  @Test
+  void changedRowsAreSummarizedAgain() {
+    IntColumn ints = IntColumn.create("i");
+    for (int i = 0; i < 1000; i++) {
+      ints.append(i);
+    }
+    ints.setZoneMap(new ZoneMap(128));
+    assertEquals(Selection.withRange(100, 201), ints.isBetweenInclusive(100, 200));
+    ZoneMap zoneMap = ints.zoneMap();
+    assertEquals(Overlap.NONE, zoneMap.overlap(7, 0, 200, false));
+    assertEquals(Overlap.ALL, zoneMap.overlap(1, 0, 300, false));
+
+    ints.append(150);
+    ints.set(900, 175);
+    ints.setMissing(120);
+    Selection expected = ints.copy().isBetweenInclusive(100, 200);
+    assertEquals(expected, ints.isBetweenInclusive(100, 200));
+    // the zone map read before the changes still describes the rows it summarized
+    assertEquals(1000, zoneMap.rowCount());
+    assertEquals(896, zoneMap.min(7));
+    assertEquals(0, zoneMap.nullCount(0));
+    zoneMap = ints.zoneMap();
+    assertEquals(1001, zoneMap.rowCount());
+    // the appended row is in the last block
+    assertEquals(150, zoneMap.min(7));
+    assertEquals(1, zoneMap.nullCount(0));
+    assertSame(zoneMap, ints.zoneMap());
+
+    ints.sortDescending();
+    assertEquals(ints.copy().isLessThan(50), ints.isLessThan(50));
+    assertEquals(999, ints.zoneMap().max(0));
+
+    ints.clear();
+    assertEquals(0, ints.zoneMap().blockCount());
+  }
+
+  @Test
+  void concurrentFiltersShareTheZoneMap() throws Exception {
+    IntColumn ints = IntColumn.create("i");
+    for (int v : clustered(3)) {
+      if (v == Integer.MIN_VALUE) {
+        ints.appendMissing();
+      } else {
+        ints.append(v);
+      }
+    }
+    Selection expected = ints.isBetweenInclusive(300, 500);
+    ints.setZoneMap(new ZoneMap(64));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Selection>> results = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(() -> ints.isBetweenInclusive(300, 500)));
+      }
+      for (Future<Selection> result : results) {
+        assertEquals(expected, result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(ROWS, ints.zoneMap().rowCount());
+  }
+
+  @Test
+  void columnsWithoutZoneMapsScanEveryRow() {
+    IntColumn ints = IntColumn.create("i", 1, 2, 3);
+    assertNull(ints.zoneMap());
+    assertEquals(Selection.with(1, 2), ints.isGreaterThan(1));
+  }
+
+  @Test
+  void blockSizeMustBeAMultipleOf64() {
+    assertThrows(IllegalArgumentException.class, () -> new ZoneMap(100));
+    assertThrows(IllegalArgumentException.class, () -> new ZoneMap(0));
+  }
+}
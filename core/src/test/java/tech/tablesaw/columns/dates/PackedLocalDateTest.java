@@ -68,7 +68,9 @@ import static tech.tablesaw.columns.dates.PackedLocalDate.withYear;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.format.DateTimeFormatter;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.ColumnType;
 
 public class PackedLocalDateTest {
 
@@ -338,4 +340,36 @@ public class PackedLocalDateTest {
     int dateTime = pack(date);
     assertEquals(date.getDayOfWeek(), getDayOfWeek(dateTime));
   }
+
+  @Test
+  public void testParseIsoDate() {
+    assertEquals(pack(LocalDate.of(2015, 1, 25)), PackedLocalDate.parseIsoDate("2015-01-25", 0));
+    assertEquals(pack(LocalDate.of(2016, 2, 29)), PackedLocalDate.parseIsoDate("x,2016-02-29", 2));
+    String[] invalid = {
+      "2015-02-29",
+      "2015-13-01",
+      "2015-00-10",
+      "2015-04-31",
+      "0000-01-01",
+      "2015/01/25",
+      "2015-1-25",
+      "2015-01-2x",
+      "2015-01"
+    };
+    for (String s : invalid) {
+      assertEquals(DateColumnType.missingValueIndicator(), PackedLocalDate.parseIsoDate(s, 0), s);
+    }
+  }
+
+  @Test
+  public void testParsePackedMatchesParse() {
+    DateParser parser = new DateParser(ColumnType.LOCAL_DATE);
+    String[] values = {"2015-01-25", "2016-02-29", "2015-02-30", "01/25/2015", "20150125", ""};
+    for (String s : values) {
+      assertEquals(pack(parser.parse(s)), parser.parsePacked(s), s);
+    }
+    DateParser custom = new DateParser(ColumnType.LOCAL_DATE);
+    custom.setCustomFormatter(DateTimeFormatter.ofPattern("yyyy-dd-MM"));
+    assertEquals(pack(LocalDate.of(2015, 1, 12)), custom.parsePacked("2015-12-01"));
+  }
 }
@@ -36,6 +36,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoField;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.dates.PackedLocalDate;
 import tech.tablesaw.columns.times.PackedLocalTime;
 
@@ -125,4 +126,25 @@ public class PackedLocalDateTimeTest {
     LocalDateTime now = LocalDateTime.now();
     assertEquals(now.get(ChronoField.DAY_OF_WEEK), getDayOfWeek(pack(now)).getValue());
   }
+
+  @Test
+  public void testParsePackedMatchesParse() {
+    DateTimeParser parser = new DateTimeParser(ColumnType.LOCAL_DATE_TIME);
+    String[] values = {
+      "2014-07-09 13:03:44",
+      "2014-07-09 13:03:44.7",
+      "2014-07-09T13:03",
+      "2014-07-09T13:03:44",
+      "2014-07-09T13:03:44.123456789",
+      "2014-07-09T13:03:44.05",
+      "2016-02-29T23:59:59.999",
+      "2015-02-30T10:00:00",
+      "09-Jul-2014 13:03",
+      "7/9/14 9:04",
+      ""
+    };
+    for (String s : values) {
+      assertEquals(pack(parser.parse(s)), parser.parsePacked(s), s);
+    }
+  }
 }
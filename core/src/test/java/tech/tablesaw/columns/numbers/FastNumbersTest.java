@@ -0,0 +1,165 @@
+package tech.tablesaw.columns.numbers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.util.StringUtils;
+
+class FastNumbersTest {
+
+  private static final String[] LONGS = {
+    "0",
+    "-0",
+    "+7",
+    "42",
+    "-42",
+    "1,234,567",
+    "12.0",
+    "12.000",
+    "-3.0",
+    "1,000.0",
+    "9223372036854775807",
+    "-9223372036854775808",
+    "9,223,372,036,854,775,807",
+    "2147483647",
+    "-2147483648"
+  };
+
+  private static final String[] NOT_LONGS = {
+    "",
+    "-",
+    "+",
+    ",",
+    ".0",
+    "1.5",
+    "12.01",
+    "1e3",
+    " 1",
+    "1 ",
+    "abc",
+    "9223372036854775808",
+    "-9223372036854775809",
+    "99999999999999999999"
+  };
+
+  private static final String[] DOUBLES = {
+    "0",
+    "-0",
+    "0.0",
+    "1",
+    "-1.5",
+    "+2.25",
+    ".5",
+    "5.",
+    "1,234.5",
+    "3.141592653589793",
+    "0.1",
+    "0.3",
+    "123456789012345",
+    "1234567890123456789",
+    "1e10",
+    "1.5E-7",
+    "2e+22",
+    "1e23",
+    "1e-400",
+    "1e400",
+    "4.9e-324",
+    "1.7976931348623157E308",
+    "0.000000000000000000000000001",
+    "100000000000000000000000",
+    "12%",
+    " 3.5",
+    "3.5d",
+    "NaN",
+    "Infinity",
+    "-Infinity"
+  };
+
+  @Test
+  void parseLongMatchesLongParseLong() {
+    for (String s : LONGS) {
+      assertEquals(slowLong(s), FastNumbers.parseLong(s, true), s);
+    }
+  }
+
+  @Test
+  void parseLongRejectsWhatLongParseLongRejects() {
+    for (String s : NOT_LONGS) {
+      assertThrows(NumberFormatException.class, () -> FastNumbers.parseLong(s, true), s);
+    }
+    assertThrows(NumberFormatException.class, () -> FastNumbers.parseLong("12.0", false));
+  }
+
+  @Test
+  void isLongAgreesWithParseLong() {
+    for (String s : LONGS) {
+      assertTrue(FastNumbers.isLong(s, true, Long.MIN_VALUE, Long.MAX_VALUE), s);
+    }
+    for (String s : NOT_LONGS) {
+      assertFalse(FastNumbers.isLong(s, true, Long.MIN_VALUE, Long.MAX_VALUE), s);
+    }
+    assertTrue(FastNumbers.isLong(",-5", true, Long.MIN_VALUE, Long.MAX_VALUE));
+    assertTrue(FastNumbers.isLong("\u0661\u0662", true, Long.MIN_VALUE, Long.MAX_VALUE));
+    assertFalse(FastNumbers.isLong("12.0", false, Long.MIN_VALUE, Long.MAX_VALUE));
+    assertTrue(FastNumbers.isLong("32767", true, Short.MIN_VALUE, Short.MAX_VALUE));
+    assertFalse(FastNumbers.isLong("32768", true, Short.MIN_VALUE, Short.MAX_VALUE));
+    assertFalse(FastNumbers.isLong("-2147483649", true, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  }
+
+  @Test
+  void mayBeDoubleRejectsOnlyUnparsableStrings() {
+    assertFalse(FastNumbers.mayBeDouble("abc"));
+    assertFalse(FastNumbers.mayBeDouble(","));
+    assertTrue(FastNumbers.mayBeDouble("NaN"));
+    assertTrue(FastNumbers.mayBeDouble("-Infinity"));
+    assertTrue(FastNumbers.mayBeDouble("a1"));
+  }
+
+  @Test
+  void parseIntChecksRange() {
+    assertEquals(Integer.MAX_VALUE, FastNumbers.parseInt("2,147,483,647", true));
+    assertEquals(Integer.MIN_VALUE, FastNumbers.parseInt("-2147483648.0", true));
+    assertThrows(NumberFormatException.class, () -> FastNumbers.parseInt("2147483648", true));
+    assertThrows(NumberFormatException.class, () -> FastNumbers.parseInt("-2147483649", true));
+  }
+
+  @Test
+  void parseDoubleMatchesDoubleParseDouble() {
+    for (String s : DOUBLES) {
+      double fast = FastNumbers.parseDouble(s);
+      if (!Double.isNaN(fast)) {
+        assertEquals(
+            Double.doubleToRawLongBits(Double.parseDouble(s.replace(",", ""))),
+            Double.doubleToRawLongBits(fast),
+            s);
+      }
+    }
+  }
+
+  @Test
+  void parseDoubleLeavesUncommonFormsToTheCaller() {
+    String[] uncommon = {
+      "", "-", ".", "e5", "1e", "12%", " 3.5", "3.5d", "NaN", "Infinity", "1e23"
+    };
+    for (String s : uncommon) {
+      assertTrue(Double.isNaN(FastNumbers.parseDouble(s)), s);
+    }
+  }
+
+  @Test
+  void doubleParserMatchesPreviousResults() {
+    DoubleParser parser = new DoubleParser(ColumnType.DOUBLE);
+    assertEquals(1234.5, parser.parseDouble("1,234.5"));
+    assertEquals(0.12, parser.parseDouble("12%"));
+    assertEquals(1e23, parser.parseDouble("1e23"));
+    assertTrue(Double.isNaN(parser.parseDouble("")));
+  }
+
+  private static long slowLong(String s) {
+    return Long.parseLong(StringUtils.removeZeroDecimal(s).replace(",", ""));
+  }
+}
@@ -3,8 +3,11 @@ package tech.tablesaw.columns.numbers;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.aggregate.AggregateFunctions;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.columns.Column;
 
 public class NumberRollingColumnTest {
 
@@ -17,4 +20,52 @@ public class NumberRollingColumnTest {
     assertArrayEquals(sma5, result.asDoubleArray(), 0.000001);
     assertEquals("data 5-period Mean", result.name());
   }
+
+  @Test
+  public void testSlidingMatchesRecomputed() {
+    Random random = new Random(7);
+    DoubleColumn data = DoubleColumn.create("data");
+    for (int i = 0; i < 500; i++) {
+      if (random.nextInt(8) == 0) {
+        data.appendMissing();
+      } else {
+        data.append(random.nextInt(40) - 20 + random.nextDouble());
+      }
+    }
+    for (int window : new int[] {1, 2, 7, 30}) {
+      NumberRollingColumn rolling = data.rolling(window);
+      assertSameValues(rolling.calc(AggregateFunctions.sum), rolling.sum());
+      assertSameValues(rolling.calc(AggregateFunctions.mean), rolling.mean());
+      assertSameValues(rolling.calc(AggregateFunctions.min), rolling.min());
+      assertSameValues(rolling.calc(AggregateFunctions.max), rolling.max());
+      assertSameValues(rolling.calc(AggregateFunctions.variance), rolling.variance());
+      assertSameValues(rolling.calc(AggregateFunctions.stdDev), rolling.stdDev());
+      assertSameValues(rolling.calc(AggregateFunctions.median), rolling.median());
+      assertSameValues(rolling.calc(AggregateFunctions.countMissing), rolling.countMissing());
+      assertSameValues(rolling.calc(AggregateFunctions.countNonMissing), rolling.countNonMissing());
+    }
+  }
+
+  @Test
+  public void testInfiniteValuesLeaveTheWindow() {
+    double inf = Double.POSITIVE_INFINITY;
+    DoubleColumn data = DoubleColumn.create("data", new double[] {1, inf, -inf, 2, 3, 4});
+    NumberRollingColumn rolling = data.rolling(2);
+    double missing = DoubleColumnType.missingValueIndicator();
+    // a window with an infinity has no mean, as with the functions that are recomputed
+    assertArrayEquals(
+        new double[] {missing, Double.NaN, Double.NaN, Double.NaN, 2.5, 3.5},
+        rolling.mean().asDoubleArray());
+    assertArrayEquals(
+        new double[] {missing, inf, Double.NaN, -inf, 5, 7}, rolling.sum().asDoubleArray());
+    assertSameValues(rolling.calc(AggregateFunctions.mean), rolling.mean());
+    assertSameValues(rolling.calc(AggregateFunctions.sum), rolling.sum());
+    assertSameValues(rolling.calc(AggregateFunctions.variance), rolling.variance());
+    assertSameValues(rolling.calc(AggregateFunctions.max), rolling.max());
+  }
+
+  private static void assertSameValues(Column<?> expected, DoubleColumn actual) {
+    assertEquals(expected.name(), actual.name());
+    assertArrayEquals(((DoubleColumn) expected).asDoubleArray(), actual.asDoubleArray(), 1e-9);
+  }
 }
@@ -0,0 +1,50 @@
+package tech.tablesaw.columns.numbers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tech.tablesaw.aggregate.AggregateFunctions.countUnique;
+import static tech.tablesaw.aggregate.AggregateFunctions.mean;
+import static tech.tablesaw.aggregate.AggregateFunctions.median;
+
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.NumericColumn;
+
+class NumericColumnViewTest {
+
+  private final IntColumn source =
+      IntColumn.create("values", new int[] {5, 3, 8, 3, IntColumnType.missingValueIndicator(), 1});
+
+  @Test
+  void readsTheSourceThroughTheRowNumbers() {
+    NumericColumnView<Integer> view = NumericColumnView.of(source, new int[] {2, 4, 0, 1});
+    assertEquals(4, view.size());
+    assertEquals(8.0, view.getDouble(0));
+    assertEquals(5, view.get(2));
+    assertEquals(1, view.countMissing());
+    assertArrayEquals(new double[] {8, 5, 3}, view.removeMissing().asDoubleArray());
+    assertArrayEquals(new double[] {5, 3}, view.subset(new int[] {2, 3}).asDoubleArray());
+  }
+
+  @Test
+  void summarizesLikeACopy() {
+    int[] rows = {0, 1, 3, 4, 5};
+    NumericColumnView<Integer> view = NumericColumnView.of(source, rows);
+    NumericColumn<Integer> copy = view.copy();
+    assertEquals(IntColumn.class, copy.getClass());
+    assertEquals(mean.summarize(copy), mean.summarize(view));
+    assertEquals(median.summarize(copy), median.summarize(view));
+    assertEquals(countUnique.summarize(copy), countUnique.summarize(view));
+  }
+
+  @Test
+  void cannotBeModified() {
+    NumericColumnView<Double> view =
+        NumericColumnView.of(DoubleColumn.create("d", 1.0, 2.0), new int[] {1});
+    assertThrows(UnsupportedOperationException.class, () -> view.append(3.0));
+    assertThrows(UnsupportedOperationException.class, () -> view.setMissing(0));
+    assertThrows(UnsupportedOperationException.class, view::sortAscending);
+  }
+}
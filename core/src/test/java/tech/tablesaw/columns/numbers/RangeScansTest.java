@@ -0,0 +1,130 @@
+package tech.tablesaw.columns.numbers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoublePredicate;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.columns.ZoneMap;
+import tech.tablesaw.selection.Selection;
+
+class RangeScansTest {
+
+  private static final double[] THRESHOLDS = {
+    -3,
+    -2.5,
+    0,
+    0.5,
+    1,
+    7,
+    1e10,
+    -1e10,
+    Double.POSITIVE_INFINITY,
+    Double.NEGATIVE_INFINITY,
+    Double.NaN
+  };
+
+  @Test
+  void scansMatchPredicates() {
+    Random random = new Random(42);
+    int size = 1000;
+    IntColumn ints = IntColumn.create("ints");
+    LongColumn longs = LongColumn.create("longs");
+    ShortColumn shorts = ShortColumn.create("shorts");
+    FloatColumn floats = FloatColumn.create("floats");
+    DoubleColumn doubles = DoubleColumn.create("doubles");
+    for (int i = 0; i < size; i++) {
+      int value = random.nextInt(21) - 10;
+      if (i % 17 == 0) {
+        ints.appendMissing();
+        longs.appendMissing();
+        shorts.appendMissing();
+        floats.appendMissing();
+        doubles.appendMissing();
+      } else {
+        ints.append(value);
+        longs.append(value);
+        shorts.append((short) value);
+        floats.append(value / 2f);
+        doubles.append(value / 2.0);
+      }
+    }
+    for (NumericColumn<?> column : new NumericColumn<?>[] {ints, longs, shorts, floats, doubles}) {
+      for (double t : THRESHOLDS) {
+        assertSame(column, column.isGreaterThan(t), v -> v > t);
+        assertSame(column, column.isGreaterThanOrEqualTo(t), v -> v >= t);
+        assertSame(column, column.isLessThan(t), v -> v < t);
+        assertSame(column, column.isLessThanOrEqualTo(t), v -> v <= t);
+        assertSame(column, column.isEqualTo(t), v -> v == t);
+        assertSame(column, column.isNotEqualTo(t), v -> v != t);
+        assertSame(column, column.isBetweenInclusive(t, t + 3), v -> v >= t && v <= t + 3);
+        assertSame(column, column.isBetweenExclusive(t, t + 3), v -> v > t && v < t + 3);
+      }
+    }
+  }
+
+  @Test
+  void scanColumnNotBackedByAnArray() {
+    int size = 200_000;
+    IntArrayList values = new IntArrayList(size);
+    for (int i = 0; i < size; i++) {
+      values.add(i % 1000);
+    }
+    IntColumn column = IntColumn.createInternal("ints", IntLists.unmodifiable(values));
+    Selection selection = column.isBetweenInclusive(10, 19);
+    assertEquals(size / 100, selection.size());
+    assertEquals(10, selection.get(0));
+    assertEquals(size - 981, selection.get(selection.size() - 1));
+  }
+
+  @Test
+  void parallelScansMatchSerialScans() {
+    Random random = new Random(11);
+    int size = 300_001;
+    IntColumn ints = IntColumn.create("ints");
+    IntColumn zoned = IntColumn.create("zoned");
+    LongColumn longs = LongColumn.create("longs");
+    ShortColumn shorts = ShortColumn.create("shorts");
+    FloatColumn floats = FloatColumn.create("floats");
+    DoubleColumn doubles = DoubleColumn.create("doubles");
+    for (int i = 0; i < size; i++) {
+      int value = random.nextInt(1000);
+      ints.append(value);
+      // sorted, so most blocks of the zone map are all in or all out of a range
+      zoned.append(i / 1000);
+      longs.append(value);
+      shorts.append((short) value);
+      floats.append(value / 2f);
+      doubles.append(value / 2.0);
+    }
+    zoned.setZoneMap(new ZoneMap(4096));
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      for (NumericColumn<?> column :
+          new NumericColumn<?>[] {ints, zoned, longs, shorts, floats, doubles}) {
+        Selection serial = column.isBetweenInclusive(100, 250);
+        Selection parallel =
+            RangeScans.scanInParallel(pool, () -> column.isBetweenInclusive(100, 250));
+        assertEquals(serial, parallel, column.name());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static void assertSame(
+      NumericColumn<?> column, Selection selection, DoublePredicate predicate) {
+    Selection expected = column.eval(predicate);
+    assertEquals(expected.size(), selection.size(), column.name());
+    assertEquals(expected, selection, column.name());
+  }
+}
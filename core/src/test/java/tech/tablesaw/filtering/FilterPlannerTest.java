@@ -0,0 +1,164 @@
+package tech.tablesaw.filtering;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.api.QuerySupport.and;
+import static tech.tablesaw.api.QuerySupport.not;
+import static tech.tablesaw.api.QuerySupport.num;
+import static tech.tablesaw.api.QuerySupport.or;
+import static tech.tablesaw.api.QuerySupport.str;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.Selection;
+
+class FilterPlannerTest {
+
+  private Table table;
+
+  /** The number of rows of each table the counted filter was applied to */
+  private final List<Integer> rowsFiltered = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    Random random = new Random(3);
+    IntColumn amount = IntColumn.create("amount");
+    StringColumn country = StringColumn.create("country");
+    StringColumn name = StringColumn.create("name");
+    for (int i = 0; i < 100_000; i++) {
+      amount.append(random.nextInt(200) - 100);
+      country.append(i % 500 == 0 ? "LU" : "FR");
+      name.append("name" + random.nextInt(1000));
+    }
+    table = Table.create("t", amount, country, name);
+  }
+
+  /** Returns the given row filter, counting the rows of each table it is applied to */
+  private Function<Table, Selection> counted(Function<Table, Selection> filter) {
+    return new RowFilter(
+        t -> {
+          rowsFiltered.add(t.rowCount());
+          return filter.apply(t);
+        });
+  }
+
+  @Test
+  void andEvaluatesTheMostSelectiveFilterFirst() {
+    Function<Table, Selection> nameContains = counted(str("name").containsString("7"));
+    Selection selection =
+        and(nameContains, num("amount").isGreaterThan(0), str("country").isEqualTo("LU"))
+            .apply(table);
+    Selection expected =
+        table
+            .stringColumn("name")
+            .containsString("7")
+            .and(table.intColumn("amount").isGreaterThan(0))
+            .and(table.stringColumn("country").isEqualTo("LU"));
+    assertEquals(expected, selection);
+    // once on the sample, and once on the rows surviving the other two filters
+    assertEquals(2, rowsFiltered.size());
+    assertEquals(FilterPlanner.SAMPLE_SIZE, rowsFiltered.get(0));
+    assertTrue(rowsFiltered.get(1) <= 200);
+  }
+
+  @Test
+  void andStopsWhenNoRowIsLeft() {
+    Function<Table, Selection> filter = counted(num("amount").isGreaterThan(0));
+    Selection selection = and(str("country").isEqualTo("XX"), filter).apply(table);
+    assertTrue(selection.isEmpty());
+    assertEquals(List.of(FilterPlanner.SAMPLE_SIZE), rowsFiltered);
+  }
+
+  @Test
+  void orEvaluatesTheLeastSelectiveFilterFirst() {
+    Function<Table, Selection> filter = counted(str("country").isEqualTo("LU"));
+    Selection selection = or(filter, num("amount").isGreaterThan(-98)).apply(table);
+    Selection expected =
+        table
+            .stringColumn("country")
+            .isEqualTo("LU")
+            .or(table.intColumn("amount").isGreaterThan(-98));
+    assertEquals(expected, selection);
+    assertEquals(2, rowsFiltered.size());
+    assertTrue(rowsFiltered.get(1) < table.rowCount() / 16);
+  }
+
+  @Test
+  void nestedFiltersShareTheSample() {
+    List<Table> samples = new ArrayList<>();
+    Function<Table, Selection> filter =
+        new RowFilter(
+            t -> {
+              if (t.rowCount() == FilterPlanner.SAMPLE_SIZE) {
+                samples.add(t);
+              }
+              return t.intColumn("amount").isGreaterThan(0);
+            });
+    Selection selection =
+        and(or(filter, str("country").isEqualTo("LU")), num("amount").isLessThan(50)).apply(table);
+    IntColumn amount = table.intColumn("amount");
+    Selection expected =
+        amount
+            .isGreaterThan(0)
+            .or(table.stringColumn("country").isEqualTo("LU"))
+            .and(amount.isLessThan(50));
+    assertEquals(expected, selection);
+    // once while the And orders its arguments, and once while the Or orders its own
+    assertEquals(2, samples.size());
+    assertSame(samples.get(0), samples.get(1));
+  }
+
+  @Test
+  void smallTablesAreFilteredInOrder() {
+    Table small = table.first(100);
+    Function<Table, Selection> filter = counted(num("amount").isGreaterThan(0));
+    Selection selection = and(filter, str("country").isEqualTo("LU")).apply(small);
+    Selection expected =
+        small
+            .intColumn("amount")
+            .isGreaterThan(0)
+            .and(small.stringColumn("country").isEqualTo("LU"));
+    assertEquals(expected, selection);
+    assertEquals(List.of(100), rowsFiltered);
+  }
+
+  @Test
+  void filtersOfCapturedColumnsSeeTheWholeTable() {
+    IntColumn amount = table.intColumn("amount");
+    Function<Table, Selection> captured = t -> amount.isLessThan(-90);
+    Selection selection = and(str("country").isEqualTo("LU"), captured).apply(table);
+    Selection expected = table.stringColumn("country").isEqualTo("LU").and(amount.isLessThan(-90));
+    assertEquals(expected, selection);
+
+    selection = or(captured, str("country").isEqualTo("LU")).apply(table);
+    expected = amount.isLessThan(-90).or(table.stringColumn("country").isEqualTo("LU"));
+    assertEquals(expected, selection);
+  }
+
+  @Test
+  void filtersOfAggregatesSeeTheWholeTable() {
+    Function<Table, Selection> aboveMean =
+        t -> t.intColumn("amount").isGreaterThan(t.intColumn("amount").mean());
+    Selection selection =
+        and(str("country").isEqualTo("LU"), aboveMean, num("amount").isLessThan(50)).apply(table);
+    IntColumn amount = table.intColumn("amount");
+    Selection expected =
+        table
+            .stringColumn("country")
+            .isEqualTo("LU")
+            .and(amount.isGreaterThan(amount.mean()))
+            .and(amount.isLessThan(50));
+    assertEquals(expected, selection);
+    assertFalse(FilterPlanner.isRowFilter(and(str("country").isEqualTo("LU"), aboveMean)));
+    assertTrue(FilterPlanner.isRowFilter(not(or(str("country").isEqualTo("LU")))));
+  }
+}
@@ -0,0 +1,155 @@
+package tech.tablesaw.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.api.QuerySupport.and;
+import static tech.tablesaw.api.QuerySupport.num;
+import static tech.tablesaw.api.QuerySupport.str;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.Selection;
+
+public class ColumnIndexTest {
+
+  private static final double[] VALUES = {-11, -10, -2.5, 0, 3, 9.5, 10, 11};
+
+  private Table table;
+
+  @BeforeEach
+  public void setUp() {
+    table =
+        Table.create(
+            "t",
+            IntColumn.create("i"),
+            LongColumn.create("l"),
+            DoubleColumn.create("d"),
+            StringColumn.create("s"));
+    appendRows(table, 1, 500);
+  }
+
+  private static void appendRows(Table table, long seed, int count) {
+    Random random = new Random(seed);
+    for (int r = 0; r < count; r++) {
+      int value = random.nextInt(21) - 10;
+      if (r % 13 == 0) {
+        table.intColumn("i").appendMissing();
+        table.longColumn("l").appendMissing();
+        table.doubleColumn("d").appendMissing();
+        table.stringColumn("s").appendMissing();
+      } else {
+        table.intColumn("i").append(value);
+        table.longColumn("l").append(value);
+        table.doubleColumn("d").append(value / 2.0);
+        table.stringColumn("s").append("s" + value);
+      }
+    }
+  }
+
+  @Test
+  public void numericLookupsMatchScans() {
+    for (String name : List.of("i", "l", "d")) {
+      NumericColumn<?> column = table.numberColumn(name);
+      ColumnIndex index = new ColumnIndex(column);
+      for (double v : VALUES) {
+        assertEquals(column.isEqualTo(v), index.isEqualTo(v));
+        assertEquals(
+            column.isLessThan(v), index.isBetween(Double.NEGATIVE_INFINITY, true, v, false));
+        assertEquals(column.isGreaterThanOrEqualTo(v), index.isBetween(v, true, 1e300, true));
+        assertEquals(column.isBetweenExclusive(v, v + 4), index.isBetween(v, false, v + 4, false));
+        assertEquals(column.isIn(List.of(v, v + 1)), index.isIn(List.of(v, v + 1)));
+      }
+      assertTrue(index.isBetween(Double.NaN, true, 10, true).isEmpty());
+    }
+  }
+
+  @Test
+  public void stringLookupsMatchScans() {
+    StringColumn column = table.stringColumn("s");
+    ColumnIndex index = new ColumnIndex(column);
+    // 21 values and the missing value
+    assertEquals(22, index.keyCount());
+    assertEquals(column.isEqualTo("s3"), index.isEqualTo("s3"));
+    assertEquals(column.isEqualTo(""), index.isEqualTo(""));
+    assertEquals(column.isIn("s-1", "s7", "x"), index.isIn("s-1", "s7", "x"));
+    assertThrows(IllegalStateException.class, () -> index.isEqualTo(3));
+  }
+
+  @Test
+  public void appendedRowsAreIndexed() {
+    ColumnIndex index = table.createIndex("i");
+    Table more = table.emptyCopy();
+    appendRows(more, 2, 300);
+    more.intColumn("i").append(1000);
+    table.append(more);
+    IntColumn column = table.intColumn("i");
+    assertEquals(801, column.size());
+    assertEquals(column.isEqualTo(4), index.isEqualTo(4));
+    assertEquals(column.isGreaterThan(5), index.isBetween(5, false, 2000, true));
+    assertEquals(Selection.with(800), index.isEqualTo(1000));
+    assertEquals(22, index.keyCount());
+  }
+
+  @Test
+  public void changedRowsAreIndexed() {
+    table.createIndex("i");
+    table.createIndex("s");
+    Function<Table, Selection> filter = num("i").isEqualTo(1000);
+    assertTrue(filter.apply(table).isEmpty());
+
+    IntColumn ints = table.intColumn("i");
+    ints.set(5, 1000);
+    assertEquals(Selection.with(5), filter.apply(table));
+    ints.setMissing(5);
+    assertTrue(filter.apply(table).isEmpty());
+    ints.sortAscending();
+    assertEquals(ints.isEqualTo(4), num("i").isEqualTo(4).apply(table));
+
+    StringColumn strings = table.stringColumn("s");
+    strings.set(7, "changed");
+    assertEquals(Selection.with(7), str("s").isEqualTo("changed").apply(table));
+    strings.sortDescending();
+    assertEquals(strings.isEqualTo("s3"), str("s").isEqualTo("s3").apply(table));
+  }
+
+  @Test
+  public void filtersUseTheTableIndex() {
+    Function<Table, Selection> filter =
+        and(num("i").isBetweenInclusive(-3, 4), str("s").isIn("s1", "s2", "s9"));
+    Selection expected = filter.apply(table);
+    table.createIndex("I");
+    table.createIndex("s");
+    assertTrue(table.index("i").isPresent());
+    assertEquals(expected, filter.apply(table));
+    assertEquals(table.where(filter).rowCount(), expected.size());
+  }
+
+  @Test
+  public void replacedColumnsDropTheirIndex() {
+    ColumnIndex index = table.createIndex("d");
+    assertSame(index, table.index("d").get());
+    table.replaceColumn("d", DoubleColumn.create("d", table.rowCount()));
+    assertFalse(table.index("d").isPresent());
+    table.createIndex("s");
+    table.removeColumns("s");
+    assertFalse(table.index("s").isPresent());
+  }
+
+  @Test
+  public void onlyNumbersAndStringsAreIndexed() {
+    assertThrows(IllegalArgumentException.class, () -> new ColumnIndex(BooleanColumn.create("b")));
+  }
+}
@@ -15,6 +15,7 @@ import static tech.tablesaw.api.ColumnType.STRING;
 import com.google.common.collect.Lists;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.Table;
@@ -67,4 +68,52 @@ class ColumnTypeDetectorTest {
     StringReader reader = new StringReader(df);
     assertThrows(ColumnIndexOutOfBoundsException.class, () -> Table.read().csv(reader));
   }
+
+  @Test
+  void appendedDetectionsMatchWholeDetection() {
+    List<String[]> rows = new ArrayList<>();
+    for (int i = 0; i < 30_000; i++) {
+      rows.add(
+          new String[] {
+            String.valueOf(i),
+            i == 25_001 ? "1.5" : String.valueOf(i % 100),
+            i % 3 == 0 ? "" : "true",
+            i == 20_500 ? "x" : "2020-01-01"
+          });
+    }
+    ReadOptions options = new ReadOptions.Builder().build();
+    ColumnTypeDetector detector = new ColumnTypeDetector(options.columnTypesToDetect());
+
+    ColumnTypeDetector.Detection first = detector.startDetection(options);
+    rows.subList(0, 12_345).forEach(first::accept);
+    ColumnTypeDetector.Detection second = detector.startDetection(options, 12_345);
+    rows.subList(12_345, rows.size()).forEach(second::accept);
+    first.append(second);
+
+    ColumnType[] whole = detector.detectColumnTypes(rows.iterator(), options);
+    assertArrayEquals(new ColumnType[] {INTEGER, INTEGER, BOOLEAN, LOCAL_DATE}, whole);
+    assertArrayEquals(whole, first.columnTypes());
+
+    ColumnType[] unsampled =
+        detector.detectColumnTypes(
+            rows.iterator(), new ReadOptions.Builder().sample(false).build());
+    assertArrayEquals(new ColumnType[] {INTEGER, DOUBLE, BOOLEAN, STRING}, unsampled);
+  }
+
+  @Test
+  void appendReportsFirstRowWiderThanTheFirstRowOfTheSource() {
+    ReadOptions options = new ReadOptions.Builder().build();
+    ColumnTypeDetector detector = new ColumnTypeDetector(options.columnTypesToDetect());
+    ColumnTypeDetector.Detection first = detector.startDetection(options);
+    first.accept(new String[] {"1", "2"});
+    ColumnTypeDetector.Detection second = detector.startDetection(options, 1);
+    second.accept(new String[] {"1"});
+    second.accept(new String[] {"1", "2"});
+    second.accept(new String[] {"1", "2", "3"});
+    second.accept(new String[] {"1", "2", "3", "4"});
+
+    ColumnIndexOutOfBoundsException e =
+        assertThrows(ColumnIndexOutOfBoundsException.class, () -> first.append(second));
+    assertEquals(3, e.getRowNumber());
+  }
 }
@@ -25,6 +25,7 @@ import static tech.tablesaw.api.ColumnType.*;
 
 import com.google.common.collect.ImmutableMap;
 import com.univocity.parsers.common.TextParsingException;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileReader;
@@ -34,6 +35,8 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -45,6 +48,8 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.ColumnType;
@@ -1002,4 +1007,143 @@ public class CsvReaderTest {
 
     assertArrayEquals(new ColumnType[] {SHORT, STRING}, columnTypes);
   }
+
+  @Test
+  public void testParallelReadMatchesSerialRead() throws IOException {
+    File file = File.createTempFile("parallel", ".csv");
+    file.deleteOnExit();
+    try (Writer writer = Files.newBufferedWriter(file.toPath())) {
+      writer.write("id,name,value,when\n");
+      for (int i = 0; i < 60_000; i++) {
+        // quoted values with separators and line breaks must not be split between chunks
+        String name = i % 7 == 0 ? "\"line\nbreak, " + i + "\"" : "name " + i;
+        String value = i % 11 == 0 ? "" : String.valueOf(i * 1.5);
+        writer.write(i + "," + name + "," + value + ",2020-01-" + (i % 28 + 1) + "\n");
+      }
+    }
+    Table serial = Table.read().csv(CsvReadOptions.builder(file).build());
+    Table parallel = Table.read().csv(CsvReadOptions.builder(file).parallelism(4).build());
+
+    assertEquals(60_000, parallel.rowCount());
+    assertArrayEquals(serial.typeArray(), parallel.typeArray());
+    for (int c = 0; c < serial.columnCount(); c++) {
+      assertEquals(serial.column(c).asList(), parallel.column(c).asList(), serial.column(c).name());
+    }
+  }
+
+  @Test
+  public void testParallelReadReportsRowNumberOfBadRow() throws IOException {
+    File file = File.createTempFile("parallel", ".csv");
+    file.deleteOnExit();
+    try (Writer writer = Files.newBufferedWriter(file.toPath())) {
+      writer.write("id,value\n");
+      for (int i = 0; i < 200_000; i++) {
+        writer.write(i + "," + (i == 150_000 ? "oops" : String.valueOf(i)) + "\n");
+      }
+    }
+    CsvReadOptions options =
+        CsvReadOptions.builder(file)
+            .columnTypes(new ColumnType[] {INTEGER, INTEGER})
+            .parallelism(4)
+            .build();
+    AddCellToColumnException e =
+        assertThrows(AddCellToColumnException.class, () -> Table.read().csv(options));
+    assertEquals(150_001, e.getRowNumber());
+  }
+
+  @Test
+  public void testParallelReadSkipsBlankLinesWhenNumberingRows() throws IOException {
+    File file = File.createTempFile("parallel", ".csv");
+    file.deleteOnExit();
+    try (Writer writer = Files.newBufferedWriter(file.toPath())) {
+      writer.write("\nid,value\n");
+      for (int i = 0; i < 200_000; i++) {
+        if (i % 1000 == 0) {
+          writer.write(i % 2000 == 0 ? "\n" : " \r\n");
+        }
+        writer.write(i + "," + (i == 150_000 ? "oops" : String.valueOf(i)) + "\n");
+      }
+    }
+    ColumnType[] types = {INTEGER, INTEGER};
+    AddCellToColumnException serial =
+        assertThrows(
+            AddCellToColumnException.class,
+            () -> Table.read().csv(CsvReadOptions.builder(file).columnTypes(types).build()));
+    AddCellToColumnException parallel =
+        assertThrows(
+            AddCellToColumnException.class,
+            () ->
+                Table.read()
+                    .csv(CsvReadOptions.builder(file).columnTypes(types).parallelism(4).build()));
+    assertEquals(serial.getRowNumber(), parallel.getRowNumber());
+  }
+
+  @Test
+  public void testReadBatches() {
+    Table whole = Table.read().csv("../data/bush.csv");
+    CsvReadOptions options = CsvReadOptions.builder("../data/bush.csv").build();
+    int rows = 0;
+    try (CsvBatchReader batches = new CsvReader().readBatches(options, 100)) {
+      assertArrayEquals(whole.typeArray(), batches.structure().typeArray());
+      while (batches.hasNext()) {
+        Table batch = batches.next();
+        assertTrue(batch.rowCount() <= 100);
+        assertEquals(whole.columnNames(), batch.columnNames());
+        assertEquals(
+            whole.inRange(rows, rows + batch.rowCount()).column("approval").asList(),
+            batch.column("approval").asList());
+        rows += batch.rowCount();
+      }
+    }
+    assertEquals(whole.rowCount(), rows);
+  }
+
+  @Test
+  public void testReadBatchesFromReaderAsStream() {
+    String csv = "a,b\n1,x\n2,y\n3,z\n4,w\n5,v\n";
+    CsvReadOptions options = CsvReadOptions.builder(new StringReader(csv)).build();
+    try (Stream<Table> batches = Table.read().csvBatches(options, 2).stream()) {
+      List<Integer> sizes = batches.map(Table::rowCount).collect(Collectors.toList());
+      assertEquals(asList(2, 2, 1), sizes);
+    }
+  }
+
+  @Test
+  public void testReadBatchesDetectsTypesFromPrefix() {
+    StringBuilder csv = new StringBuilder("value\n");
+    for (int i = 0; i < CsvReader.BATCH_DETECTION_ROWS; i++) {
+      csv.append(i).append('\n');
+    }
+    // beyond the rows used to detect types
+    csv.append("not a number\n");
+    CsvReadOptions options = CsvReadOptions.builder(new StringReader(csv.toString())).build();
+    try (CsvBatchReader batches = new CsvReader().readBatches(options, 5_000)) {
+      assertEquals(INTEGER, batches.structure().column("value").type());
+      batches.next();
+      batches.next();
+      AddCellToColumnException e = assertThrows(AddCellToColumnException.class, batches::next);
+      assertEquals(CsvReader.BATCH_DETECTION_ROWS + 1, e.getRowNumber());
+    }
+  }
+
+  @Test
+  public void testReadBatchesClosesSourceWhenColumnTypesFail() {
+    boolean[] closed = {false};
+    InputStream stream =
+        new ByteArrayInputStream("a,b\n1,x\n".getBytes(StandardCharsets.UTF_8)) {
+          @Override
+          public void close() {
+            closed[0] = true;
+          }
+        };
+    CsvReadOptions options =
+        CsvReadOptions.builder(stream)
+            .columnTypes(
+                name -> {
+                  throw new IllegalArgumentException("No type for " + name);
+                })
+            .build();
+    assertThrows(IllegalArgumentException.class, () -> new CsvReader().readBatches(options, 10));
+    assertTrue(closed[0]);
+  }
 }
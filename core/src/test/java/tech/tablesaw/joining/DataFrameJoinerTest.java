@@ -5,11 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.tablesaw.joining.JoinType.*;
 
 import com.google.common.base.Joiner;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
@@ -2010,4 +2014,106 @@ public class DataFrameJoinerTest {
       assertEquals(0, column.size());
     }
   }
+
+  @Test
+  public void hashJoinMatchesOtherAlgorithms() {
+    for (JoinType type : JoinType.values()) {
+      Table hash = joinAnimalHomesOnAgeMoveInDate(type, JoinAlgorithm.HASH);
+      Table sortMerge = joinAnimalHomesOnAgeMoveInDate(type, JoinAlgorithm.SORT_MERGE);
+      Table crossProduct = joinAnimalHomesOnAgeMoveInDate(type, JoinAlgorithm.CROSS_PRODUCT);
+      assertEquals(crossProduct.columnNames(), hash.columnNames());
+      assertEquals(sortedRows(crossProduct), sortedRows(hash));
+      assertEquals(sortedRows(sortMerge), sortedRows(hash));
+    }
+  }
+
+  @Test
+  public void hashJoinOnStrings() {
+    Table joined =
+        ANIMAL_NAMES
+            .joinOn("Animal")
+            .with(ANIMAL_FEED)
+            .joinAlgorithm(JoinAlgorithm.HASH)
+            .type(LEFT_OUTER)
+            .join();
+    Table expected =
+        ANIMAL_NAMES
+            .joinOn("Animal")
+            .with(ANIMAL_FEED)
+            .joinAlgorithm(JoinAlgorithm.CROSS_PRODUCT)
+            .type(LEFT_OUTER)
+            .join();
+    assertEquals(expected.rowCount(), joined.rowCount());
+    assertEquals(sortedRows(expected), sortedRows(joined));
+  }
+
+  @Test
+  public void hashJoinOnThreeColumns() {
+    Table joined =
+        createANIMALHOMES()
+            .joinOn("Name", "Home", "Age")
+            .with(createDOUBLEINDEXEDPEOPLENameHomeAgeMoveInDate())
+            .rightJoinColumns("Name", "HOME", "Age")
+            .allowDuplicateColumnNames(true)
+            .joinAlgorithm(JoinAlgorithm.HASH)
+            .join();
+    assertEquals(1, joined.rowCount());
+    assertEquals("James", joined.stringColumn("Name").get(0));
+  }
+
+  @Test
+  public void parallelHashJoinMatchesSerial() {
+    Random random = new Random(42);
+    Table left =
+        Table.create(
+            "left",
+            IntColumn.create("id", random.ints(5_000, 0, 1_000).toArray()),
+            StringColumn.create(
+                "code", random.ints(5_000, 0, 5).mapToObj(i -> "c" + i).toArray(String[]::new)),
+            DoubleColumn.create("leftValue", random.doubles(5_000).toArray()));
+    Table right =
+        Table.create(
+            "right",
+            IntColumn.create("id", random.ints(2_000, 0, 1_500).toArray()),
+            StringColumn.create(
+                "code", random.ints(2_000, 0, 5).mapToObj(i -> "c" + i).toArray(String[]::new)),
+            DoubleColumn.create("rightValue", random.doubles(2_000).toArray()));
+
+    for (JoinType type : JoinType.values()) {
+      Table serial =
+          left.joinOn("id", "code").with(right).type(type).joinAlgorithm(JoinAlgorithm.HASH).join();
+      Table parallel =
+          left.joinOn("id", "code")
+              .with(right)
+              .type(type)
+              .joinAlgorithm(JoinAlgorithm.HASH)
+              .parallelism(4)
+              .join();
+      assertEquals(serial.columnNames(), parallel.columnNames());
+      assertEquals(sortedRows(serial), sortedRows(parallel));
+    }
+  }
+
+  private static Table joinAnimalHomesOnAgeMoveInDate(JoinType type, JoinAlgorithm algorithm) {
+    return createANIMALHOMES()
+        .joinOn("Age", "MoveInDate")
+        .with(createDOUBLEINDEXEDPEOPLENameHomeAgeMoveInDate())
+        .type(type)
+        .allowDuplicateColumnNames(true)
+        .joinAlgorithm(algorithm)
+        .join();
+  }
+
+  private static List<String> sortedRows(Table table) {
+    List<String> rows = new ArrayList<>();
+    for (int r = 0; r < table.rowCount(); r++) {
+      StringBuilder row = new StringBuilder();
+      for (Column<?> column : table.columns()) {
+        row.append(column.getString(r)).append('|');
+      }
+      rows.add(row.toString());
+    }
+    rows.sort(String::compareTo);
+    return rows;
+  }
 }
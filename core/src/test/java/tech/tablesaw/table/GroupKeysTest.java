@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.strings.NullDictionaryMap;
+
+class GroupKeysTest {
+
+  private final Table table =
+      Table.create(
+          "t",
+          StringColumn.create("name", "a", "b", "a", "b", "a", "c"),
+          IntColumn.create("count", 1, 1, 1, 2, 1, 1),
+          LongColumn.create("big", Long.MAX_VALUE, 1L, Long.MAX_VALUE, 1L, Long.MAX_VALUE, 2L),
+          DateColumn.create(
+              "date",
+              LocalDate.of(2020, 1, 1),
+              LocalDate.of(2020, 1, 1),
+              LocalDate.of(2020, 1, 1),
+              LocalDate.of(2020, 1, 1),
+              LocalDate.of(2021, 1, 1),
+              LocalDate.of(2020, 1, 1)));
+
+  @Test
+  void packedKeys() {
+    GroupKeys keys = new GroupKeys(table, table.columns("name", "count"));
+    assertEquals(4, keys.groupCount());
+    assertEquals(keys.groupOf(0), keys.groupOf(2));
+    assertEquals(keys.groupOf(0), keys.groupOf(4));
+    assertNotEquals(keys.groupOf(1), keys.groupOf(3));
+    assertEquals("a~~~1", keys.groupName(0, "~~~"));
+    assertEquals("c~~~1", keys.groupName(3, "~~~"));
+  }
+
+  @Test
+  void hashedKeys() {
+    GroupKeys keys = new GroupKeys(table, table.columns("big", "date", "name"));
+    assertEquals(4, keys.groupCount());
+    assertEquals(keys.groupOf(0), keys.groupOf(2));
+    assertEquals(keys.groupOf(1), keys.groupOf(3));
+    assertNotEquals(keys.groupOf(0), keys.groupOf(4));
+    assertEquals(4, keys.firstRowOf(2));
+  }
+
+  @Test
+  void selections() {
+    GroupKeys keys = new GroupKeys(table, table.columns("name"));
+    assertEquals(3, keys.selections()[0].size());
+    assertEquals(2, keys.selections()[1].size());
+    assertEquals(5, keys.selections()[2].get(0));
+  }
+
+  @Test
+  void moreThan256StringsInAGroupingColumn() {
+    // the byte keys used before cut dictionary keys to 8 bits, which merged 300 names into 256
+    StringColumn name = StringColumn.create("name");
+    IntColumn count = IntColumn.create("count");
+    for (int i = 0; i < 300; i++) {
+      for (int j = 0; j < 3; j++) {
+        name.append("name" + i);
+        count.append(j);
+      }
+    }
+    Table names = Table.create("names", name, count);
+    assertEquals(900, names.splitOn("name", "count").size());
+    assertEquals(900, new GroupKeys(names, names.columns("name", "count")).groupCount());
+  }
+
+  @Test
+  void stringsWithoutADictionary() {
+    StringColumn name = StringColumn.create("name");
+    for (int i = 0; i < 100_000; i++) {
+      name.append("name" + i % 80_000);
+    }
+    assertTrue(name.getDictionary() instanceof NullDictionaryMap);
+    Table names = Table.create("names", name, IntColumn.indexColumn("row", 100_000, 0));
+    GroupKeys keys = new GroupKeys(names, names.columns("name"));
+    assertEquals(80_000, keys.groupCount());
+    assertEquals(keys.groupOf(5), keys.groupOf(80_005));
+    assertNotEquals(keys.groupOf(5), keys.groupOf(6));
+  }
+}
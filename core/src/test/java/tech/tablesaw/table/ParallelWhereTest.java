@@ -0,0 +1,114 @@
+package tech.tablesaw.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.api.QuerySupport.and;
+import static tech.tablesaw.api.QuerySupport.num;
+import static tech.tablesaw.api.QuerySupport.or;
+import static tech.tablesaw.api.QuerySupport.str;
+
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.Selection;
+
+class ParallelWhereTest {
+
+  private static Table table;
+
+  @BeforeAll
+  static void setUp() {
+    Random random = new Random(7);
+    IntColumn ints = IntColumn.create("ints");
+    DoubleColumn doubles = DoubleColumn.create("doubles");
+    StringColumn strings = StringColumn.create("strings");
+    for (int i = 0; i < 300_000; i++) {
+      ints.append(random.nextInt(1000));
+      if (i % 31 == 0) {
+        doubles.appendMissing();
+      } else {
+        doubles.append(random.nextGaussian());
+      }
+      strings.append("s" + random.nextInt(20));
+    }
+    table = Table.create("t", ints, doubles, strings);
+  }
+
+  @Test
+  void matchesSingleThreadedWhere() {
+    Function<Table, Selection> filter =
+        or(
+            and(num("ints").isGreaterThan(500), num("doubles").isLessThan(0)),
+            str("strings").isEqualTo("s3"));
+    Table expected = table.where(filter);
+    for (int parallelism : new int[] {1, 2, 5, 16}) {
+      Table actual = table.where(filter, parallelism);
+      assertEquals(expected.rowCount(), actual.rowCount());
+      for (int c = 0; c < table.columnCount(); c++) {
+        assertEquals(expected.column(c).asList(), actual.column(c).asList());
+      }
+    }
+  }
+
+  @Test
+  void selectsNothing() {
+    assertEquals(0, table.where(num("ints").isGreaterThan(1000), 4).rowCount());
+  }
+
+  @Test
+  void copiesSelectionInParallel() {
+    Selection rows = Selection.with(3, 70_000, 12, 299_999);
+    Table expected = table.where(rows);
+    Table actual = table.where(rows, 3);
+    for (int c = 0; c < table.columnCount(); c++) {
+      assertEquals(expected.column(c).asList(), actual.column(c).asList());
+    }
+  }
+
+  @Test
+  void filterMayDependOnOtherRows() {
+    Function<Table, Selection> filter =
+        t -> t.intColumn("ints").isGreaterThan(t.intColumn("ints").mean());
+    assertEquals(table.where(filter).rowCount(), table.where(filter, 4).rowCount());
+  }
+
+  @Test
+  void parallelIsNotSlowerThanSerial() {
+    int size = 4_000_000;
+    Random random = new Random(3);
+    IntColumn ints = IntColumn.create("ints");
+    DoubleColumn doubles = DoubleColumn.create("doubles");
+    for (int i = 0; i < size; i++) {
+      ints.append(random.nextInt(1000));
+      doubles.append(random.nextDouble());
+    }
+    Table large = Table.create("large", ints, doubles);
+    Function<Table, Selection> filter =
+        and(num("ints").isGreaterThan(500), num("doubles").isLessThan(0.5));
+    long serial = Long.MAX_VALUE;
+    long parallel = Long.MAX_VALUE;
+    for (int i = 0; i < 8; i++) {
+      long start = System.nanoTime();
+      filter.apply(large);
+      serial = Math.min(serial, System.nanoTime() - start);
+      start = System.nanoTime();
+      ParallelWhere.select(large, filter, 4);
+      parallel = Math.min(parallel, System.nanoTime() - start);
+    }
+    // the slack allows for machines with a single core, where the ranges are scanned in turn
+    assertTrue(
+        parallel <= serial * 3 / 2 + 5_000_000,
+        "parallel " + parallel / 1_000_000 + "ms, serial " + serial / 1_000_000 + "ms");
+  }
+
+  @Test
+  void rejectsNonPositiveParallelism() {
+    assertThrows(IllegalArgumentException.class, () -> table.where(num("ints").isZero(), 0));
+  }
+}
@@ -14,6 +14,7 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.Row;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
@@ -172,6 +173,20 @@ public class TableSliceTest {
     assertEquals(20957.0, slice.reduce("approval", sum), 0.0001);
   }
 
+  @Test
+  public void numberColumnViewMatchesColumn() {
+    TableSlice slice = new TableSlice(source, Selection.withRange(10, 40));
+    assertArrayEquals(
+        ((NumericColumn<?>) slice.column("approval")).asDoubleArray(),
+        slice.numberColumnView("approval").asDoubleArray());
+
+    slice.sortOn(Sort.on("approval", Order.DESCEND));
+    NumericColumn<?> view = slice.numberColumnView("approval");
+    assertArrayEquals(
+        ((NumericColumn<?>) slice.column("approval")).asDoubleArray(), view.asDoubleArray());
+    assertEquals(sum.summarize((NumericColumn<?>) slice.column("approval")), sum.summarize(view));
+  }
+
   @Test
   public void iterateOverRowsWithSelection() {
     IntColumn rowNumbers =
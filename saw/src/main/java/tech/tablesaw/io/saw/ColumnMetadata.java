@@ -19,6 +19,8 @@ import com.google.common.base.Objects;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
+import tech.tablesaw.columns.ZoneMapped;
 import tech.tablesaw.columns.strings.ByteDictionaryMap;
 import tech.tablesaw.columns.strings.DictionaryMap;
 import tech.tablesaw.columns.strings.IntDictionaryMap;
@@ -41,15 +43,28 @@ public class ColumnMetadata {
 
   private int uncompressedByteSize;
 
+  // the compression applied to the column's file; null in files written before it was recorded
+  private CompressionType compressionType;
+
+  // how the values were encoded before compression; plain in files written before it was recorded
+  private EncodingType encodingType = EncodingType.PLAIN;
+
   // these attributes are specific to boolean columns
   private int trueBytesLength;
   private int falseBytesLength;
   private int missingBytesLength;
 
-  ColumnMetadata(Column<?> column) {
+  // the block statistics of columns that keep a zone map; a block size of zero if there are none
+  private int zoneMapBlockSize;
+  private long[] zoneMapMins;
+  private long[] zoneMapMaxes;
+  private int[] zoneMapNullCounts;
+
+  ColumnMetadata(Column<?> column, CompressionType compressionType) {
     this.id = SawUtils.makeName(column.name());
     this.name = column.name();
     this.type = column.type().name();
+    this.compressionType = compressionType;
     if (column instanceof StringColumn) {
       StringColumn stringColumn = (StringColumn) column;
       cardinality = stringColumn.countUnique();
@@ -75,6 +90,18 @@ public class ColumnMetadata {
         uncompressedByteSize = trueBytesLength + falseBytesLength + missingBytesLength;
       }
     }
+    ZoneMap zoneMap = column instanceof ZoneMapped ? ((ZoneMapped) column).zoneMap() : null;
+    if (zoneMap != null) {
+      zoneMapBlockSize = zoneMap.blockSize();
+      zoneMapMins = new long[zoneMap.blockCount()];
+      zoneMapMaxes = new long[zoneMap.blockCount()];
+      zoneMapNullCounts = new int[zoneMap.blockCount()];
+      for (int block = 0; block < zoneMap.blockCount(); block++) {
+        zoneMapMins[block] = zoneMap.min(block);
+        zoneMapMaxes[block] = zoneMap.max(block);
+        zoneMapNullCounts[block] = zoneMap.nullCount(block);
+      }
+    }
   }
 
   /**
@@ -119,6 +146,24 @@ public class ColumnMetadata {
     return stringColumnKeySize;
   }
 
+  /**
+   * Returns the compression applied to this column's data, or null if the file was written before
+   * compression was recorded for each column, in which case the compression type of the table
+   * applies
+   */
+  public CompressionType getCompressionType() {
+    return compressionType;
+  }
+
+  /** Returns the encoding of this column's values, which is applied before compression */
+  public EncodingType getEncodingType() {
+    return encodingType;
+  }
+
+  void setEncodingType(EncodingType encodingType) {
+    this.encodingType = encodingType;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -127,12 +172,14 @@ public class ColumnMetadata {
     return Objects.equal(getId(), that.getId())
         && Objects.equal(getName(), that.getName())
         && Objects.equal(getType(), that.getType())
-        && Objects.equal(getStringColumnKeySize(), that.getStringColumnKeySize());
+        && Objects.equal(getStringColumnKeySize(), that.getStringColumnKeySize())
+        && getCompressionType() == that.getCompressionType();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(getId(), getName(), getType(), getStringColumnKeySize());
+    return Objects.hashCode(
+        getId(), getName(), getType(), getStringColumnKeySize(), getCompressionType());
   }
 
   public int getNextStringKey() {
@@ -170,4 +217,44 @@ public class ColumnMetadata {
   public void setUncompressedByteSize(int uncompressedByteSize) {
     this.uncompressedByteSize = uncompressedByteSize;
   }
+
+  /**
+   * Returns the number of rows in each block of the column's zone map, or zero if the column was
+   * written without one
+   */
+  public int getZoneMapBlockSize() {
+    return zoneMapBlockSize;
+  }
+
+  /** Returns the smallest value of each block of the zone map, or null if there is none */
+  public long[] getZoneMapMins() {
+    return zoneMapMins;
+  }
+
+  /** Returns the largest value of each block of the zone map, or null if there is none */
+  public long[] getZoneMapMaxes() {
+    return zoneMapMaxes;
+  }
+
+  /** Returns the number of missing values in each block of the zone map, or null if none */
+  public int[] getZoneMapNullCounts() {
+    return zoneMapNullCounts;
+  }
+
+  /**
+   * Returns the zone map written with the column, which has the given number of rows, or null if
+   * the column was written without one
+   */
+  ZoneMap zoneMap(int rowCount) {
+    if (zoneMapBlockSize == 0) {
+      return null;
+    }
+    return ZoneMap.of(
+        zoneMapBlockSize,
+        rowCount,
+        SawUtils.DOUBLE.equals(type),
+        zoneMapMins,
+        zoneMapMaxes,
+        zoneMapNullCounts);
+  }
 }
@@ -4,6 +4,6 @@ package tech.tablesaw.io.saw;
 public enum CompressionType {
   SNAPPY, // Google's Snappy compression algorithm - pure Java
   LZ4, // Pure Java LZ4
-  ZSTD, // TODO: not implemented
+  ZSTD, // Facebook's Zstandard compression algorithm - native, with a configurable level
   NONE
 }
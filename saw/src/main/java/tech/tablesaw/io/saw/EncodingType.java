@@ -0,0 +1,12 @@
+package tech.tablesaw.io.saw;
+
+/**
+ * How the values of a column were encoded in a Saw File, before any compression was applied. The
+ * encoding is chosen for each column when the table is written, and recorded in its metadata.
+ */
+public enum EncodingType {
+  PLAIN, // Each value in its fixed-size binary form
+  DELTA, // The difference of each value from the one before, zigzag-encoded as a variable-length int
+  RUN_LENGTH, // Each run of equal values as the value and the length of the run
+  BIT_PACKED // The offset of each value from the smallest, packed into as few bits as the range needs
+}
@@ -0,0 +1,443 @@
+package tech.tablesaw.io.saw;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.columns.booleans.BooleanColumnType;
+
+/**
+ * Lightweight encodings for the values of int, long and boolean columns in Saw Files, applied
+ * before general-purpose compression. Each encoding is chosen by computing the exact size every
+ * candidate would produce, and taking the smallest, so a column is only encoded when that makes it
+ * smaller than its {@link EncodingType#PLAIN} form.
+ *
+ * <p>Sorted dates and times shrink to a byte or two per value as deltas, columns with few distinct
+ * values as runs, and small-range codes as bit-packed offsets.
+ */
+final class SawEncodings {
+
+  private SawEncodings() {}
+
+  /** Returns the encoding that writes the given int values in the fewest bytes */
+  static EncodingType chooseEncoding(int[] values) {
+    if (values.length == 0) {
+      return EncodingType.PLAIN;
+    }
+    long deltaSize = 0;
+    long runLengthSize = 0;
+    int runLength = 0;
+    int previous = 0;
+    int min = values[0];
+    int max = values[0];
+    for (int i = 0; i < values.length; i++) {
+      int value = values[i];
+      deltaSize += varIntSize(zigzag(value - previous));
+      if (i > 0 && value != previous) {
+        runLengthSize += Integer.BYTES + varIntSize(runLength);
+        runLength = 0;
+      }
+      runLength++;
+      previous = value;
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+    }
+    runLengthSize += Integer.BYTES + varIntSize(runLength);
+    long bitPackedSize =
+        Integer.BYTES + 1 + bitPackedBytes(values.length, bitWidth((long) max - min));
+    return smallest(
+        (long) Integer.BYTES * values.length, deltaSize, runLengthSize, bitPackedSize);
+  }
+
+  /** Returns the encoding that writes the given long values in the fewest bytes */
+  static EncodingType chooseEncoding(long[] values) {
+    if (values.length == 0) {
+      return EncodingType.PLAIN;
+    }
+    long deltaSize = 0;
+    long runLengthSize = 0;
+    int runLength = 0;
+    long previous = 0;
+    long min = values[0];
+    long max = values[0];
+    for (int i = 0; i < values.length; i++) {
+      long value = values[i];
+      deltaSize += varLongSize(zigzag(value - previous));
+      if (i > 0 && value != previous) {
+        runLengthSize += Long.BYTES + varIntSize(runLength);
+        runLength = 0;
+      }
+      runLength++;
+      previous = value;
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+    }
+    runLengthSize += Long.BYTES + varIntSize(runLength);
+    long range = max - min;
+    // a range too wide for a long cannot be bit-packed
+    long bitPackedSize =
+        range < 0 ? Long.MAX_VALUE : Long.BYTES + 1 + bitPackedBytes(values.length, bitWidth(range));
+    return smallest((long) Long.BYTES * values.length, deltaSize, runLengthSize, bitPackedSize);
+  }
+
+  /**
+   * Returns the encoding that writes the given boolean column in the fewest bytes: either its
+   * bitmaps, or its runs of equal values
+   */
+  static EncodingType chooseEncoding(BooleanColumn column) {
+    long plainSize =
+        column.trueBytes().length + column.falseBytes().length + column.missingBytes().length;
+    long runLengthSize = 0;
+    int runLength = 0;
+    for (int i = 0; i < column.size(); i++) {
+      if (i > 0 && column.getByte(i) != column.getByte(i - 1)) {
+        runLengthSize += 1 + varIntSize(runLength);
+        runLength = 0;
+      }
+      runLength++;
+    }
+    runLengthSize += 1 + varIntSize(runLength);
+    return column.isEmpty() || plainSize <= runLengthSize
+        ? EncodingType.PLAIN
+        : EncodingType.RUN_LENGTH;
+  }
+
+  private static EncodingType smallest(
+      long plainSize, long deltaSize, long runLengthSize, long bitPackedSize) {
+    EncodingType encoding = EncodingType.PLAIN;
+    long size = plainSize;
+    if (deltaSize < size) {
+      encoding = EncodingType.DELTA;
+      size = deltaSize;
+    }
+    if (runLengthSize < size) {
+      encoding = EncodingType.RUN_LENGTH;
+      size = runLengthSize;
+    }
+    if (bitPackedSize < size) {
+      encoding = EncodingType.BIT_PACKED;
+    }
+    return encoding;
+  }
+
+  static void writeInts(DataOutputStream dos, int[] values, EncodingType encoding)
+      throws IOException {
+    switch (encoding) {
+      case PLAIN:
+        for (int value : values) {
+          dos.writeInt(value);
+        }
+        break;
+      case DELTA:
+        int previous = 0;
+        for (int value : values) {
+          writeVarLong(dos, zigzag(value - previous) & 0xFFFFFFFFL);
+          previous = value;
+        }
+        break;
+      case RUN_LENGTH:
+        for (int i = 0; i < values.length; ) {
+          int start = i;
+          while (i < values.length && values[i] == values[start]) {
+            i++;
+          }
+          dos.writeInt(values[start]);
+          writeVarLong(dos, i - start);
+        }
+        break;
+      case BIT_PACKED:
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int value : values) {
+          min = Math.min(min, value);
+          max = Math.max(max, value);
+        }
+        int bitWidth = bitWidth((long) max - min);
+        dos.writeInt(min);
+        dos.writeByte(bitWidth);
+        BitWriter writer = new BitWriter(dos);
+        for (int value : values) {
+          writer.write((long) value - min, bitWidth);
+        }
+        writer.flush();
+        break;
+      default:
+        throw new IllegalArgumentException("Unhandled encoding for ints: " + encoding);
+    }
+  }
+
+  static void writeLongs(DataOutputStream dos, long[] values, EncodingType encoding)
+      throws IOException {
+    switch (encoding) {
+      case PLAIN:
+        for (long value : values) {
+          dos.writeLong(value);
+        }
+        break;
+      case DELTA:
+        long previous = 0;
+        for (long value : values) {
+          writeVarLong(dos, zigzag(value - previous));
+          previous = value;
+        }
+        break;
+      case RUN_LENGTH:
+        for (int i = 0; i < values.length; ) {
+          int start = i;
+          while (i < values.length && values[i] == values[start]) {
+            i++;
+          }
+          dos.writeLong(values[start]);
+          writeVarLong(dos, i - start);
+        }
+        break;
+      case BIT_PACKED:
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long value : values) {
+          min = Math.min(min, value);
+          max = Math.max(max, value);
+        }
+        int bitWidth = bitWidth(max - min);
+        dos.writeLong(min);
+        dos.writeByte(bitWidth);
+        BitWriter writer = new BitWriter(dos);
+        for (long value : values) {
+          writer.write(value - min, bitWidth);
+        }
+        writer.flush();
+        break;
+      default:
+        throw new IllegalArgumentException("Unhandled encoding for longs: " + encoding);
+    }
+  }
+
+  /** Writes the runs of equal values in the given boolean column */
+  static void writeBooleanRuns(DataOutputStream dos, BooleanColumn column) throws IOException {
+    for (int i = 0; i < column.size(); ) {
+      int start = i;
+      byte value = column.getByte(start);
+      while (i < column.size() && column.getByte(i) == value) {
+        i++;
+      }
+      dos.writeByte(value);
+      writeVarLong(dos, i - start);
+    }
+  }
+
+  static int[] readInts(DataInputStream dis, int rowcount, EncodingType encoding)
+      throws IOException {
+    int[] values = new int[rowcount];
+    switch (encoding) {
+      case PLAIN:
+        for (int i = 0; i < rowcount; i++) {
+          values[i] = dis.readInt();
+        }
+        break;
+      case DELTA:
+        int previous = 0;
+        for (int i = 0; i < rowcount; i++) {
+          previous += (int) unzigzag(readVarLong(dis));
+          values[i] = previous;
+        }
+        break;
+      case RUN_LENGTH:
+        for (int i = 0; i < rowcount; ) {
+          int value = dis.readInt();
+          int end = i + (int) readVarLong(dis);
+          while (i < end) {
+            values[i++] = value;
+          }
+        }
+        break;
+      case BIT_PACKED:
+        int min = dis.readInt();
+        int bitWidth = dis.readUnsignedByte();
+        BitReader reader = new BitReader(dis);
+        for (int i = 0; i < rowcount; i++) {
+          values[i] = (int) (min + reader.read(bitWidth));
+        }
+        break;
+      default:
+        throw new IllegalArgumentException("Unhandled encoding for ints: " + encoding);
+    }
+    return values;
+  }
+
+  static long[] readLongs(DataInputStream dis, int rowcount, EncodingType encoding)
+      throws IOException {
+    long[] values = new long[rowcount];
+    switch (encoding) {
+      case PLAIN:
+        for (int i = 0; i < rowcount; i++) {
+          values[i] = dis.readLong();
+        }
+        break;
+      case DELTA:
+        long previous = 0;
+        for (int i = 0; i < rowcount; i++) {
+          previous += unzigzag(readVarLong(dis));
+          values[i] = previous;
+        }
+        break;
+      case RUN_LENGTH:
+        for (int i = 0; i < rowcount; ) {
+          long value = dis.readLong();
+          int end = i + (int) readVarLong(dis);
+          while (i < end) {
+            values[i++] = value;
+          }
+        }
+        break;
+      case BIT_PACKED:
+        long min = dis.readLong();
+        int bitWidth = dis.readUnsignedByte();
+        BitReader reader = new BitReader(dis);
+        for (int i = 0; i < rowcount; i++) {
+          values[i] = min + reader.read(bitWidth);
+        }
+        break;
+      default:
+        throw new IllegalArgumentException("Unhandled encoding for longs: " + encoding);
+    }
+    return values;
+  }
+
+  /** Reads the runs of equal values of a boolean column into the given column */
+  static void readBooleanRuns(DataInputStream dis, int rowcount, BooleanColumn column)
+      throws IOException {
+    BitSet trueValues = new BitSet(rowcount);
+    BitSet falseValues = new BitSet(rowcount);
+    BitSet missingValues = new BitSet(rowcount);
+    for (int i = 0; i < rowcount; ) {
+      byte value = dis.readByte();
+      int end = i + (int) readVarLong(dis);
+      if (value == BooleanColumnType.BYTE_TRUE) {
+        trueValues.set(i, end);
+      } else if (value == BooleanColumnType.BYTE_FALSE) {
+        falseValues.set(i, end);
+      } else {
+        missingValues.set(i, end);
+      }
+      i = end;
+    }
+    column.trueBytes(trueValues.toByteArray());
+    column.falseBytes(falseValues.toByteArray());
+    column.missingBytes(missingValues.toByteArray());
+  }
+
+  /** Maps signed values to unsigned ones, so that values near zero have few significant bits */
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static int zigzag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /** Returns the number of bytes in the variable-length encoding of the given unsigned int */
+  private static int varIntSize(int value) {
+    return varLongSize(value & 0xFFFFFFFFL);
+  }
+
+  /** Returns the number of bytes in the variable-length encoding of the given unsigned long */
+  private static int varLongSize(long value) {
+    int bits = 64 - Long.numberOfLeadingZeros(value | 1);
+    return (bits + 6) / 7;
+  }
+
+  /** Writes an unsigned value seven bits at a time, least significant first */
+  private static void writeVarLong(DataOutputStream dos, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      dos.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    dos.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInputStream dis) throws IOException {
+    long value = 0;
+    int shift = 0;
+    int b;
+    do {
+      b = dis.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+  /** Returns the number of bits needed to hold every offset up to the given non-negative range */
+  private static int bitWidth(long range) {
+    return 64 - Long.numberOfLeadingZeros(range);
+  }
+
+  private static long bitPackedBytes(int count, int bitWidth) {
+    return ((long) count * bitWidth + 7) / 8;
+  }
+
+  /** Packs values into a stream of bytes, least significant bits first */
+  private static final class BitWriter {
+    private final DataOutputStream dos;
+    private int current;
+    private int used;
+
+    BitWriter(DataOutputStream dos) {
+      this.dos = dos;
+    }
+
+    void write(long value, int bitWidth) throws IOException {
+      while (bitWidth > 0) {
+        int take = Math.min(bitWidth, 8 - used);
+        current |= (int) (value & ((1L << take) - 1)) << used;
+        value >>>= take;
+        bitWidth -= take;
+        used += take;
+        if (used == 8) {
+          dos.writeByte(current);
+          current = 0;
+          used = 0;
+        }
+      }
+    }
+
+    void flush() throws IOException {
+      if (used > 0) {
+        dos.writeByte(current);
+      }
+    }
+  }
+
+  /** Unpacks values written by a {@link BitWriter} */
+  private static final class BitReader {
+    private final DataInputStream dis;
+    private int current;
+    private int available;
+
+    BitReader(DataInputStream dis) {
+      this.dis = dis;
+    }
+
+    long read(int bitWidth) throws IOException {
+      long value = 0;
+      int read = 0;
+      while (read < bitWidth) {
+        if (available == 0) {
+          current = dis.readUnsignedByte();
+          available = 8;
+        }
+        int take = Math.min(bitWidth - read, available);
+        long bits = (current >>> (8 - available)) & ((1 << take) - 1);
+        value |= bits << read;
+        read += take;
+        available -= take;
+      }
+      return value;
+    }
+  }
+}
@@ -18,8 +18,9 @@ public class SawMetadata {
   // The name of the file that this data is written to
   static final String METADATA_FILE_NAME = "Metadata.json";
 
-  // The version of the Saw Storage system used to write the file
-  private static final int SAW_VERSION = 3;
+  // The version of the Saw Storage system used to write the file. Version 4 added compression
+  // types, encodings and zone maps for each column
+  private static final int SAW_VERSION = 4;
 
   private static final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -33,6 +34,8 @@ public class SawMetadata {
    * directory specified by sawPath
    *
    * @param sawPath The path to the folder containing the Saw metadata file and table data
+   * @throws IllegalStateException if the file was written by a later version of the Saw Storage
+   *     system, whose columns this version may not be able to read
    */
   static SawMetadata readMetadata(Path sawPath) {
 
@@ -44,11 +47,21 @@ public class SawMetadata {
       throw new UncheckedIOException(
           "Unable to read Saw Metadata file at " + resolvePath.toString(), e);
     }
-    return SawMetadata.fromJson(new String(encoded, StandardCharsets.UTF_8));
+    SawMetadata metadata = SawMetadata.fromJson(new String(encoded, StandardCharsets.UTF_8));
+    if (metadata.getVersion() > SAW_VERSION) {
+      throw new IllegalStateException(
+          "Saw file at "
+              + sawPath
+              + " was written with version "
+              + metadata.getVersion()
+              + " of the Saw Storage system, which is newer than the supported version "
+              + SAW_VERSION);
+    }
+    return metadata;
   }
 
   public SawMetadata(Table table, SawWriteOptions options) {
-    this.tableMetadata = new TableMetadata(table);
+    this.tableMetadata = new TableMetadata(table, options);
     this.version = SAW_VERSION;
     this.compressionType = options.getCompressionType();
     this.encryptionType = options.getEncryptionType();
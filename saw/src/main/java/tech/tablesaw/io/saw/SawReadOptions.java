@@ -17,6 +17,7 @@ public class SawReadOptions {
 
   private List<String> selectedColumns = new ArrayList<>();
   private int threadPoolSize = READER_POOL_SIZE;
+  private boolean memoryMapped = false;
 
   public static SawReadOptions defaultOptions() {
     return new SawReadOptions();
@@ -38,6 +39,16 @@ public class SawReadOptions {
     return this;
   }
 
+  /**
+   * Reads the columns of uncompressed saw files by mapping each column file into memory, and
+   * copying numeric and date-time values into the column in bulk rather than decoding them one at a
+   * time. The option has no effect on files written with compression.
+   */
+  public SawReadOptions memoryMapped(boolean memoryMapped) {
+    this.memoryMapped = memoryMapped;
+    return this;
+  }
+
   public List<String> getSelectedColumns() {
     return selectedColumns;
   }
@@ -45,4 +56,8 @@ public class SawReadOptions {
   public int getThreadPoolSize() {
     return threadPoolSize;
   }
+
+  public boolean isMemoryMapped() {
+    return memoryMapped;
+  }
 }
@@ -12,6 +12,7 @@ import static tech.tablesaw.io.saw.SawUtils.LONG;
 import static tech.tablesaw.io.saw.SawUtils.SHORT;
 import static tech.tablesaw.io.saw.SawUtils.STRING;
 
+import com.github.luben.zstd.ZstdInputStream;
 import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
@@ -27,12 +28,16 @@ import it.unimi.dsi.fastutil.objects.Object2ShortOpenHashMap;
 import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
 import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
 import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
+import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -60,6 +65,7 @@ import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMapped;
 import tech.tablesaw.columns.strings.ByteDictionaryMap;
 import tech.tablesaw.columns.strings.IntDictionaryMap;
 import tech.tablesaw.columns.strings.ShortDictionaryMap;
@@ -67,6 +73,13 @@ import tech.tablesaw.columns.strings.ShortDictionaryMap;
 @Beta
 public class SawReader {
 
+  /**
+   * The largest region of a column file mapped into memory at once. Files larger than this are
+   * mapped a region at a time, as a single mapping cannot exceed 2GB. It is a multiple of the size
+   * of every primitive type, so no value is split between regions.
+   */
+  private static final int MAX_MAPPED_REGION_BYTES = 1 << 30;
+
   private final Path sawPath;
 
   private final SawMetadata sawMetadata;
@@ -188,6 +201,15 @@ public class SawReader {
 
   private Column<?> readColumn(
       String fileName, SawMetadata sawMetadata, ColumnMetadata columnMetadata) throws IOException {
+    Column<?> column = readColumnValues(fileName, sawMetadata, columnMetadata);
+    if (column instanceof ZoneMapped) {
+      ((ZoneMapped) column).setZoneMap(columnMetadata.zoneMap(sawMetadata.getRowCount()));
+    }
+    return column;
+  }
+
+  private Column<?> readColumnValues(
+      String fileName, SawMetadata sawMetadata, ColumnMetadata columnMetadata) throws IOException {
 
     final String typeString = columnMetadata.getType();
     final int rowcount = sawMetadata.getRowCount();
@@ -224,23 +246,92 @@ public class SawReader {
    *
    * @throws IOException if anything goes wrong
    */
-  private DataInputStream inputStream(String fileName) throws IOException {
+  private DataInputStream inputStream(String fileName, ColumnMetadata metadata) throws IOException {
     FileInputStream fis = new FileInputStream(fileName);
-    if (sawMetadata.getCompressionType().equals(CompressionType.NONE)) {
-      return new DataInputStream(fis);
-    } else if (sawMetadata.getCompressionType().equals(CompressionType.LZ4)) {
-      LZ4BlockInputStream lis = new LZ4BlockInputStream(fis);
-      return new DataInputStream(lis);
-    } else {
-      SnappyFramedInputStream sis = new SnappyFramedInputStream(fis, true);
-      return new DataInputStream(sis);
+    switch (compressionType(metadata)) {
+      case NONE:
+        return new DataInputStream(new BufferedInputStream(fis));
+      case LZ4:
+        LZ4BlockInputStream lis = new LZ4BlockInputStream(fis);
+        return new DataInputStream(lis);
+      case ZSTD:
+        // The zstd stream crosses into native code on every read, so it is read in blocks
+        ZstdInputStream zis = new ZstdInputStream(fis);
+        return new DataInputStream(new BufferedInputStream(zis));
+      default:
+        SnappyFramedInputStream sis = new SnappyFramedInputStream(fis, true);
+        return new DataInputStream(sis);
+    }
+  }
+
+  /**
+   * Returns the compression type of the given column. Files written before the compression type was
+   * recorded for each column use the compression type of the table for every column
+   */
+  private CompressionType compressionType(ColumnMetadata metadata) {
+    CompressionType compressionType = metadata.getCompressionType();
+    return compressionType == null ? sawMetadata.getCompressionType() : compressionType;
+  }
+
+  /**
+   * Returns true if the file of the given column is to be mapped into memory, which is only
+   * possible for files that are neither compressed nor encoded
+   */
+  private boolean isMemoryMapped(ColumnMetadata metadata) {
+    return sawReadOptions.isMemoryMapped()
+        && compressionType(metadata) == CompressionType.NONE
+        && metadata.getEncodingType() == EncodingType.PLAIN;
+  }
+
+  /** Copies values in bulk from a region of a memory-mapped column file */
+  @FunctionalInterface
+  private interface MappedRegionReader {
+
+    /**
+     * Copies the values in the given region into the data array
+     *
+     * @param region The mapped region of the file
+     * @param offset The index in the data array of the first value in the region
+     * @param count The number of values in the region
+     */
+    void read(ByteBuffer region, int offset, int count);
+  }
+
+  /**
+   * Maps the file with the given name into memory, and hands its values to the given reader one
+   * region at a time
+   *
+   * @param valueBytes The size of each value in the file, in bytes
+   * @throws IOException if anything goes wrong
+   */
+  private void readMapped(String fileName, int rowcount, int valueBytes, MappedRegionReader reader)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+      int valuesPerRegion = MAX_MAPPED_REGION_BYTES / valueBytes;
+      for (int offset = 0; offset < rowcount; offset += valuesPerRegion) {
+        int count = Math.min(valuesPerRegion, rowcount - offset);
+        ByteBuffer region =
+            channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                (long) offset * valueBytes,
+                (long) count * valueBytes);
+        reader.read(region, offset, count);
+      }
     }
   }
 
   private FloatColumn readFloatColumn(String fileName, ColumnMetadata metadata, int rowcount)
       throws IOException {
     float[] data = new float[rowcount];
-    try (DataInputStream dis = inputStream(fileName)) {
+    if (isMemoryMapped(metadata)) {
+      readMapped(
+          fileName,
+          rowcount,
+          Float.BYTES,
+          (region, offset, count) -> region.asFloatBuffer().get(data, offset, count));
+      return FloatColumn.create(metadata.getName(), data);
+    }
+    try (DataInputStream dis = inputStream(fileName, metadata)) {
       for (int i = 0; i < rowcount; i++) {
         data[i] = dis.readFloat();
       }
@@ -251,7 +342,15 @@ public class SawReader {
   private DoubleColumn readDoubleColumn(String fileName, ColumnMetadata metadata, int rowcount)
       throws IOException {
     double[] data = new double[rowcount];
-    try (DataInputStream dis = inputStream(fileName)) {
+    if (isMemoryMapped(metadata)) {
+      readMapped(
+          fileName,
+          rowcount,
+          Double.BYTES,
+          (region, offset, count) -> region.asDoubleBuffer().get(data, offset, count));
+      return DoubleColumn.create(metadata.getName(), data);
+    }
+    try (DataInputStream dis = inputStream(fileName, metadata)) {
       for (int i = 0; i < rowcount; i++) {
         data[i] = dis.readDouble();
       }
@@ -261,13 +360,21 @@ public class SawReader {
 
   private IntColumn readIntColumn(String fileName, ColumnMetadata metadata, int rowcount)
       throws IOException {
-    return IntColumn.create(metadata.getName(), readIntValues(fileName, rowcount));
+    return IntColumn.create(metadata.getName(), readIntValues(fileName, metadata, rowcount));
   }
 
   private ShortColumn readShortColumn(String fileName, ColumnMetadata metadata, int rowcount)
       throws IOException {
     short[] data = new short[rowcount];
-    try (DataInputStream dis = inputStream(fileName)) {
+    if (isMemoryMapped(metadata)) {
+      readMapped(
+          fileName,
+          rowcount,
+          Short.BYTES,
+          (region, offset, count) -> region.asShortBuffer().get(data, offset, count));
+      return ShortColumn.create(metadata.getName(), data);
+    }
+    try (DataInputStream dis = inputStream(fileName, metadata)) {
       for (int i = 0; i < rowcount; i++) {
         data[i] = dis.readShort();
       }
@@ -277,48 +384,63 @@ public class SawReader {
 
   private LongColumn readLongColumn(String fileName, ColumnMetadata metadata, int rowcount)
       throws IOException {
-    return LongColumn.create(metadata.getName(), readLongValues(fileName, rowcount));
+    return LongColumn.create(metadata.getName(), readLongValues(fileName, metadata, rowcount));
   }
 
   private DateColumn readLocalDateColumn(String fileName, ColumnMetadata metadata, int rowcount)
       throws IOException {
-    return DateColumn.createInternal(metadata.getName(), readIntValues(fileName, rowcount));
+    return DateColumn.createInternal(
+        metadata.getName(), readIntValues(fileName, metadata, rowcount));
   }
 
-  private int[] readIntValues(String fileName, int rowcount) throws IOException {
-    int[] data = new int[rowcount];
-    try (DataInputStream dis = inputStream(fileName)) {
-      for (int i = 0; i < rowcount; i++) {
-        data[i] = dis.readInt();
-      }
+  private int[] readIntValues(String fileName, ColumnMetadata metadata, int rowcount)
+      throws IOException {
+    if (isMemoryMapped(metadata)) {
+      int[] data = new int[rowcount];
+      readMapped(
+          fileName,
+          rowcount,
+          Integer.BYTES,
+          (region, offset, count) -> region.asIntBuffer().get(data, offset, count));
+      return data;
+    }
+    try (DataInputStream dis = inputStream(fileName, metadata)) {
+      return SawEncodings.readInts(dis, rowcount, metadata.getEncodingType());
     }
-    return data;
   }
 
   private DateTimeColumn readLocalDateTimeColumn(
       String fileName, ColumnMetadata metadata, int rowcount) throws IOException {
-    long[] data = readLongValues(fileName, rowcount);
+    long[] data = readLongValues(fileName, metadata, rowcount);
     return DateTimeColumn.createInternal(metadata.getName(), data);
   }
 
-  private long[] readLongValues(String fileName, int rowcount) throws IOException {
-    long[] data = new long[rowcount];
-    try (DataInputStream dis = inputStream(fileName)) {
-      for (int i = 0; i < rowcount; i++) {
-        data[i] = dis.readLong();
-      }
+  private long[] readLongValues(String fileName, ColumnMetadata metadata, int rowcount)
+      throws IOException {
+    if (isMemoryMapped(metadata)) {
+      long[] data = new long[rowcount];
+      readMapped(
+          fileName,
+          rowcount,
+          Long.BYTES,
+          (region, offset, count) -> region.asLongBuffer().get(data, offset, count));
+      return data;
+    }
+    try (DataInputStream dis = inputStream(fileName, metadata)) {
+      return SawEncodings.readLongs(dis, rowcount, metadata.getEncodingType());
     }
-    return data;
   }
 
   private InstantColumn readInstantColumn(String fileName, ColumnMetadata metadata, int rowcount)
       throws IOException {
-    return InstantColumn.createInternal(metadata.getName(), readLongValues(fileName, rowcount));
+    return InstantColumn.createInternal(
+        metadata.getName(), readLongValues(fileName, metadata, rowcount));
   }
 
   private TimeColumn readLocalTimeColumn(String fileName, ColumnMetadata metadata, int rowcount)
       throws IOException {
-    return TimeColumn.createInternal(metadata.getName(), readIntValues(fileName, rowcount));
+    return TimeColumn.createInternal(
+        metadata.getName(), readIntValues(fileName, metadata, rowcount));
   }
 
   /**
@@ -328,7 +450,7 @@ public class SawReader {
   private StringColumn readStringColumn(
       String fileName, ColumnMetadata columnMetadata, int rowcount) throws IOException {
 
-    try (DataInputStream dis = inputStream(fileName)) {
+    try (DataInputStream dis = inputStream(fileName, columnMetadata)) {
 
       if (columnMetadata.getStringColumnKeySize().equals(Byte.class.getSimpleName())) {
         return StringColumn.createInternal(
@@ -477,32 +599,27 @@ public class SawReader {
       throws IOException {
 
     BooleanColumn column = BooleanColumn.create(metadata.getName());
+    if (metadata.getEncodingType() == EncodingType.RUN_LENGTH) {
+      try (DataInputStream dis = inputStream(fileName, metadata)) {
+        SawEncodings.readBooleanRuns(dis, rowcount, column);
+      }
+      return column;
+    }
     int trueBytesLength = metadata.getTrueBytesLength();
     int falseBytesLength = metadata.getFalseBytesLength();
     int missingBytesLength = metadata.getMissingBytesLength();
-    int trueAndFalseLength = trueBytesLength + falseBytesLength;
-    int allBytesLength = trueAndFalseLength + missingBytesLength;
     byte[] trueBytes = new byte[trueBytesLength];
     byte[] falseBytes = new byte[falseBytesLength];
     byte[] missingBytes = new byte[missingBytesLength];
-    try (DataInputStream dis = inputStream(fileName)) {
-      for (int i = 0; i < trueBytesLength; i++) {
-        trueBytes[i] = dis.readByte();
-      }
-      column.trueBytes(trueBytes);
-      int j = 0;
-      for (int i = trueBytesLength; i < trueAndFalseLength; i++) {
-        falseBytes[j] = dis.readByte();
-        j++;
-      }
-      column.falseBytes(falseBytes);
-      int k = 0;
-      for (int i = trueAndFalseLength; i < allBytesLength; i++) {
-        missingBytes[k] = dis.readByte();
-        k++;
-      }
-      column.missingBytes(missingBytes);
+    // The bitmaps are read in bulk, so there is nothing to gain from mapping the file
+    try (DataInputStream dis = inputStream(fileName, metadata)) {
+      dis.readFully(trueBytes);
+      dis.readFully(falseBytes);
+      dis.readFully(missingBytes);
     }
+    column.trueBytes(trueBytes);
+    column.falseBytes(falseBytes);
+    column.missingBytes(missingBytes);
     return column;
   }
 }
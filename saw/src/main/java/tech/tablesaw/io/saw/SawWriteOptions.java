@@ -1,13 +1,25 @@
 package tech.tablesaw.io.saw;
 
+import com.github.luben.zstd.Zstd;
 import com.google.common.base.Preconditions;
+import java.util.HashMap;
+import java.util.Map;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.columns.Column;
 
 public class SawWriteOptions {
 
   private static final int DEFAULT_POOL_SIZE = 10;
 
+  // The default level of the zstd library, which balances speed and compression ratio
+  private static final int DEFAULT_COMPRESSION_LEVEL = 3;
+
   private int threadPoolSize = DEFAULT_POOL_SIZE;
   private CompressionType compressionType = CompressionType.SNAPPY;
+  private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+  private final Map<String, CompressionType> columnCompressionTypes = new HashMap<>();
+  private final Map<ColumnType, CompressionType> columnTypeCompressionTypes = new HashMap<>();
+  private boolean encodeColumns = true;
   private EncryptionType encryptionType = EncryptionType.NONE;
 
   public static SawWriteOptions defaultOptions() {
@@ -25,6 +37,51 @@ public class SawWriteOptions {
     return this;
   }
 
+  /**
+   * Sets the compression type for the column with the given name, overriding the compression type
+   * for its column type and for the table. The compression type of each column is recorded in the
+   * metadata, so it need not be given again when the table is read
+   */
+  public SawWriteOptions compressionType(String columnName, CompressionType compressionType) {
+    this.columnCompressionTypes.put(columnName, compressionType);
+    return this;
+  }
+
+  /**
+   * Sets the compression type for all the columns of the given type, overriding the compression
+   * type for the table
+   */
+  public SawWriteOptions compressionType(ColumnType columnType, CompressionType compressionType) {
+    this.columnTypeCompressionTypes.put(columnType, compressionType);
+    return this;
+  }
+
+  /**
+   * Sets the level of ZSTD compression, from {@link Zstd#minCompressionLevel()} (fastest) to {@link
+   * Zstd#maxCompressionLevel()} (smallest). The default is 3. Other compression types have no
+   * levels, and ignore this option
+   */
+  public SawWriteOptions compressionLevel(int level) {
+    Preconditions.checkArgument(
+        level >= Zstd.minCompressionLevel() && level <= Zstd.maxCompressionLevel(),
+        "The compression level must be between %s and %s",
+        Zstd.minCompressionLevel(),
+        Zstd.maxCompressionLevel());
+    this.compressionLevel = level;
+    return this;
+  }
+
+  /**
+   * Sets whether the values of int, long, date, time and boolean columns may be encoded before they
+   * are compressed, as deltas, runs or bit-packed offsets, whichever is smallest for each column.
+   * The default is true. Encoded columns are always read through a stream, so tables meant to be
+   * read with {@link SawReadOptions#memoryMapped(boolean)} should be written without encoding
+   */
+  public SawWriteOptions encodeColumns(boolean encodeColumns) {
+    this.encodeColumns = encodeColumns;
+    return this;
+  }
+
   /**
    * Sets the encryption type for the storage NOTE: This is a placeholder-only, to allow for adding
    * encryption support later without changing the format of the metadata file
@@ -42,6 +99,23 @@ public class SawWriteOptions {
     return compressionType;
   }
 
+  /** Returns the compression type to be used for the given column */
+  public CompressionType getCompressionType(Column<?> column) {
+    CompressionType columnCompressionType = columnCompressionTypes.get(column.name());
+    if (columnCompressionType != null) {
+      return columnCompressionType;
+    }
+    return columnTypeCompressionTypes.getOrDefault(column.type(), compressionType);
+  }
+
+  public int getCompressionLevel() {
+    return compressionLevel;
+  }
+
+  public boolean isEncodeColumns() {
+    return encodeColumns;
+  }
+
   public EncryptionType getEncryptionType() {
     return encryptionType;
   }
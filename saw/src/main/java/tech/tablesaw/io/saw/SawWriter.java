@@ -13,6 +13,7 @@ import static tech.tablesaw.io.saw.SawUtils.LONG;
 import static tech.tablesaw.io.saw.SawUtils.SHORT;
 import static tech.tablesaw.io.saw.SawUtils.STRING;
 
+import com.github.luben.zstd.ZstdOutputStream;
 import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.bytes.Byte2IntMap;
@@ -26,6 +27,7 @@ import it.unimi.dsi.fastutil.objects.ObjectSet;
 import it.unimi.dsi.fastutil.shorts.Short2IntMap;
 import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
 import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import java.io.BufferedOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
@@ -256,7 +258,7 @@ public class SawWriter {
   }
 
   private void writeColumn(String fileName, FloatColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
+    try (DataOutputStream dos = columnOutputStream(fileName, column)) {
       int i = 0;
       FloatIterator iterator = (FloatIterator) column.iterator();
       while (iterator.hasNext()) {
@@ -275,7 +277,7 @@ public class SawWriter {
   }
 
   private void writeColumn(String fileName, DoubleColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
+    try (DataOutputStream dos = columnOutputStream(fileName, column)) {
       int i = 0;
       for (double d : column) {
         dos.writeDouble(d);
@@ -300,7 +302,7 @@ public class SawWriter {
    * the opposite order
    */
   private void writeColumn(String fileName, StringColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
+    try (DataOutputStream dos = columnOutputStream(fileName, column)) {
 
       // write the strings
       DictionaryMap lookupTable = column.getDictionary();
@@ -442,55 +444,80 @@ public class SawWriter {
     }
   }
 
-  DataOutputStream columnOutputStream(String fileName) throws IOException {
+  /**
+   * Returns a data output stream for writing the given column to a file with the given name,
+   * compressed as recorded in the column's metadata
+   */
+  DataOutputStream columnOutputStream(String fileName, Column<?> column) throws IOException {
+    ColumnMetadata metadata =
+        sawMetadata.getTableMetadata().getColumnMetadataMap().get(column.name());
     FileOutputStream fos = new FileOutputStream(fileName);
-    if (sawMetadata.getCompressionType().equals(CompressionType.NONE)) {
-      return new DataOutputStream(fos);
-    } else if (sawMetadata.getCompressionType().equals(CompressionType.LZ4)) {
-      LZ4BlockOutputStream los = new LZ4BlockOutputStream(fos);
-      return new DataOutputStream(los);
-    } else {
-      SnappyFramedOutputStream sos = new SnappyFramedOutputStream(fos);
-      return new DataOutputStream(sos);
+    switch (metadata.getCompressionType()) {
+      case NONE:
+        return new DataOutputStream(new BufferedOutputStream(fos));
+      case LZ4:
+        LZ4BlockOutputStream los = new LZ4BlockOutputStream(fos);
+        return new DataOutputStream(los);
+      case ZSTD:
+        // The zstd stream crosses into native code on every write, so it is written in blocks
+        ZstdOutputStream zos = new ZstdOutputStream(fos, writeOptions.getCompressionLevel());
+        return new DataOutputStream(new BufferedOutputStream(zos));
+      default:
+        SnappyFramedOutputStream sos = new SnappyFramedOutputStream(fos);
+        return new DataOutputStream(sos);
     }
   }
 
   private void writeColumn(String fileName, IntColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeIntStream(dos, column.intIterator());
-      dos.flush();
+    writeInts(fileName, column, column.intIterator());
+  }
+
+  /**
+   * Writes the given int values of a column, encoded in whichever way is smallest, and records the
+   * encoding in the column's metadata
+   */
+  private void writeInts(String fileName, Column<?> column, IntIterator iterator)
+      throws IOException {
+    int[] values = new int[column.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = iterator.nextInt();
     }
     ColumnMetadata metadata =
         sawMetadata.getTableMetadata().getColumnMetadataMap().get(column.name());
+    EncodingType encoding =
+        writeOptions.isEncodeColumns() ? SawEncodings.chooseEncoding(values) : EncodingType.PLAIN;
+    try (DataOutputStream dos = columnOutputStream(fileName, column)) {
+      SawEncodings.writeInts(dos, values, encoding);
+      dos.flush();
+    }
+    metadata.setEncodingType(encoding);
     metadata.setUncompressedByteSize(4 * column.size());
   }
 
-  private void writeIntStream(DataOutputStream dos, IntIterator iterator) throws IOException {
-    int i = 0;
-    while (iterator.hasNext()) {
-      dos.writeInt(iterator.nextInt());
-      i++;
-      if (i == FLUSH_AFTER_ITERATIONS) {
-        dos.flush();
-        i = 0;
-      }
+  /**
+   * Writes the given long values of a column, encoded in whichever way is smallest, and records the
+   * encoding in the column's metadata
+   */
+  private void writeLongs(String fileName, Column<?> column, LongIterator iterator)
+      throws IOException {
+    long[] values = new long[column.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = iterator.nextLong();
     }
-  }
-
-  private void writeLongStream(DataOutputStream dos, LongIterator iterator) throws IOException {
-    int i = 0;
-    while (iterator.hasNext()) {
-      dos.writeLong(iterator.nextLong());
-      i++;
-      if (i == FLUSH_AFTER_ITERATIONS) {
-        dos.flush();
-        i = 0;
-      }
+    ColumnMetadata metadata =
+        sawMetadata.getTableMetadata().getColumnMetadataMap().get(column.name());
+    EncodingType encoding =
+        writeOptions.isEncodeColumns() ? SawEncodings.chooseEncoding(values) : EncodingType.PLAIN;
+    try (DataOutputStream dos = columnOutputStream(fileName, column)) {
+      SawEncodings.writeLongs(dos, values, encoding);
+      dos.flush();
     }
+    metadata.setEncodingType(encoding);
+    metadata.setUncompressedByteSize(8 * column.size());
   }
 
   private void writeColumn(String fileName, ShortColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
+    try (DataOutputStream dos = columnOutputStream(fileName, column)) {
       int i = 0;
       ShortIterator iterator = (ShortIterator) column.iterator();
       while (iterator.hasNext()) {
@@ -509,52 +536,23 @@ public class SawWriter {
   }
 
   private void writeColumn(String fileName, LongColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeLongStream(dos, column.longIterator());
-      dos.flush();
-    }
-    ColumnMetadata metadata =
-        sawMetadata.getTableMetadata().getColumnMetadataMap().get(column.name());
-    metadata.setUncompressedByteSize(8 * column.size());
+    writeLongs(fileName, column, column.longIterator());
   }
 
   private void writeColumn(String fileName, DateColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeIntStream(dos, column.intIterator());
-      dos.flush();
-    }
-    ColumnMetadata metadata =
-        sawMetadata.getTableMetadata().getColumnMetadataMap().get(column.name());
-    metadata.setUncompressedByteSize(4 * column.size());
+    writeInts(fileName, column, column.intIterator());
   }
 
   private void writeColumn(String fileName, DateTimeColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeLongStream(dos, column.longIterator());
-      dos.flush();
-    }
-    ColumnMetadata metadata =
-        sawMetadata.getTableMetadata().getColumnMetadataMap().get(column.name());
-    metadata.setUncompressedByteSize(8 * column.size());
+    writeLongs(fileName, column, column.longIterator());
   }
 
   private void writeColumn(String fileName, InstantColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeLongStream(dos, column.longIterator());
-    }
-    ColumnMetadata metadata =
-        sawMetadata.getTableMetadata().getColumnMetadataMap().get(column.name());
-    metadata.setUncompressedByteSize(8 * column.size());
+    writeLongs(fileName, column, column.longIterator());
   }
 
   private void writeColumn(String fileName, TimeColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeIntStream(dos, column.intIterator());
-      dos.flush();
-    }
-    ColumnMetadata metadata =
-        sawMetadata.getTableMetadata().getColumnMetadataMap().get(column.name());
-    metadata.setUncompressedByteSize(4 * column.size());
+    writeInts(fileName, column, column.intIterator());
   }
 
   private void writeColumn(String fileName, BooleanColumn column) throws IOException {
@@ -562,23 +560,22 @@ public class SawWriter {
     byte[] trueBytes = column.trueBytes();
     byte[] falseBytes = column.falseBytes();
     byte[] missingBytes = column.missingBytes();
+    ColumnMetadata metadata =
+        sawMetadata.getTableMetadata().getColumnMetadataMap().get(column.name());
+    EncodingType encoding =
+        writeOptions.isEncodeColumns() ? SawEncodings.chooseEncoding(column) : EncodingType.PLAIN;
     // write the data out
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      for (byte trueByte : trueBytes) {
-        dos.writeByte(trueByte);
-      }
-      dos.flush();
-      for (byte falseByte : falseBytes) {
-        dos.writeByte(falseByte);
-      }
-      dos.flush();
-      for (byte missingByte : missingBytes) {
-        dos.writeByte(missingByte);
+    try (DataOutputStream dos = columnOutputStream(fileName, column)) {
+      if (encoding == EncodingType.RUN_LENGTH) {
+        SawEncodings.writeBooleanRuns(dos, column);
+      } else {
+        dos.write(trueBytes);
+        dos.write(falseBytes);
+        dos.write(missingBytes);
       }
       dos.flush();
     }
-    ColumnMetadata metadata =
-        sawMetadata.getTableMetadata().getColumnMetadataMap().get(column.name());
+    metadata.setEncodingType(encoding);
     metadata.setUncompressedByteSize(trueBytes.length + falseBytes.length + missingBytes.length);
   }
 
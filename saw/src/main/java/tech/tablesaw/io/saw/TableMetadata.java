@@ -45,12 +45,12 @@ public class TableMetadata {
 
   @JsonIgnore private Map<String, ColumnMetadata> columnMetadataMap = new HashMap<>();
 
-  TableMetadata(Relation table) {
+  TableMetadata(Relation table, SawWriteOptions options) {
     this.name = table.name();
     this.rowCount = table.rowCount();
 
     for (Column<?> column : table.columns()) {
-      ColumnMetadata metadata = new ColumnMetadata(column);
+      ColumnMetadata metadata = new ColumnMetadata(column, options.getCompressionType(column));
       columnMetadataList.add(metadata);
       columnMetadataMap.put(column.name(), metadata);
     }
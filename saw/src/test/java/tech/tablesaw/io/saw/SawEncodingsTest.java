@@ -0,0 +1,88 @@
+package tech.tablesaw.io.saw;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+
+class SawEncodingsTest {
+
+  private static final int[] EXTREME_INTS = {
+    Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, Integer.MIN_VALUE, Integer.MIN_VALUE, 1
+  };
+
+  private static final long[] EXTREME_LONGS = {
+    Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, Long.MIN_VALUE, Long.MIN_VALUE, 1
+  };
+
+  @Test
+  void intsRoundTripInEveryEncoding() throws IOException {
+    for (EncodingType encoding : EncodingType.values()) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      SawEncodings.writeInts(new DataOutputStream(bytes), EXTREME_INTS, encoding);
+      DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+      assertArrayEquals(
+          EXTREME_INTS,
+          SawEncodings.readInts(dis, EXTREME_INTS.length, encoding),
+          encoding.toString());
+    }
+  }
+
+  @Test
+  void longsRoundTripInEveryEncodingButBitPacked() throws IOException {
+    for (EncodingType encoding : EncodingType.values()) {
+      if (encoding == EncodingType.BIT_PACKED) {
+        continue;
+      }
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      SawEncodings.writeLongs(new DataOutputStream(bytes), EXTREME_LONGS, encoding);
+      DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+      assertArrayEquals(
+          EXTREME_LONGS,
+          SawEncodings.readLongs(dis, EXTREME_LONGS.length, encoding),
+          encoding.toString());
+    }
+  }
+
+  @Test
+  void longsTooWideToBitPack() {
+    assertNotEquals(EncodingType.BIT_PACKED, SawEncodings.chooseEncoding(EXTREME_LONGS));
+  }
+
+  @Test
+  void smallestEncodingIsChosen() {
+    assertEquals(EncodingType.PLAIN, SawEncodings.chooseEncoding(new int[0]));
+    assertEquals(EncodingType.DELTA, SawEncodings.chooseEncoding(new int[] {1, 2, 3, 4, 5, 6}));
+    int[] nines = new int[100];
+    Arrays.fill(nines, 9);
+    assertEquals(EncodingType.RUN_LENGTH, SawEncodings.chooseEncoding(nines));
+    int[] codes = new int[100];
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = 500_000 + (i * 7) % 4;
+    }
+    assertEquals(EncodingType.BIT_PACKED, SawEncodings.chooseEncoding(codes));
+  }
+
+  @Test
+  void booleanRunsRoundTrip() throws IOException {
+    BooleanColumn column = BooleanColumn.create("b");
+    for (int i = 0; i < 200; i++) {
+      column.append(i < 50 ? Boolean.TRUE : i < 120 ? null : Boolean.FALSE);
+    }
+    assertEquals(EncodingType.RUN_LENGTH, SawEncodings.chooseEncoding(column));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    SawEncodings.writeBooleanRuns(new DataOutputStream(bytes), column);
+    BooleanColumn read = BooleanColumn.create("b");
+    SawEncodings.readBooleanRuns(
+        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), column.size(), read);
+    assertEquals(column.asList(), read.asList());
+  }
+}
@@ -1,13 +1,21 @@
 package tech.tablesaw.io.saw;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.*;
 import static tech.tablesaw.io.saw.CompressionType.SNAPPY;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.ZoneMap;
 
 class SawMetadataTest {
 
@@ -41,6 +49,35 @@ class SawMetadataTest {
     assertEquals(metadata1, copy);
   }
 
+  @Test
+  void zoneMapsAreWrittenAndRead(@TempDir Path outputDir) {
+    IntColumn ints = IntColumn.create("i");
+    DoubleColumn doubles = DoubleColumn.create("d");
+    LongColumn longs = LongColumn.create("l");
+    for (int i = 0; i < 1000; i++) {
+      ints.append(i);
+      doubles.append(i / 4.0);
+      longs.append(i);
+    }
+    ints.setMissing(3);
+    ints.setZoneMap(new ZoneMap(128));
+    doubles.setZoneMap(new ZoneMap(128));
+    Table table = Table.create("zones", ints, doubles, longs);
+
+    String path = new SawWriter(outputDir, table).write();
+    Table read = new SawReader(path).read();
+    ZoneMap intZones = read.intColumn("i").zoneMap();
+    assertEquals(8, intZones.blockCount());
+    assertEquals(1, intZones.nullCount(0));
+    assertEquals(896, intZones.min(7));
+    assertEquals(999, intZones.max(7));
+    assertTrue(read.doubleColumn("d").zoneMap().isFloatingPoint());
+    assertNull(read.longColumn("l").zoneMap());
+    assertEquals(
+        ints.isBetweenInclusive(100, 300), read.intColumn("i").isBetweenInclusive(100, 300));
+    assertEquals(doubles.isLessThan(40), read.doubleColumn("d").isLessThan(40));
+  }
+
   @Test
   void getName() {
     assertEquals(table1.name(), metadata1.getTableName());
@@ -53,7 +90,14 @@ class SawMetadataTest {
 
   @Test
   void getVersion() {
-    assertEquals(3, metadata1.getVersion());
+    assertEquals(4, metadata1.getVersion());
+  }
+
+  @Test
+  void laterVersionsAreRejected(@TempDir Path sawPath) throws Exception {
+    String json = metadata1.toJson().replace("\"version\":4", "\"version\":5");
+    Files.write(sawPath.resolve(SawMetadata.METADATA_FILE_NAME), json.getBytes(UTF_8));
+    assertThrows(IllegalStateException.class, () -> SawMetadata.readMetadata(sawPath));
   }
 
   @Test
@@ -29,4 +29,10 @@ class SawReadOptionsTest {
     SawReadOptions options = new SawReadOptions().selectedColumns(nameList);
     assertEquals(nameList, options.getSelectedColumns());
   }
+
+  @Test
+  void memoryMapped() {
+    assertFalse(new SawReadOptions().isMemoryMapped());
+    assertTrue(new SawReadOptions().memoryMapped(true).isMemoryMapped());
+  }
 }
@@ -19,21 +19,34 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.tablesaw.api.ColumnType.INSTANT;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.FloatColumn;
 import tech.tablesaw.api.InstantColumn;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
 
 /** Tests for reading and writing saw files */
 class SawStorageTest {
@@ -75,6 +88,8 @@ class SawStorageTest {
 
   private static Table baseball;
 
+  @TempDir Path outputDir;
+
   @BeforeAll
   static void readTables() {
     baseball = Table.read().csv("../data/baseball.csv");
@@ -266,6 +281,41 @@ class SawStorageTest {
     assertEquals(baseball.rowCount(), bb2.rowCount());
   }
 
+  @Test
+  void memoryMapped() {
+    Table all =
+        table
+            .copy()
+            .addColumns(
+                IntColumn.create("int", 3, 1, 4, 1, 5),
+                DoubleColumn.create("double", 2.5, Double.NaN, -1, 0, 1e300),
+                ShortColumn.create("short", new short[] {1, 2, 3, 4, Short.MIN_VALUE}),
+                TimeColumn.create("time", LocalTime.NOON, null, LocalTime.MIDNIGHT, null, null),
+                DateTimeColumn.create("dateTime", LocalDateTime.now(), null, null, null, null));
+    String path =
+        new SawWriter(
+                outputDir,
+                all,
+                new SawWriteOptions().compressionType(CompressionType.NONE).encodeColumns(false))
+            .write();
+    Table mapped = new SawReader(path, new SawReadOptions().memoryMapped(true)).read();
+    assertEquals(all.columnNames(), mapped.columnNames());
+    for (Column<?> column : all.columns()) {
+      assertEquals(column.asList(), mapped.column(column.name()).asList(), column.name());
+    }
+  }
+
+  @Test
+  void memoryMappedIgnoredWhenCompressed() {
+    String path =
+        new SawWriter(
+                outputDir, baseball, new SawWriteOptions().compressionType(CompressionType.LZ4))
+            .write();
+    Table bb2 = new SawReader(path, new SawReadOptions().memoryMapped(true)).read();
+    assertEquals(baseball.rowCount(), bb2.rowCount());
+    assertEquals(baseball.doubleColumn("OBP").asList(), bb2.doubleColumn("OBP").asList());
+  }
+
   @Test
   void lz4Compression() {
     String path =
@@ -283,6 +333,112 @@ class SawStorageTest {
     assertEquals(baseball.rowCount(), bb2.rowCount());
   }
 
+  @Test
+  void zstdCompression() {
+    String path =
+        new SawWriter(
+                outputDir,
+                baseball,
+                new SawWriteOptions().compressionType(CompressionType.ZSTD).compressionLevel(9))
+            .write();
+    Table bb2 = new SawReader(path).read();
+    assertEquals(baseball.columnNames(), bb2.columnNames());
+    for (Column<?> column : baseball.columns()) {
+      assertEquals(column.asList(), bb2.column(column.name()).asList(), column.name());
+    }
+  }
+
+  @Test
+  void compressionTypePerColumn() {
+    String path =
+        new SawWriter(
+                outputDir,
+                baseball,
+                new SawWriteOptions()
+                    .compressionType(CompressionType.ZSTD)
+                    .compressionType(ColumnType.DOUBLE, CompressionType.LZ4)
+                    .compressionType("Team", CompressionType.NONE))
+            .write();
+    Map<String, CompressionType> compressionTypes = new HashMap<>();
+    for (ColumnMetadata column :
+        SawMetadata.readMetadata(Paths.get(path)).getColumnMetadataList()) {
+      compressionTypes.put(column.getName(), column.getCompressionType());
+    }
+    assertEquals(CompressionType.NONE, compressionTypes.get("Team"));
+    assertEquals(CompressionType.LZ4, compressionTypes.get("OBP"));
+    assertEquals(CompressionType.ZSTD, compressionTypes.get("W"));
+
+    Table bb2 = new SawReader(path, new SawReadOptions().memoryMapped(true)).read();
+    for (Column<?> column : baseball.columns()) {
+      assertEquals(column.asList(), bb2.column(column.name()).asList(), column.name());
+    }
+  }
+
+  @Test
+  void encodings() {
+    int rows = 1000;
+    DateColumn sortedDates = DateColumn.create("sortedDates");
+    DateTimeColumn sortedDateTimes = DateTimeColumn.create("sortedDateTimes");
+    IntColumn fewValues = IntColumn.create("fewValues");
+    IntColumn smallRange = IntColumn.create("smallRange");
+    LongColumn randomLongs = LongColumn.create("randomLongs");
+    BooleanColumn runs = BooleanColumn.create("runs");
+    BooleanColumn alternating = BooleanColumn.create("alternating");
+    Random random = new Random(42);
+    for (int i = 0; i < rows; i++) {
+      sortedDates.append(LocalDate.of(2020, 1, 1).plusDays(i / 3));
+      sortedDateTimes.append(i == 10 ? null : LocalDateTime.of(2020, 1, 1, 0, 0).plusMinutes(i));
+      fewValues.append(i < 500 ? 7 : -7);
+      smallRange.append(1_000_000 + random.nextInt(50));
+      randomLongs.append(random.nextLong());
+      runs.append(i < 300 ? Boolean.TRUE : i < 900 ? Boolean.FALSE : null);
+      alternating.append(i % 2 == 0);
+    }
+    Table encoded =
+        Table.create(
+            "encoded",
+            sortedDates,
+            sortedDateTimes,
+            fewValues,
+            smallRange,
+            randomLongs,
+            runs,
+            alternating);
+    String path = new SawWriter(outputDir, encoded).write();
+
+    Map<String, EncodingType> encodingTypes = new HashMap<>();
+    for (ColumnMetadata column :
+        SawMetadata.readMetadata(Paths.get(path)).getColumnMetadataList()) {
+      encodingTypes.put(column.getName(), column.getEncodingType());
+    }
+    assertEquals(EncodingType.DELTA, encodingTypes.get("sortedDates"));
+    assertEquals(EncodingType.DELTA, encodingTypes.get("sortedDateTimes"));
+    assertEquals(EncodingType.RUN_LENGTH, encodingTypes.get("fewValues"));
+    assertEquals(EncodingType.BIT_PACKED, encodingTypes.get("smallRange"));
+    assertEquals(EncodingType.PLAIN, encodingTypes.get("randomLongs"));
+    assertEquals(EncodingType.RUN_LENGTH, encodingTypes.get("runs"));
+    assertEquals(EncodingType.PLAIN, encodingTypes.get("alternating"));
+
+    Table read = new SawReader(path).read();
+    for (Column<?> column : encoded.columns()) {
+      assertEquals(column.asList(), read.column(column.name()).asList(), column.name());
+    }
+  }
+
+  @Test
+  void encodingsDisabled() {
+    String path =
+        new SawWriter(outputDir, baseball, new SawWriteOptions().encodeColumns(false)).write();
+    for (ColumnMetadata column :
+        SawMetadata.readMetadata(Paths.get(path)).getColumnMetadataList()) {
+      assertEquals(EncodingType.PLAIN, column.getEncodingType(), column.getName());
+    }
+    Table bb2 = new SawReader(path).read();
+    for (Column<?> column : baseball.columns()) {
+      assertEquals(column.asList(), bb2.column(column.name()).asList(), column.name());
+    }
+  }
+
   @Test
   void bostonRobberies() {
     Table robereries = Table.read().csv("../data/boston-robberies.csv");